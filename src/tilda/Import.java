@@ -35,6 +35,7 @@ import com.google.gson.GsonBuilder;
 import tilda.db.Connection;
 import tilda.db.ConnectionPool;
 import tilda.performance.PerfTracker;
+import tilda.performance.QueryTracker;
 import tilda.utils.DurationUtil;
 import tilda.utils.FileUtil;
 import tilda.utils.TextUtil;
@@ -43,6 +44,17 @@ public class Import
   {
     protected static final Logger LOG = LogManager.getLogger(Import.class.getName());
 
+    protected static boolean      _BulkCopy = false;
+
+    /**
+     * Whether importers should load new records through the generated CopyIn() methods rather than Write(), as
+     * requested with the '-copy' flag.
+     */
+    public static boolean useBulkCopy()
+      {
+        return _BulkCopy;
+      }
+
     public static void main(String[] args)
       {
         LOG.info("\n*************************************************************************************************************************************");
@@ -54,9 +66,17 @@ public class Import
             LOG.error("This utility must be called with at least 1 argument: the path to an JSON import file named as _tilda.<Schema>.sampledata.<samplePackage>.json.");
             LOG.error("The utility will then execute the class <Schema.package>+'.importers.'+<samplesPackage>.Root which must implement the ImportProcessor class.");
             LOG.error("Alternatively, the utility can be called with 3 parameters '-package <packageName> <path-to-json-file> where the packageName from the JSON file name will be overriden by the suplied packageName to resolve to the right importer.");
+            LOG.error("Either form can be preceded by '-copy' to bulk-load new records (e.g., COPY on Postgres) instead of writing them one by one.");
             System.exit(1);
           }
 
+        if (args[0].equalsIgnoreCase("-copy") == true)
+          {
+            _BulkCopy = true;
+            args = java.util.Arrays.copyOfRange(args, 1, args.length);
+            LOG.info("Bulk-copy mode: new records will be loaded through the database's bulk-load path where supported.");
+          }
+
         Connection C = null;
         try
           {
@@ -77,6 +97,7 @@ public class Import
             LOG.info("All in all, processed a total of " + Total + " records in " + DurationUtil.getDurationSeconds(T0) + "s (" + DurationUtil.PrintPerformancePerMinute(T0, Total) + " records/mn).");
             StringBuilder Str = new StringBuilder();
             PerfTracker.print(Str);
+            QueryTracker.print(Str, 20);
             // LDH-NOTE: there is a bug in the Log4j code with a limit on buffer size if out to a file!
             LOG.info(TextUtil.toMaxLength(Str.toString(), 20000));
           }
@@ -150,7 +171,7 @@ public class Import
         int Total = I.process(C);
         T = System.nanoTime() - T;
 
-        LOG.info("Processed " + Total + " records in " + DurationUtil.getDurationSeconds(T) + "s (" + DurationUtil.PrintPerformancePerMinute(T, Total) + " records/mn).");
+        LOG.info("Processed " + Total + " records in " + DurationUtil.getDurationSeconds(T) + "s (" + DurationUtil.PrintPerformancePerMinute(T, Total) + " records/mn, " + DurationUtil.PrintPerformancePerSecond(T, Total) + " records/s).");
         return Total;
       }
   }
@@ -18,12 +18,19 @@
 package tilda.data;
 
 import java.sql.SQLException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import tilda.db.Connection;
+import tilda.db.KeysManager;
 
 /**
  * This is the application class <B>Data_KEY</B> mapped to the table <B>TILDA.KEY</B>.
@@ -64,20 +71,203 @@ public class Key_Data extends tilda.data._Tilda.TILDA__KEY
         return true;
       }
 
-    protected AtomicLong _K = new AtomicLong(0);
+    /**
+     * A block of keys reserved in TILDA.KEY: from _Max-_Size+1 to _Max. Keys are handed out by counting _Remaining down,
+     * so a block never changes once published and a key is always computed from the block it was counted in.
+     */
+    protected static class Block
+      {
+        protected Block(long Max, long Size)
+          {
+            _Max = Max;
+            _Size = Size;
+            _LowWater = Size / 4;
+            _Remaining = new AtomicLong(Size);
+          }
 
-    public long nextKey() throws SQLException
+        protected final long       _Max;
+        protected final long       _Size;
+        protected final long       _LowWater;
+        protected final AtomicLong _Remaining;
+        protected volatile long    _StartNano;
+      }
+
+    /**
+     * Adaptive blocks are sized to last about this long at the observed rate of consumption...
+     */
+    public static final long TARGET_BLOCK_SECONDS = 30;
+    /**
+     * ... but are never more than this many times the 'count' configured for the key.
+     */
+    public static final int  MAX_BLOCK_FACTOR     = 64;
+
+    /**
+     * Keys from _Next to _End claimed from a block by one thread when striping is on (see
+     * {@link KeysManager#setStripeSize(int)}). Only the owner touches them while it is alive. The padding keeps the
+     * ranges of threads created one after the other from sharing a cache line.
+     */
+    protected static class Range
       {
-        long k = _K.addAndGet(-1);
-        if (k >= 0)
-          return getMax() - k;
+        protected Range(Thread Owner)
+          {
+            _Owner = Owner;
+          }
+
+        protected final Thread _Owner;
+        protected long         _Next = 1;
+        protected long         _End  = 0;
+        protected long         _P1, _P2, _P3, _P4, _P5, _P6;
+      }
 
-        synchronized (_K)
+    protected volatile Block         _Current = new Block(0, 0);
+    protected Future<Block>          _Next;   // Guarded by _Lock
+    protected final Object           _Lock    = new Object();
+
+    protected final ThreadLocal<Range> _Local   = new ThreadLocal<Range>();
+    protected final Set<Range>         _Ranges  = ConcurrentHashMap.newKeySet();
+    protected final Queue<Range>       _Orphans = new ConcurrentLinkedQueue<Range>();
+
+    /**
+     * Returns the next key. Keys are handed out lock-free from the current block. When only a quarter of it remains,
+     * the next block is reserved in the background by {@link KeysManager}, sized from the rate at which the current one
+     * is being used, so that threads normally switch to it without ever waiting on the database.
+     */
+    public long nextKey() throws SQLException
+      {
+        while (true)
           {
-            k = _K.addAndGet(-1);
+            Block B = _Current;
+            long k = B._Remaining.decrementAndGet();
             if (k >= 0)
-              return getMax() - k;
-            return Key_Factory.replenish(this);
+              {
+                if (k == B._LowWater && KeysManager.isPrefetching() == true)
+                  prefetch(B);
+                return B._Max - k;
+              }
+            next(B);
+          }
+      }
+
+    /**
+     * Returns the next key from a range of StripeSize keys claimed by the current thread, so that only one in
+     * StripeSize calls touches the shared block. Keys are therefore unique but no longer increasing across threads.
+     * Ranges left over by threads that have died are collected whenever a new thread asks for keys or a block is
+     * switched, and handed out again before any new range is claimed.
+     */
+    public long nextKey(int StripeSize) throws SQLException
+      {
+        if (StripeSize <= 1)
+          return nextKey();
+        Range R = _Local.get();
+        if (R == null)
+          {
+            R = new Range(Thread.currentThread());
+            _Local.set(R);
+            reclaim(); // Threads come and go together: a new one is a good time to look for dead ones.
+            _Ranges.add(R);
+          }
+        if (R._Next > R._End)
+          claim(R, StripeSize);
+        return R._Next++;
+      }
+
+    protected void claim(Range R, int StripeSize)
+    throws SQLException
+      {
+        Range O = _Orphans.poll();
+        if (O != null)
+          {
+            R._Next = O._Next;
+            R._End = O._End;
+            return;
+          }
+        while (true)
+          {
+            Block B = _Current;
+            long k = B._Remaining.addAndGet(-StripeSize);
+            long Hi = k + StripeSize - 1; // Counter values k to Hi are ours, but only those >= 0 are in the block.
+            if (Hi >= 0)
+              {
+                if (k <= B._LowWater && Hi >= B._LowWater && KeysManager.isPrefetching() == true)
+                  prefetch(B);
+                R._Next = B._Max - Hi;
+                R._End = B._Max - Math.max(k, 0);
+                return;
+              }
+            next(B);
+          }
+      }
+
+    /**
+     * Moves the unused keys of threads that have died to _Orphans. Once a thread is seen as dead, its range can be
+     * read safely. This may run from several threads at once: only the one that removes a range from _Ranges hands
+     * it out.
+     */
+    protected void reclaim()
+      {
+        for (Range R : _Ranges)
+          if (R._Owner.isAlive() == false && _Ranges.remove(R) == true && R._Next <= R._End)
+            _Orphans.add(R);
+      }
+
+    protected long getNextBlockSize(Block B)
+      {
+        long Min = Math.max(1, getCount());
+        long Elapsed = System.nanoTime() - B._StartNano;
+        long Used = B._Size - Math.max(0, B._Remaining.get());
+        if (B._Size == 0 || Elapsed <= 0 || Used <= 0)
+          return Min;
+        double PerSecond = Used * 1000000000.0 / Elapsed;
+        long Size = (long) Math.min(PerSecond * TARGET_BLOCK_SECONDS, (double) Min * MAX_BLOCK_FACTOR);
+        return Math.max(Min, Size);
+      }
+
+    protected void prefetch(Block B)
+      {
+        synchronized (_Lock)
+          {
+            if (_Next == null && _Current == B)
+              {
+                long Size = getNextBlockSize(B);
+                _Next = KeysManager.submit(() -> Key_Factory.reserve(this, Size));
+              }
+          }
+      }
+
+    /**
+     * Switches from the exhausted block B to the prefetched one, waiting for it if needed, or reserves one
+     * synchronously if there was no prefetch or it failed. Does nothing if another thread already switched.
+     */
+    protected void next(Block B)
+    throws SQLException
+      {
+        synchronized (_Lock)
+          {
+            if (_Current != B)
+              return;
+            if (_Ranges.isEmpty() == false)
+              reclaim();
+            Block N = null;
+            Future<Block> F = _Next;
+            _Next = null;
+            if (F != null)
+              try
+                {
+                  N = F.get();
+                }
+              catch (ExecutionException E)
+                {
+                  LOG.warn("Prefetching keys for '" + getName() + "' failed: trying again synchronously.", E.getCause());
+                }
+              catch (InterruptedException E)
+                {
+                  Thread.currentThread().interrupt();
+                  throw new SQLException("Interrupted while waiting for keys for '" + getName() + "'.", E);
+                }
+            if (N == null)
+              N = Key_Factory.reserve(this, getNextBlockSize(B));
+            N._StartNano = System.nanoTime();
+            _Current = N;
           }
       }
   }
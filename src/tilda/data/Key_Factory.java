@@ -45,24 +45,27 @@ public class Key_Factory extends tilda.data._Tilda.TILDA__KEY_Factory
        // Add logic to initialize your object, for example, caching some values, or validating some things.
      }
 
-   protected static long replenish(Key_Data K)
+   /**
+    * Reserves the next Size keys for K by moving its max forward in its own transaction on a "KEYS" connection.
+    * K itself is not modified: the new max is read into a separate object.
+    */
+   protected static Key_Data.Block reserve(Key_Data K, long Size)
        throws SQLException, Error
        {
-         long k;
          Connection C = null;
          try
            {
              C = ConnectionPool.get("KEYS");
              UpdateQuery Q = newUpdateQuery(C);
-             Q.set(COLS.MAX, COLS.MAX).plus(COLS.COUNT)
+             Q.set(COLS.MAX, COLS.MAX).plus(Size)
               .where().equals(COLS.REFNUM, K.getRefnum());
              Q.execute();
-             K.Refresh(C);
-             K._K.set(K.getCount());
-             LOG.debug("Refilled '"+K.getName()+"' keys "+(K.getMax()-K.getCount()+1)+" - "+K.getMax());
-             k = K._K.addAndGet(-1);
+             Key_Data R = LookupByPrimaryKey(K.getRefnum());
+             if (R.Read(C) == false)
+               throw new Exception("The key '"+K.getName()+"' cannot be found.");
              C.commit();
-             return K.getMax() - k;
+             LOG.debug("Refilled '"+K.getName()+"' keys "+(R.getMax()-Size+1)+" - "+R.getMax());
+             return new Key_Data.Block(R.getMax(), Size);
            }
          catch (Throwable T)
            {
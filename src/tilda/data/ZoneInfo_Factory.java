@@ -42,21 +42,31 @@ public class ZoneInfo_Factory extends tilda.data._Tilda.TILDA__ZONEINFO_Factory
 
    public static void init(Connection C) throws Exception
      {
-       for (ZoneInfo_Data info : __ENUMERATIONS_BY_ID.values())
+     }
+
+   /**
+    * Hides the generated initMappings() so that the alternate zone ids are part of every snapshot, including the ones
+    * published by scheduleReload().
+    */
+   public static void initMappings(Connection C) throws Exception
+     {
+       __EnumerationSnapshot S = __loadMappings(C);
+       for (ZoneInfo_Data info : S._ById.values())
         {
           ZonedDateTime ZDT = ZonedDateTime.of(2015, 6, 21, 11, 0, 0, 0, ZoneId.of(info.getValue()));
           if (ZDT.getZone().getId().equals(info.getValue()) == false)
            {
              LOG.info("ZoneInfo id="+info.getId()+" and value="+info.getValue()+" has an alternate value "+ZDT.getZone().getId());
-             __ENUMERATIONS_BY_VALUE.put(ZDT.getZone().getId(), info);
+             S._ByValue.put(ZDT.getZone().getId(), info);
            }
           ZDT = ZonedDateTime.of(2014, 12, 22, 11, 0, 0, 0, ZoneId.of(info.getValue()));
           if (ZDT.getZone().getId().equals(info.getValue()) == false)
            {
              LOG.info("ZoneInfo id="+info.getId()+" and value="+info.getValue()+" has an alternate value "+ZDT.getZone().getId());
-             __ENUMERATIONS_BY_VALUE.put(ZDT.getZone().getId(), info);
+             S._ByValue.put(ZDT.getZone().getId(), info);
            }
         }
+       __publishMappings(S);
      }
    
    
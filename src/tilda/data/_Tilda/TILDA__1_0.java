@@ -39,10 +39,16 @@ public final class TILDA__1_0
        throw E;
      }
 
-   protected static void HandleFinally(java.sql.PreparedStatement PS, long T0, String TableName, StatementType ST, int count, List<java.sql.Array> AllocatedArrays) throws java.sql.SQLException
+   protected static void HandleFinally(Connection C, java.sql.PreparedStatement PS, long T0, String TableName, String Q, StatementType ST, int count, List<java.sql.Array> AllocatedArrays) throws java.sql.SQLException
      {
-       if (PS != null) PS.close(); 
-       PerfTracker.add(TableName, ST, System.nanoTime()-T0, count);
+       HandleFinally(C, PS, T0, TableName, Q, null, ST, count, AllocatedArrays);
+     }
+
+   // Params are the values bound to Q's placeholders, if they were collected, so a slow query can still be explained.
+   protected static void HandleFinally(Connection C, java.sql.PreparedStatement PS, long T0, String TableName, String Q, tilda.db.QueryParams Params, StatementType ST, int count, List<java.sql.Array> AllocatedArrays) throws java.sql.SQLException
+     {
+       C.releaseStatement(PS);
+       JDBCHelper.track(C, TableName, ST, System.nanoTime()-T0, count, Q, Params);
        for (java.sql.Array A : AllocatedArrays)
         A.free();
        AllocatedArrays.clear();
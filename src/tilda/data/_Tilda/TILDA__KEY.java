@@ -85,7 +85,7 @@ It contains the following columns:<BR>
 
  @author   Tilda code gen for Java 8/PostgreSQL
  @version  Tilda 1.0
- @generated Jul 5 2016, 03:06:35EDT
+ @generated Oct 18 2026, 00:26:35UTC
 */
 @SuppressWarnings({ "unused" })
 public abstract class TILDA__KEY implements tilda.interfaces.WriterObject, tilda.interfaces.OCCObject
@@ -1165,8 +1165,6 @@ This is the hasChanged for:<BR>
           return true;
         }
 
-       StringBuilder S = new StringBuilder(1024);
-
        if (BeforeWrite(C) == false)
         {
           LOG.debug("The tilda.data.TILDA.KEY object's BeforeWrite() failed.");
@@ -1174,6 +1172,52 @@ This is the hasChanged for:<BR>
           return false;
         }
 
+       String Q = __WriteQuery(C);
+       QueryDetails.setLastQuery(TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.KEY[27m): "+Q);
+       LOG.debug("   "+toString());
+       java.sql.PreparedStatement PS = null;
+       int count = 0;
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       try
+        {
+          PS = C.borrowStatement(Q);
+          __WriteBind(C, PS, AllocatedArrays);
+          C.setSavepoint();
+          count = PS.executeUpdate();
+          C.releaseSavepoint(true);
+          if (count == 0)
+           return false;
+        }
+       catch (java.sql.SQLException E)
+        {
+          C.releaseSavepoint(false);
+          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "updated or inserted");
+        }
+       finally
+        {
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, Q, __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE, count, AllocatedArrays);
+          PS = null;
+          AllocatedArrays = null;
+        }
+
+       __WriteDone(C);
+       return true;
+     }
+
+   /**
+    * Builds the insert or update statement for the current changes. Objects with the same changes yield the same
+    * statement, which is what allows TILDA__KEY_Factory.WriteBatch() to group them.
+    */
+   protected final StatementType __WriteStatementType()
+     {
+       return __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE;
+     }
+
+   protected final String __WriteQuery(Connection C) throws Exception
+     {
+       StringBuilder S = new StringBuilder(1024);
+
        if (__Init == InitMode.CREATE)
         {
           StringBuilder V = new StringBuilder(1024);
@@ -1254,18 +1298,14 @@ This is the hasChanged for:<BR>
           S.setCharAt(Pos, ' ');
         }
 
-       String Q = S.toString();
-       S.setLength(0);
-       S = null;
-       QueryDetails.setLastQuery(TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, Q);
-       LOG.debug("TILDA([7mTILDA.KEY[27m): "+Q);
-       LOG.debug("   "+toString());
-       java.sql.PreparedStatement PS = null;
-       int count = 0;
-       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
-       try
-        {
-          PS = C.prepareStatement(Q);
+       return S.toString();
+     }
+
+   /**
+    * Binds the values for the statement returned by __WriteQuery().
+    */
+   protected final int __WriteBind(Connection C, java.sql.PreparedStatement PS, List<java.sql.Array> AllocatedArrays) throws Exception
+     {
           int i = 0;
                if ((TILDA__KEY_Factory.COLS.REFNUM._Mask      & __Changes) != 0L) 
                 { 
@@ -1307,25 +1347,14 @@ This is the hasChanged for:<BR>
              case -666: if (__Init == InitMode.CREATE) break;
              default: throw new Exception("Invalid LookupId "+__LookupId+" found. Cannot prepare statement.");
            }
+          return i;
+     }
 
-          C.setSavepoint();
-          count = PS.executeUpdate();
-          C.releaseSavepoint(true);
-          if (count == 0)
-           return false;
-        }
-       catch (java.sql.SQLException E)
-        {
-          C.releaseSavepoint(false);
-          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "updated or inserted");
-        }
-       finally
-        {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE, count, AllocatedArrays);
-          PS = null;
-          AllocatedArrays = null;
-        }
-
+   /**
+    * Updates the state of the object after it has been successfully written.
+    */
+   protected final void __WriteDone(Connection C) throws Exception
+     {
        if (__Init == InitMode.CREATE)
         {
           __Init = InitMode.WRITTEN;
@@ -1350,8 +1379,114 @@ This is the hasChanged for:<BR>
 
        __Changes= 0L   ;
        __Nulls  = 0L   ;
+     }
 
-       return true;
+   /**
+    * Lists the columns a new object sends to a bulk load, in the order __CopyRow() writes them. Objects with the same
+    * changes yield the same list, which is what allows TILDA__KEY_Factory.CopyIn() to group them.
+    */
+   protected final String __CopyColumns(Connection C) throws Exception
+     {
+       StringBuilder S = new StringBuilder(1024);
+       if ((TILDA__KEY_Factory.COLS.REFNUM._Mask      & __Changes) != 0L) TILDA__KEY_Factory.COLS.REFNUM.getFullColumnVarForInsert(C, S);
+       if ((TILDA__KEY_Factory.COLS.NAME._Mask        & __Changes) != 0L) TILDA__KEY_Factory.COLS.NAME.getFullColumnVarForInsert(C, S);
+       if ((TILDA__KEY_Factory.COLS.MAX._Mask         & __Changes) != 0L) TILDA__KEY_Factory.COLS.MAX.getFullColumnVarForInsert(C, S);
+       if ((TILDA__KEY_Factory.COLS.COUNT._Mask       & __Changes) != 0L) TILDA__KEY_Factory.COLS.COUNT.getFullColumnVarForInsert(C, S);
+       TILDA__KEY_Factory.COLS.CREATED.getFullColumnVarForInsert(C, S);
+       TILDA__KEY_Factory.COLS.LASTUPDATED.getFullColumnVarForInsert(C, S);
+       if ((TILDA__KEY_Factory.COLS.DELETED._Mask     & __Changes) != 0L) TILDA__KEY_Factory.COLS.DELETED.getFullColumnVarForInsert(C, S);
+       return S.substring(1);
+     }
+
+   protected final void __CopyRow(tilda.db.BulkWriter W) throws Exception
+     {
+       if ((TILDA__KEY_Factory.COLS.REFNUM._Mask      & __Changes) != 0L) { if ((TILDA__KEY_Factory.COLS.REFNUM._Mask      & __Nulls) != 0L) W.addNull(); else W.add(_refnum     ); }
+       if ((TILDA__KEY_Factory.COLS.NAME._Mask        & __Changes) != 0L) { if ((TILDA__KEY_Factory.COLS.NAME._Mask        & __Nulls) != 0L) W.addNull(); else W.add(_name       ); }
+       if ((TILDA__KEY_Factory.COLS.MAX._Mask         & __Changes) != 0L) { if ((TILDA__KEY_Factory.COLS.MAX._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_max        ); }
+       if ((TILDA__KEY_Factory.COLS.COUNT._Mask       & __Changes) != 0L) { if ((TILDA__KEY_Factory.COLS.COUNT._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_count      ); }
+       if ((TILDA__KEY_Factory.COLS.CREATED._Mask     & __Changes) != 0L) { if ((TILDA__KEY_Factory.COLS.CREATED._Mask     & __Nulls) != 0L) W.addNull(); else W.add(_created    ); } else W.addNow();
+       if ((TILDA__KEY_Factory.COLS.LASTUPDATED._Mask & __Changes) != 0L) { if ((TILDA__KEY_Factory.COLS.LASTUPDATED._Mask & __Nulls) != 0L) W.addNull(); else W.add(_lastUpdated); } else W.addNow();
+       if ((TILDA__KEY_Factory.COLS.DELETED._Mask     & __Changes) != 0L) { if ((TILDA__KEY_Factory.COLS.DELETED._Mask     & __Nulls) != 0L) W.addNull(); else W.add(_deleted    ); }
+       W.endRow();
+     }
+
+   /**
+    * Inserts this new object, or updates the existing row matching it on Keys, in a single statement, and then
+    * initializes this object from the resulting row. On an existing row, only the non-null JSON-mapped values
+    * are updated, the Invariants are left alone, and the update-time defaults are applied.
+    * @return false if the existing row has different values for any of the Invariants, in which case it is not
+    *         updated.
+    */
+   protected final boolean __Upsert(Connection C, tilda.types.ColumnDefinition[] Keys, tilda.types.ColumnDefinition[] Invariants) throws Exception
+     {
+       long T0 = System.nanoTime();
+       if (__Init != InitMode.CREATE)
+        throw new Exception("This TILDA.KEY object is being upserted but it wasn't created with Create().");
+       if (BeforeWrite(C) == false)
+        {
+          LOG.debug("The tilda.data.TILDA.KEY object's BeforeWrite() failed.");
+          QueryDetails.setLastQuery(TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, "");
+          return false;
+        }
+
+       List<String> Cols = new ArrayList<String>();
+       List<String> Vals = new ArrayList<String>();
+       List<String> Updates = new ArrayList<String>();
+       if ((TILDA__KEY_Factory.COLS.REFNUM._Mask      & __Changes) != 0L) { Cols.add("refnum"); Vals.add("?"); }
+       if ((TILDA__KEY_Factory.COLS.NAME._Mask        & __Changes) != 0L) { Cols.add("name"); Vals.add("?"); if ((TILDA__KEY_Factory.COLS.NAME._Mask        & __Nulls) == 0L) Updates.add("name"); }
+       if ((TILDA__KEY_Factory.COLS.MAX._Mask         & __Changes) != 0L) { Cols.add("max"); Vals.add("?"); if ((TILDA__KEY_Factory.COLS.MAX._Mask         & __Nulls) == 0L) Updates.add("max"); }
+       if ((TILDA__KEY_Factory.COLS.COUNT._Mask       & __Changes) != 0L) { Cols.add("count"); Vals.add("?"); if ((TILDA__KEY_Factory.COLS.COUNT._Mask       & __Nulls) == 0L) Updates.add("count"); }
+       if ((TILDA__KEY_Factory.COLS.CREATED._Mask     & __Changes) != 0L) { Cols.add("created"); Vals.add((TILDA__KEY_Factory.COLS.CREATED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_created) == true ? C.getCurrentTimestampStr() : "?"); } else { Cols.add("created"); Vals.add(C.getCurrentTimestampStr()); }
+       if ((TILDA__KEY_Factory.COLS.LASTUPDATED._Mask & __Changes) != 0L) { Cols.add("lastUpdated"); Vals.add((TILDA__KEY_Factory.COLS.LASTUPDATED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_lastUpdated) == true ? C.getCurrentTimestampStr() : "?"); Updates.add("lastUpdated"); } else { Cols.add("lastUpdated"); Vals.add(C.getCurrentTimestampStr()); Updates.add("lastUpdated"); }
+       if ((TILDA__KEY_Factory.COLS.DELETED._Mask     & __Changes) != 0L) { Cols.add("deleted"); Vals.add((TILDA__KEY_Factory.COLS.DELETED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_deleted) == true ? C.getCurrentTimestampStr() : "?"); }
+       List<String> KeyCols = new ArrayList<String>();
+       for (tilda.types.ColumnDefinition K : Keys)
+        {
+          KeyCols.add(K.getName());
+          Updates.remove(K.getName());
+        }
+       List<String> Checks = new ArrayList<String>();
+       for (tilda.types.ColumnDefinition I : Invariants)
+        {
+          Updates.remove(I.getName());
+          if ((I._Mask & __Changes) != 0L && (I._Mask & __Nulls) == 0L)
+           Checks.add(I.getName());
+        }
+       String Q = C.getUpsertQuery("TILDA", "KEY", Cols, Vals, KeyCols, Updates, Checks, Arrays.asList("refnum", "name", "max", "count", "created", "lastUpdated", "deleted"));
+       QueryDetails.setLastQuery(TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.KEY[27m): "+Q);
+       LOG.debug("   "+toString());
+       java.sql.PreparedStatement PS = null;
+       java.sql.ResultSet RS = null;
+       int count = 0;
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       try
+        {
+          PS = C.borrowStatement(Q);
+          __WriteBind(C, PS, AllocatedArrays);
+          C.setSavepoint();
+          RS = PS.executeQuery();
+          C.releaseSavepoint(true);
+          if (RS.next() == false)
+           {
+             LOG.debug("   [1mThe existing record has different invariant values and was not updated.[22m");
+             return false;
+           }
+          count = 1;
+          __Nulls = 0L;
+          return Init(C, RS);
+        }
+       catch (java.sql.SQLException E)
+        {
+          C.releaseSavepoint(false);
+          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "upserted");
+        }
+       finally
+        {
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, Q, StatementType.INSERT, count, AllocatedArrays);
+          PS = null;
+          AllocatedArrays = null;
+        }
      }
 
    protected abstract boolean BeforeWrite(Connection C) throws Exception;
@@ -1417,7 +1552,7 @@ This is the hasChanged for:<BR>
 
        try
         {
-          PS = C.prepareStatement(Q);
+          PS = C.borrowStatement(Q);
           int i = 0;
           switch (__LookupId)
            {
@@ -1446,7 +1581,7 @@ This is the hasChanged for:<BR>
         }
        finally
         {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, StatementType.SELECT, count, AllocatedArrays);
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__KEY_Factory.SCHEMA_TABLENAME_LABEL, Q, StatementType.SELECT, count, AllocatedArrays);
           PS = null;
           AllocatedArrays = null;
         }
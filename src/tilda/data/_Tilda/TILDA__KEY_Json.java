@@ -31,7 +31,10 @@ public class TILDA__KEY_Json
    @SerializedName("count"      ) public Integer  _count      ;
    /*@formatter:on*/
 
-   public tilda.data.Key_Data Write(Connection C) throws Exception
+   /**
+    * Validates the incoming values and creates a new, unsaved, tilda.data.Key_Data object from them.
+    */
+   public tilda.data.Key_Data Create() throws Exception
     {
       if (_refnum      == null)
        throw new Exception("Incoming value for 'tilda.data.TILDA.KEY.refnum' was null or empty. It's not nullable in the model.\n"+toString());
@@ -44,7 +47,27 @@ public class TILDA__KEY_Json
 
       tilda.data.Key_Data Obj = tilda.data.Key_Factory.Create(_refnum, _name, _max, _count);
       Update(Obj);
-      if (Obj.Write(C) == false)
+      return Obj;
+    }
+
+   /**
+    * Bulk-loads the records as new objects through tilda.data.Key_Factory.CopyIn(). Unlike Write(), existing
+    * objects are not looked up and updated: a record matching an existing unique key fails the whole load.
+    * @return the number of records inserted.
+    */
+   public static int CopyIn(Connection C, List<? extends TILDA__KEY_Json> L) throws Exception
+    {
+      List<tilda.data.Key_Data> Objs = new ArrayList<tilda.data.Key_Data>(L.size());
+      for (TILDA__KEY_Json Json : L)
+       Objs.add(Json.Create());
+      return tilda.data.Key_Factory.CopyIn(C, Objs);
+    }
+
+   public tilda.data.Key_Data Write(Connection C) throws Exception
+    {
+      tilda.data.Key_Data Obj = Create();
+      if (C.supportsUpsert() == true ? Obj.__Upsert(C, new tilda.types.ColumnDefinition[] { TILDA__KEY_Factory.COLS.NAME }, new tilda.types.ColumnDefinition[] {}) == false
+                                      : Obj.Write(C) == false)
        {
          Obj = tilda.data.Key_Factory.LookupByName(_name);
          if (Obj.Read(C) == false)
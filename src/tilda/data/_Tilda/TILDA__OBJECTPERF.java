@@ -65,41 +65,42 @@ It contains the following columns:<BR>
 
   <TR valign="top" bgcolor="#EEEEEE"><TD>1&nbsp;&nbsp;</TD><TD align="right"><B>schemaName</B>&nbsp;&nbsp;</TD><TD>String&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.schemaName</B>&nbsp;&nbsp;</TD><TD>varchar(64)&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The name of the schema tracked</TD></TR>
   <TR valign="top" bgcolor="#FFFFFF"><TD>2&nbsp;&nbsp;</TD><TD align="right"><B>objectName</B>&nbsp;&nbsp;</TD><TD>String&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.objectName</B>&nbsp;&nbsp;</TD><TD>varchar(64)&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The name of the table/object tracked</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>3&nbsp;&nbsp;</TD><TD align="right"><B>startPeriodTZ</B>&nbsp;&nbsp;</TD><TD>String&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.startPeriodTZ</B>&nbsp;&nbsp;</TD><TD>character(5)&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Generated helper column to hold the time zone ID for 'startPeriod'.</TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>4&nbsp;&nbsp;</TD><TD align="right"><B>startPeriod</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.startPeriod</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was created.</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>5&nbsp;&nbsp;</TD><TD align="right"><B>endPeriodTZ</B>&nbsp;&nbsp;</TD><TD>String&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.endPeriodTZ</B>&nbsp;&nbsp;</TD><TD>character(5)&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Generated helper column to hold the time zone ID for 'endPeriod'.</TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>6&nbsp;&nbsp;</TD><TD align="right"><B>endPeriod</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.endPeriod</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was created.</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>7&nbsp;&nbsp;</TD><TD align="right"><B>selectNano</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.selectNano</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>8&nbsp;&nbsp;</TD><TD align="right"><B>selectCount</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.selectCount</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>9&nbsp;&nbsp;</TD><TD align="right"><B>selectRecords</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.selectRecords</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>10&nbsp;&nbsp;</TD><TD align="right"><B>insertNano</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.insertNano</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>11&nbsp;&nbsp;</TD><TD align="right"><B>insertCount</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.insertCount</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>12&nbsp;&nbsp;</TD><TD align="right"><B>insertRecords</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.insertRecords</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>13&nbsp;&nbsp;</TD><TD align="right"><B>updateNano</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.updateNano</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>14&nbsp;&nbsp;</TD><TD align="right"><B>updateCount</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.updateCount</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>15&nbsp;&nbsp;</TD><TD align="right"><B>updateRecords</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.updateRecords</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>16&nbsp;&nbsp;</TD><TD align="right"><B>deleteNano</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.deleteNano</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>17&nbsp;&nbsp;</TD><TD align="right"><B>deleteCount</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.deleteCount</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>18&nbsp;&nbsp;</TD><TD align="right"><B>deleteRecords</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.deleteRecords</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>19&nbsp;&nbsp;</TD><TD align="right"><B>created</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.created</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was created.</TD></TR>
-  <TR bgcolor="#EEEEEE"><TD></TD><TD></TD><TD colspan="10" align="center">
+  <TR valign="top" bgcolor="#EEEEEE"><TD>3&nbsp;&nbsp;</TD><TD align="right"><B>nodeName</B>&nbsp;&nbsp;</TD><TD>String&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.nodeName</B>&nbsp;&nbsp;</TD><TD>varchar(64)&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The host name of the server the activity happened on</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>4&nbsp;&nbsp;</TD><TD align="right"><B>startPeriodTZ</B>&nbsp;&nbsp;</TD><TD>String&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.startPeriodTZ</B>&nbsp;&nbsp;</TD><TD>character(5)&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Generated helper column to hold the time zone ID for 'startPeriod'.</TD></TR>
+  <TR valign="top" bgcolor="#EEEEEE"><TD>5&nbsp;&nbsp;</TD><TD align="right"><B>startPeriod</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.startPeriod</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was created.</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>6&nbsp;&nbsp;</TD><TD align="right"><B>endPeriodTZ</B>&nbsp;&nbsp;</TD><TD>String&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.endPeriodTZ</B>&nbsp;&nbsp;</TD><TD>character(5)&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Generated helper column to hold the time zone ID for 'endPeriod'.</TD></TR>
+  <TR valign="top" bgcolor="#EEEEEE"><TD>7&nbsp;&nbsp;</TD><TD align="right"><B>endPeriod</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.endPeriod</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was created.</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>8&nbsp;&nbsp;</TD><TD align="right"><B>selectNano</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.selectNano</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#EEEEEE"><TD>9&nbsp;&nbsp;</TD><TD align="right"><B>selectCount</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.selectCount</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>10&nbsp;&nbsp;</TD><TD align="right"><B>selectRecords</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.selectRecords</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#EEEEEE"><TD>11&nbsp;&nbsp;</TD><TD align="right"><B>insertNano</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.insertNano</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>12&nbsp;&nbsp;</TD><TD align="right"><B>insertCount</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.insertCount</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#EEEEEE"><TD>13&nbsp;&nbsp;</TD><TD align="right"><B>insertRecords</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.insertRecords</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>14&nbsp;&nbsp;</TD><TD align="right"><B>updateNano</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.updateNano</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#EEEEEE"><TD>15&nbsp;&nbsp;</TD><TD align="right"><B>updateCount</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.updateCount</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>16&nbsp;&nbsp;</TD><TD align="right"><B>updateRecords</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.updateRecords</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#EEEEEE"><TD>17&nbsp;&nbsp;</TD><TD align="right"><B>deleteNano</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.deleteNano</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>18&nbsp;&nbsp;</TD><TD align="right"><B>deleteCount</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.deleteCount</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#EEEEEE"><TD>19&nbsp;&nbsp;</TD><TD align="right"><B>deleteRecords</B>&nbsp;&nbsp;</TD><TD>long&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.deleteRecords</B>&nbsp;&nbsp;</TD><TD>bigint&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>Blah...</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>20&nbsp;&nbsp;</TD><TD align="right"><B>created</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.created</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>true&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was created.</TD></TR>
+  <TR bgcolor="#FFFFFF"><TD></TD><TD></TD><TD colspan="10" align="center">
 <TABLE border="0px" cellpadding="2px" cellspacing="0px">   <TR align="left"><TH>&nbsp;</TH><TH align="right">Name&nbsp;&nbsp;</TH><TH>Value&nbsp;&nbsp;</TH><TH>Label&nbsp;&nbsp;</TH><TH>Default&nbsp;&nbsp;</TH><TH>Groupings&nbsp;&nbsp;</TH><TH>Description</TH></TR>
   <TR bgcolor="#FFFFFF"><TD>0&nbsp;&nbsp;</TD><TD align="right"><B>Creation</B>&nbsp;&nbsp;</TD><TD>NOW&nbsp;&nbsp;</TD><TD>Creation&nbsp;&nbsp;</TD><TD>CREATE&nbsp;&nbsp;</TD><TD>&nbsp;&nbsp;</TD><TD>Creation time</TD></TR>
 </TABLE>
 </TD></TR>
-  <TR valign="top" bgcolor="#FFFFFF"><TD>20&nbsp;&nbsp;</TD><TD align="right"><B>lastUpdated</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.lastUpdated</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was last updated.</TD></TR>
-  <TR bgcolor="#FFFFFF"><TD></TD><TD></TD><TD colspan="10" align="center">
+  <TR valign="top" bgcolor="#EEEEEE"><TD>21&nbsp;&nbsp;</TD><TD align="right"><B>lastUpdated</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.lastUpdated</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>false&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was last updated.</TD></TR>
+  <TR bgcolor="#EEEEEE"><TD></TD><TD></TD><TD colspan="10" align="center">
 <TABLE border="0px" cellpadding="2px" cellspacing="0px">   <TR align="left"><TH>&nbsp;</TH><TH align="right">Name&nbsp;&nbsp;</TH><TH>Value&nbsp;&nbsp;</TH><TH>Label&nbsp;&nbsp;</TH><TH>Default&nbsp;&nbsp;</TH><TH>Groupings&nbsp;&nbsp;</TH><TH>Description</TH></TR>
   <TR bgcolor="#FFFFFF"><TD>0&nbsp;&nbsp;</TD><TD align="right"><B>Update</B>&nbsp;&nbsp;</TD><TD>NOW&nbsp;&nbsp;</TD><TD>Update&nbsp;&nbsp;</TD><TD>ALWAYS&nbsp;&nbsp;</TD><TD>&nbsp;&nbsp;</TD><TD>Last updated time</TD></TR>
 </TABLE>
 </TD></TR>
-  <TR valign="top" bgcolor="#EEEEEE"><TD>21&nbsp;&nbsp;</TD><TD align="right"><B>deleted</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.deleted</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was deleted.</TD></TR>
+  <TR valign="top" bgcolor="#FFFFFF"><TD>22&nbsp;&nbsp;</TD><TD align="right"><B>deleted</B>&nbsp;&nbsp;</TD><TD>ZonedDateTime&nbsp;&nbsp;</TD><TD><B>TILDA.OBJECTPERF.deleted</B>&nbsp;&nbsp;</TD><TD>timestamptz&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>AUTO&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>-&nbsp;&nbsp;</TD><TD>The timestamp for when the record was deleted.</TD></TR>
 </TABLE>
 </DIV>
 
  @author   Tilda code gen for Java 8/PostgreSQL
  @version  Tilda 1.0
- @generated Jul 5 2016, 03:06:35EDT
+ @generated Oct 18 2026, 00:26:35UTC
 */
 @SuppressWarnings({ "unused" })
 public abstract class TILDA__OBJECTPERF implements tilda.interfaces.WriterObject, tilda.interfaces.OCCObject
@@ -303,6 +304,90 @@ This is the setter for:<BR>
 
 
 
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+// THIS CODE IS GENERATED AND **MUST NOT** BE MODIFIED
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+//   Field tilda.data.TILDA.OBJECTPERF.nodeName -> TILDA.OBJECTPERF."nodeName"
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+/**
+This is the definition for:<BR>
+<TABLE border="0px" cellpadding="3px" cellspacing="0px">
+  <TR><TD align="right"><B>Name</B></TD><TD>tilda.data.TILDA.OBJECTPERF.nodeName of type String</TD></TR>
+  <TR><TD align="right"><B>Column</B></TD><TD>TILDA.OBJECTPERF.nodeName of type varchar(64)</TD></TR>
+
+  <TR><TD align="right"><B>Size</B></TD><TD>64</TD></TR>
+  <TR><TD align="right"><B>Nullable</B></TD><TD>false</TD></TR>
+  <TR valign="top"><TD align="right"><B>Description</B></TD><TD>The host name of the server the activity happened on</TD></TR>
+  <TR><TD align="right"><B>Mode</B></TD><TD>NORMAL</TD></TR>
+  <TR><TD align="right"><B>Invariant</B></TD><TD>true</TD></TR>
+  <TR><TD align="right"><B>Protect</B></TD><TD>NONE</TD></TR>
+</TABLE>
+*/
+   String _nodeName;
+   protected String __Saved_nodeName;
+
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+//   Field tilda.data.TILDA.OBJECTPERF.nodeName -> TILDA.OBJECTPERF."nodeName"
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+/**
+This is the getter for:<BR>
+<TABLE border="0px" cellpadding="3px" cellspacing="0px">
+  <TR><TD align="right"><B>Name</B></TD><TD>tilda.data.TILDA.OBJECTPERF.nodeName of type String</TD></TR>
+  <TR><TD align="right"><B>Column</B></TD><TD>TILDA.OBJECTPERF.nodeName of type varchar(64)</TD></TR>
+
+  <TR><TD align="right"><B>Size</B></TD><TD>64</TD></TR>
+  <TR><TD align="right"><B>Nullable</B></TD><TD>false</TD></TR>
+  <TR valign="top"><TD align="right"><B>Description</B></TD><TD>The host name of the server the activity happened on</TD></TR>
+  <TR><TD align="right"><B>Mode</B></TD><TD>NORMAL</TD></TR>
+  <TR><TD align="right"><B>Invariant</B></TD><TD>true</TD></TR>
+  <TR><TD align="right"><B>Protect</B></TD><TD>NONE</TD></TR>
+</TABLE>
+*/
+   public final String getNodeName()
+      { return _nodeName; }
+
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+//   Field tilda.data.TILDA.OBJECTPERF.nodeName -> TILDA.OBJECTPERF."nodeName"
+/////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+/**
+This is the setter for:<BR>
+<TABLE border="0px" cellpadding="3px" cellspacing="0px">
+  <TR><TD align="right"><B>Name</B></TD><TD>tilda.data.TILDA.OBJECTPERF.nodeName of type String</TD></TR>
+  <TR><TD align="right"><B>Column</B></TD><TD>TILDA.OBJECTPERF.nodeName of type varchar(64)</TD></TR>
+
+  <TR><TD align="right"><B>Size</B></TD><TD>64</TD></TR>
+  <TR><TD align="right"><B>Nullable</B></TD><TD>false</TD></TR>
+  <TR valign="top"><TD align="right"><B>Description</B></TD><TD>The host name of the server the activity happened on</TD></TR>
+  <TR><TD align="right"><B>Mode</B></TD><TD>NORMAL</TD></TR>
+  <TR><TD align="right"><B>Invariant</B></TD><TD>true</TD></TR>
+  <TR><TD align="right"><B>Protect</B></TD><TD>NONE</TD></TR>
+</TABLE>
+*/
+   protected void setNodeName(String v) throws Exception
+     {
+       long T0 = System.nanoTime();
+       if (v == null)
+        throw new Exception("Cannot set tilda.data.TILDA.OBJECTPERF.nodeName to null: it's not nullable.");
+       else if (v.length() > 64)
+        throw new Exception("Cannot set tilda.data.TILDA.OBJECTPERF.nodeName: the value "+TextUtil.EscapeDoubleQuoteWithSlash(v)+" is larger than the max size allowed 64.");
+       else if (v.equals(_nodeName) == false)
+        {
+          if (__Init != InitMode.CREATE && __Init != InitMode.LOOKUP)
+           throw new Exception("Cannot set field 'tilda.data.TILDA.OBJECTPERF.nodeName' that is invariant, or part of a read-only or pre-existing WORM object.");
+          __Changes |= TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask;
+          __Nulls   &= ~TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask;
+       _nodeName = v;
+        }
+       PerfTracker.add(TransactionType.TILDA_SETTER, System.nanoTime() - T0);
+     }
+
+
+
 /////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 // THIS CODE IS GENERATED AND **MUST NOT** BE MODIFIED
 /////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -2572,8 +2657,6 @@ This is the hasChanged for:<BR>
           return true;
         }
 
-       StringBuilder S = new StringBuilder(1024);
-
        if (BeforeWrite(C) == false)
         {
           LOG.debug("The tilda.data.TILDA.OBJECTPERF object's BeforeWrite() failed.");
@@ -2581,6 +2664,52 @@ This is the hasChanged for:<BR>
           return false;
         }
 
+       String Q = __WriteQuery(C);
+       QueryDetails.setLastQuery(TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.OBJECTPERF[27m): "+Q);
+       LOG.debug("   "+toString());
+       java.sql.PreparedStatement PS = null;
+       int count = 0;
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       try
+        {
+          PS = C.borrowStatement(Q);
+          __WriteBind(C, PS, AllocatedArrays);
+          C.setSavepoint();
+          count = PS.executeUpdate();
+          C.releaseSavepoint(true);
+          if (count == 0)
+           return false;
+        }
+       catch (java.sql.SQLException E)
+        {
+          C.releaseSavepoint(false);
+          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "updated or inserted");
+        }
+       finally
+        {
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, Q, __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE, count, AllocatedArrays);
+          PS = null;
+          AllocatedArrays = null;
+        }
+
+       __WriteDone(C);
+       return true;
+     }
+
+   /**
+    * Builds the insert or update statement for the current changes. Objects with the same changes yield the same
+    * statement, which is what allows TILDA__OBJECTPERF_Factory.WriteBatch() to group them.
+    */
+   protected final StatementType __WriteStatementType()
+     {
+       return __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE;
+     }
+
+   protected final String __WriteQuery(Connection C) throws Exception
+     {
+       StringBuilder S = new StringBuilder(1024);
+
        if (__Init == InitMode.CREATE)
         {
           StringBuilder V = new StringBuilder(1024);
@@ -2588,6 +2717,7 @@ This is the hasChanged for:<BR>
           int Pos = S.length();
           if ((TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) { TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME.getFullColumnVarForInsert(C, S); V.append(tilda.data._Tilda.TILDA__1_0._COMMAQUESTION);  }
           if ((TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME._Mask    & __Changes) != 0L) { TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME.getFullColumnVarForInsert(C, S); V.append(tilda.data._Tilda.TILDA__1_0._COMMAQUESTION);  }
+          if ((TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask      & __Changes) != 0L) { TILDA__OBJECTPERF_Factory.COLS.NODENAME.getFullColumnVarForInsert(C, S); V.append(tilda.data._Tilda.TILDA__1_0._COMMAQUESTION);  }
           if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) { TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ.getFullColumnVarForInsert(C, S); V.append(tilda.data._Tilda.TILDA__1_0._COMMAQUESTION);  }
 
           if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD._Mask   & __Changes) != 0L) { TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD.getFullColumnVarForInsert(C, S);
@@ -2635,6 +2765,7 @@ This is the hasChanged for:<BR>
           int Pos = S.length();
           if ((TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME.getFullColumnVarForUpdate(C, S);
           if ((TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME._Mask    & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME.getFullColumnVarForUpdate(C, S);
+          if ((TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask      & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.NODENAME.getFullColumnVarForUpdate(C, S);
           if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ.getFullColumnVarForUpdate(C, S);
 
           if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD._Mask & __Changes) != 0L)
@@ -2698,7 +2829,7 @@ This is the hasChanged for:<BR>
           switch (__LookupId)
            {
              case 0:
-                S.append(" where ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "schemaName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append("=?)");
+                S.append(" where ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "schemaName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "nodeName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append("=?)");
                 break;
              case -666: if (__Init == InitMode.CREATE) break;
              default: throw new Exception("Invalid LookupId "+__LookupId+" found. Cannot create where clause.");
@@ -2706,18 +2837,14 @@ This is the hasChanged for:<BR>
           S.setCharAt(Pos, ' ');
         }
 
-       String Q = S.toString();
-       S.setLength(0);
-       S = null;
-       QueryDetails.setLastQuery(TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, Q);
-       LOG.debug("TILDA([7mTILDA.OBJECTPERF[27m): "+Q);
-       LOG.debug("   "+toString());
-       java.sql.PreparedStatement PS = null;
-       int count = 0;
-       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
-       try
-        {
-          PS = C.prepareStatement(Q);
+       return S.toString();
+     }
+
+   /**
+    * Binds the values for the statement returned by __WriteQuery().
+    */
+   protected final int __WriteBind(Connection C, java.sql.PreparedStatement PS, List<java.sql.Array> AllocatedArrays) throws Exception
+     {
           int i = 0;
                if ((TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) 
                 { 
@@ -2727,6 +2854,10 @@ This is the hasChanged for:<BR>
                 { 
                   if ((TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME._Mask    & __Nulls  ) != 0L) PS.setNull(++i, java.sql.Types.CHAR   ); else PS.setString   (++i, _objectName);
                 } 
+               if ((TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask      & __Changes) != 0L) 
+                { 
+                  if ((TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask      & __Nulls  ) != 0L) PS.setNull(++i, java.sql.Types.CHAR   ); else PS.setString   (++i, _nodeName);
+                } 
                if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) 
                 { 
                   if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Nulls  ) != 0L) PS.setNull(++i, java.sql.Types.CHAR   ); else PS.setString   (++i, _startPeriodTZ);
@@ -2809,30 +2940,20 @@ This is the hasChanged for:<BR>
              case 0:
                PS.setString   (++i, _schemaName   );
                PS.setString   (++i, _objectName   );
+               PS.setString   (++i, _nodeName     );
                PS.setTimestamp(++i, new java.sql.Timestamp(_startPeriod.toInstant().toEpochMilli()), DateTimeUtil._UTC_CALENDAR);
                break;
              case -666: if (__Init == InitMode.CREATE) break;
              default: throw new Exception("Invalid LookupId "+__LookupId+" found. Cannot prepare statement.");
            }
+          return i;
+     }
 
-          C.setSavepoint();
-          count = PS.executeUpdate();
-          C.releaseSavepoint(true);
-          if (count == 0)
-           return false;
-        }
-       catch (java.sql.SQLException E)
-        {
-          C.releaseSavepoint(false);
-          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "updated or inserted");
-        }
-       finally
-        {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE, count, AllocatedArrays);
-          PS = null;
-          AllocatedArrays = null;
-        }
-
+   /**
+    * Updates the state of the object after it has been successfully written.
+    */
+   protected final void __WriteDone(Connection C) throws Exception
+     {
        if (__Init == InitMode.CREATE)
         {
           __Init = InitMode.WRITTEN;
@@ -2848,6 +2969,7 @@ This is the hasChanged for:<BR>
           case 0:
              __Saved_schemaName    = _schemaName   ;
              __Saved_objectName    = _objectName   ;
+             __Saved_nodeName      = _nodeName     ;
              __Saved_startPeriod   = _startPeriod  ;
              break;
           case -666: if (__Init == InitMode.CREATE) break;
@@ -2856,8 +2978,159 @@ This is the hasChanged for:<BR>
 
        __Changes= 0L   ;
        __Nulls  = 0L   ;
+     }
 
-       return true;
+   /**
+    * Lists the columns a new object sends to a bulk load, in the order __CopyRow() writes them. Objects with the same
+    * changes yield the same list, which is what allows TILDA__OBJECTPERF_Factory.CopyIn() to group them.
+    */
+   protected final String __CopyColumns(Connection C) throws Exception
+     {
+       StringBuilder S = new StringBuilder(1024);
+       if ((TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME._Mask    & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask      & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.NODENAME.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD._Mask   & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.ENDPERIODTZ.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIOD._Mask     & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.ENDPERIOD.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTNANO._Mask    & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.SELECTNANO.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTCOUNT._Mask   & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.SELECTCOUNT.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTRECORDS._Mask & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.SELECTRECORDS.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTNANO._Mask    & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.INSERTNANO.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTCOUNT._Mask   & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.INSERTCOUNT.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTRECORDS._Mask & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.INSERTRECORDS.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATENANO._Mask    & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.UPDATENANO.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATECOUNT._Mask   & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.UPDATECOUNT.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATERECORDS._Mask & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.UPDATERECORDS.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETENANO._Mask    & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.DELETENANO.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETECOUNT._Mask   & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.DELETECOUNT.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETERECORDS._Mask & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.DELETERECORDS.getFullColumnVarForInsert(C, S);
+       TILDA__OBJECTPERF_Factory.COLS.CREATED.getFullColumnVarForInsert(C, S);
+       TILDA__OBJECTPERF_Factory.COLS.LASTUPDATED.getFullColumnVarForInsert(C, S);
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETED._Mask       & __Changes) != 0L) TILDA__OBJECTPERF_Factory.COLS.DELETED.getFullColumnVarForInsert(C, S);
+       return S.substring(1);
+     }
+
+   protected final void __CopyRow(tilda.db.BulkWriter W) throws Exception
+     {
+       if ((TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_schemaName   ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME._Mask    & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_objectName   ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask      & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask      & __Nulls) != 0L) W.addNull(); else W.add(_nodeName     ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Nulls) != 0L) W.addNull(); else W.add(_startPeriodTZ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD._Mask   & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_startPeriod  ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_endPeriodTZ  ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIOD._Mask     & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIOD._Mask     & __Nulls) != 0L) W.addNull(); else W.add(_endPeriod    ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTNANO._Mask    & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.SELECTNANO._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_selectNano   ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTCOUNT._Mask   & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.SELECTCOUNT._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_selectCount  ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTRECORDS._Mask & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.SELECTRECORDS._Mask & __Nulls) != 0L) W.addNull(); else W.add(_selectRecords); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTNANO._Mask    & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.INSERTNANO._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_insertNano   ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTCOUNT._Mask   & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.INSERTCOUNT._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_insertCount  ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTRECORDS._Mask & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.INSERTRECORDS._Mask & __Nulls) != 0L) W.addNull(); else W.add(_insertRecords); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATENANO._Mask    & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.UPDATENANO._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_updateNano   ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATECOUNT._Mask   & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.UPDATECOUNT._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_updateCount  ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATERECORDS._Mask & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.UPDATERECORDS._Mask & __Nulls) != 0L) W.addNull(); else W.add(_updateRecords); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETENANO._Mask    & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.DELETENANO._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_deleteNano   ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETECOUNT._Mask   & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.DELETECOUNT._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_deleteCount  ); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETERECORDS._Mask & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.DELETERECORDS._Mask & __Nulls) != 0L) W.addNull(); else W.add(_deleteRecords); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.CREATED._Mask       & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.CREATED._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_created      ); } else W.addNow();
+       if ((TILDA__OBJECTPERF_Factory.COLS.LASTUPDATED._Mask   & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.LASTUPDATED._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_lastUpdated  ); } else W.addNow();
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETED._Mask       & __Changes) != 0L) { if ((TILDA__OBJECTPERF_Factory.COLS.DELETED._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_deleted      ); }
+       W.endRow();
+     }
+
+   /**
+    * Inserts this new object, or updates the existing row matching it on Keys, in a single statement, and then
+    * initializes this object from the resulting row. On an existing row, only the non-null JSON-mapped values
+    * are updated, the Invariants are left alone, and the update-time defaults are applied.
+    * @return false if the existing row has different values for any of the Invariants, in which case it is not
+    *         updated.
+    */
+   protected final boolean __Upsert(Connection C, tilda.types.ColumnDefinition[] Keys, tilda.types.ColumnDefinition[] Invariants) throws Exception
+     {
+       long T0 = System.nanoTime();
+       if (__Init != InitMode.CREATE)
+        throw new Exception("This TILDA.OBJECTPERF object is being upserted but it wasn't created with Create().");
+       if (BeforeWrite(C) == false)
+        {
+          LOG.debug("The tilda.data.TILDA.OBJECTPERF object's BeforeWrite() failed.");
+          QueryDetails.setLastQuery(TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, "");
+          return false;
+        }
+
+       List<String> Cols = new ArrayList<String>();
+       List<String> Vals = new ArrayList<String>();
+       List<String> Updates = new ArrayList<String>();
+       if ((TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) { Cols.add("schemaName"); Vals.add("?"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME._Mask    & __Changes) != 0L) { Cols.add("objectName"); Vals.add("?"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask      & __Changes) != 0L) { Cols.add("nodeName"); Vals.add("?"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) { Cols.add("startPeriodTZ"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask & __Nulls) == 0L) Updates.add("startPeriodTZ"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD._Mask   & __Changes) != 0L) { Cols.add("startPeriod"); Vals.add((TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_startPeriod) == true ? C.getCurrentTimestampStr() : "?"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Changes) != 0L) { Cols.add("endPeriodTZ"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Nulls) == 0L) Updates.add("endPeriodTZ"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIOD._Mask     & __Changes) != 0L) { Cols.add("endPeriod"); Vals.add((TILDA__OBJECTPERF_Factory.COLS.ENDPERIOD._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_endPeriod) == true ? C.getCurrentTimestampStr() : "?"); if ((TILDA__OBJECTPERF_Factory.COLS.ENDPERIOD._Mask     & __Nulls) == 0L) Updates.add("endPeriod"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTNANO._Mask    & __Changes) != 0L) { Cols.add("selectNano"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.SELECTNANO._Mask    & __Nulls) == 0L) Updates.add("selectNano"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTCOUNT._Mask   & __Changes) != 0L) { Cols.add("selectCount"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.SELECTCOUNT._Mask   & __Nulls) == 0L) Updates.add("selectCount"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.SELECTRECORDS._Mask & __Changes) != 0L) { Cols.add("selectRecords"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.SELECTRECORDS._Mask & __Nulls) == 0L) Updates.add("selectRecords"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTNANO._Mask    & __Changes) != 0L) { Cols.add("insertNano"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.INSERTNANO._Mask    & __Nulls) == 0L) Updates.add("insertNano"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTCOUNT._Mask   & __Changes) != 0L) { Cols.add("insertCount"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.INSERTCOUNT._Mask   & __Nulls) == 0L) Updates.add("insertCount"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.INSERTRECORDS._Mask & __Changes) != 0L) { Cols.add("insertRecords"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.INSERTRECORDS._Mask & __Nulls) == 0L) Updates.add("insertRecords"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATENANO._Mask    & __Changes) != 0L) { Cols.add("updateNano"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.UPDATENANO._Mask    & __Nulls) == 0L) Updates.add("updateNano"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATECOUNT._Mask   & __Changes) != 0L) { Cols.add("updateCount"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.UPDATECOUNT._Mask   & __Nulls) == 0L) Updates.add("updateCount"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.UPDATERECORDS._Mask & __Changes) != 0L) { Cols.add("updateRecords"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.UPDATERECORDS._Mask & __Nulls) == 0L) Updates.add("updateRecords"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETENANO._Mask    & __Changes) != 0L) { Cols.add("deleteNano"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.DELETENANO._Mask    & __Nulls) == 0L) Updates.add("deleteNano"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETECOUNT._Mask   & __Changes) != 0L) { Cols.add("deleteCount"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.DELETECOUNT._Mask   & __Nulls) == 0L) Updates.add("deleteCount"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETERECORDS._Mask & __Changes) != 0L) { Cols.add("deleteRecords"); Vals.add("?"); if ((TILDA__OBJECTPERF_Factory.COLS.DELETERECORDS._Mask & __Nulls) == 0L) Updates.add("deleteRecords"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.CREATED._Mask       & __Changes) != 0L) { Cols.add("created"); Vals.add((TILDA__OBJECTPERF_Factory.COLS.CREATED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_created) == true ? C.getCurrentTimestampStr() : "?"); } else { Cols.add("created"); Vals.add(C.getCurrentTimestampStr()); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.LASTUPDATED._Mask   & __Changes) != 0L) { Cols.add("lastUpdated"); Vals.add((TILDA__OBJECTPERF_Factory.COLS.LASTUPDATED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_lastUpdated) == true ? C.getCurrentTimestampStr() : "?"); Updates.add("lastUpdated"); } else { Cols.add("lastUpdated"); Vals.add(C.getCurrentTimestampStr()); Updates.add("lastUpdated"); }
+       if ((TILDA__OBJECTPERF_Factory.COLS.DELETED._Mask       & __Changes) != 0L) { Cols.add("deleted"); Vals.add((TILDA__OBJECTPERF_Factory.COLS.DELETED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_deleted) == true ? C.getCurrentTimestampStr() : "?"); }
+       List<String> KeyCols = new ArrayList<String>();
+       for (tilda.types.ColumnDefinition K : Keys)
+        {
+          KeyCols.add(K.getName());
+          Updates.remove(K.getName());
+        }
+       List<String> Checks = new ArrayList<String>();
+       for (tilda.types.ColumnDefinition I : Invariants)
+        {
+          Updates.remove(I.getName());
+          if ((I._Mask & __Changes) != 0L && (I._Mask & __Nulls) == 0L)
+           Checks.add(I.getName());
+        }
+       String Q = C.getUpsertQuery("TILDA", "OBJECTPERF", Cols, Vals, KeyCols, Updates, Checks, Arrays.asList("schemaName", "objectName", "nodeName", "startPeriodTZ", "startPeriod", "endPeriodTZ", "endPeriod", "selectNano", "selectCount", "selectRecords", "insertNano", "insertCount", "insertRecords", "updateNano", "updateCount", "updateRecords", "deleteNano", "deleteCount", "deleteRecords", "created", "lastUpdated", "deleted"));
+       QueryDetails.setLastQuery(TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.OBJECTPERF[27m): "+Q);
+       LOG.debug("   "+toString());
+       java.sql.PreparedStatement PS = null;
+       java.sql.ResultSet RS = null;
+       int count = 0;
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       try
+        {
+          PS = C.borrowStatement(Q);
+          __WriteBind(C, PS, AllocatedArrays);
+          C.setSavepoint();
+          RS = PS.executeQuery();
+          C.releaseSavepoint(true);
+          if (RS.next() == false)
+           {
+             LOG.debug("   [1mThe existing record has different invariant values and was not updated.[22m");
+             return false;
+           }
+          count = 1;
+          __Nulls = 0L;
+          return Init(C, RS);
+        }
+       catch (java.sql.SQLException E)
+        {
+          C.releaseSavepoint(false);
+          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "upserted");
+        }
+       finally
+        {
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, Q, StatementType.INSERT, count, AllocatedArrays);
+          PS = null;
+          AllocatedArrays = null;
+        }
      }
 
    protected abstract boolean BeforeWrite(Connection C) throws Exception;
@@ -2892,6 +3165,7 @@ This is the hasChanged for:<BR>
        S.append("select ");
        S.append(" "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "schemaName");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "nodeName");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriodTZ");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "endPeriodTZ");
@@ -2915,7 +3189,7 @@ This is the hasChanged for:<BR>
        switch (__LookupId)
         {
           case 0:
-             S.append(" where ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "schemaName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append("=?)");
+             S.append(" where ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "schemaName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "nodeName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append("=?)");
              break;
           case -666: if (__Init == InitMode.CREATE) break;
           default: throw new Exception("Invalid LookupId "+__LookupId+" found. Cannot create where clause.");
@@ -2934,13 +3208,14 @@ This is the hasChanged for:<BR>
 
        try
         {
-          PS = C.prepareStatement(Q);
+          PS = C.borrowStatement(Q);
           int i = 0;
           switch (__LookupId)
            {
              case 0:
                PS.setString   (++i, _schemaName   );
                PS.setString   (++i, _objectName   );
+               PS.setString   (++i, _nodeName     );
                PS.setTimestamp(++i, new java.sql.Timestamp(_startPeriod.toInstant().toEpochMilli()), DateTimeUtil._UTC_CALENDAR);
                break;
              case -666: if (__Init == InitMode.CREATE) break;
@@ -2962,7 +3237,7 @@ This is the hasChanged for:<BR>
         }
        finally
         {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, StatementType.SELECT, count, AllocatedArrays);
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, Q, StatementType.SELECT, count, AllocatedArrays);
           PS = null;
           AllocatedArrays = null;
         }
@@ -2978,6 +3253,7 @@ This is the hasChanged for:<BR>
      __Init = InitMode.LOOKUP;
       __Saved_schemaName    = _schemaName    =                              RS.getString   (++i) ;  if (RS.wasNull() == true) __Nulls |= TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME._Mask   ;
       __Saved_objectName    = _objectName    =                              RS.getString   (++i) ;  if (RS.wasNull() == true) __Nulls |= TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME._Mask   ;
+      __Saved_nodeName      = _nodeName      =                              RS.getString   (++i) ;  if (RS.wasNull() == true) __Nulls |= TILDA__OBJECTPERF_Factory.COLS.NODENAME._Mask     ;
                               _startPeriodTZ =                              RS.getString   (++i) ;  if (RS.wasNull() == true) __Nulls |= TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ._Mask; else _startPeriodTZ = _startPeriodTZ.trim();
       __Saved_startPeriod   = _startPeriod   = ProcessZDT(_startPeriodTZ  , "tilda.data.TILDA.OBJECTPERF.startPeriod"  , RS, ++i, TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD  , TILDA__OBJECTPERF_Factory.COLS.STARTPERIODTZ  );
                               _endPeriodTZ   =                              RS.getString   (++i) ;  if (RS.wasNull() == true) __Nulls |= TILDA__OBJECTPERF_Factory.COLS.ENDPERIODTZ._Mask  ; else _endPeriodTZ   = _endPeriodTZ  .trim();
@@ -3027,6 +3303,7 @@ This is the hasChanged for:<BR>
       String Str = 
                    "schemaName: "                                                                                              + TextUtil.PrintVariableStr        (getSchemaName   ())
                + "; objectName: "                                                                                              + TextUtil.PrintVariableStr        (getObjectName   ())
+               + "; nodeName: "                                                                                                + TextUtil.PrintVariableStr        (getNodeName     ())
                + "; startPeriod: "                                                                                             + DateTimeUtil.printDateTimeForJSON(getStartPeriod  ())
                + "; endPeriod: "                                                                                               + DateTimeUtil.printDateTimeForJSON(getEndPeriod    ())
                + "; selectNano: "                                                                                              +                                   getSelectNano   () 
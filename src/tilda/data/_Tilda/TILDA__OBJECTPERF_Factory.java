@@ -62,25 +62,26 @@ public class TILDA__OBJECTPERF_Factory
    protected static abstract class COLS {
      public static Type_StringPrimitive         SCHEMANAME   = new Type_StringPrimitive        (SCHEMA_LABEL, TABLENAME_LABEL, "schemaName"   , 0, "The name of the schema tracked");
      public static Type_StringPrimitive         OBJECTNAME   = new Type_StringPrimitive        (SCHEMA_LABEL, TABLENAME_LABEL, "objectName"   , 1, "The name of the table/object tracked");
-     public static Type_StringPrimitive         STARTPERIODTZ= new Type_StringPrimitive        (SCHEMA_LABEL, TABLENAME_LABEL, "startPeriodTZ", 2, "Generated helper column to hold the time zone ID for 'startPeriod'.");
-     public static Type_DatetimePrimitive       STARTPERIOD  = new Type_DatetimePrimitive      (SCHEMA_LABEL, TABLENAME_LABEL, "startPeriod"  , 3, "The timestamp for when the record was created.");
-     public static Type_StringPrimitive         ENDPERIODTZ  = new Type_StringPrimitive        (SCHEMA_LABEL, TABLENAME_LABEL, "endPeriodTZ"  , 4, "Generated helper column to hold the time zone ID for 'endPeriod'.");
-     public static Type_DatetimePrimitive       ENDPERIOD    = new Type_DatetimePrimitive      (SCHEMA_LABEL, TABLENAME_LABEL, "endPeriod"    , 5, "The timestamp for when the record was created.");
-     public static Type_LongPrimitive           SELECTNANO   = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "selectNano"   , 6, "Blah...");
-     public static Type_LongPrimitive           SELECTCOUNT  = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "selectCount"  , 7, "Blah...");
-     public static Type_LongPrimitive           SELECTRECORDS= new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "selectRecords", 8, "Blah...");
-     public static Type_LongPrimitive           INSERTNANO   = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "insertNano"   , 9, "Blah...");
-     public static Type_LongPrimitive           INSERTCOUNT  = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "insertCount"  , 10, "Blah...");
-     public static Type_LongPrimitive           INSERTRECORDS= new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "insertRecords", 11, "Blah...");
-     public static Type_LongPrimitive           UPDATENANO   = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "updateNano"   , 12, "Blah...");
-     public static Type_LongPrimitive           UPDATECOUNT  = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "updateCount"  , 13, "Blah...");
-     public static Type_LongPrimitive           UPDATERECORDS= new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "updateRecords", 14, "Blah...");
-     public static Type_LongPrimitive           DELETENANO   = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "deleteNano"   , 15, "Blah...");
-     public static Type_LongPrimitive           DELETECOUNT  = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "deleteCount"  , 16, "Blah...");
-     public static Type_LongPrimitive           DELETERECORDS= new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "deleteRecords", 17, "Blah...");
-     public static Type_DatetimePrimitive       CREATED      = new Type_DatetimePrimitive      (SCHEMA_LABEL, TABLENAME_LABEL, "created"      , 18, "The timestamp for when the record was created.");
-     public static Type_DatetimePrimitive       LASTUPDATED  = new Type_DatetimePrimitive      (SCHEMA_LABEL, TABLENAME_LABEL, "lastUpdated"  , 19, "The timestamp for when the record was last updated.");
-     public static Type_DatetimePrimitiveNull   DELETED      = new Type_DatetimePrimitiveNull  (SCHEMA_LABEL, TABLENAME_LABEL, "deleted"      , 20, "The timestamp for when the record was deleted.");
+     public static Type_StringPrimitive         NODENAME     = new Type_StringPrimitive        (SCHEMA_LABEL, TABLENAME_LABEL, "nodeName"     , 2, "The host name of the server the activity happened on");
+     public static Type_StringPrimitive         STARTPERIODTZ= new Type_StringPrimitive        (SCHEMA_LABEL, TABLENAME_LABEL, "startPeriodTZ", 3, "Generated helper column to hold the time zone ID for 'startPeriod'.");
+     public static Type_DatetimePrimitive       STARTPERIOD  = new Type_DatetimePrimitive      (SCHEMA_LABEL, TABLENAME_LABEL, "startPeriod"  , 4, "The timestamp for when the record was created.");
+     public static Type_StringPrimitive         ENDPERIODTZ  = new Type_StringPrimitive        (SCHEMA_LABEL, TABLENAME_LABEL, "endPeriodTZ"  , 5, "Generated helper column to hold the time zone ID for 'endPeriod'.");
+     public static Type_DatetimePrimitive       ENDPERIOD    = new Type_DatetimePrimitive      (SCHEMA_LABEL, TABLENAME_LABEL, "endPeriod"    , 6, "The timestamp for when the record was created.");
+     public static Type_LongPrimitive           SELECTNANO   = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "selectNano"   , 7, "Blah...");
+     public static Type_LongPrimitive           SELECTCOUNT  = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "selectCount"  , 8, "Blah...");
+     public static Type_LongPrimitive           SELECTRECORDS= new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "selectRecords", 9, "Blah...");
+     public static Type_LongPrimitive           INSERTNANO   = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "insertNano"   , 10, "Blah...");
+     public static Type_LongPrimitive           INSERTCOUNT  = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "insertCount"  , 11, "Blah...");
+     public static Type_LongPrimitive           INSERTRECORDS= new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "insertRecords", 12, "Blah...");
+     public static Type_LongPrimitive           UPDATENANO   = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "updateNano"   , 13, "Blah...");
+     public static Type_LongPrimitive           UPDATECOUNT  = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "updateCount"  , 14, "Blah...");
+     public static Type_LongPrimitive           UPDATERECORDS= new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "updateRecords", 15, "Blah...");
+     public static Type_LongPrimitive           DELETENANO   = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "deleteNano"   , 16, "Blah...");
+     public static Type_LongPrimitive           DELETECOUNT  = new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "deleteCount"  , 17, "Blah...");
+     public static Type_LongPrimitive           DELETERECORDS= new Type_LongPrimitive          (SCHEMA_LABEL, TABLENAME_LABEL, "deleteRecords", 18, "Blah...");
+     public static Type_DatetimePrimitive       CREATED      = new Type_DatetimePrimitive      (SCHEMA_LABEL, TABLENAME_LABEL, "created"      , 19, "The timestamp for when the record was created.");
+     public static Type_DatetimePrimitive       LASTUPDATED  = new Type_DatetimePrimitive      (SCHEMA_LABEL, TABLENAME_LABEL, "lastUpdated"  , 20, "The timestamp for when the record was last updated.");
+     public static Type_DatetimePrimitiveNull   DELETED      = new Type_DatetimePrimitiveNull  (SCHEMA_LABEL, TABLENAME_LABEL, "deleted"      , 21, "The timestamp for when the record was deleted.");
 ;
    }
 
@@ -112,14 +113,17 @@ public class TILDA__OBJECTPERF_Factory
        protected Connection _C = null;
        protected tilda.db.processors.ObjectProcessor<tilda.data.ObjectPerf_Data> _OP;
        protected ArrayListResults<tilda.data.ObjectPerf_Data> _L = null;
+       protected tilda.data.ObjectPerf_Data _Last = null;
+       protected boolean _HasMore = false;
        public void    Start  () { }
-       public void    End    (boolean HasMore, int Max) { if (_OP == null) _L.wrapup(HasMore, Max); }
+       public void    End    (boolean HasMore, int Max) { _HasMore = HasMore; if (_OP == null) _L.wrapup(HasMore, Max); }
        public boolean Process(int Index, java.sql.ResultSet RS) throws Exception
         {
           tilda.data.ObjectPerf_Data Obj = new tilda.data.ObjectPerf_Data();
           boolean OK = ((tilda.data._Tilda.TILDA__OBJECTPERF)Obj).Init(_C, RS);
           if (OK == true)
            {
+             _Last = Obj;
              if (_OP == null)
               _L.add(Obj);
              else
@@ -129,13 +133,14 @@ public class TILDA__OBJECTPERF_Factory
         }
      }
 
-   private static final void ReadMany(Connection C, int LookupId, tilda.db.processors.RecordProcessor RP, tilda.data._Tilda.TILDA__OBJECTPERF Obj, Object ExtraParams, int Start, int Size) throws Exception
+   private static final void ReadMany(Connection C, int LookupId, tilda.db.processors.RecordProcessor RP, tilda.data._Tilda.TILDA__OBJECTPERF Obj, Object ExtraParams, int Start, int Size, boolean CountAll, int FetchSize) throws Exception
      {
        long T0 = System.nanoTime();
        StringBuilder S = new StringBuilder(1024);
        S.append("select ");
        S.append(" "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "schemaName");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "nodeName");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriodTZ");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "endPeriodTZ");
@@ -155,6 +160,7 @@ public class TILDA__OBJECTPERF_Factory
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "created");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "lastUpdated");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "deleted");
+       if (CountAll == true && C.supportsCountOver() == true) S.append(JDBCHelper.COUNT_OVER_COLUMN);
        S.append(" from "); C.getFullTableVar(S, "TILDA", "OBJECTPERF");
        switch (LookupId)
         {
@@ -164,11 +170,15 @@ public class TILDA__OBJECTPERF_Factory
              break;
           case 1:
              S.append(" where ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "schemaName"); S.append("=?)");
-             S.append(" order by "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append(" ASC");S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append(" DESC");
+             if (ExtraParams instanceof tilda.db.KeysetToken)
+              { S.append(" and (("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append(">?) OR ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append("<?) OR ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "nodeName"); S.append(">?))"); }
+             S.append(" order by "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append(" ASC");S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append(" DESC");S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "nodeName"); S.append(" ASC");
              break;
           case 2:
              S.append(" where ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "schemaName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "objectName"); S.append("=?)");
-             S.append(" order by "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append(" DESC");
+             if (ExtraParams instanceof tilda.db.KeysetToken)
+              { S.append(" and (("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append("<?) OR ("); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "nodeName"); S.append(">?))"); }
+             S.append(" order by "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "startPeriod"); S.append(" DESC");S.append(", "); C.getFullColumnVar(S, "TILDA", "OBJECTPERF", "nodeName"); S.append(" ASC");
              break;
           case -666: break;
           default: throw new Exception("Invalid LookupId "+LookupId+" found. Cannot create where clause.");
@@ -186,26 +196,31 @@ public class TILDA__OBJECTPERF_Factory
        int count = 0;
        try
         {
-          PS = C.prepareStatement(Q);
+          // Ad-hoc where clauses with inlined values would just churn the statement cache
+          PS = LookupId == -7 && ((SelectQuery)ExtraParams).isParameterized() == false ? C.prepareStatement(Q) : C.borrowStatement(Q);
+          if (FetchSize > 0) C.setStreaming(PS, FetchSize);
           int i = 0;
           switch (LookupId)
            {
              case -7:
+                i = ((SelectQuery)ExtraParams).bindParams(PS, i);
                 break;
              case 1: {
                PS.setString   (++i, Obj._schemaName   );
+               if (ExtraParams instanceof tilda.db.KeysetToken) i = ((tilda.db.KeysetToken) ExtraParams).bind(PS, i);
                break;
              }
              case 2: {
                PS.setString   (++i, Obj._schemaName   );
                PS.setString   (++i, Obj._objectName   );
+               if (ExtraParams instanceof tilda.db.KeysetToken) i = ((tilda.db.KeysetToken) ExtraParams).bind(PS, i);
                break;
              }
              case -666: break;
              default: throw new Exception("Invalid LookupId "+LookupId+" found. Cannot prepare statement.");
            }
 
-          count = JDBCHelper.Process(PS.executeQuery(), RP, Start, true, Size, true);
+          count = JDBCHelper.Process(PS.executeQuery(), RP, Start, true, Size, true, CountAll);
         }
        catch (java.sql.SQLException E)
         {
@@ -213,7 +228,7 @@ public class TILDA__OBJECTPERF_Factory
         }
        finally
         {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, StatementType.SELECT, count, AllocatedArrays);
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__OBJECTPERF_Factory.SCHEMA_TABLENAME_LABEL, Q, LookupId == -7 ? ((SelectQuery)ExtraParams).getParams() : null, StatementType.SELECT, count, AllocatedArrays);
           PS = null;
           AllocatedArrays = null;
         }
@@ -230,6 +245,7 @@ public class TILDA__OBJECTPERF_Factory
  current object to the destination. 
  @param schemaName    (max size 64) The name of the schema tracked
  @param objectName    (max size 64) The name of the table/object tracked
+ @param nodeName      (max size 64) The host name of the server the activity happened on
  @param startPeriod   The timestamp for when the record was created.
  @param endPeriod     The timestamp for when the record was created.
  @param selectNano    Blah...
@@ -245,7 +261,7 @@ public class TILDA__OBJECTPERF_Factory
  @param deleteCount   Blah...
  @param deleteRecords Blah...
 */
-   static public tilda.data.ObjectPerf_Data Create(String schemaName, String objectName, ZonedDateTime startPeriod, ZonedDateTime endPeriod, long selectNano, long selectCount, long selectRecords, long insertNano, long insertCount, long insertRecords, long updateNano, long updateCount, long updateRecords, long deleteNano, long deleteCount, long deleteRecords) throws Exception
+   static public tilda.data.ObjectPerf_Data Create(String schemaName, String objectName, String nodeName, ZonedDateTime startPeriod, ZonedDateTime endPeriod, long selectNano, long selectCount, long selectRecords, long insertNano, long insertCount, long insertRecords, long updateNano, long updateCount, long updateRecords, long deleteNano, long deleteCount, long deleteRecords) throws Exception
      {
        tilda.data._Tilda.TILDA__OBJECTPERF Obj = new tilda.data.ObjectPerf_Data();
        Obj.initForCreate();
@@ -254,6 +270,7 @@ public class TILDA__OBJECTPERF_Factory
        // Explicit setters
        Obj.setSchemaName   (schemaName   );
        Obj.setObjectName   (objectName   );
+       Obj.setNodeName     (nodeName     );
        Obj.setStartPeriod  (startPeriod  );
        Obj.setEndPeriod    (endPeriod    );
        Obj.setSelectNano   (selectNano   );
@@ -283,6 +300,7 @@ public class TILDA__OBJECTPERF_Factory
 
        String        _schemaName    =                       ParseUtil.parseString("schemaName"   , true , Values.get("schemaName"   ), Errors );
        String        _objectName    =                       ParseUtil.parseString("objectName"   , true , Values.get("objectName"   ), Errors );
+       String        _nodeName      =                       ParseUtil.parseString("nodeName"     , true , Values.get("nodeName"     ), Errors );
        ZonedDateTime        _startPeriod   =                       ParseUtil.parseZonedDateTime("startPeriod"  , true , Values.get("startPeriod"  ), Errors );
        ZonedDateTime        _endPeriod     =                       ParseUtil.parseZonedDateTime("endPeriod"    , true , Values.get("endPeriod"    ), Errors );
        Long        _selectNano    =                       ParseUtil.parseLong("selectNano"   , true , Values.get("selectNano"   ), Errors );
@@ -301,19 +319,178 @@ public class TILDA__OBJECTPERF_Factory
        if (IncomingErrors != Errors.size())
         return null;
 
-      tilda.data.ObjectPerf_Data Obj = tilda.data.ObjectPerf_Factory.Create(_schemaName, _objectName, _startPeriod, _endPeriod, _selectNano, _selectCount, _selectRecords, _insertNano, _insertCount, _insertRecords, _updateNano, _updateCount, _updateRecords, _deleteNano, _deleteCount, _deleteRecords);
+      tilda.data.ObjectPerf_Data Obj = tilda.data.ObjectPerf_Factory.Create(_schemaName, _objectName, _nodeName, _startPeriod, _endPeriod, _selectNano, _selectCount, _selectRecords, _insertNano, _insertCount, _insertRecords, _updateNano, _updateCount, _updateRecords, _deleteNano, _deleteCount, _deleteRecords);
 
 
       return Obj;
      }
 
-   static public tilda.data.ObjectPerf_Data LookupByPrimaryKey(String schemaName, String objectName, ZonedDateTime startPeriod) throws Exception
+/**
+ Writes a collection of objects to the data store using JDBC batches of at most BatchSize statements.
+ Objects with the same set of changed columns share the same insert or update statement and are sent
+ together. Objects that have not changed are skipped as with Write().
+ @return an array of outcomes in the iteration order of L, true if the object was written (or had no
+ changes), false if BeforeWrite() failed or no row was affected.
+*/
+   public static boolean[] WriteBatch(Connection C, java.util.Collection<? extends tilda.data.ObjectPerf_Data> L) throws Exception
+     {
+       return WriteBatch(C, L, Connection.DEFAULT_BATCH_SIZE);
+     }
+
+   public static boolean[] WriteBatch(Connection C, java.util.Collection<? extends tilda.data.ObjectPerf_Data> L, int BatchSize) throws Exception
+     {
+       if (BatchSize < 1)
+        throw new Exception("Invalid batch size "+BatchSize+".");
+       TILDA__OBJECTPERF[] Objs = L.toArray(new TILDA__OBJECTPERF[L.size()]);
+       boolean[] Results = new boolean[Objs.length];
+       Map<String, List<Integer>> Batches = new java.util.LinkedHashMap<String, List<Integer>>();
+       for (int i = 0; i < Objs.length; ++i)
+        {
+          if (Objs[i].hasChanged() == false)
+           {
+             Results[i] = true;
+             continue;
+           }
+          if (Objs[i].BeforeWrite(C) == false)
+           {
+             LOG.debug("The tilda.data.TILDA.OBJECTPERF object's BeforeWrite() failed.");
+             continue;
+           }
+          String Q = Objs[i].__WriteQuery(C);
+          List<Integer> B = Batches.get(Q);
+          if (B == null)
+           Batches.put(Q, B = new ArrayList<Integer>());
+          B.add(i);
+        }
+       for (Map.Entry<String, List<Integer>> e : Batches.entrySet())
+        WriteBatch(C, e.getKey(), Objs, e.getValue(), BatchSize, Results);
+       return Results;
+     }
+
+   private static void WriteBatch(Connection C, String Q, TILDA__OBJECTPERF[] Objs, List<Integer> B, int BatchSize, boolean[] Results) throws Exception
+     {
+       StatementType ST = Objs[B.get(0)].__WriteStatementType();
+       QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.OBJECTPERF[27m): batch of "+B.size()+": "+Q);
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       for (int Start = 0; Start < B.size(); Start += BatchSize)
+        {
+          long T0 = System.nanoTime();
+          int End = Math.min(Start + BatchSize, B.size());
+          java.sql.PreparedStatement PS = null;
+          int count = 0;
+          try
+           {
+             PS = C.borrowStatement(Q);
+             for (int j = Start; j < End; ++j)
+              {
+                Objs[B.get(j)].__WriteBind(C, PS, AllocatedArrays);
+                PS.addBatch();
+              }
+             C.setSavepoint();
+             int[] Counts = PS.executeBatch();
+             C.releaseSavepoint(true);
+             for (int j = Start; j < End; ++j)
+              {
+                int c = Counts[j - Start];
+                if (c == 0)
+                 continue;
+                count += c == java.sql.Statement.SUCCESS_NO_INFO ? 1 : c;
+                Objs[B.get(j)].__WriteDone(C);
+                Results[B.get(j)] = true;
+              }
+           }
+          catch (java.sql.SQLException E)
+           {
+             C.releaseSavepoint(false);
+             tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "batch updated or inserted");
+           }
+          finally
+           {
+             tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, SCHEMA_TABLENAME_LABEL, Q, ST, count, AllocatedArrays);
+             PS = null;
+           }
+        }
+     }
+
+/**
+ Inserts a collection of new objects using the data store's bulk-load path (COPY on Postgres), which is
+ much faster than individual or batched inserts for large imports. Objects with the same set of changed
+ columns are streamed together. On data stores without a bulk-load path, this falls back to WriteBatch().
+ Unlike Write(), a single failing row (e.g., a duplicate key) fails the whole load.
+ @return the number of objects inserted.
+ @throws Exception if any of the objects is not newly created, or if the load failed.
+*/
+   public static int CopyIn(Connection C, java.util.Collection<? extends tilda.data.ObjectPerf_Data> L) throws Exception
+     {
+       if (C.supportsBulkLoad() == false)
+        {
+          LOG.debug("No bulk-load support for tilda.data.TILDA.OBJECTPERF: falling back to batched inserts.");
+          int Total = 0;
+          for (boolean b : WriteBatch(C, L))
+           if (b == true)
+            ++Total;
+          return Total;
+        }
+
+       Map<String, List<TILDA__OBJECTPERF>> Groups = new java.util.LinkedHashMap<String, List<TILDA__OBJECTPERF>>();
+       for (TILDA__OBJECTPERF Obj : L)
+        {
+          if (Obj.__WriteStatementType() != StatementType.INSERT)
+           throw new Exception("Only newly created objects can be bulk-loaded into tilda.data.TILDA.OBJECTPERF: "+Obj.toString());
+          if (Obj.hasChanged() == false)
+           continue;
+          if (Obj.BeforeWrite(C) == false)
+           {
+             LOG.debug("The tilda.data.TILDA.OBJECTPERF object's BeforeWrite() failed.");
+             continue;
+           }
+          String Cols = Obj.__CopyColumns(C);
+          List<TILDA__OBJECTPERF> Group = Groups.get(Cols);
+          if (Group == null)
+           Groups.put(Cols, Group = new ArrayList<TILDA__OBJECTPERF>());
+          Group.add(Obj);
+        }
+
+       int Total = 0;
+       for (Map.Entry<String, List<TILDA__OBJECTPERF>> e : Groups.entrySet())
+        {
+          long T0 = System.nanoTime();
+          List<TILDA__OBJECTPERF> Group = e.getValue();
+          tilda.db.BulkWriter W = C.newBulkWriter("TILDA", "OBJECTPERF", e.getKey());
+          QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, e.getKey());
+          LOG.debug("TILDA([7mTILDA.OBJECTPERF[27m): bulk load of "+Group.size()+" rows into ("+e.getKey()+")");
+          int count = 0;
+          try
+           {
+             for (TILDA__OBJECTPERF Obj : Group)
+              Obj.__CopyRow(W);
+             count = (int) W.finish();
+             W = null;
+           }
+          finally
+           {
+             if (W != null)
+              W.cancel();
+           }
+          for (TILDA__OBJECTPERF Obj : Group)
+           Obj.__WriteDone(C);
+          T0 = System.nanoTime() - T0;
+          PerfTracker.add(SCHEMA_TABLENAME_LABEL, StatementType.INSERT, T0, count);
+          LOG.debug("TILDA([7mTILDA.OBJECTPERF[27m): bulk loaded "+count+" rows in "+DurationUtil.PrintDuration(T0)+" ("+DurationUtil.PrintPerformancePerSecond(T0, count)+" rows/s).");
+          Total += count;
+        }
+       return Total;
+     }
+
+   static public tilda.data.ObjectPerf_Data LookupByPrimaryKey(String schemaName, String objectName, String nodeName, ZonedDateTime startPeriod) throws Exception
      {
        tilda.data._Tilda.TILDA__OBJECTPERF Obj = new tilda.data.ObjectPerf_Data();
        Obj.initForLookup(0);
 
        Obj.setSchemaName   (schemaName   ); Obj.__Saved_schemaName    = Obj._schemaName   ;
        Obj.setObjectName   (objectName   ); Obj.__Saved_objectName    = Obj._objectName   ;
+       Obj.setNodeName     (nodeName     ); Obj.__Saved_nodeName      = Obj._nodeName     ;
        Obj.setStartPeriod  (startPeriod  ); Obj.__Saved_startPeriod   = Obj._startPeriod  ;
 
        return (tilda.data.ObjectPerf_Data) Obj;
@@ -328,7 +505,20 @@ public class TILDA__OBJECTPERF_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, 1, RPI, Obj, null, Start, Size);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, false, 0);
+       return RPI._L;
+     }
+
+   static public ListResults<tilda.data.ObjectPerf_Data> LookupWhereSchemaByObjectStart(Connection C, String schemaName, int Start, int Size, boolean CountAll) throws Exception
+     {
+       tilda.data._Tilda.TILDA__OBJECTPERF Obj = new tilda.data.ObjectPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, CountAll, 0);
        return RPI._L;
      }
 
@@ -341,9 +531,50 @@ public class TILDA__OBJECTPERF_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, 1, RPI, Obj, null, Start, Size);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, false, C.getFetchSize());
      }
 
+   static public java.util.concurrent.CompletableFuture<ListResults<tilda.data.ObjectPerf_Data>> LookupWhereSchemaByObjectStartAsync(String PoolId, String schemaName, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> LookupWhereSchemaByObjectStart(AsyncC, schemaName, Start, Size));
+     }
+
+/**
+ Same as LookupWhereSchemaByObjectStart(..., int Start, int Size), but pages by keyset: instead of skipping Start rows,
+ the query seeks directly past the sort key of the last row of the previous page, so every page costs the
+ same no matter how deep it is. Pass a null PageToken for the first page, and then the token returned by the
+ previous page (ListResults.getNextPageToken(), or the return value of the ObjectProcessor variant), which is
+ null after the last page. Rows are sorted on the index's orderBy, then on the primary key.
+*/
+   static public ListResults<tilda.data.ObjectPerf_Data> LookupWhereSchemaByObjectStart(Connection C, String schemaName, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__OBJECTPERF Obj = new tilda.data.ObjectPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".SchemaByObjectStart", 3);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, 0);
+       ReadMany(C, 1, RPI, Obj, T, 0, Size, false, 0);
+       if (RPI._HasMore == true)
+        RPI._L.setNextPageToken(tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".SchemaByObjectStart", RPI._Last.getObjectName(), RPI._Last.getStartPeriod(), RPI._Last.getNodeName()));
+       return RPI._L;
+     }
+
+   static public String LookupWhereSchemaByObjectStart(Connection C, tilda.db.processors.ObjectProcessor<tilda.data.ObjectPerf_Data> OP, String schemaName, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__OBJECTPERF Obj = new tilda.data.ObjectPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".SchemaByObjectStart", 3);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
+       ReadMany(C, 1, RPI, Obj, T, 0, Size, false, C.getFetchSize());
+       return RPI._HasMore == false ? null : tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".SchemaByObjectStart", RPI._Last.getObjectName(), RPI._Last.getStartPeriod(), RPI._Last.getNodeName());
+     }
 
    static public ListResults<tilda.data.ObjectPerf_Data> LookupWhereSchemaObjectByStart(Connection C, String schemaName, String objectName, int Start, int Size) throws Exception
      {
@@ -355,7 +586,21 @@ public class TILDA__OBJECTPERF_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, 2, RPI, Obj, null, Start, Size);
+       ReadMany(C, 2, RPI, Obj, null, Start, Size, false, 0);
+       return RPI._L;
+     }
+
+   static public ListResults<tilda.data.ObjectPerf_Data> LookupWhereSchemaObjectByStart(Connection C, String schemaName, String objectName, int Start, int Size, boolean CountAll) throws Exception
+     {
+       tilda.data._Tilda.TILDA__OBJECTPERF Obj = new tilda.data.ObjectPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+       Obj.setObjectName   (objectName   );
+
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, 2, RPI, Obj, null, Start, Size, CountAll, 0);
        return RPI._L;
      }
 
@@ -369,26 +614,83 @@ public class TILDA__OBJECTPERF_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, 2, RPI, Obj, null, Start, Size);
+       ReadMany(C, 2, RPI, Obj, null, Start, Size, false, C.getFetchSize());
+     }
+
+   static public java.util.concurrent.CompletableFuture<ListResults<tilda.data.ObjectPerf_Data>> LookupWhereSchemaObjectByStartAsync(String PoolId, String schemaName, String objectName, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> LookupWhereSchemaObjectByStart(AsyncC, schemaName, objectName, Start, Size));
      }
 
+/**
+ Same as LookupWhereSchemaObjectByStart(..., int Start, int Size), but pages by keyset: instead of skipping Start rows,
+ the query seeks directly past the sort key of the last row of the previous page, so every page costs the
+ same no matter how deep it is. Pass a null PageToken for the first page, and then the token returned by the
+ previous page (ListResults.getNextPageToken(), or the return value of the ObjectProcessor variant), which is
+ null after the last page. Rows are sorted on the index's orderBy, then on the primary key.
+*/
+   static public ListResults<tilda.data.ObjectPerf_Data> LookupWhereSchemaObjectByStart(Connection C, String schemaName, String objectName, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__OBJECTPERF Obj = new tilda.data.ObjectPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+       Obj.setObjectName   (objectName   );
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".SchemaObjectByStart", 2);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, 0);
+       ReadMany(C, 2, RPI, Obj, T, 0, Size, false, 0);
+       if (RPI._HasMore == true)
+        RPI._L.setNextPageToken(tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".SchemaObjectByStart", RPI._Last.getStartPeriod(), RPI._Last.getNodeName()));
+       return RPI._L;
+     }
+
+   static public String LookupWhereSchemaObjectByStart(Connection C, tilda.db.processors.ObjectProcessor<tilda.data.ObjectPerf_Data> OP, String schemaName, String objectName, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__OBJECTPERF Obj = new tilda.data.ObjectPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+       Obj.setObjectName   (objectName   );
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".SchemaObjectByStart", 2);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
+       ReadMany(C, 2, RPI, Obj, T, 0, Size, false, C.getFetchSize());
+       return RPI._HasMore == false ? null : tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".SchemaObjectByStart", RPI._Last.getStartPeriod(), RPI._Last.getNodeName());
+     }
 
 
 
    public static SelectQuery newSelectQuery(Connection C) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, true); }
    public static SelectQuery newWhereQuery (Connection C) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, false); }
+   public static SelectQuery newSelectQuery(Connection C, boolean Parameterized) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, true , Parameterized); }
+   public static SelectQuery newWhereQuery (Connection C, boolean Parameterized) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, false, Parameterized); }
    public static ListResults<tilda.data.ObjectPerf_Data> runSelect(Connection C, SelectQuery Q, int Start, int Size) throws Exception
      {
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, -7, RPI, null, Q, Start, Size);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, false, Q.getFetchSize(0));
+       return RPI._L;
+     }
+   public static ListResults<tilda.data.ObjectPerf_Data> runSelect(Connection C, SelectQuery Q, int Start, int Size, boolean CountAll) throws Exception
+     {
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, CountAll, Q.getFetchSize(0));
        return RPI._L;
      }
    public static void runSelect(Connection C, SelectQuery Q, tilda.db.processors.ObjectProcessor<tilda.data.ObjectPerf_Data> OP, int Start, int Size) throws Exception
      {
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, -7, RPI, null, Q, Start, Size);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, false, Q.getFetchSize(C.getFetchSize()));
+     }
+   public static java.util.concurrent.CompletableFuture<ListResults<tilda.data.ObjectPerf_Data>> runSelectAsync(String PoolId, SelectQuery Q, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> runSelect(AsyncC, Q, Start, Size));
      }
    public static UpdateQuery newUpdateQuery(Connection C) throws Exception { return new UpdateQuery(C, SCHEMA_LABEL, TABLENAME_LABEL); }
    public static DeleteQuery newDeleteQuery(Connection C) throws Exception { return new DeleteQuery(C, SCHEMA_LABEL, TABLENAME_LABEL); }
+   public static UpdateQuery newUpdateQuery(Connection C, boolean Parameterized) throws Exception { return new UpdateQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, Parameterized); }
+   public static DeleteQuery newDeleteQuery(Connection C, boolean Parameterized) throws Exception { return new DeleteQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, Parameterized); }
 
  }
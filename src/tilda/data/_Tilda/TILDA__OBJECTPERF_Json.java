@@ -27,6 +27,7 @@ public class TILDA__OBJECTPERF_Json
    /*@formatter:off*/
    @SerializedName("schemaName"   ) public String  _schemaName   ;
    @SerializedName("objectName"   ) public String  _objectName   ;
+   @SerializedName("nodeName"     ) public String  _nodeName     ;
    @SerializedName("startPeriod"  ) public String  Str_startPeriod  ;
    transient                        public ZonedDateTime  _startPeriod  ;
    @SerializedName("endPeriod"    ) public String  Str_endPeriod    ;
@@ -45,12 +46,17 @@ public class TILDA__OBJECTPERF_Json
    @SerializedName("deleteRecords") public Long  _deleteRecords;
    /*@formatter:on*/
 
-   public tilda.data.ObjectPerf_Data Write(Connection C) throws Exception
+   /**
+    * Validates the incoming values and creates a new, unsaved, tilda.data.ObjectPerf_Data object from them.
+    */
+   public tilda.data.ObjectPerf_Data Create() throws Exception
     {
       if (TextUtil.isNullOrEmpty(_schemaName   ) == true)
        throw new Exception("Incoming value for 'tilda.data.TILDA.OBJECTPERF.schemaName' was null or empty. It's not nullable in the model.\n"+toString());
       if (TextUtil.isNullOrEmpty(_objectName   ) == true)
        throw new Exception("Incoming value for 'tilda.data.TILDA.OBJECTPERF.objectName' was null or empty. It's not nullable in the model.\n"+toString());
+      if (TextUtil.isNullOrEmpty(_nodeName     ) == true)
+       throw new Exception("Incoming value for 'tilda.data.TILDA.OBJECTPERF.nodeName' was null or empty. It's not nullable in the model.\n"+toString());
       if (TextUtil.isNullOrEmpty(Str_startPeriod  ) == true)
        throw new Exception("Incoming value for 'tilda.data.TILDA.OBJECTPERF.startPeriod' was null or empty. It's not nullable in the model.\n"+toString());
       _startPeriod   = DateTimeUtil.parsefromJSON(Str_startPeriod  );
@@ -86,11 +92,31 @@ public class TILDA__OBJECTPERF_Json
       if (_deleteRecords == null)
        throw new Exception("Incoming value for 'tilda.data.TILDA.OBJECTPERF.deleteRecords' was null or empty. It's not nullable in the model.\n"+toString());
 
-      tilda.data.ObjectPerf_Data Obj = tilda.data.ObjectPerf_Factory.Create(_schemaName, _objectName, _startPeriod, _endPeriod, _selectNano, _selectCount, _selectRecords, _insertNano, _insertCount, _insertRecords, _updateNano, _updateCount, _updateRecords, _deleteNano, _deleteCount, _deleteRecords);
+      tilda.data.ObjectPerf_Data Obj = tilda.data.ObjectPerf_Factory.Create(_schemaName, _objectName, _nodeName, _startPeriod, _endPeriod, _selectNano, _selectCount, _selectRecords, _insertNano, _insertCount, _insertRecords, _updateNano, _updateCount, _updateRecords, _deleteNano, _deleteCount, _deleteRecords);
       Update(Obj);
-      if (Obj.Write(C) == false)
+      return Obj;
+    }
+
+   /**
+    * Bulk-loads the records as new objects through tilda.data.ObjectPerf_Factory.CopyIn(). Unlike Write(), existing
+    * objects are not looked up and updated: a record matching an existing unique key fails the whole load.
+    * @return the number of records inserted.
+    */
+   public static int CopyIn(Connection C, List<? extends TILDA__OBJECTPERF_Json> L) throws Exception
+    {
+      List<tilda.data.ObjectPerf_Data> Objs = new ArrayList<tilda.data.ObjectPerf_Data>(L.size());
+      for (TILDA__OBJECTPERF_Json Json : L)
+       Objs.add(Json.Create());
+      return tilda.data.ObjectPerf_Factory.CopyIn(C, Objs);
+    }
+
+   public tilda.data.ObjectPerf_Data Write(Connection C) throws Exception
+    {
+      tilda.data.ObjectPerf_Data Obj = Create();
+      if (C.supportsUpsert() == true ? Obj.__Upsert(C, new tilda.types.ColumnDefinition[] { TILDA__OBJECTPERF_Factory.COLS.SCHEMANAME, TILDA__OBJECTPERF_Factory.COLS.OBJECTNAME, TILDA__OBJECTPERF_Factory.COLS.NODENAME, TILDA__OBJECTPERF_Factory.COLS.STARTPERIOD }, new tilda.types.ColumnDefinition[] {}) == false
+                                      : Obj.Write(C) == false)
        {
-         Obj = tilda.data.ObjectPerf_Factory.LookupByPrimaryKey(_schemaName, _objectName, _startPeriod);
+         Obj = tilda.data.ObjectPerf_Factory.LookupByPrimaryKey(_schemaName, _objectName, _nodeName, _startPeriod);
          if (Obj.Read(C) == false)
           throw new Exception("Cannot create the tilda.data.TILDA.OBJECTPERF object.\n"+toString());
          if (_endPeriod    != null) Obj.setEndPeriod    (_endPeriod    );
@@ -117,6 +143,7 @@ public class TILDA__OBJECTPERF_Json
     {
       if (_schemaName   != null) Obj.setSchemaName   (_schemaName   );
       if (_objectName   != null) Obj.setObjectName   (_objectName   );
+      if (_nodeName     != null) Obj.setNodeName     (_nodeName     );
       if (_startPeriod  != null) Obj.setStartPeriod  (_startPeriod  );
       if (_endPeriod    != null) Obj.setEndPeriod    (_endPeriod    );
       if (_selectNano   != null) Obj.setSelectNano   (_selectNano   );
@@ -138,6 +165,7 @@ public class TILDA__OBJECTPERF_Json
       return
              "schemaName"   + (_schemaName    == null ? ": NULL" : "(" + (_schemaName    == null ? 0 : _schemaName   .length())+"): "+_schemaName)
          + "; objectName"   + (_objectName    == null ? ": NULL" : "(" + (_objectName    == null ? 0 : _objectName   .length())+"): "+_objectName)
+         + "; nodeName"     + (_nodeName      == null ? ": NULL" : "(" + (_nodeName      == null ? 0 : _nodeName     .length())+"): "+_nodeName)
          + "; startPeriod"  + (_startPeriod   == null ? ": NULL" : ": "+DateTimeUtil.printDateTimeForSQL(_startPeriod))
          + "; endPeriod"    + (_endPeriod     == null ? ": NULL" : ": "+DateTimeUtil.printDateTimeForSQL(_endPeriod))
          + "; selectNano"   + (_selectNano    == null ? ": NULL" : ": " + _selectNano   )
@@ -110,7 +110,7 @@ It contains the following columns:<BR>
 
  @author   Tilda code gen for Java 8/PostgreSQL
  @version  Tilda 1.0
- @generated Jul 5 2016, 03:06:35EDT
+ @generated Oct 18 2026, 00:26:35UTC
 */
 @SuppressWarnings({ "unused" })
 public abstract class TILDA__TESTING implements tilda.interfaces.WriterObject, tilda.interfaces.OCCObject, tilda.interfaces.JSONable
@@ -5365,8 +5365,6 @@ This is the hasChanged for:<BR>
           return true;
         }
 
-       StringBuilder S = new StringBuilder(1024);
-
        if (BeforeWrite(C) == false)
         {
           LOG.debug("The tilda.data.TILDA.TESTING object's BeforeWrite() failed.");
@@ -5374,6 +5372,52 @@ This is the hasChanged for:<BR>
           return false;
         }
 
+       String Q = __WriteQuery(C);
+       QueryDetails.setLastQuery(TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.TESTING[27m): "+Q);
+       LOG.debug("   "+toString());
+       java.sql.PreparedStatement PS = null;
+       int count = 0;
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       try
+        {
+          PS = C.borrowStatement(Q);
+          __WriteBind(C, PS, AllocatedArrays);
+          C.setSavepoint();
+          count = PS.executeUpdate();
+          C.releaseSavepoint(true);
+          if (count == 0)
+           return false;
+        }
+       catch (java.sql.SQLException E)
+        {
+          C.releaseSavepoint(false);
+          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "updated or inserted");
+        }
+       finally
+        {
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, Q, __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE, count, AllocatedArrays);
+          PS = null;
+          AllocatedArrays = null;
+        }
+
+       __WriteDone(C);
+       return true;
+     }
+
+   /**
+    * Builds the insert or update statement for the current changes. Objects with the same changes yield the same
+    * statement, which is what allows TILDA__TESTING_Factory.WriteBatch() to group them.
+    */
+   protected final StatementType __WriteStatementType()
+     {
+       return __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE;
+     }
+
+   protected final String __WriteQuery(Connection C) throws Exception
+     {
+       StringBuilder S = new StringBuilder(1024);
+
        if (__Init == InitMode.CREATE)
         {
           StringBuilder V = new StringBuilder(1024);
@@ -5511,18 +5555,14 @@ This is the hasChanged for:<BR>
           S.setCharAt(Pos, ' ');
         }
 
-       String Q = S.toString();
-       S.setLength(0);
-       S = null;
-       QueryDetails.setLastQuery(TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, Q);
-       LOG.debug("TILDA([7mTILDA.TESTING[27m): "+Q);
-       LOG.debug("   "+toString());
-       java.sql.PreparedStatement PS = null;
-       int count = 0;
-       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
-       try
-        {
-          PS = C.prepareStatement(Q);
+       return S.toString();
+     }
+
+   /**
+    * Binds the values for the statement returned by __WriteQuery().
+    */
+   protected final int __WriteBind(Connection C, java.sql.PreparedStatement PS, List<java.sql.Array> AllocatedArrays) throws Exception
+     {
           int i = 0;
                if ((TILDA__TESTING_Factory.COLS.REFNUM._Mask      & __Changes) != 0L) 
                 { 
@@ -5661,25 +5701,14 @@ This is the hasChanged for:<BR>
              case -666: if (__Init == InitMode.CREATE) break;
              default: throw new Exception("Invalid LookupId "+__LookupId+" found. Cannot prepare statement.");
            }
+          return i;
+     }
 
-          C.setSavepoint();
-          count = PS.executeUpdate();
-          C.releaseSavepoint(true);
-          if (count == 0)
-           return false;
-        }
-       catch (java.sql.SQLException E)
-        {
-          C.releaseSavepoint(false);
-          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "updated or inserted");
-        }
-       finally
-        {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE, count, AllocatedArrays);
-          PS = null;
-          AllocatedArrays = null;
-        }
-
+   /**
+    * Updates the state of the object after it has been successfully written.
+    */
+   protected final void __WriteDone(Connection C) throws Exception
+     {
        if (__Init == InitMode.CREATE)
         {
           __Init = InitMode.WRITTEN;
@@ -5701,8 +5730,189 @@ This is the hasChanged for:<BR>
 
        __Changes= 0L   ;
        __Nulls  = 0L   ;
+     }
 
-       return true;
+   /**
+    * Lists the columns a new object sends to a bulk load, in the order __CopyRow() writes them. Objects with the same
+    * changes yield the same list, which is what allows TILDA__TESTING_Factory.CopyIn() to group them.
+    */
+   protected final String __CopyColumns(Connection C) throws Exception
+     {
+       StringBuilder S = new StringBuilder(1024);
+       if ((TILDA__TESTING_Factory.COLS.REFNUM._Mask      & __Changes) != 0L) TILDA__TESTING_Factory.COLS.REFNUM.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.REFNUM2._Mask     & __Changes) != 0L) TILDA__TESTING_Factory.COLS.REFNUM2.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.NAME._Mask        & __Changes) != 0L) TILDA__TESTING_Factory.COLS.NAME.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.DESCRIPTION._Mask & __Changes) != 0L) TILDA__TESTING_Factory.COLS.DESCRIPTION.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.DESC2._Mask       & __Changes) != 0L) TILDA__TESTING_Factory.COLS.DESC2.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.DESC3._Mask       & __Changes) != 0L) TILDA__TESTING_Factory.COLS.DESC3.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.DESC4._Mask       & __Changes) != 0L) TILDA__TESTING_Factory.COLS.DESC4.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.DESC5._Mask       & __Changes) != 0L) TILDA__TESTING_Factory.COLS.DESC5.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.DESC6._Mask       & __Changes) != 0L) TILDA__TESTING_Factory.COLS.DESC6.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.TOPS._Mask        & __Changes) != 0L) TILDA__TESTING_Factory.COLS.TOPS.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.TOPS2._Mask       & __Changes) != 0L) TILDA__TESTING_Factory.COLS.TOPS2.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A1._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A1.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A2._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A2.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A2B._Mask         & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A2B.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A2C._Mask         & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A2C.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A3._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A3.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A3B._Mask         & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A3B.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A4._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A4.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A4B._Mask         & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A4B.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A5._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A5.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A5B._Mask         & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A5B.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A6._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A6.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A6B._Mask         & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A6B.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A6C._Mask         & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A6C.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A7._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A7.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A7B._Mask         & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A7B.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A8._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A8.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A9TZ._Mask        & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A9TZ.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.A9._Mask          & __Changes) != 0L) TILDA__TESTING_Factory.COLS.A9.getFullColumnVarForInsert(C, S);
+       TILDA__TESTING_Factory.COLS.CREATED.getFullColumnVarForInsert(C, S);
+       TILDA__TESTING_Factory.COLS.LASTUPDATED.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TESTING_Factory.COLS.DELETED._Mask     & __Changes) != 0L) TILDA__TESTING_Factory.COLS.DELETED.getFullColumnVarForInsert(C, S);
+       return S.substring(1);
+     }
+
+   protected final void __CopyRow(tilda.db.BulkWriter W) throws Exception
+     {
+       if ((TILDA__TESTING_Factory.COLS.REFNUM._Mask      & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.REFNUM._Mask      & __Nulls) != 0L) W.addNull(); else W.add(_refnum     ); }
+       if ((TILDA__TESTING_Factory.COLS.REFNUM2._Mask     & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.REFNUM2._Mask     & __Nulls) != 0L) W.addNull(); else W.add(_refnum2    ); }
+       if ((TILDA__TESTING_Factory.COLS.NAME._Mask        & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.NAME._Mask        & __Nulls) != 0L) W.addNull(); else W.add(_name       ); }
+       if ((TILDA__TESTING_Factory.COLS.DESCRIPTION._Mask & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.DESCRIPTION._Mask & __Nulls) != 0L) W.addNull(); else W.add(_description); }
+       if ((TILDA__TESTING_Factory.COLS.DESC2._Mask       & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.DESC2._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_desc2      ); }
+       if ((TILDA__TESTING_Factory.COLS.DESC3._Mask       & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.DESC3._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_desc3      ); }
+       if ((TILDA__TESTING_Factory.COLS.DESC4._Mask       & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.DESC4._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_desc4      ); }
+       if ((TILDA__TESTING_Factory.COLS.DESC5._Mask       & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.DESC5._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_desc5      ); }
+       if ((TILDA__TESTING_Factory.COLS.DESC6._Mask       & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.DESC6._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_desc6      ); }
+       if ((TILDA__TESTING_Factory.COLS.TOPS._Mask        & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.TOPS._Mask        & __Nulls) != 0L) W.addNull(); else W.add(_tops       ); }
+       if ((TILDA__TESTING_Factory.COLS.TOPS2._Mask       & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.TOPS2._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_tops2      ); }
+       if ((TILDA__TESTING_Factory.COLS.A1._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A1._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a1         ); }
+       if ((TILDA__TESTING_Factory.COLS.A2._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A2._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a2         ); }
+       if ((TILDA__TESTING_Factory.COLS.A2B._Mask         & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A2B._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_a2b        ); }
+       if ((TILDA__TESTING_Factory.COLS.A2C._Mask         & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A2C._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_a2c        ); }
+       if ((TILDA__TESTING_Factory.COLS.A3._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A3._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a3         ); }
+       if ((TILDA__TESTING_Factory.COLS.A3B._Mask         & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A3B._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_a3b        ); }
+       if ((TILDA__TESTING_Factory.COLS.A4._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A4._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a4         ); }
+       if ((TILDA__TESTING_Factory.COLS.A4B._Mask         & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A4B._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_a4b        ); }
+       if ((TILDA__TESTING_Factory.COLS.A5._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A5._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a5         ); }
+       if ((TILDA__TESTING_Factory.COLS.A5B._Mask         & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A5B._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_a5b        ); }
+       if ((TILDA__TESTING_Factory.COLS.A6._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A6._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a6         ); }
+       if ((TILDA__TESTING_Factory.COLS.A6B._Mask         & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A6B._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_a6b        ); }
+       if ((TILDA__TESTING_Factory.COLS.A6C._Mask         & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A6C._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_a6c        ); }
+       if ((TILDA__TESTING_Factory.COLS.A7._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A7._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a7         ); }
+       if ((TILDA__TESTING_Factory.COLS.A7B._Mask         & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A7B._Mask         & __Nulls) != 0L) W.addNull(); else W.add(_a7b        ); }
+       if ((TILDA__TESTING_Factory.COLS.A8._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A8._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a8         ); }
+       if ((TILDA__TESTING_Factory.COLS.A9TZ._Mask        & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A9TZ._Mask        & __Nulls) != 0L) W.addNull(); else W.add(_a9TZ       ); }
+       if ((TILDA__TESTING_Factory.COLS.A9._Mask          & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.A9._Mask          & __Nulls) != 0L) W.addNull(); else W.add(_a9         ); }
+       if ((TILDA__TESTING_Factory.COLS.CREATED._Mask     & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.CREATED._Mask     & __Nulls) != 0L) W.addNull(); else W.add(_created    ); } else W.addNow();
+       if ((TILDA__TESTING_Factory.COLS.LASTUPDATED._Mask & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.LASTUPDATED._Mask & __Nulls) != 0L) W.addNull(); else W.add(_lastUpdated); } else W.addNow();
+       if ((TILDA__TESTING_Factory.COLS.DELETED._Mask     & __Changes) != 0L) { if ((TILDA__TESTING_Factory.COLS.DELETED._Mask     & __Nulls) != 0L) W.addNull(); else W.add(_deleted    ); }
+       W.endRow();
+     }
+
+   /**
+    * Inserts this new object, or updates the existing row matching it on Keys, in a single statement, and then
+    * initializes this object from the resulting row. On an existing row, only the non-null JSON-mapped values
+    * are updated, the Invariants are left alone, and the update-time defaults are applied.
+    * @return false if the existing row has different values for any of the Invariants, in which case it is not
+    *         updated.
+    */
+   protected final boolean __Upsert(Connection C, tilda.types.ColumnDefinition[] Keys, tilda.types.ColumnDefinition[] Invariants) throws Exception
+     {
+       long T0 = System.nanoTime();
+       if (__Init != InitMode.CREATE)
+        throw new Exception("This TILDA.TESTING object is being upserted but it wasn't created with Create().");
+       if (BeforeWrite(C) == false)
+        {
+          LOG.debug("The tilda.data.TILDA.TESTING object's BeforeWrite() failed.");
+          QueryDetails.setLastQuery(TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, "");
+          return false;
+        }
+
+       List<String> Cols = new ArrayList<String>();
+       List<String> Vals = new ArrayList<String>();
+       List<String> Updates = new ArrayList<String>();
+       if ((TILDA__TESTING_Factory.COLS.REFNUM._Mask      & __Changes) != 0L) { Cols.add("refnum"); Vals.add("?"); }
+       if ((TILDA__TESTING_Factory.COLS.REFNUM2._Mask     & __Changes) != 0L) { Cols.add("refnum2"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.REFNUM2._Mask     & __Nulls) == 0L) Updates.add("refnum2"); }
+       if ((TILDA__TESTING_Factory.COLS.NAME._Mask        & __Changes) != 0L) { Cols.add("name"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.NAME._Mask        & __Nulls) == 0L) Updates.add("name"); }
+       if ((TILDA__TESTING_Factory.COLS.DESCRIPTION._Mask & __Changes) != 0L) { Cols.add("description"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.DESCRIPTION._Mask & __Nulls) == 0L) Updates.add("description"); }
+       if ((TILDA__TESTING_Factory.COLS.DESC2._Mask       & __Changes) != 0L) { Cols.add("desc2"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.DESC2._Mask       & __Nulls) == 0L) Updates.add("desc2"); }
+       if ((TILDA__TESTING_Factory.COLS.DESC3._Mask       & __Changes) != 0L) { Cols.add("desc3"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.DESC3._Mask       & __Nulls) == 0L) Updates.add("desc3"); }
+       if ((TILDA__TESTING_Factory.COLS.DESC4._Mask       & __Changes) != 0L) { Cols.add("desc4"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.DESC4._Mask       & __Nulls) == 0L) Updates.add("desc4"); }
+       if ((TILDA__TESTING_Factory.COLS.DESC5._Mask       & __Changes) != 0L) { Cols.add("desc5"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.DESC5._Mask       & __Nulls) == 0L) Updates.add("desc5"); }
+       if ((TILDA__TESTING_Factory.COLS.DESC6._Mask       & __Changes) != 0L) { Cols.add("desc6"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.DESC6._Mask       & __Nulls) == 0L) Updates.add("desc6"); }
+       if ((TILDA__TESTING_Factory.COLS.TOPS._Mask        & __Changes) != 0L) { Cols.add("tops"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.TOPS._Mask        & __Nulls) == 0L) Updates.add("tops"); }
+       if ((TILDA__TESTING_Factory.COLS.TOPS2._Mask       & __Changes) != 0L) { Cols.add("tops2"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.TOPS2._Mask       & __Nulls) == 0L) Updates.add("tops2"); }
+       if ((TILDA__TESTING_Factory.COLS.A1._Mask          & __Changes) != 0L) { Cols.add("a1"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A1._Mask          & __Nulls) == 0L) Updates.add("a1"); }
+       if ((TILDA__TESTING_Factory.COLS.A2._Mask          & __Changes) != 0L) { Cols.add("a2"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A2._Mask          & __Nulls) == 0L) Updates.add("a2"); }
+       if ((TILDA__TESTING_Factory.COLS.A2B._Mask         & __Changes) != 0L) { Cols.add("a2b"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A2B._Mask         & __Nulls) == 0L) Updates.add("a2b"); }
+       if ((TILDA__TESTING_Factory.COLS.A2C._Mask         & __Changes) != 0L) { Cols.add("a2c"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A2C._Mask         & __Nulls) == 0L) Updates.add("a2c"); }
+       if ((TILDA__TESTING_Factory.COLS.A3._Mask          & __Changes) != 0L) { Cols.add("a3"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A3._Mask          & __Nulls) == 0L) Updates.add("a3"); }
+       if ((TILDA__TESTING_Factory.COLS.A3B._Mask         & __Changes) != 0L) { Cols.add("a3b"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A3B._Mask         & __Nulls) == 0L) Updates.add("a3b"); }
+       if ((TILDA__TESTING_Factory.COLS.A4._Mask          & __Changes) != 0L) { Cols.add("a4"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A4._Mask          & __Nulls) == 0L) Updates.add("a4"); }
+       if ((TILDA__TESTING_Factory.COLS.A4B._Mask         & __Changes) != 0L) { Cols.add("a4b"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A4B._Mask         & __Nulls) == 0L) Updates.add("a4b"); }
+       if ((TILDA__TESTING_Factory.COLS.A5._Mask          & __Changes) != 0L) { Cols.add("a5"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A5._Mask          & __Nulls) == 0L) Updates.add("a5"); }
+       if ((TILDA__TESTING_Factory.COLS.A5B._Mask         & __Changes) != 0L) { Cols.add("a5b"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A5B._Mask         & __Nulls) == 0L) Updates.add("a5b"); }
+       if ((TILDA__TESTING_Factory.COLS.A6._Mask          & __Changes) != 0L) { Cols.add("a6"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A6._Mask          & __Nulls) == 0L) Updates.add("a6"); }
+       if ((TILDA__TESTING_Factory.COLS.A6B._Mask         & __Changes) != 0L) { Cols.add("a6b"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A6B._Mask         & __Nulls) == 0L) Updates.add("a6b"); }
+       if ((TILDA__TESTING_Factory.COLS.A6C._Mask         & __Changes) != 0L) { Cols.add("a6c"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A6C._Mask         & __Nulls) == 0L) Updates.add("a6c"); }
+       if ((TILDA__TESTING_Factory.COLS.A7._Mask          & __Changes) != 0L) { Cols.add("a7"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A7._Mask          & __Nulls) == 0L) Updates.add("a7"); }
+       if ((TILDA__TESTING_Factory.COLS.A7B._Mask         & __Changes) != 0L) { Cols.add("a7b"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A7B._Mask         & __Nulls) == 0L) Updates.add("a7b"); }
+       if ((TILDA__TESTING_Factory.COLS.A8._Mask          & __Changes) != 0L) { Cols.add("a8"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A8._Mask          & __Nulls) == 0L) Updates.add("a8"); }
+       if ((TILDA__TESTING_Factory.COLS.A9TZ._Mask        & __Changes) != 0L) { Cols.add("a9TZ"); Vals.add("?"); if ((TILDA__TESTING_Factory.COLS.A9TZ._Mask        & __Nulls) == 0L) Updates.add("a9TZ"); }
+       if ((TILDA__TESTING_Factory.COLS.A9._Mask          & __Changes) != 0L) { Cols.add("a9"); Vals.add((TILDA__TESTING_Factory.COLS.A9._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_a9) == true ? C.getCurrentTimestampStr() : "?"); if ((TILDA__TESTING_Factory.COLS.A9._Mask          & __Nulls) == 0L) Updates.add("a9"); }
+       if ((TILDA__TESTING_Factory.COLS.CREATED._Mask     & __Changes) != 0L) { Cols.add("created"); Vals.add((TILDA__TESTING_Factory.COLS.CREATED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_created) == true ? C.getCurrentTimestampStr() : "?"); } else { Cols.add("created"); Vals.add(C.getCurrentTimestampStr()); }
+       if ((TILDA__TESTING_Factory.COLS.LASTUPDATED._Mask & __Changes) != 0L) { Cols.add("lastUpdated"); Vals.add((TILDA__TESTING_Factory.COLS.LASTUPDATED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_lastUpdated) == true ? C.getCurrentTimestampStr() : "?"); Updates.add("lastUpdated"); } else { Cols.add("lastUpdated"); Vals.add(C.getCurrentTimestampStr()); Updates.add("lastUpdated"); }
+       if ((TILDA__TESTING_Factory.COLS.DELETED._Mask     & __Changes) != 0L) { Cols.add("deleted"); Vals.add((TILDA__TESTING_Factory.COLS.DELETED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_deleted) == true ? C.getCurrentTimestampStr() : "?"); }
+       List<String> KeyCols = new ArrayList<String>();
+       for (tilda.types.ColumnDefinition K : Keys)
+        {
+          KeyCols.add(K.getName());
+          Updates.remove(K.getName());
+        }
+       List<String> Checks = new ArrayList<String>();
+       for (tilda.types.ColumnDefinition I : Invariants)
+        {
+          Updates.remove(I.getName());
+          if ((I._Mask & __Changes) != 0L && (I._Mask & __Nulls) == 0L)
+           Checks.add(I.getName());
+        }
+       String Q = C.getUpsertQuery("TILDA", "TESTING", Cols, Vals, KeyCols, Updates, Checks, Arrays.asList("refnum", "refnum2", "name", "description", "desc2", "desc3", "desc4", "desc5", "desc6", "tops", "tops2", "a1", "a2", "a2b", "a2c", "a3", "a3b", "a4", "a4b", "a5", "a5b", "a6", "a6b", "a6c", "a7", "a7b", "a8", "a9TZ", "a9", "created", "lastUpdated", "deleted"));
+       QueryDetails.setLastQuery(TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.TESTING[27m): "+Q);
+       LOG.debug("   "+toString());
+       java.sql.PreparedStatement PS = null;
+       java.sql.ResultSet RS = null;
+       int count = 0;
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       try
+        {
+          PS = C.borrowStatement(Q);
+          __WriteBind(C, PS, AllocatedArrays);
+          C.setSavepoint();
+          RS = PS.executeQuery();
+          C.releaseSavepoint(true);
+          if (RS.next() == false)
+           {
+             LOG.debug("   [1mThe existing record has different invariant values and was not updated.[22m");
+             return false;
+           }
+          count = 1;
+          __Nulls = 0L;
+          return Init(C, RS);
+        }
+       catch (java.sql.SQLException E)
+        {
+          C.releaseSavepoint(false);
+          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "upserted");
+        }
+       finally
+        {
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, Q, StatementType.INSERT, count, AllocatedArrays);
+          PS = null;
+          AllocatedArrays = null;
+        }
      }
 
    protected abstract boolean BeforeWrite(Connection C) throws Exception;
@@ -5790,7 +6000,7 @@ This is the hasChanged for:<BR>
 
        try
         {
-          PS = C.prepareStatement(Q);
+          PS = C.borrowStatement(Q);
           int i = 0;
           switch (__LookupId)
            {
@@ -5816,7 +6026,7 @@ This is the hasChanged for:<BR>
         }
        finally
         {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, StatementType.SELECT, count, AllocatedArrays);
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, Q, StatementType.SELECT, count, AllocatedArrays);
           PS = null;
           AllocatedArrays = null;
         }
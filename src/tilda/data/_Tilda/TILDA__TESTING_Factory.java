@@ -123,14 +123,17 @@ public class TILDA__TESTING_Factory
        protected Connection _C = null;
        protected tilda.db.processors.ObjectProcessor<tilda.data.Testing_Data> _OP;
        protected ArrayListResults<tilda.data.Testing_Data> _L = null;
+       protected tilda.data.Testing_Data _Last = null;
+       protected boolean _HasMore = false;
        public void    Start  () { }
-       public void    End    (boolean HasMore, int Max) { if (_OP == null) _L.wrapup(HasMore, Max); }
+       public void    End    (boolean HasMore, int Max) { _HasMore = HasMore; if (_OP == null) _L.wrapup(HasMore, Max); }
        public boolean Process(int Index, java.sql.ResultSet RS) throws Exception
         {
           tilda.data.Testing_Data Obj = new tilda.data.Testing_Data();
           boolean OK = ((tilda.data._Tilda.TILDA__TESTING)Obj).Init(_C, RS);
           if (OK == true)
            {
+             _Last = Obj;
              if (_OP == null)
               _L.add(Obj);
              else
@@ -140,7 +143,7 @@ public class TILDA__TESTING_Factory
         }
      }
 
-   private static final void ReadMany(Connection C, int LookupId, tilda.db.processors.RecordProcessor RP, tilda.data._Tilda.TILDA__TESTING Obj, Object ExtraParams, int Start, int Size) throws Exception
+   private static final void ReadMany(Connection C, int LookupId, tilda.db.processors.RecordProcessor RP, tilda.data._Tilda.TILDA__TESTING Obj, Object ExtraParams, int Start, int Size, boolean CountAll, int FetchSize) throws Exception
      {
        long T0 = System.nanoTime();
        StringBuilder S = new StringBuilder(1024);
@@ -177,6 +180,7 @@ public class TILDA__TESTING_Factory
        S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "created");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "lastUpdated");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "deleted");
+       if (CountAll == true && C.supportsCountOver() == true) S.append(JDBCHelper.COUNT_OVER_COLUMN);
        S.append(" from "); C.getFullTableVar(S, "TILDA", "TESTING");
        switch (LookupId)
         {
@@ -185,7 +189,9 @@ public class TILDA__TESTING_Factory
              if (TextUtil.isNullOrEmpty(clause) == false) S.append(clause);
              break;
           case 1:
-             S.append(" order by "); C.getFullColumnVar(S, "TILDA", "TESTING", "name"); S.append(" ASC");
+             if (ExtraParams instanceof tilda.db.KeysetToken)
+              { S.append(" where (("); C.getFullColumnVar(S, "TILDA", "TESTING", "name"); S.append(">?) OR ("); C.getFullColumnVar(S, "TILDA", "TESTING", "name"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "TESTING", "refnum"); S.append(">?))"); }
+             S.append(" order by "); C.getFullColumnVar(S, "TILDA", "TESTING", "name"); S.append(" ASC");S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "refnum"); S.append(" ASC");
              break;
           case 2:
              S.append(", TILDA.OBJECTPERF"); // Additional From's from the subwhereclause.
@@ -212,13 +218,17 @@ public class TILDA__TESTING_Factory
        int count = 0;
        try
         {
-          PS = C.prepareStatement(Q);
+          // Ad-hoc where clauses with inlined values would just churn the statement cache
+          PS = LookupId == -7 && ((SelectQuery)ExtraParams).isParameterized() == false ? C.prepareStatement(Q) : C.borrowStatement(Q);
+          if (FetchSize > 0) C.setStreaming(PS, FetchSize);
           int i = 0;
           switch (LookupId)
            {
              case -7:
+                i = ((SelectQuery)ExtraParams).bindParams(PS, i);
                 break;
              case 1: {
+               if (ExtraParams instanceof tilda.db.KeysetToken) i = ((tilda.db.KeysetToken) ExtraParams).bind(PS, i);
                break;
              }
              case 2: {
@@ -241,7 +251,7 @@ public class TILDA__TESTING_Factory
              default: throw new Exception("Invalid LookupId "+LookupId+" found. Cannot prepare statement.");
            }
 
-          count = JDBCHelper.Process(PS.executeQuery(), RP, Start, true, Size, true);
+          count = JDBCHelper.Process(PS.executeQuery(), RP, Start, true, Size, true, CountAll);
         }
        catch (java.sql.SQLException E)
         {
@@ -249,7 +259,7 @@ public class TILDA__TESTING_Factory
         }
        finally
         {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, StatementType.SELECT, count, AllocatedArrays);
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__TESTING_Factory.SCHEMA_TABLENAME_LABEL, Q, LookupId == -7 ? ((SelectQuery)ExtraParams).getParams() : null, StatementType.SELECT, count, AllocatedArrays);
           PS = null;
           AllocatedArrays = null;
         }
@@ -356,6 +366,164 @@ public class TILDA__TESTING_Factory
       return Obj;
      }
 
+/**
+ Writes a collection of objects to the data store using JDBC batches of at most BatchSize statements.
+ Objects with the same set of changed columns share the same insert or update statement and are sent
+ together. Objects that have not changed are skipped as with Write().
+ @return an array of outcomes in the iteration order of L, true if the object was written (or had no
+ changes), false if BeforeWrite() failed or no row was affected.
+*/
+   public static boolean[] WriteBatch(Connection C, java.util.Collection<? extends tilda.data.Testing_Data> L) throws Exception
+     {
+       return WriteBatch(C, L, Connection.DEFAULT_BATCH_SIZE);
+     }
+
+   public static boolean[] WriteBatch(Connection C, java.util.Collection<? extends tilda.data.Testing_Data> L, int BatchSize) throws Exception
+     {
+       if (BatchSize < 1)
+        throw new Exception("Invalid batch size "+BatchSize+".");
+       TILDA__TESTING[] Objs = L.toArray(new TILDA__TESTING[L.size()]);
+       boolean[] Results = new boolean[Objs.length];
+       Map<String, List<Integer>> Batches = new java.util.LinkedHashMap<String, List<Integer>>();
+       for (int i = 0; i < Objs.length; ++i)
+        {
+          if (Objs[i].hasChanged() == false)
+           {
+             Results[i] = true;
+             continue;
+           }
+          if (Objs[i].BeforeWrite(C) == false)
+           {
+             LOG.debug("The tilda.data.TILDA.TESTING object's BeforeWrite() failed.");
+             continue;
+           }
+          String Q = Objs[i].__WriteQuery(C);
+          List<Integer> B = Batches.get(Q);
+          if (B == null)
+           Batches.put(Q, B = new ArrayList<Integer>());
+          B.add(i);
+        }
+       for (Map.Entry<String, List<Integer>> e : Batches.entrySet())
+        WriteBatch(C, e.getKey(), Objs, e.getValue(), BatchSize, Results);
+       return Results;
+     }
+
+   private static void WriteBatch(Connection C, String Q, TILDA__TESTING[] Objs, List<Integer> B, int BatchSize, boolean[] Results) throws Exception
+     {
+       StatementType ST = Objs[B.get(0)].__WriteStatementType();
+       QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.TESTING[27m): batch of "+B.size()+": "+Q);
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       for (int Start = 0; Start < B.size(); Start += BatchSize)
+        {
+          long T0 = System.nanoTime();
+          int End = Math.min(Start + BatchSize, B.size());
+          java.sql.PreparedStatement PS = null;
+          int count = 0;
+          try
+           {
+             PS = C.borrowStatement(Q);
+             for (int j = Start; j < End; ++j)
+              {
+                Objs[B.get(j)].__WriteBind(C, PS, AllocatedArrays);
+                PS.addBatch();
+              }
+             C.setSavepoint();
+             int[] Counts = PS.executeBatch();
+             C.releaseSavepoint(true);
+             for (int j = Start; j < End; ++j)
+              {
+                int c = Counts[j - Start];
+                if (c == 0)
+                 continue;
+                count += c == java.sql.Statement.SUCCESS_NO_INFO ? 1 : c;
+                Objs[B.get(j)].__WriteDone(C);
+                Results[B.get(j)] = true;
+              }
+           }
+          catch (java.sql.SQLException E)
+           {
+             C.releaseSavepoint(false);
+             tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "batch updated or inserted");
+           }
+          finally
+           {
+             tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, SCHEMA_TABLENAME_LABEL, Q, ST, count, AllocatedArrays);
+             PS = null;
+           }
+        }
+     }
+
+/**
+ Inserts a collection of new objects using the data store's bulk-load path (COPY on Postgres), which is
+ much faster than individual or batched inserts for large imports. Objects with the same set of changed
+ columns are streamed together. On data stores without a bulk-load path, this falls back to WriteBatch().
+ Unlike Write(), a single failing row (e.g., a duplicate key) fails the whole load.
+ @return the number of objects inserted.
+ @throws Exception if any of the objects is not newly created, or if the load failed.
+*/
+   public static int CopyIn(Connection C, java.util.Collection<? extends tilda.data.Testing_Data> L) throws Exception
+     {
+       if (C.supportsBulkLoad() == false)
+        {
+          LOG.debug("No bulk-load support for tilda.data.TILDA.TESTING: falling back to batched inserts.");
+          int Total = 0;
+          for (boolean b : WriteBatch(C, L))
+           if (b == true)
+            ++Total;
+          return Total;
+        }
+
+       Map<String, List<TILDA__TESTING>> Groups = new java.util.LinkedHashMap<String, List<TILDA__TESTING>>();
+       for (TILDA__TESTING Obj : L)
+        {
+          if (Obj.__WriteStatementType() != StatementType.INSERT)
+           throw new Exception("Only newly created objects can be bulk-loaded into tilda.data.TILDA.TESTING: "+Obj.toString());
+          if (Obj.hasChanged() == false)
+           continue;
+          if (Obj.BeforeWrite(C) == false)
+           {
+             LOG.debug("The tilda.data.TILDA.TESTING object's BeforeWrite() failed.");
+             continue;
+           }
+          String Cols = Obj.__CopyColumns(C);
+          List<TILDA__TESTING> Group = Groups.get(Cols);
+          if (Group == null)
+           Groups.put(Cols, Group = new ArrayList<TILDA__TESTING>());
+          Group.add(Obj);
+        }
+
+       int Total = 0;
+       for (Map.Entry<String, List<TILDA__TESTING>> e : Groups.entrySet())
+        {
+          long T0 = System.nanoTime();
+          List<TILDA__TESTING> Group = e.getValue();
+          tilda.db.BulkWriter W = C.newBulkWriter("TILDA", "TESTING", e.getKey());
+          QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, e.getKey());
+          LOG.debug("TILDA([7mTILDA.TESTING[27m): bulk load of "+Group.size()+" rows into ("+e.getKey()+")");
+          int count = 0;
+          try
+           {
+             for (TILDA__TESTING Obj : Group)
+              Obj.__CopyRow(W);
+             count = (int) W.finish();
+             W = null;
+           }
+          finally
+           {
+             if (W != null)
+              W.cancel();
+           }
+          for (TILDA__TESTING Obj : Group)
+           Obj.__WriteDone(C);
+          T0 = System.nanoTime() - T0;
+          PerfTracker.add(SCHEMA_TABLENAME_LABEL, StatementType.INSERT, T0, count);
+          LOG.debug("TILDA([7mTILDA.TESTING[27m): bulk loaded "+count+" rows in "+DurationUtil.PrintDuration(T0)+" ("+DurationUtil.PrintPerformancePerSecond(T0, count)+" rows/s).");
+          Total += count;
+        }
+       return Total;
+     }
+
    static public tilda.data.Testing_Data LookupByPrimaryKey(long refnum) throws Exception
      {
        tilda.data._Tilda.TILDA__TESTING Obj = new tilda.data.Testing_Data();
@@ -366,6 +534,132 @@ public class TILDA__TESTING_Factory
        return (tilda.data.Testing_Data) Obj;
      }
 
+/**
+ Looks up all the objects whose 'refnum' is one of Keys, in a single query ('= any(?)' with an
+ array parameter where the data store supports arrays, or chunks of 'in (...)' otherwise). Keys that are not
+ found are simply absent from the results. The objects come back fully read, either as a map by key, or
+ one at a time through an ObjectProcessor.
+*/
+   static public Map<Long, tilda.data.Testing_Data> LookupByPrimaryKeys(Connection C, java.util.Collection<Long> Keys) throws Exception
+     {
+       final Map<Long, tilda.data.Testing_Data> M = new HashMap<Long, tilda.data.Testing_Data>(Keys.size() * 4 / 3 + 1);
+       LookupByPrimaryKeys(C, Keys, new tilda.db.processors.ObjectProcessor<tilda.data.Testing_Data>()
+        {
+          public boolean Process(int Index, tilda.data.Testing_Data Obj) throws Exception
+            {
+              M.put(Obj.getRefnum(), Obj);
+              return true;
+            }
+        });
+       return M;
+     }
+
+   static public void LookupByPrimaryKeys(Connection C, java.util.Collection<Long> Keys, tilda.db.processors.ObjectProcessor<tilda.data.Testing_Data> OP) throws Exception
+     {
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
+       ReadManyByKeys(C, COLS.REFNUM, Keys, RPI);
+     }
+
+   private static final void ReadManyByKeys(Connection C, tilda.types.ColumnDefinition Col, java.util.Collection<?> Keys, tilda.db.processors.RecordProcessor RP) throws Exception
+     {
+       if (Keys.isEmpty() == true)
+        return;
+       StringBuilder S = new StringBuilder(1024);
+       S.append("select ");
+       S.append(" "); C.getFullColumnVar(S, "TILDA", "TESTING", "refnum");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "refnum2");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "name");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "description");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "desc2");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "desc3");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "desc4");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "desc5");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "desc6");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "tops");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "tops2");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a1");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a2");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a2b");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a2c");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a3");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a3b");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a4");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a4b");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a5");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a5b");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a6");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a6b");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a6c");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a7");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a7b");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a8");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a9TZ");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "a9");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "created");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "lastUpdated");
+       S.append(", "); C.getFullColumnVar(S, "TILDA", "TESTING", "deleted");
+       S.append(" from "); C.getFullTableVar(S, "TILDA", "TESTING");
+       S.append(" where "); C.getFullColumnVar(S, "TILDA", "TESTING", Col.getName());
+       java.lang.Object[] K = Keys.toArray();
+       boolean UseArray = C.supportsArrays();
+       int ChunkSize = UseArray == true ? K.length : Math.min(K.length, Connection.DEFAULT_LOOKUP_CHUNK_SIZE);
+       if (UseArray == true)
+        S.append(" = any(?)");
+       else
+        {
+          S.append(" in (?");
+          for (int j = 1; j < ChunkSize; ++j)
+           S.append(",?");
+          S.append(")");
+        }
+
+       String Q = S.toString();
+       S.setLength(0);
+       S = null;
+       QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.TESTING[27m): "+Q+" for "+K.length+" keys");
+       RP.Start();
+       int Total = 0;
+       boolean More = true;
+       for (int Start = 0; Start < K.length && More == true; Start += ChunkSize)
+        {
+          long T0 = System.nanoTime();
+          java.sql.PreparedStatement PS = null;
+          List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+          int count = 0;
+          try
+           {
+             PS = C.borrowStatement(Q);
+             if (UseArray == true)
+              C.setArray(PS, 1, Col._Type, AllocatedArrays, Keys);
+             else // the last chunk repeats its last key so that all chunks share the same statement
+              for (int j = 0; j < ChunkSize; ++j)
+               PS.setObject(j + 1, K[Math.min(Start + j, K.length - 1)]);
+             java.sql.ResultSet RS = PS.executeQuery();
+             while (RS.next() == true)
+              {
+                if (RP.Process(Total + count, RS) == false)
+                 {
+                   More = false;
+                   break;
+                 }
+                ++count;
+              }
+             Total += count;
+           }
+          catch (java.sql.SQLException E)
+           {
+             tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "selected");
+           }
+          finally
+           {
+             tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, SCHEMA_TABLENAME_LABEL, Q, StatementType.SELECT, count, AllocatedArrays);
+             PS = null;
+           }
+        }
+       RP.End(false, Total);
+     }
+
    static public ListResults<tilda.data.Testing_Data> LookupWhereAllByName(Connection C, int Start, int Size) throws Exception
      {
        tilda.data._Tilda.TILDA__TESTING Obj = new tilda.data.Testing_Data();
@@ -374,7 +668,19 @@ public class TILDA__TESTING_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, 1, RPI, Obj, null, Start, Size);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, false, 0);
+       return RPI._L;
+     }
+
+   static public ListResults<tilda.data.Testing_Data> LookupWhereAllByName(Connection C, int Start, int Size, boolean CountAll) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TESTING Obj = new tilda.data.Testing_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, CountAll, 0);
        return RPI._L;
      }
 
@@ -386,9 +692,48 @@ public class TILDA__TESTING_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, 1, RPI, Obj, null, Start, Size);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, false, C.getFetchSize());
+     }
+
+   static public java.util.concurrent.CompletableFuture<ListResults<tilda.data.Testing_Data>> LookupWhereAllByNameAsync(String PoolId, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> LookupWhereAllByName(AsyncC, Start, Size));
+     }
+
+/**
+ Same as LookupWhereAllByName(..., int Start, int Size), but pages by keyset: instead of skipping Start rows,
+ the query seeks directly past the sort key of the last row of the previous page, so every page costs the
+ same no matter how deep it is. Pass a null PageToken for the first page, and then the token returned by the
+ previous page (ListResults.getNextPageToken(), or the return value of the ObjectProcessor variant), which is
+ null after the last page. Rows are sorted on the index's orderBy, then on the primary key.
+*/
+   static public ListResults<tilda.data.Testing_Data> LookupWhereAllByName(Connection C, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TESTING Obj = new tilda.data.Testing_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".AllByName", 2);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, 0);
+       ReadMany(C, 1, RPI, Obj, T, 0, Size, false, 0);
+       if (RPI._HasMore == true)
+        RPI._L.setNextPageToken(tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".AllByName", RPI._Last.getName(), RPI._Last.getRefnum()));
+       return RPI._L;
      }
 
+   static public String LookupWhereAllByName(Connection C, tilda.db.processors.ObjectProcessor<tilda.data.Testing_Data> OP, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TESTING Obj = new tilda.data.Testing_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".AllByName", 2);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
+       ReadMany(C, 1, RPI, Obj, T, 0, Size, false, C.getFetchSize());
+       return RPI._HasMore == false ? null : tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".AllByName", RPI._Last.getName(), RPI._Last.getRefnum());
+     }
 
    static public ListResults<tilda.data.Testing_Data> LookupWhereAllByName2(Connection C, String desc2Lower, float a5Upper, String name, ZonedDateTime created, int Start, int Size) throws Exception
      {
@@ -399,7 +744,20 @@ public class TILDA__TESTING_Factory
        LookupWhereAllByName2Params P = new LookupWhereAllByName2Params(desc2Lower, a5Upper, name, created);
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, 2, RPI, Obj, P, Start, Size);
+       ReadMany(C, 2, RPI, Obj, P, Start, Size, false, 0);
+       return RPI._L;
+     }
+
+   static public ListResults<tilda.data.Testing_Data> LookupWhereAllByName2(Connection C, String desc2Lower, float a5Upper, String name, ZonedDateTime created, int Start, int Size, boolean CountAll) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TESTING Obj = new tilda.data.Testing_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+
+       LookupWhereAllByName2Params P = new LookupWhereAllByName2Params(desc2Lower, a5Upper, name, created);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, 2, RPI, Obj, P, Start, Size, CountAll, 0);
        return RPI._L;
      }
 
@@ -412,7 +770,12 @@ public class TILDA__TESTING_Factory
        LookupWhereAllByName2Params P = new LookupWhereAllByName2Params(desc2Lower, a5Upper, name, created);
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, 2, RPI, Obj, P, Start, Size);
+       ReadMany(C, 2, RPI, Obj, P, Start, Size, false, C.getFetchSize());
+     }
+
+   static public java.util.concurrent.CompletableFuture<ListResults<tilda.data.Testing_Data>> LookupWhereAllByName2Async(String PoolId, String desc2Lower, float a5Upper, String name, ZonedDateTime created, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> LookupWhereAllByName2(AsyncC, desc2Lower, a5Upper, name, created, Start, Size));
      }
 
     private static class LookupWhereAllByName2Params
@@ -451,7 +814,20 @@ public class TILDA__TESTING_Factory
        LookupWhereAllByName3Params P = new LookupWhereAllByName3Params(name, created);
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, 3, RPI, Obj, P, Start, Size);
+       ReadMany(C, 3, RPI, Obj, P, Start, Size, false, 0);
+       return RPI._L;
+     }
+
+   static public ListResults<tilda.data.Testing_Data> LookupWhereAllByName3(Connection C, String name, ZonedDateTime created, int Start, int Size, boolean CountAll) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TESTING Obj = new tilda.data.Testing_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+
+       LookupWhereAllByName3Params P = new LookupWhereAllByName3Params(name, created);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, 3, RPI, Obj, P, Start, Size, CountAll, 0);
        return RPI._L;
      }
 
@@ -464,7 +840,12 @@ public class TILDA__TESTING_Factory
        LookupWhereAllByName3Params P = new LookupWhereAllByName3Params(name, created);
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, 3, RPI, Obj, P, Start, Size);
+       ReadMany(C, 3, RPI, Obj, P, Start, Size, false, C.getFetchSize());
+     }
+
+   static public java.util.concurrent.CompletableFuture<ListResults<tilda.data.Testing_Data>> LookupWhereAllByName3Async(String PoolId, String name, ZonedDateTime created, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> LookupWhereAllByName3(AsyncC, name, created, Start, Size));
      }
 
     private static class LookupWhereAllByName3Params
@@ -491,18 +872,32 @@ public class TILDA__TESTING_Factory
 
    public static SelectQuery newSelectQuery(Connection C) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, true); }
    public static SelectQuery newWhereQuery (Connection C) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, false); }
+   public static SelectQuery newSelectQuery(Connection C, boolean Parameterized) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, true , Parameterized); }
+   public static SelectQuery newWhereQuery (Connection C, boolean Parameterized) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, false, Parameterized); }
    public static ListResults<tilda.data.Testing_Data> runSelect(Connection C, SelectQuery Q, int Start, int Size) throws Exception
      {
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, -7, RPI, null, Q, Start, Size);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, false, Q.getFetchSize(0));
+       return RPI._L;
+     }
+   public static ListResults<tilda.data.Testing_Data> runSelect(Connection C, SelectQuery Q, int Start, int Size, boolean CountAll) throws Exception
+     {
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, CountAll, Q.getFetchSize(0));
        return RPI._L;
      }
    public static void runSelect(Connection C, SelectQuery Q, tilda.db.processors.ObjectProcessor<tilda.data.Testing_Data> OP, int Start, int Size) throws Exception
      {
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, -7, RPI, null, Q, Start, Size);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, false, Q.getFetchSize(C.getFetchSize()));
+     }
+   public static java.util.concurrent.CompletableFuture<ListResults<tilda.data.Testing_Data>> runSelectAsync(String PoolId, SelectQuery Q, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> runSelect(AsyncC, Q, Start, Size));
      }
    public static UpdateQuery newUpdateQuery(Connection C) throws Exception { return new UpdateQuery(C, SCHEMA_LABEL, TABLENAME_LABEL); }
    public static DeleteQuery newDeleteQuery(Connection C) throws Exception { return new DeleteQuery(C, SCHEMA_LABEL, TABLENAME_LABEL); }
+   public static UpdateQuery newUpdateQuery(Connection C, boolean Parameterized) throws Exception { return new UpdateQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, Parameterized); }
+   public static DeleteQuery newDeleteQuery(Connection C, boolean Parameterized) throws Exception { return new DeleteQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, Parameterized); }
 
  }
@@ -55,7 +55,10 @@ public class TILDA__TESTING_Json
    transient                      public ZonedDateTime  _a9         ;
    /*@formatter:on*/
 
-   public tilda.data.Testing_Data Write(Connection C) throws Exception
+   /**
+    * Validates the incoming values and creates a new, unsaved, tilda.data.Testing_Data object from them.
+    */
+   public tilda.data.Testing_Data Create() throws Exception
     {
       if (_refnum2     == null || _refnum2    .isEmpty() == true)
        throw new Exception("Incoming value for 'tilda.data.TILDA.TESTING.refnum2' was null or empty. It's not nullable in the model.\n"+toString());
@@ -70,6 +73,25 @@ public class TILDA__TESTING_Json
 
       tilda.data.Testing_Data Obj = tilda.data.Testing_Factory.Create(_refnum2, _name);
       Update(Obj);
+      return Obj;
+    }
+
+   /**
+    * Bulk-loads the records as new objects through tilda.data.Testing_Factory.CopyIn(). Unlike Write(), existing
+    * objects are not looked up and updated: a record matching an existing unique key fails the whole load.
+    * @return the number of records inserted.
+    */
+   public static int CopyIn(Connection C, List<? extends TILDA__TESTING_Json> L) throws Exception
+    {
+      List<tilda.data.Testing_Data> Objs = new ArrayList<tilda.data.Testing_Data>(L.size());
+      for (TILDA__TESTING_Json Json : L)
+       Objs.add(Json.Create());
+      return tilda.data.Testing_Factory.CopyIn(C, Objs);
+    }
+
+   public tilda.data.Testing_Data Write(Connection C) throws Exception
+    {
+      tilda.data.Testing_Data Obj = Create();
       if (Obj.Write(C) == false)
        {
          throw new Exception("Cannot create the tilda.data.TILDA.TESTING object.\n"+toString());
@@ -91,7 +91,7 @@ It contains the following columns:<BR>
 
  @author   Tilda code gen for Java 8/PostgreSQL
  @version  Tilda 1.0
- @generated Jul 5 2016, 03:06:35EDT
+ @generated Oct 18 2026, 00:26:35UTC
 */
 @SuppressWarnings({ "unused" })
 public abstract class TILDA__TRANSPERF implements tilda.interfaces.WriterObject, tilda.interfaces.OCCObject
@@ -1804,8 +1804,6 @@ This is the hasChanged for:<BR>
           return true;
         }
 
-       StringBuilder S = new StringBuilder(1024);
-
        if (BeforeWrite(C) == false)
         {
           LOG.debug("The tilda.data.TILDA.TRANSPERF object's BeforeWrite() failed.");
@@ -1813,6 +1811,52 @@ This is the hasChanged for:<BR>
           return false;
         }
 
+       String Q = __WriteQuery(C);
+       QueryDetails.setLastQuery(TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.TRANSPERF[27m): "+Q);
+       LOG.debug("   "+toString());
+       java.sql.PreparedStatement PS = null;
+       int count = 0;
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       try
+        {
+          PS = C.borrowStatement(Q);
+          __WriteBind(C, PS, AllocatedArrays);
+          C.setSavepoint();
+          count = PS.executeUpdate();
+          C.releaseSavepoint(true);
+          if (count == 0)
+           return false;
+        }
+       catch (java.sql.SQLException E)
+        {
+          C.releaseSavepoint(false);
+          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "updated or inserted");
+        }
+       finally
+        {
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, Q, __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE, count, AllocatedArrays);
+          PS = null;
+          AllocatedArrays = null;
+        }
+
+       __WriteDone(C);
+       return true;
+     }
+
+   /**
+    * Builds the insert or update statement for the current changes. Objects with the same changes yield the same
+    * statement, which is what allows TILDA__TRANSPERF_Factory.WriteBatch() to group them.
+    */
+   protected final StatementType __WriteStatementType()
+     {
+       return __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE;
+     }
+
+   protected final String __WriteQuery(Connection C) throws Exception
+     {
+       StringBuilder S = new StringBuilder(1024);
+
        if (__Init == InitMode.CREATE)
         {
           StringBuilder V = new StringBuilder(1024);
@@ -1922,18 +1966,14 @@ This is the hasChanged for:<BR>
           S.setCharAt(Pos, ' ');
         }
 
-       String Q = S.toString();
-       S.setLength(0);
-       S = null;
-       QueryDetails.setLastQuery(TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, Q);
-       LOG.debug("TILDA([7mTILDA.TRANSPERF[27m): "+Q);
-       LOG.debug("   "+toString());
-       java.sql.PreparedStatement PS = null;
-       int count = 0;
-       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
-       try
-        {
-          PS = C.prepareStatement(Q);
+       return S.toString();
+     }
+
+   /**
+    * Binds the values for the statement returned by __WriteQuery().
+    */
+   protected final int __WriteBind(Connection C, java.sql.PreparedStatement PS, List<java.sql.Array> AllocatedArrays) throws Exception
+     {
           int i = 0;
                if ((TILDA__TRANSPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) 
                 { 
@@ -1998,25 +2038,14 @@ This is the hasChanged for:<BR>
              case -666: if (__Init == InitMode.CREATE) break;
              default: throw new Exception("Invalid LookupId "+__LookupId+" found. Cannot prepare statement.");
            }
+          return i;
+     }
 
-          C.setSavepoint();
-          count = PS.executeUpdate();
-          C.releaseSavepoint(true);
-          if (count == 0)
-           return false;
-        }
-       catch (java.sql.SQLException E)
-        {
-          C.releaseSavepoint(false);
-          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "updated or inserted");
-        }
-       finally
-        {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE, count, AllocatedArrays);
-          PS = null;
-          AllocatedArrays = null;
-        }
-
+   /**
+    * Updates the state of the object after it has been successfully written.
+    */
+   protected final void __WriteDone(Connection C) throws Exception
+     {
        if (__Init == InitMode.CREATE)
         {
           __Init = InitMode.WRITTEN;
@@ -2040,8 +2069,132 @@ This is the hasChanged for:<BR>
 
        __Changes= 0L   ;
        __Nulls  = 0L   ;
+     }
 
-       return true;
+   /**
+    * Lists the columns a new object sends to a bulk load, in the order __CopyRow() writes them. Objects with the same
+    * changes yield the same list, which is what allows TILDA__TRANSPERF_Factory.CopyIn() to group them.
+    */
+   protected final String __CopyColumns(Connection C) throws Exception
+     {
+       StringBuilder S = new StringBuilder(1024);
+       if ((TILDA__TRANSPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.SCHEMANAME.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.OBJECTNAME._Mask    & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.OBJECTNAME.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.STARTPERIODTZ.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIOD._Mask   & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.STARTPERIOD.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.ENDPERIODTZ.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIOD._Mask     & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.ENDPERIOD.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.COMMITNANO._Mask    & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.COMMITNANO.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.COMMITCOUNT._Mask   & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.COMMITCOUNT.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKNANO._Mask  & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.ROLLBACKNANO.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKCOUNT._Mask & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.ROLLBACKCOUNT.getFullColumnVarForInsert(C, S);
+       TILDA__TRANSPERF_Factory.COLS.CREATED.getFullColumnVarForInsert(C, S);
+       TILDA__TRANSPERF_Factory.COLS.LASTUPDATED.getFullColumnVarForInsert(C, S);
+       if ((TILDA__TRANSPERF_Factory.COLS.DELETED._Mask       & __Changes) != 0L) TILDA__TRANSPERF_Factory.COLS.DELETED.getFullColumnVarForInsert(C, S);
+       return S.substring(1);
+     }
+
+   protected final void __CopyRow(tilda.db.BulkWriter W) throws Exception
+     {
+       if ((TILDA__TRANSPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.SCHEMANAME._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_schemaName   ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.OBJECTNAME._Mask    & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.OBJECTNAME._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_objectName   ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIODTZ._Mask & __Nulls) != 0L) W.addNull(); else W.add(_startPeriodTZ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIOD._Mask   & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIOD._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_startPeriod  ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_endPeriodTZ  ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIOD._Mask     & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIOD._Mask     & __Nulls) != 0L) W.addNull(); else W.add(_endPeriod    ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.COMMITNANO._Mask    & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.COMMITNANO._Mask    & __Nulls) != 0L) W.addNull(); else W.add(_commitNano   ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.COMMITCOUNT._Mask   & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.COMMITCOUNT._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_commitCount  ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKNANO._Mask  & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKNANO._Mask  & __Nulls) != 0L) W.addNull(); else W.add(_rollbackNano ); }
+       if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKCOUNT._Mask & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKCOUNT._Mask & __Nulls) != 0L) W.addNull(); else W.add(_rollbackCount); }
+       if ((TILDA__TRANSPERF_Factory.COLS.CREATED._Mask       & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.CREATED._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_created      ); } else W.addNow();
+       if ((TILDA__TRANSPERF_Factory.COLS.LASTUPDATED._Mask   & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.LASTUPDATED._Mask   & __Nulls) != 0L) W.addNull(); else W.add(_lastUpdated  ); } else W.addNow();
+       if ((TILDA__TRANSPERF_Factory.COLS.DELETED._Mask       & __Changes) != 0L) { if ((TILDA__TRANSPERF_Factory.COLS.DELETED._Mask       & __Nulls) != 0L) W.addNull(); else W.add(_deleted      ); }
+       W.endRow();
+     }
+
+   /**
+    * Inserts this new object, or updates the existing row matching it on Keys, in a single statement, and then
+    * initializes this object from the resulting row. On an existing row, only the non-null JSON-mapped values
+    * are updated, the Invariants are left alone, and the update-time defaults are applied.
+    * @return false if the existing row has different values for any of the Invariants, in which case it is not
+    *         updated.
+    */
+   protected final boolean __Upsert(Connection C, tilda.types.ColumnDefinition[] Keys, tilda.types.ColumnDefinition[] Invariants) throws Exception
+     {
+       long T0 = System.nanoTime();
+       if (__Init != InitMode.CREATE)
+        throw new Exception("This TILDA.TRANSPERF object is being upserted but it wasn't created with Create().");
+       if (BeforeWrite(C) == false)
+        {
+          LOG.debug("The tilda.data.TILDA.TRANSPERF object's BeforeWrite() failed.");
+          QueryDetails.setLastQuery(TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, "");
+          return false;
+        }
+
+       List<String> Cols = new ArrayList<String>();
+       List<String> Vals = new ArrayList<String>();
+       List<String> Updates = new ArrayList<String>();
+       if ((TILDA__TRANSPERF_Factory.COLS.SCHEMANAME._Mask    & __Changes) != 0L) { Cols.add("schemaName"); Vals.add("?"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.OBJECTNAME._Mask    & __Changes) != 0L) { Cols.add("objectName"); Vals.add("?"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIODTZ._Mask & __Changes) != 0L) { Cols.add("startPeriodTZ"); Vals.add("?"); if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIODTZ._Mask & __Nulls) == 0L) Updates.add("startPeriodTZ"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.STARTPERIOD._Mask   & __Changes) != 0L) { Cols.add("startPeriod"); Vals.add((TILDA__TRANSPERF_Factory.COLS.STARTPERIOD._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_startPeriod) == true ? C.getCurrentTimestampStr() : "?"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Changes) != 0L) { Cols.add("endPeriodTZ"); Vals.add("?"); if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIODTZ._Mask   & __Nulls) == 0L) Updates.add("endPeriodTZ"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIOD._Mask     & __Changes) != 0L) { Cols.add("endPeriod"); Vals.add((TILDA__TRANSPERF_Factory.COLS.ENDPERIOD._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_endPeriod) == true ? C.getCurrentTimestampStr() : "?"); if ((TILDA__TRANSPERF_Factory.COLS.ENDPERIOD._Mask     & __Nulls) == 0L) Updates.add("endPeriod"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.COMMITNANO._Mask    & __Changes) != 0L) { Cols.add("commitNano"); Vals.add("?"); if ((TILDA__TRANSPERF_Factory.COLS.COMMITNANO._Mask    & __Nulls) == 0L) Updates.add("commitNano"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.COMMITCOUNT._Mask   & __Changes) != 0L) { Cols.add("commitCount"); Vals.add("?"); if ((TILDA__TRANSPERF_Factory.COLS.COMMITCOUNT._Mask   & __Nulls) == 0L) Updates.add("commitCount"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKNANO._Mask  & __Changes) != 0L) { Cols.add("rollbackNano"); Vals.add("?"); if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKNANO._Mask  & __Nulls) == 0L) Updates.add("rollbackNano"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKCOUNT._Mask & __Changes) != 0L) { Cols.add("rollbackCount"); Vals.add("?"); if ((TILDA__TRANSPERF_Factory.COLS.ROLLBACKCOUNT._Mask & __Nulls) == 0L) Updates.add("rollbackCount"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.CREATED._Mask       & __Changes) != 0L) { Cols.add("created"); Vals.add((TILDA__TRANSPERF_Factory.COLS.CREATED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_created) == true ? C.getCurrentTimestampStr() : "?"); } else { Cols.add("created"); Vals.add(C.getCurrentTimestampStr()); }
+       if ((TILDA__TRANSPERF_Factory.COLS.LASTUPDATED._Mask   & __Changes) != 0L) { Cols.add("lastUpdated"); Vals.add((TILDA__TRANSPERF_Factory.COLS.LASTUPDATED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_lastUpdated) == true ? C.getCurrentTimestampStr() : "?"); Updates.add("lastUpdated"); } else { Cols.add("lastUpdated"); Vals.add(C.getCurrentTimestampStr()); Updates.add("lastUpdated"); }
+       if ((TILDA__TRANSPERF_Factory.COLS.DELETED._Mask       & __Changes) != 0L) { Cols.add("deleted"); Vals.add((TILDA__TRANSPERF_Factory.COLS.DELETED._Mask & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_deleted) == true ? C.getCurrentTimestampStr() : "?"); }
+       List<String> KeyCols = new ArrayList<String>();
+       for (tilda.types.ColumnDefinition K : Keys)
+        {
+          KeyCols.add(K.getName());
+          Updates.remove(K.getName());
+        }
+       List<String> Checks = new ArrayList<String>();
+       for (tilda.types.ColumnDefinition I : Invariants)
+        {
+          Updates.remove(I.getName());
+          if ((I._Mask & __Changes) != 0L && (I._Mask & __Nulls) == 0L)
+           Checks.add(I.getName());
+        }
+       String Q = C.getUpsertQuery("TILDA", "TRANSPERF", Cols, Vals, KeyCols, Updates, Checks, Arrays.asList("schemaName", "objectName", "startPeriodTZ", "startPeriod", "endPeriodTZ", "endPeriod", "commitNano", "commitCount", "rollbackNano", "rollbackCount", "created", "lastUpdated", "deleted"));
+       QueryDetails.setLastQuery(TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.TRANSPERF[27m): "+Q);
+       LOG.debug("   "+toString());
+       java.sql.PreparedStatement PS = null;
+       java.sql.ResultSet RS = null;
+       int count = 0;
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       try
+        {
+          PS = C.borrowStatement(Q);
+          __WriteBind(C, PS, AllocatedArrays);
+          C.setSavepoint();
+          RS = PS.executeQuery();
+          C.releaseSavepoint(true);
+          if (RS.next() == false)
+           {
+             LOG.debug("   [1mThe existing record has different invariant values and was not updated.[22m");
+             return false;
+           }
+          count = 1;
+          __Nulls = 0L;
+          return Init(C, RS);
+        }
+       catch (java.sql.SQLException E)
+        {
+          C.releaseSavepoint(false);
+          return tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "upserted");
+        }
+       finally
+        {
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, Q, StatementType.INSERT, count, AllocatedArrays);
+          PS = null;
+          AllocatedArrays = null;
+        }
      }
 
    protected abstract boolean BeforeWrite(Connection C) throws Exception;
@@ -2110,7 +2263,7 @@ This is the hasChanged for:<BR>
 
        try
         {
-          PS = C.prepareStatement(Q);
+          PS = C.borrowStatement(Q);
           int i = 0;
           switch (__LookupId)
            {
@@ -2138,7 +2291,7 @@ This is the hasChanged for:<BR>
         }
        finally
         {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, StatementType.SELECT, count, AllocatedArrays);
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, Q, StatementType.SELECT, count, AllocatedArrays);
           PS = null;
           AllocatedArrays = null;
         }
@@ -104,14 +104,17 @@ public class TILDA__TRANSPERF_Factory
        protected Connection _C = null;
        protected tilda.db.processors.ObjectProcessor<tilda.data.TransPerf_Data> _OP;
        protected ArrayListResults<tilda.data.TransPerf_Data> _L = null;
+       protected tilda.data.TransPerf_Data _Last = null;
+       protected boolean _HasMore = false;
        public void    Start  () { }
-       public void    End    (boolean HasMore, int Max) { if (_OP == null) _L.wrapup(HasMore, Max); }
+       public void    End    (boolean HasMore, int Max) { _HasMore = HasMore; if (_OP == null) _L.wrapup(HasMore, Max); }
        public boolean Process(int Index, java.sql.ResultSet RS) throws Exception
         {
           tilda.data.TransPerf_Data Obj = new tilda.data.TransPerf_Data();
           boolean OK = ((tilda.data._Tilda.TILDA__TRANSPERF)Obj).Init(_C, RS);
           if (OK == true)
            {
+             _Last = Obj;
              if (_OP == null)
               _L.add(Obj);
              else
@@ -121,7 +124,7 @@ public class TILDA__TRANSPERF_Factory
         }
      }
 
-   private static final void ReadMany(Connection C, int LookupId, tilda.db.processors.RecordProcessor RP, tilda.data._Tilda.TILDA__TRANSPERF Obj, Object ExtraParams, int Start, int Size) throws Exception
+   private static final void ReadMany(Connection C, int LookupId, tilda.db.processors.RecordProcessor RP, tilda.data._Tilda.TILDA__TRANSPERF Obj, Object ExtraParams, int Start, int Size, boolean CountAll, int FetchSize) throws Exception
      {
        long T0 = System.nanoTime();
        StringBuilder S = new StringBuilder(1024);
@@ -139,6 +142,7 @@ public class TILDA__TRANSPERF_Factory
        S.append(", "); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "created");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "lastUpdated");
        S.append(", "); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "deleted");
+       if (CountAll == true && C.supportsCountOver() == true) S.append(JDBCHelper.COUNT_OVER_COLUMN);
        S.append(" from "); C.getFullTableVar(S, "TILDA", "TRANSPERF");
        switch (LookupId)
         {
@@ -148,10 +152,14 @@ public class TILDA__TRANSPERF_Factory
              break;
           case 1:
              S.append(" where ("); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "schemaName"); S.append("=?)");
+             if (ExtraParams instanceof tilda.db.KeysetToken)
+              { S.append(" and (("); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "objectName"); S.append(">?) OR ("); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "objectName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "startPeriod"); S.append("<?))"); }
              S.append(" order by "); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "objectName"); S.append(" ASC");S.append(", "); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "startPeriod"); S.append(" DESC");
              break;
           case 2:
              S.append(" where ("); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "schemaName"); S.append("=? AND "); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "objectName"); S.append("=?)");
+             if (ExtraParams instanceof tilda.db.KeysetToken)
+              { S.append(" and (("); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "startPeriod"); S.append("<?))"); }
              S.append(" order by "); C.getFullColumnVar(S, "TILDA", "TRANSPERF", "startPeriod"); S.append(" DESC");
              break;
           case -666: break;
@@ -170,26 +178,31 @@ public class TILDA__TRANSPERF_Factory
        int count = 0;
        try
         {
-          PS = C.prepareStatement(Q);
+          // Ad-hoc where clauses with inlined values would just churn the statement cache
+          PS = LookupId == -7 && ((SelectQuery)ExtraParams).isParameterized() == false ? C.prepareStatement(Q) : C.borrowStatement(Q);
+          if (FetchSize > 0) C.setStreaming(PS, FetchSize);
           int i = 0;
           switch (LookupId)
            {
              case -7:
+                i = ((SelectQuery)ExtraParams).bindParams(PS, i);
                 break;
              case 1: {
                PS.setString   (++i, Obj._schemaName   );
+               if (ExtraParams instanceof tilda.db.KeysetToken) i = ((tilda.db.KeysetToken) ExtraParams).bind(PS, i);
                break;
              }
              case 2: {
                PS.setString   (++i, Obj._schemaName   );
                PS.setString   (++i, Obj._objectName   );
+               if (ExtraParams instanceof tilda.db.KeysetToken) i = ((tilda.db.KeysetToken) ExtraParams).bind(PS, i);
                break;
              }
              case -666: break;
              default: throw new Exception("Invalid LookupId "+LookupId+" found. Cannot prepare statement.");
            }
 
-          count = JDBCHelper.Process(PS.executeQuery(), RP, Start, true, Size, true);
+          count = JDBCHelper.Process(PS.executeQuery(), RP, Start, true, Size, true, CountAll);
         }
        catch (java.sql.SQLException E)
         {
@@ -197,7 +210,7 @@ public class TILDA__TRANSPERF_Factory
         }
        finally
         {
-          tilda.data._Tilda.TILDA__1_0.HandleFinally(PS, T0, TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, StatementType.SELECT, count, AllocatedArrays);
+          tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, TILDA__TRANSPERF_Factory.SCHEMA_TABLENAME_LABEL, Q, LookupId == -7 ? ((SelectQuery)ExtraParams).getParams() : null, StatementType.SELECT, count, AllocatedArrays);
           PS = null;
           AllocatedArrays = null;
         }
@@ -267,6 +280,164 @@ public class TILDA__TRANSPERF_Factory
       return Obj;
      }
 
+/**
+ Writes a collection of objects to the data store using JDBC batches of at most BatchSize statements.
+ Objects with the same set of changed columns share the same insert or update statement and are sent
+ together. Objects that have not changed are skipped as with Write().
+ @return an array of outcomes in the iteration order of L, true if the object was written (or had no
+ changes), false if BeforeWrite() failed or no row was affected.
+*/
+   public static boolean[] WriteBatch(Connection C, java.util.Collection<? extends tilda.data.TransPerf_Data> L) throws Exception
+     {
+       return WriteBatch(C, L, Connection.DEFAULT_BATCH_SIZE);
+     }
+
+   public static boolean[] WriteBatch(Connection C, java.util.Collection<? extends tilda.data.TransPerf_Data> L, int BatchSize) throws Exception
+     {
+       if (BatchSize < 1)
+        throw new Exception("Invalid batch size "+BatchSize+".");
+       TILDA__TRANSPERF[] Objs = L.toArray(new TILDA__TRANSPERF[L.size()]);
+       boolean[] Results = new boolean[Objs.length];
+       Map<String, List<Integer>> Batches = new java.util.LinkedHashMap<String, List<Integer>>();
+       for (int i = 0; i < Objs.length; ++i)
+        {
+          if (Objs[i].hasChanged() == false)
+           {
+             Results[i] = true;
+             continue;
+           }
+          if (Objs[i].BeforeWrite(C) == false)
+           {
+             LOG.debug("The tilda.data.TILDA.TRANSPERF object's BeforeWrite() failed.");
+             continue;
+           }
+          String Q = Objs[i].__WriteQuery(C);
+          List<Integer> B = Batches.get(Q);
+          if (B == null)
+           Batches.put(Q, B = new ArrayList<Integer>());
+          B.add(i);
+        }
+       for (Map.Entry<String, List<Integer>> e : Batches.entrySet())
+        WriteBatch(C, e.getKey(), Objs, e.getValue(), BatchSize, Results);
+       return Results;
+     }
+
+   private static void WriteBatch(Connection C, String Q, TILDA__TRANSPERF[] Objs, List<Integer> B, int BatchSize, boolean[] Results) throws Exception
+     {
+       StatementType ST = Objs[B.get(0)].__WriteStatementType();
+       QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, Q);
+       LOG.debug("TILDA([7mTILDA.TRANSPERF[27m): batch of "+B.size()+": "+Q);
+       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();
+       for (int Start = 0; Start < B.size(); Start += BatchSize)
+        {
+          long T0 = System.nanoTime();
+          int End = Math.min(Start + BatchSize, B.size());
+          java.sql.PreparedStatement PS = null;
+          int count = 0;
+          try
+           {
+             PS = C.borrowStatement(Q);
+             for (int j = Start; j < End; ++j)
+              {
+                Objs[B.get(j)].__WriteBind(C, PS, AllocatedArrays);
+                PS.addBatch();
+              }
+             C.setSavepoint();
+             int[] Counts = PS.executeBatch();
+             C.releaseSavepoint(true);
+             for (int j = Start; j < End; ++j)
+              {
+                int c = Counts[j - Start];
+                if (c == 0)
+                 continue;
+                count += c == java.sql.Statement.SUCCESS_NO_INFO ? 1 : c;
+                Objs[B.get(j)].__WriteDone(C);
+                Results[B.get(j)] = true;
+              }
+           }
+          catch (java.sql.SQLException E)
+           {
+             C.releaseSavepoint(false);
+             tilda.data._Tilda.TILDA__1_0.HandleCatch(C, E, "batch updated or inserted");
+           }
+          finally
+           {
+             tilda.data._Tilda.TILDA__1_0.HandleFinally(C, PS, T0, SCHEMA_TABLENAME_LABEL, Q, ST, count, AllocatedArrays);
+             PS = null;
+           }
+        }
+     }
+
+/**
+ Inserts a collection of new objects using the data store's bulk-load path (COPY on Postgres), which is
+ much faster than individual or batched inserts for large imports. Objects with the same set of changed
+ columns are streamed together. On data stores without a bulk-load path, this falls back to WriteBatch().
+ Unlike Write(), a single failing row (e.g., a duplicate key) fails the whole load.
+ @return the number of objects inserted.
+ @throws Exception if any of the objects is not newly created, or if the load failed.
+*/
+   public static int CopyIn(Connection C, java.util.Collection<? extends tilda.data.TransPerf_Data> L) throws Exception
+     {
+       if (C.supportsBulkLoad() == false)
+        {
+          LOG.debug("No bulk-load support for tilda.data.TILDA.TRANSPERF: falling back to batched inserts.");
+          int Total = 0;
+          for (boolean b : WriteBatch(C, L))
+           if (b == true)
+            ++Total;
+          return Total;
+        }
+
+       Map<String, List<TILDA__TRANSPERF>> Groups = new java.util.LinkedHashMap<String, List<TILDA__TRANSPERF>>();
+       for (TILDA__TRANSPERF Obj : L)
+        {
+          if (Obj.__WriteStatementType() != StatementType.INSERT)
+           throw new Exception("Only newly created objects can be bulk-loaded into tilda.data.TILDA.TRANSPERF: "+Obj.toString());
+          if (Obj.hasChanged() == false)
+           continue;
+          if (Obj.BeforeWrite(C) == false)
+           {
+             LOG.debug("The tilda.data.TILDA.TRANSPERF object's BeforeWrite() failed.");
+             continue;
+           }
+          String Cols = Obj.__CopyColumns(C);
+          List<TILDA__TRANSPERF> Group = Groups.get(Cols);
+          if (Group == null)
+           Groups.put(Cols, Group = new ArrayList<TILDA__TRANSPERF>());
+          Group.add(Obj);
+        }
+
+       int Total = 0;
+       for (Map.Entry<String, List<TILDA__TRANSPERF>> e : Groups.entrySet())
+        {
+          long T0 = System.nanoTime();
+          List<TILDA__TRANSPERF> Group = e.getValue();
+          tilda.db.BulkWriter W = C.newBulkWriter("TILDA", "TRANSPERF", e.getKey());
+          QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, e.getKey());
+          LOG.debug("TILDA([7mTILDA.TRANSPERF[27m): bulk load of "+Group.size()+" rows into ("+e.getKey()+")");
+          int count = 0;
+          try
+           {
+             for (TILDA__TRANSPERF Obj : Group)
+              Obj.__CopyRow(W);
+             count = (int) W.finish();
+             W = null;
+           }
+          finally
+           {
+             if (W != null)
+              W.cancel();
+           }
+          for (TILDA__TRANSPERF Obj : Group)
+           Obj.__WriteDone(C);
+          T0 = System.nanoTime() - T0;
+          PerfTracker.add(SCHEMA_TABLENAME_LABEL, StatementType.INSERT, T0, count);
+          LOG.debug("TILDA([7mTILDA.TRANSPERF[27m): bulk loaded "+count+" rows in "+DurationUtil.PrintDuration(T0)+" ("+DurationUtil.PrintPerformancePerSecond(T0, count)+" rows/s).");
+          Total += count;
+        }
+       return Total;
+     }
+
    static public tilda.data.TransPerf_Data LookupByPrimaryKey(String schemaName, String objectName, ZonedDateTime startPeriod) throws Exception
      {
        tilda.data._Tilda.TILDA__TRANSPERF Obj = new tilda.data.TransPerf_Data();
@@ -288,7 +459,20 @@ public class TILDA__TRANSPERF_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, 1, RPI, Obj, null, Start, Size);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, false, 0);
+       return RPI._L;
+     }
+
+   static public ListResults<tilda.data.TransPerf_Data> LookupWhereAllBySchemaName(Connection C, String schemaName, int Start, int Size, boolean CountAll) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TRANSPERF Obj = new tilda.data.TransPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, CountAll, 0);
        return RPI._L;
      }
 
@@ -301,9 +485,50 @@ public class TILDA__TRANSPERF_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, 1, RPI, Obj, null, Start, Size);
+       ReadMany(C, 1, RPI, Obj, null, Start, Size, false, C.getFetchSize());
      }
 
+   static public java.util.concurrent.CompletableFuture<ListResults<tilda.data.TransPerf_Data>> LookupWhereAllBySchemaNameAsync(String PoolId, String schemaName, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> LookupWhereAllBySchemaName(AsyncC, schemaName, Start, Size));
+     }
+
+/**
+ Same as LookupWhereAllBySchemaName(..., int Start, int Size), but pages by keyset: instead of skipping Start rows,
+ the query seeks directly past the sort key of the last row of the previous page, so every page costs the
+ same no matter how deep it is. Pass a null PageToken for the first page, and then the token returned by the
+ previous page (ListResults.getNextPageToken(), or the return value of the ObjectProcessor variant), which is
+ null after the last page. Rows are sorted on the index's orderBy, then on the primary key.
+*/
+   static public ListResults<tilda.data.TransPerf_Data> LookupWhereAllBySchemaName(Connection C, String schemaName, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TRANSPERF Obj = new tilda.data.TransPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".AllBySchemaName", 2);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, 0);
+       ReadMany(C, 1, RPI, Obj, T, 0, Size, false, 0);
+       if (RPI._HasMore == true)
+        RPI._L.setNextPageToken(tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".AllBySchemaName", RPI._Last.getObjectName(), RPI._Last.getStartPeriod()));
+       return RPI._L;
+     }
+
+   static public String LookupWhereAllBySchemaName(Connection C, tilda.db.processors.ObjectProcessor<tilda.data.TransPerf_Data> OP, String schemaName, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TRANSPERF Obj = new tilda.data.TransPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".AllBySchemaName", 2);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
+       ReadMany(C, 1, RPI, Obj, T, 0, Size, false, C.getFetchSize());
+       return RPI._HasMore == false ? null : tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".AllBySchemaName", RPI._Last.getObjectName(), RPI._Last.getStartPeriod());
+     }
 
    static public ListResults<tilda.data.TransPerf_Data> LookupWhereAllByObjectName(Connection C, String schemaName, String objectName, int Start, int Size) throws Exception
      {
@@ -315,7 +540,21 @@ public class TILDA__TRANSPERF_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, 2, RPI, Obj, null, Start, Size);
+       ReadMany(C, 2, RPI, Obj, null, Start, Size, false, 0);
+       return RPI._L;
+     }
+
+   static public ListResults<tilda.data.TransPerf_Data> LookupWhereAllByObjectName(Connection C, String schemaName, String objectName, int Start, int Size, boolean CountAll) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TRANSPERF Obj = new tilda.data.TransPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+       Obj.setObjectName   (objectName   );
+
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, 2, RPI, Obj, null, Start, Size, CountAll, 0);
        return RPI._L;
      }
 
@@ -329,26 +568,83 @@ public class TILDA__TRANSPERF_Factory
 
 
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, 2, RPI, Obj, null, Start, Size);
+       ReadMany(C, 2, RPI, Obj, null, Start, Size, false, C.getFetchSize());
+     }
+
+   static public java.util.concurrent.CompletableFuture<ListResults<tilda.data.TransPerf_Data>> LookupWhereAllByObjectNameAsync(String PoolId, String schemaName, String objectName, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> LookupWhereAllByObjectName(AsyncC, schemaName, objectName, Start, Size));
      }
 
+/**
+ Same as LookupWhereAllByObjectName(..., int Start, int Size), but pages by keyset: instead of skipping Start rows,
+ the query seeks directly past the sort key of the last row of the previous page, so every page costs the
+ same no matter how deep it is. Pass a null PageToken for the first page, and then the token returned by the
+ previous page (ListResults.getNextPageToken(), or the return value of the ObjectProcessor variant), which is
+ null after the last page. Rows are sorted on the index's orderBy, then on the primary key.
+*/
+   static public ListResults<tilda.data.TransPerf_Data> LookupWhereAllByObjectName(Connection C, String schemaName, String objectName, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TRANSPERF Obj = new tilda.data.TransPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+       Obj.setObjectName   (objectName   );
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".AllByObjectName", 1);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, 0);
+       ReadMany(C, 2, RPI, Obj, T, 0, Size, false, 0);
+       if (RPI._HasMore == true)
+        RPI._L.setNextPageToken(tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".AllByObjectName", RPI._Last.getStartPeriod()));
+       return RPI._L;
+     }
+
+   static public String LookupWhereAllByObjectName(Connection C, tilda.db.processors.ObjectProcessor<tilda.data.TransPerf_Data> OP, String schemaName, String objectName, String PageToken, int Size) throws Exception
+     {
+       tilda.data._Tilda.TILDA__TRANSPERF Obj = new tilda.data.TransPerf_Data();
+       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);
+
+       Obj.setSchemaName   (schemaName   );
+       Obj.setObjectName   (objectName   );
+
+       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+".AllByObjectName", 1);
+
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
+       ReadMany(C, 2, RPI, Obj, T, 0, Size, false, C.getFetchSize());
+       return RPI._HasMore == false ? null : tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+".AllByObjectName", RPI._Last.getStartPeriod());
+     }
 
 
 
    public static SelectQuery newSelectQuery(Connection C) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, true); }
    public static SelectQuery newWhereQuery (Connection C) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, false); }
+   public static SelectQuery newSelectQuery(Connection C, boolean Parameterized) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, true , Parameterized); }
+   public static SelectQuery newWhereQuery (Connection C, boolean Parameterized) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, false, Parameterized); }
    public static ListResults<tilda.data.TransPerf_Data> runSelect(Connection C, SelectQuery Q, int Start, int Size) throws Exception
      {
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
-       ReadMany(C, -7, RPI, null, Q, Start, Size);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, false, Q.getFetchSize(0));
+       return RPI._L;
+     }
+   public static ListResults<tilda.data.TransPerf_Data> runSelect(Connection C, SelectQuery Q, int Start, int Size, boolean CountAll) throws Exception
+     {
+       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, CountAll, Q.getFetchSize(0));
        return RPI._L;
      }
    public static void runSelect(Connection C, SelectQuery Q, tilda.db.processors.ObjectProcessor<tilda.data.TransPerf_Data> OP, int Start, int Size) throws Exception
      {
        RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);
-       ReadMany(C, -7, RPI, null, Q, Start, Size);
+       ReadMany(C, -7, RPI, null, Q, Start, Size, false, Q.getFetchSize(C.getFetchSize()));
+     }
+   public static java.util.concurrent.CompletableFuture<ListResults<tilda.data.TransPerf_Data>> runSelectAsync(String PoolId, SelectQuery Q, int Start, int Size)
+     {
+       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> runSelect(AsyncC, Q, Start, Size));
      }
    public static UpdateQuery newUpdateQuery(Connection C) throws Exception { return new UpdateQuery(C, SCHEMA_LABEL, TABLENAME_LABEL); }
    public static DeleteQuery newDeleteQuery(Connection C) throws Exception { return new DeleteQuery(C, SCHEMA_LABEL, TABLENAME_LABEL); }
+   public static UpdateQuery newUpdateQuery(Connection C, boolean Parameterized) throws Exception { return new UpdateQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, Parameterized); }
+   public static DeleteQuery newDeleteQuery(Connection C, boolean Parameterized) throws Exception { return new DeleteQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, Parameterized); }
 
  }
@@ -37,7 +37,10 @@ public class TILDA__TRANSPERF_Json
    @SerializedName("rollbackCount") public Long  _rollbackCount;
    /*@formatter:on*/
 
-   public tilda.data.TransPerf_Data Write(Connection C) throws Exception
+   /**
+    * Validates the incoming values and creates a new, unsaved, tilda.data.TransPerf_Data object from them.
+    */
+   public tilda.data.TransPerf_Data Create() throws Exception
     {
       if (TextUtil.isNullOrEmpty(_schemaName   ) == true)
        throw new Exception("Incoming value for 'tilda.data.TILDA.TRANSPERF.schemaName' was null or empty. It's not nullable in the model.\n"+toString());
@@ -64,7 +67,27 @@ public class TILDA__TRANSPERF_Json
 
       tilda.data.TransPerf_Data Obj = tilda.data.TransPerf_Factory.Create(_schemaName, _objectName, _startPeriod, _endPeriod, _commitNano, _commitCount, _rollbackNano, _rollbackCount);
       Update(Obj);
-      if (Obj.Write(C) == false)
+      return Obj;
+    }
+
+   /**
+    * Bulk-loads the records as new objects through tilda.data.TransPerf_Factory.CopyIn(). Unlike Write(), existing
+    * objects are not looked up and updated: a record matching an existing unique key fails the whole load.
+    * @return the number of records inserted.
+    */
+   public static int CopyIn(Connection C, List<? extends TILDA__TRANSPERF_Json> L) throws Exception
+    {
+      List<tilda.data.TransPerf_Data> Objs = new ArrayList<tilda.data.TransPerf_Data>(L.size());
+      for (TILDA__TRANSPERF_Json Json : L)
+       Objs.add(Json.Create());
+      return tilda.data.TransPerf_Factory.CopyIn(C, Objs);
+    }
+
+   public tilda.data.TransPerf_Data Write(Connection C) throws Exception
+    {
+      tilda.data.TransPerf_Data Obj = Create();
+      if (C.supportsUpsert() == true ? Obj.__Upsert(C, new tilda.types.ColumnDefinition[] { TILDA__TRANSPERF_Factory.COLS.SCHEMANAME, TILDA__TRANSPERF_Factory.COLS.OBJECTNAME, TILDA__TRANSPERF_Factory.COLS.STARTPERIOD }, new tilda.types.ColumnDefinition[] {}) == false
+                                      : Obj.Write(C) == false)
        {
          Obj = tilda.data.TransPerf_Factory.LookupByPrimaryKey(_schemaName, _objectName, _startPeriod);
          if (Obj.Read(C) == false)
@@ -30,7 +30,10 @@ public class TILDA__ZONEINFO_Json
    @SerializedName("label"        ) public String  _label        ;
    /*@formatter:on*/
 
-   public tilda.data.ZoneInfo_Data Write(Connection C) throws Exception
+   /**
+    * Validates the incoming values and creates a new, unsaved, tilda.data.ZoneInfo_Data object from them.
+    */
+   public tilda.data.ZoneInfo_Data Create() throws Exception
     {
       if (TextUtil.isNullOrEmpty(_id           ) == true)
        throw new Exception("Incoming value for 'tilda.data.TILDA.ZONEINFO.id' was null or empty. It's not nullable in the model.\n"+toString());
@@ -41,7 +44,27 @@ public class TILDA__ZONEINFO_Json
 
       tilda.data.ZoneInfo_Data Obj = tilda.data.ZoneInfo_Factory.Create(_id, _value, _label);
       Update(Obj);
-      if (Obj.Write(C) == false)
+      return Obj;
+    }
+
+   /**
+    * Bulk-loads the records as new objects through tilda.data.ZoneInfo_Factory.CopyIn(). Unlike Write(), existing
+    * objects are not looked up and updated: a record matching an existing unique key fails the whole load.
+    * @return the number of records inserted.
+    */
+   public static int CopyIn(Connection C, List<? extends TILDA__ZONEINFO_Json> L) throws Exception
+    {
+      List<tilda.data.ZoneInfo_Data> Objs = new ArrayList<tilda.data.ZoneInfo_Data>(L.size());
+      for (TILDA__ZONEINFO_Json Json : L)
+       Objs.add(Json.Create());
+      return tilda.data.ZoneInfo_Factory.CopyIn(C, Objs);
+    }
+
+   public tilda.data.ZoneInfo_Data Write(Connection C) throws Exception
+    {
+      tilda.data.ZoneInfo_Data Obj = Create();
+      if (C.supportsUpsert() == true ? Obj.__Upsert(C, new tilda.types.ColumnDefinition[] { TILDA__ZONEINFO_Factory.COLS.ID }, new tilda.types.ColumnDefinition[] { TILDA__ZONEINFO_Factory.COLS.VALUE }) == false
+                                      : Obj.Write(C) == false)
        {
          Obj = tilda.data.ZoneInfo_Factory.LookupById(_id);
          if (Obj.Read(C) == false)
@@ -19,6 +19,7 @@ package tilda.data.importers.zones;
 import java.util.ArrayList;
 import java.util.List;
 
+import tilda.Import;
 import tilda.Importer;
 import tilda.data.ZoneInfo_Factory;
 import tilda.data.ZoneInfo_Json;
@@ -37,7 +38,10 @@ public class RootImporter implements Importer
       {
         int Count = 0;
         
-        for (ZoneInfo_Json          obj : _Zones        ) { ++Count; obj.Write(C); }
+        if (Import.useBulkCopy() == true)
+          Count += ZoneInfo_Json.CopyIn(C, _Zones);
+        else
+          for (ZoneInfo_Json          obj : _Zones        ) { ++Count; obj.Write(C); }
         ZoneInfo_Factory.initMappings(C);
         
         return Count;
@@ -39,6 +39,7 @@ public class ArrayListResults<E> extends ArrayList<E> implements ListResults<E>
     protected int     _Start;
     protected boolean _HasMore = false;
     protected int     _Max     = SystemValues.EVIL_VALUE;
+    protected String  _NextPageToken = null;
 
     @Override
     public int getStart()
@@ -64,6 +65,17 @@ public class ArrayListResults<E> extends ArrayList<E> implements ListResults<E>
         return _Max;
       }
 
+    @Override
+    public String getNextPageToken()
+      {
+        return _NextPageToken;
+      }
+
+    public void setNextPageToken(String NextPageToken)
+      {
+        _NextPageToken = NextPageToken;
+      }
+
     public void wrapup(boolean HasMore, int Max)
       {
         _HasMore = HasMore;
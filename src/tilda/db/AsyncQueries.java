@@ -0,0 +1,229 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs database work asynchronously on a bounded pool of daemon threads, each task on its own connection borrowed
+ * from a {@link ConnectionPool}, so that independent queries (e.g., the 10 or 20 lookups behind a dashboard) can run
+ * in parallel instead of one after the other:
+ * <PRE>
+ * CompletableFuture&lt;ListResults&lt;A_Data&gt;&gt; FA = A_Factory.LookupWhereXyzAsync("MAIN", ..., 0, 100);
+ * CompletableFuture&lt;Integer&gt; FB = AsyncQueries.read("MAIN", C -&gt; C.ExecuteSelect(..., RP, ...));
+ * AsyncQueries.join(30000, FA, FB);
+ * ListResults&lt;A_Data&gt; A = FA.get();
+ * </PRE>
+ * The thread pool has {@link #DEFAULT_THREADS} threads and a queue of {@link #DEFAULT_QUEUE_SIZE} tasks unless
+ * tilda.config.json has a section such as
+ * <PRE>"async": { "threads": 16, "queue": 1000 }</PRE>
+ * When the queue is full, the returned future fails with a {@link RejectedExecutionException} rather than piling up
+ * work. Tasks run on other threads, so they are not accounted for in the caller's
+ * {@link tilda.performance.PerfContext}.
+ */
+public abstract class AsyncQueries
+  {
+    protected static final Logger LOG                = LogManager.getLogger(AsyncQueries.class.getName());
+
+    public static final int       DEFAULT_THREADS    = 16;
+    public static final int       DEFAULT_QUEUE_SIZE = 1000;
+
+    /**
+     * Work to be done with a connection. The connection is committed if the work completes normally and writes were
+     * allowed, rolled back otherwise, and closed in all cases: the work must not keep it or close it.
+     */
+    @FunctionalInterface
+    public static interface Work<T>
+      {
+        public T run(Connection C)
+        throws Exception;
+      }
+
+    protected static ThreadPoolExecutor _Executor;
+
+    /**
+     * Sets the size of the thread pool and of its queue. Can only be called before any async work is submitted.
+     */
+    public static synchronized void configure(int Threads, int QueueSize)
+    throws Exception
+      {
+        if (_Executor != null)
+          throw new Exception("The async query executor is already running: it can no longer be configured.");
+        LOG.info("Starting the async query executor with " + Threads + " threads and a queue of " + QueueSize + " tasks.");
+        AtomicInteger Count = new AtomicInteger();
+        _Executor = new ThreadPoolExecutor(Threads, Threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(QueueSize), R -> {
+          Thread T = new Thread(R, "Tilda-Async-" + Count.incrementAndGet());
+          T.setDaemon(true);
+          return T;
+        });
+        _Executor.allowCoreThreadTimeOut(true);
+      }
+
+    protected static synchronized ThreadPoolExecutor getExecutor()
+      {
+        if (_Executor == null)
+          try
+            {
+              configure(DEFAULT_THREADS, DEFAULT_QUEUE_SIZE);
+            }
+          catch (Exception E) // Cannot happen: the executor was null.
+            {
+              throw new Error(E);
+            }
+        return _Executor;
+      }
+
+    /**
+     * Runs W with a read-only connection from {@link ConnectionPool#getReadOnly(String)}, i.e., from a replica of PoolId
+     * if it has any.
+     */
+    public static <T> CompletableFuture<T> read(String PoolId, Work<T> W)
+      {
+        return submit(PoolId, false, W);
+      }
+
+    /**
+     * Runs W with a connection from {@link ConnectionPool#get(String)}, committed if W completes normally.
+     */
+    public static <T> CompletableFuture<T> write(String PoolId, Work<T> W)
+      {
+        return submit(PoolId, true, W);
+      }
+
+    protected static <T> CompletableFuture<T> submit(String PoolId, boolean Write, Work<T> W)
+      {
+        CompletableFuture<T> F = new CompletableFuture<T>();
+        try
+          {
+            getExecutor().execute(() -> run(PoolId, Write, W, F));
+          }
+        catch (RejectedExecutionException E)
+          {
+            LOG.warn("The async query executor is saturated: rejecting work for " + PoolId + ".");
+            F.completeExceptionally(E);
+          }
+        return F;
+      }
+
+    protected static <T> void run(String PoolId, boolean Write, Work<T> W, CompletableFuture<T> F)
+      {
+        if (F.isDone() == true) // Cancelled while queued
+          return;
+        Connection C = null;
+        try
+          {
+            C = Write == true ? ConnectionPool.get(PoolId) : ConnectionPool.getReadOnly(PoolId);
+            T Result = W.run(C);
+            if (Write == true)
+              C.commit();
+            else
+              C.rollback();
+            F.complete(Result);
+          }
+        catch (Throwable T)
+          {
+            if (C != null)
+              try
+                {
+                  C.rollback();
+                }
+              catch (Throwable X)
+                {
+                  LOG.error("Cannot roll back an async query's connection.", X);
+                }
+            F.completeExceptionally(T);
+          }
+        finally
+          {
+            if (C != null)
+              try
+                {
+                  C.close();
+                }
+              catch (Throwable X)
+                {
+                  LOG.error("Cannot close an async query's connection.", X);
+                }
+          }
+      }
+
+    /**
+     * Waits for all the futures to complete, at most TimeoutMillis in total. As soon as one of them fails, that failure
+     * is thrown, unwrapped, without waiting for the others, which are cancelled if still pending. On a timeout, the
+     * pending futures are cancelled and the TimeoutException is thrown.
+     */
+    public static void join(long TimeoutMillis, CompletableFuture<?>... Futures)
+    throws Exception
+      {
+        // allOf() only completes once every future has, so the first failure also completes this one to return early.
+        CompletableFuture<Object> FirstFailure = new CompletableFuture<Object>();
+        for (CompletableFuture<?> F : Futures)
+          F.whenComplete((R, X) -> {
+            if (X != null)
+              FirstFailure.completeExceptionally(X instanceof CompletionException && X.getCause() != null ? X.getCause() : X);
+          });
+        try
+          {
+            CompletableFuture.anyOf(FirstFailure, CompletableFuture.allOf(Futures)).get(TimeoutMillis, TimeUnit.MILLISECONDS);
+          }
+        catch (ExecutionException E)
+          {
+            cancel(Futures);
+            Throwable T = E.getCause();
+            if (T instanceof CompletionException && T.getCause() != null)
+              T = T.getCause();
+            throw T instanceof Exception ? (Exception) T : E;
+          }
+        catch (TimeoutException | InterruptedException E)
+          {
+            cancel(Futures);
+            throw E;
+          }
+      }
+
+    /**
+     * Same as {@link #join(long, CompletableFuture...)}, returning the results in the order of the futures.
+     */
+    public static <T> List<T> join(long TimeoutMillis, List<CompletableFuture<T>> Futures)
+    throws Exception
+      {
+        join(TimeoutMillis, Futures.toArray(new CompletableFuture<?>[Futures.size()]));
+        List<T> L = new ArrayList<T>(Futures.size());
+        for (CompletableFuture<T> F : Futures)
+          L.add(F.get());
+        return L;
+      }
+
+    protected static void cancel(CompletableFuture<?>[] Futures)
+      {
+        for (CompletableFuture<?> F : Futures)
+          F.cancel(false);
+      }
+  }
@@ -0,0 +1,59 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+/**
+ * A row-oriented bulk loader as returned by {@link Connection#newBulkWriter(String, String, String)}. Values must be
+ * added in the order of the column list the writer was created with, and each row must be terminated with
+ * {@link #endRow()}. Generated factories feed it through their CopyIn() method.
+ */
+public interface BulkWriter
+  {
+    public void add(String V) throws Exception;
+    public void add(char V) throws Exception;
+    public void add(int V) throws Exception;
+    public void add(long V) throws Exception;
+    public void add(float V) throws Exception;
+    public void add(double V) throws Exception;
+    public void add(boolean V) throws Exception;
+    /**
+     * Adds a timestamp. {@link tilda.utils.DateTimeUtil#NOW_PLACEHOLDER_ZDT} is written as the database's current
+     * timestamp.
+     */
+    public void add(ZonedDateTime V) throws Exception;
+    public void add(byte[] V) throws Exception;
+    public void add(Collection<?> V) throws Exception;
+    public void addNow() throws Exception;
+    public void addNull() throws Exception;
+
+    public void endRow() throws Exception;
+
+    /**
+     * Sends any buffered rows and completes the load.
+     *
+     * @return the number of rows loaded.
+     */
+    public long finish() throws Exception;
+
+    /**
+     * Aborts the load. Nothing sent so far is kept.
+     */
+    public void cancel() throws Exception;
+  }
@@ -24,6 +24,7 @@ import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.List;
@@ -59,7 +60,8 @@ public final class Connection
       throws Exception, SQLException
       {
         _C = C;
-        _Url = _C.getMetaData().getURL();
+        DatabaseMetaData MD = _C.getMetaData();
+        _Url = MD.getURL();
         // LDH-NOTE: YEAH YEAH.... This is ugly!!! Need a virtual constructor pattern here.
         _DB = _Url.startsWith("jdbc:postgresql:") ? DBType.Postgres
         : _Url.startsWith("jdbc:sqlserver:") ? DBType.SQLServer
@@ -67,6 +69,7 @@ public final class Connection
         : null;
         if (_DB == null)
           throw new Exception("Can't find the DBType based on URL " + _Url);
+        _SupportsUpsert = _DB.supportsUpsert(MD.getDatabaseMajorVersion(), MD.getDatabaseMinorVersion());
         _PoolId = _C.toString();
       }
 
@@ -74,14 +77,37 @@ public final class Connection
       throws Exception, SQLException
       {
         this(C);
+        _PoolName = PoolId;
         _PoolId = PoolId + " ---- (#" + _PoolId + ")";
       }
 
+    public Connection(java.sql.Connection C, String PoolId, int StatementCacheSize)
+      throws Exception, SQLException
+      {
+        this(C, PoolId);
+        _StatementCache = new PreparedStatementCache(StatementCacheSize);
+      }
+
+    public static final int       DEFAULT_STATEMENT_CACHE_SIZE = 32;
+    public static final int       DEFAULT_BATCH_SIZE           = 1000;
+    public static final int       DEFAULT_LOOKUP_CHUNK_SIZE    = 500;
+    public static final int       DEFAULT_FETCH_SIZE           = 1000;
+    public static final int       MAX_AFTER_COMMIT             = 10000;
 
     protected String              _PoolId;
+    protected String              _PoolName;
     protected java.sql.Connection _C;
     protected DBType              _DB;
     protected String              _Url;
+    protected boolean             _SupportsUpsert;
+    protected PreparedStatementCache _StatementCache = new PreparedStatementCache(DEFAULT_STATEMENT_CACHE_SIZE);
+    protected int                 _FetchSize = DEFAULT_FETCH_SIZE;
+    protected PoolStats           _PoolStats;
+    protected long                _AcquiredNano;
+    protected volatile Throwable  _AcquiredBy;
+    protected volatile boolean    _LeakReported;
+    protected List<Runnable>      _AfterCommit;
+    protected List<Runnable>      _OnCommit;
 
     public final String getURL()
       {
@@ -103,9 +129,13 @@ public final class Connection
     public final void commit()
     throws SQLException
       {
+        List<Runnable> OnCommit = _OnCommit;
+        List<Runnable> AfterCommit = _AfterCommit;
+        _OnCommit = null;
+        _AfterCommit = null;
         try
           {
-            LOG.info("---------- " + AnsiUtil.NEGATIVE + "C O M M I T" + AnsiUtil.NEGATIVE_OFF + " ----------------------------------- " + _PoolId + " ------------------------------");
+            LifecycleLog.connection(LifecycleEvent.Type.COMMIT, _PoolId);
             long T0 = System.nanoTime();
             _C.commit();
             _SavePoints.clear();
@@ -117,8 +147,67 @@ public final class Connection
             LOG.catching(E);
             LOG.error(SystemValues.NEWLINEx2);
             _SavePoints.clear();
+            runAll(OnCommit); // The transaction may have committed anyway.
             throw E;
           }
+        runAll(OnCommit);
+        runAll(AfterCommit);
+      }
+
+    /**
+     * Runs R once the current transaction commits, or right away if this connection is in autocommit mode. R is
+     * dropped if the transaction is rolled back, fully or to a savepoint, if the connection is closed first, or if
+     * {@link #MAX_AFTER_COMMIT} actions are already pending. It must therefore only be an optimization, e.g., putting
+     * objects read by the transaction in a cache shared by all threads: what a transaction reads after writing may
+     * never exist for anyone else if it doesn't commit.
+     */
+    public void afterCommit(Runnable R)
+    throws SQLException
+      {
+        if (_C.getAutoCommit() == true)
+          {
+            R.run();
+            return;
+          }
+        if (_AfterCommit == null)
+          _AfterCommit = new ArrayList<Runnable>();
+        if (_AfterCommit.size() < MAX_AFTER_COMMIT)
+          _AfterCommit.add(R);
+      }
+
+    /**
+     * Runs R once the current transaction commits (or fails to), or right away if this connection is in autocommit
+     * mode. Unlike with {@link #afterCommit(Runnable)}, R is kept if the transaction is rolled back to a savepoint,
+     * and there is no limit to how many such actions can be pending. It is used to evict from shared caches the
+     * objects written by the transaction once others can see the changes: evicting them at write time only is not
+     * enough, as other threads may cache the values they still read until the commit.
+     */
+    public void onCommit(Runnable R)
+    throws SQLException
+      {
+        if (_C.getAutoCommit() == true)
+          {
+            R.run();
+            return;
+          }
+        if (_OnCommit == null)
+          _OnCommit = new ArrayList<Runnable>();
+        _OnCommit.add(R);
+      }
+
+    protected static void runAll(List<Runnable> L)
+      {
+        if (L == null)
+          return;
+        for (Runnable R : L)
+          try
+            {
+              R.run();
+            }
+          catch (Throwable T)
+            {
+              LOG.error("An action to run after a commit failed.", T);
+            }
       }
 
     /**
@@ -131,8 +220,10 @@ public final class Connection
       {
         try
           {
-            LOG.info("---------- " + AnsiUtil.NEGATIVE + "R O L L B A C K" + AnsiUtil.NEGATIVE_OFF + " ------------------------------- " + _PoolId + " ------------------------------");
+            LifecycleLog.connection(LifecycleEvent.Type.ROLLBACK, _PoolId);
             long T0 = System.nanoTime();
+            _AfterCommit = null;
+            _OnCommit = null;
             _C.rollback();
             _SavePoints.clear();
             PerfTracker.add(TransactionType.ROLLBACK, System.nanoTime() - T0);
@@ -174,15 +265,17 @@ public final class Connection
       {
         try
           {
-            if (_C.toString() == _PoolId)
-              LOG.info("---------- C L O S I N G   C O N N E C T I O N ------- " + _PoolId + " ----------");
-            else
-              LOG.info("---------- R E T U R N I N G   C O N N E C T I O N ------- " + _PoolId + " ----------");
+            LifecycleLog.connection(_C.toString() == _PoolId ? LifecycleEvent.Type.CONNECTION_CLOSE : LifecycleEvent.Type.CONNECTION_RETURN, _PoolId);
+            _StatementCache.clear();
+            _AfterCommit = null;
+            _OnCommit = null;
             long T0 = System.nanoTime();
             _C.close();
             _SavePoints.clear();
             PerfTracker.add(TransactionType.CONNECTION_CLOSE, System.nanoTime() - T0);
             _C = null;
+            if (_PoolStats != null)
+              _PoolStats.released(this);
           }
         catch (SQLException E)
           {
@@ -190,7 +283,12 @@ public final class Connection
             LOG.catching(E);
             LOG.error(SystemValues.NEWLINEx2);
             _SavePoints.clear();
+            _StatementCache.clear();
+            _AfterCommit = null;
+            _OnCommit = null;
             _C = null;
+            if (_PoolStats != null)
+              _PoolStats.released(this);
             throw E;
           }
       }
@@ -240,6 +338,57 @@ public final class Connection
         return _C.prepareStatement(Q);
       }
 
+    /**
+     * Gets a prepared statement for Q from this connection's statement cache, preparing it only if there is no idle
+     * one already. The statement must be handed back with {@link #releaseStatement(PreparedStatement)} instead of
+     * being closed. The cache is cleared when the connection is closed (i.e., returned to the pool).
+     * 
+     * @return
+     * @throws SQLException
+     */
+    public PreparedStatement borrowStatement(String Q)
+    throws SQLException
+      {
+        return _StatementCache.borrow(_C, Q);
+      }
+
+    /**
+     * Gives back a statement obtained through {@link #borrowStatement(String)} for reuse. Any other statement is
+     * simply closed.
+     * 
+     * @throws SQLException
+     */
+    public void releaseStatement(PreparedStatement PS)
+    throws SQLException
+      {
+        if (PS != null)
+          _StatementCache.release(PS);
+      }
+
+    /**
+     * @return the number of rows at a time that streaming queries (ObjectProcessor lookups, SelectQuery.execute())
+     *         fetch from the server.
+     */
+    public int getFetchSize()
+      {
+        return _FetchSize;
+      }
+
+    public void setFetchSize(int FetchSize)
+      {
+        _FetchSize = FetchSize;
+      }
+
+    /**
+     * Sets S up to stream its results FetchSize rows at a time, see
+     * {@link JDBCHelper#setStreaming(java.sql.Connection, Statement, int)}.
+     */
+    public void setStreaming(Statement S, int FetchSize)
+    throws SQLException
+      {
+        JDBCHelper.setStreaming(this, S, FetchSize);
+      }
+
     public boolean isErrNoData(String SQLState, int ErrorCode)
     throws SQLException
       {
@@ -275,7 +424,7 @@ public final class Connection
     public int ExecuteSelect(String SchemaName, String TableName, String Query, RecordProcessor RP)
     throws Exception
       {
-        return JDBCHelper.ExecuteSelect(_C, SchemaName, TableName, Query, RP);
+        return JDBCHelper.ExecuteSelect(this, SchemaName, TableName, Query, RP);
       }
 
     /**
@@ -292,7 +441,25 @@ public final class Connection
     public int ExecuteSelect(String SchemaName, String TableName, String Query, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll)
     throws Exception
       {
-        return JDBCHelper.ExecuteSelect(_C, SchemaName, TableName, Query, RP, Start, Offsetted, Size, Limited, CountAll);
+        return JDBCHelper.ExecuteSelect(this, SchemaName, TableName, Query, RP, Start, Offsetted, Size, Limited, CountAll);
+      }
+
+    /**
+     * Executes a parameterized query with a record processor, starting at Start (0 is beginning), and for Size records.
+     */
+    public int ExecuteSelect(String SchemaName, String TableName, String Query, QueryParams Params, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll)
+    throws Exception
+      {
+        return JDBCHelper.ExecuteSelect(this, SchemaName, TableName, Query, Params, RP, Start, Offsetted, Size, Limited, CountAll);
+      }
+
+    /**
+     * Same as above, but streams the results FetchSize rows at a time if FetchSize is greater than 0.
+     */
+    public int ExecuteSelect(String SchemaName, String TableName, String Query, QueryParams Params, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll, int FetchSize)
+    throws Exception
+      {
+        return JDBCHelper.ExecuteSelect(this, SchemaName, TableName, Query, Params, RP, Start, Offsetted, Size, Limited, CountAll, FetchSize);
       }
 
     
@@ -304,13 +471,48 @@ public final class Connection
         // LOG.debug("TILDA("+AnsiUtil.NEGATIVE + TableName + AnsiUtil.NEGATIVE_OFF+") Original query: " + Query);
         // Query = TextUtil.SearchReplace(Query, TableName+".", "");
         // }
-        return JDBCHelper.ExecuteUpdate(_C, SchemaName, TableName, Query);
+        return JDBCHelper.ExecuteUpdate(this, SchemaName, TableName, Query);
+      }
+    
+    public int ExecuteUpdate(String SchemaName, String TableName, String Query, QueryParams Params)
+    throws Exception
+      {
+        return JDBCHelper.ExecuteUpdate(this, SchemaName, TableName, Query, Params);
       }
     
+    /**
+     * Same as {@link #ExecuteSelect(String, String, String, QueryParams, RecordProcessor, int, boolean, int, boolean, boolean)},
+     * but runs asynchronously on a read-only connection of this connection's pool, borrowed by {@link AsyncQueries}.
+     * RP is called from another thread.
+     */
+    public java.util.concurrent.CompletableFuture<Integer> ExecuteSelectAsync(String SchemaName, String TableName, String Query, QueryParams Params, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll)
+    throws Exception
+      {
+        return AsyncQueries.read(getAsyncPoolName(), C -> C.ExecuteSelect(SchemaName, TableName, Query, Params, RP, Start, Offsetted, Size, Limited, CountAll));
+      }
+
+    /**
+     * Same as {@link #ExecuteUpdate(String, String, String, QueryParams)}, but runs asynchronously, in its own
+     * transaction, on another connection of this connection's pool, borrowed by {@link AsyncQueries}.
+     */
+    public java.util.concurrent.CompletableFuture<Integer> ExecuteUpdateAsync(String SchemaName, String TableName, String Query, QueryParams Params)
+    throws Exception
+      {
+        return AsyncQueries.write(getAsyncPoolName(), C -> C.ExecuteUpdate(SchemaName, TableName, Query, Params));
+      }
+
+    protected String getAsyncPoolName()
+    throws Exception
+      {
+        if (_PoolName == null)
+          throw new Exception("Async queries need a connection from a ConnectionPool, to borrow other connections from the same pool.");
+        return _PoolName;
+      }
+
     public void ExecuteDDL(String SchemaName, String TableName, String Query)
     throws Exception
       {
-        JDBCHelper.ExecuteDDL(_C, SchemaName, TableName, Query);
+        JDBCHelper.ExecuteDDL(this, SchemaName, TableName, Query);
       }
 
     public Array createArrayOf(String TypeName, java.lang.Object[] A)
@@ -345,6 +547,7 @@ public final class Connection
           }
         else
           {
+            _AfterCommit = null; // Can't tell which actions came after the savepoint.
             _C.rollback(_SavePoints.pop());
             PerfTracker.add(TransactionType.SAVEPOINT_ROLLBACK, System.nanoTime() - T0);
           }
@@ -447,6 +650,27 @@ public final class Connection
         return _DB.supportsArrays();
       }
 
+    public boolean supportsBulkLoad()
+      {
+        return _DB.supportsBulkLoad();
+      }
+
+    public boolean supportsUpsert()
+      {
+        return _SupportsUpsert;
+      }
+
+    public boolean supportsCountOver()
+      {
+        return _DB.supportsCountOver();
+      }
+
+    public String getUpsertQuery(String SchemaName, String TableName, List<String> Columns, List<String> Values, List<String> KeyColumns,
+                                 List<String> UpdateColumns, List<String> InvariantColumns, List<String> ReturnColumns)
+      {
+        return _DB.getUpsertQuery(this, SchemaName, TableName, Columns, Values, KeyColumns, UpdateColumns, InvariantColumns, ReturnColumns);
+      }
+
     public java.lang.Object getEqualCurrentTimestamp()
       {
         return "="+_DB.getCurrentTimestampStr();
@@ -496,6 +720,47 @@ public final class Connection
       {
         _DB.truncateTable(this, SchemaName, TableName);
       }
+
+    /**
+     * Starts a bulk load into the given columns of a table (e.g., a COPY on Postgres). Only available if
+     * {@link #supportsBulkLoad()} is true.
+     */
+    public BulkWriter newBulkWriter(String SchemaName, String TableName, String Columns) throws Exception
+      {
+        return _DB.newBulkWriter(this, SchemaName, TableName, Columns);
+      }
+
+    /**
+     * @return the id of the {@link ConnectionPool} this connection was obtained from, or null.
+     */
+    public String getPoolName()
+      {
+        return _PoolName;
+      }
+
+    /**
+     * See {@link DBType#getExplainPlan(Connection, String, QueryParams)}.
+     */
+    public String getExplainPlan(String Query) throws Exception
+      {
+        return _DB.getExplainPlan(this, Query, null);
+      }
+
+    /**
+     * See {@link DBType#getExplainPlan(Connection, String, QueryParams)}.
+     */
+    public String getExplainPlan(String Query, QueryParams Params) throws Exception
+      {
+        return _DB.getExplainPlan(this, Query, Params);
+      }
+
+    /**
+     * Gives access to the driver's own connection class, for driver-specific APIs such as Postgres' CopyManager.
+     */
+    public <T> T unwrap(Class<T> Iface) throws SQLException
+      {
+        return _C.unwrap(Iface);
+      }
   }
 
 
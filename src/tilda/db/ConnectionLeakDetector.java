@@ -0,0 +1,127 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.utils.DurationUtil;
+
+/**
+ * Reports connections from a {@link ConnectionPool} held longer than a threshold, with the stack trace of the code
+ * that got them, which is usually where the missing close() is. When enabled, each get captures a stack trace, and a
+ * daemon thread checks the borrowed connections every threshold/4 (at least every second). Each connection is
+ * reported once, and again at the INFO level if it is eventually returned.<BR>
+ * <BR>
+ * It is started by {@link ConnectionPool} when tilda.config.json has a section such as
+ * <PRE>"leakDetection": { "thresholdMillis": 120000 }</PRE>
+ */
+public abstract class ConnectionLeakDetector
+  {
+    protected static final Logger LOG = LogManager.getLogger(ConnectionLeakDetector.class.getName());
+
+    protected static final Set<Connection>    _Borrowed      = ConcurrentHashMap.newKeySet();
+    protected static volatile long            _ThresholdNano = -1;
+    protected static ScheduledExecutorService _Executor;
+
+    /**
+     * Starts checking for connections held longer than ThresholdMillis. Does nothing if already started or if
+     * ThresholdMillis is not positive.
+     */
+    public static synchronized void start(long ThresholdMillis)
+      {
+        if (_Executor != null || ThresholdMillis <= 0)
+          return;
+        LOG.info("Starting the connection leak detector: connections held for more than " + ThresholdMillis + "ms will be reported.");
+        long PeriodMillis = Math.max(1000, ThresholdMillis / 4);
+        _ThresholdNano = ThresholdMillis * DurationUtil.NANOSECS_PER_MILLISECOND;
+        _Executor = Executors.newSingleThreadScheduledExecutor(R -> {
+          Thread T = new Thread(R, "Tilda-ConnectionLeakDetector");
+          T.setDaemon(true);
+          return T;
+        });
+        _Executor.scheduleWithFixedDelay(ConnectionLeakDetector::check, PeriodMillis, PeriodMillis, TimeUnit.MILLISECONDS);
+      }
+
+    public static synchronized void stop()
+      {
+        if (_Executor == null)
+          return;
+        _ThresholdNano = -1;
+        _Executor.shutdownNow();
+        _Executor = null;
+        _Borrowed.clear();
+      }
+
+    protected static void acquired(Connection C)
+      {
+        if (_ThresholdNano <= 0)
+          return;
+        C._AcquiredBy = new Throwable("Connection " + C._PoolId + " was obtained by thread '" + Thread.currentThread().getName() + "'");
+        _Borrowed.add(C);
+      }
+
+    protected static void released(Connection C, long HoldNano)
+      {
+        if (C._AcquiredBy == null)
+          return;
+        _Borrowed.remove(C);
+        if (C._LeakReported == true)
+          LOG.info("Connection " + C._PoolId + " previously reported as leaked was returned after " + DurationUtil.PrintDuration(HoldNano) + ".");
+        C._AcquiredBy = null;
+      }
+
+    /**
+     * @return the number of connections currently borrowed, as tracked by the detector (0 if it is not started).
+     */
+    public static int getBorrowedCount()
+      {
+        return _Borrowed.size();
+      }
+
+    protected static void check()
+      {
+        try
+          {
+            long ThresholdNano = _ThresholdNano;
+            long Now = System.nanoTime();
+            for (Connection C : _Borrowed)
+              {
+                long HoldNano = Now - C._AcquiredNano;
+                if (C._LeakReported == true || HoldNano < ThresholdNano)
+                  continue;
+                Throwable AcquiredBy = C._AcquiredBy;
+                if (AcquiredBy == null) // Released concurrently
+                  continue;
+                C._LeakReported = true;
+                if (C._PoolStats != null)
+                  C._PoolStats._Leaked.increment();
+                LOG.warn("Possible connection leak: connection " + C._PoolId + " has been held for " + DurationUtil.PrintDuration(HoldNano) + ". It was obtained at:", AcquiredBy);
+              }
+          }
+        catch (Throwable T)
+          {
+            LOG.error("The connection leak detector failed.", T);
+          }
+      }
+  }
@@ -26,16 +26,19 @@ import java.lang.reflect.Method;
 import java.net.URL;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
-import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -46,7 +49,9 @@ import com.google.gson.annotations.SerializedName;
 import tilda.enums.TransactionType;
 import tilda.migration.Migrator;
 import tilda.parsing.parts.Schema;
+import tilda.performance.PerfFlusher;
 import tilda.performance.PerfTracker;
+import tilda.performance.SlowQueryLog;
 import tilda.utils.ClassStaticInit;
 import tilda.utils.FileUtil;
 import tilda.utils.SystemValues;
@@ -65,6 +70,10 @@ public class ConnectionPool
        @SerializedName("connections"   ) public Conn  []  _Conns       = new Conn[0];
        @SerializedName("email"         ) public EmailConfig  _EmailConfig;
        @SerializedName("auto-migration") public boolean _AutoMigrate = false;
+       @SerializedName("perfFlusher"   ) public PerfFlusherConfig _PerfFlusher;
+       @SerializedName("slowQueries"   ) public SlowQueriesConfig _SlowQueries;
+       @SerializedName("leakDetection" ) public LeakDetectionConfig _LeakDetection;
+       @SerializedName("async"         ) public AsyncConfig _Async;
        /*@formatter:on*/
 
         public boolean validate()
@@ -93,6 +102,13 @@ public class ConnectionPool
                     LOG.error("Connection id=" + C._Id + " didn't define a DB connection string!");
                     OK = false;
                   }
+                if (C._Replicas != null)
+                  for (ReplicaConn R : C._Replicas)
+                    if (R == null || TextUtil.isNullOrEmpty(R._DB) == true)
+                      {
+                        LOG.error("Connection id=" + C._Id + " defines a replica without a DB connection string!");
+                        OK = false;
+                      }
               }
             return OK;
           }
@@ -107,6 +123,38 @@ public class ConnectionPool
         /*@formatter:on*/
       }
 
+    private static class PerfFlusherConfig
+      {
+        /*@formatter:off*/
+        @SerializedName("connection") public String _Id     = null;
+        @SerializedName("period"    ) public int    _Period = PerfFlusher.DEFAULT_PERIOD_SECONDS;
+        /*@formatter:on*/
+      }
+
+    private static class SlowQueriesConfig
+      {
+        /*@formatter:off*/
+        @SerializedName("thresholdMillis") public long    _ThresholdMillis = -1;
+        @SerializedName("bufferSize"     ) public int     _BufferSize      = SlowQueryLog.DEFAULT_BUFFER_SIZE;
+        @SerializedName("explain"        ) public boolean _Explain         = false;
+        /*@formatter:on*/
+      }
+
+    private static class LeakDetectionConfig
+      {
+        /*@formatter:off*/
+        @SerializedName("thresholdMillis") public long _ThresholdMillis = -1;
+        /*@formatter:on*/
+      }
+
+    private static class AsyncConfig
+      {
+        /*@formatter:off*/
+        @SerializedName("threads") public int _Threads = AsyncQueries.DEFAULT_THREADS;
+        @SerializedName("queue"  ) public int _Queue   = AsyncQueries.DEFAULT_QUEUE_SIZE;
+        /*@formatter:on*/
+      }
+
     private static class Conn
       {
       /*@formatter:off*/
@@ -117,9 +165,49 @@ public class ConnectionPool
       @SerializedName("pswd"   ) public String _Pswd    = null;
       @SerializedName("initial") public int    _Initial =  3;
       @SerializedName("max"    ) public int    _Max     = 30;
+      @SerializedName("statementCache") public int _StatementCache = Connection.DEFAULT_STATEMENT_CACHE_SIZE;
+      @SerializedName("fetchSize"     ) public int _FetchSize      = Connection.DEFAULT_FETCH_SIZE;
+      @SerializedName("replicas"      ) public ReplicaConn[] _Replicas = new ReplicaConn[0];
       /*@formatter:on*/
       }
 
+    /**
+     * A read replica of a {@link Conn}. The user, password, and sizes default to those of the primary.
+     */
+    private static class ReplicaConn
+      {
+      /*@formatter:off*/
+      @SerializedName("db"     ) public String _DB      = null;
+      @SerializedName("user"   ) public String _User    = null;
+      @SerializedName("pswd"   ) public String _Pswd    = null;
+      @SerializedName("initial") public int    _Initial = -1;
+      @SerializedName("max"    ) public int    _Max     = -1;
+      /*@formatter:on*/
+      }
+
+    /**
+     * The runtime state of a read replica pool: it is skipped for {@link #REPLICA_RETRY_MILLIS} after a failure to
+     * connect to it or to validate one of its connections.
+     */
+    protected static class Replica
+      {
+        protected Replica(String Id, TildaDataSource DS)
+          {
+            _Id = Id;
+            _DS = DS;
+          }
+
+        protected final String          _Id;
+        protected final TildaDataSource _DS;
+        protected volatile long         _DownUntilNano = 0;
+
+        protected boolean isHealthy(long Now)
+          {
+            long DownUntil = _DownUntilNano;
+            return DownUntil == 0 || Now - DownUntil >= 0;
+          }
+      }
+
     private static class Bootstrappers
       {
         /*@formatter:off*/
@@ -130,9 +218,19 @@ public class ConnectionPool
 
     static final Logger                           LOG               = LogManager.getLogger(ConnectionPool.class.getName());
 
-    protected static Map<String, BasicDataSource> _DataSourcesById  = new HashMap<String, BasicDataSource>();
-    protected static Map<String, BasicDataSource> _DataSourcesBySig = new HashMap<String, BasicDataSource>();
+    protected static Map<String, TildaDataSource> _DataSourcesById  = new HashMap<String, TildaDataSource>();
+    protected static Map<String, TildaDataSource> _DataSourcesBySig = new HashMap<String, TildaDataSource>();
     protected static Map<String, String>          _SchemaPackage    = new HashMap<String, String>();
+    protected static Map<String, Integer>         _StatementCacheSizesById = new HashMap<String, Integer>();
+    protected static Map<String, Integer>         _FetchSizesById   = new HashMap<String, Integer>();
+    protected static Map<String, PoolStats>       _PoolStatsById    = new HashMap<String, PoolStats>();
+    /**
+     * Written under the _DataSourcesById lock when replicas are added, but read without any lock by getReadOnly().
+     */
+    protected static Map<String, Replica[]>       _ReplicasById     = new ConcurrentHashMap<String, Replica[]>();
+
+    public static final String REPLICA_ID_SEPARATOR = "/R";
+    public static final long   REPLICA_RETRY_MILLIS = 30000;
 
     public static void autoInit()
       {
@@ -169,11 +267,33 @@ public class ConnectionPool
             if (Defs.validate() == true)
               {
                 for (Conn Co : Defs._Conns)
-                  init(Co._Id, Co._Driver, Co._DB, Co._User, Co._Pswd, Co._Initial, Co._Max);
+                  {
+                    init(Co._Id, Co._Driver, Co._DB, Co._User, Co._Pswd, Co._Initial, Co._Max, Co._StatementCache, Co._FetchSize);
+                    if (Co._Replicas != null)
+                      for (ReplicaConn RC : Co._Replicas)
+                        addReplica(Co._Id, RC._DB, RC._User != null ? RC._User : Co._User, RC._Pswd != null ? RC._Pswd : Co._Pswd
+                                  , RC._Initial >= 0 ? RC._Initial : Co._Initial, RC._Max > 0 ? RC._Max : Co._Max);
+                  }
               }
 
+            if (Defs._Async != null)
+              AsyncQueries.configure(Defs._Async._Threads, Defs._Async._Queue);
+
+            if (Defs._LeakDetection != null)
+              ConnectionLeakDetector.start(Defs._LeakDetection._ThresholdMillis);
+
+            if (Defs._SlowQueries != null)
+              SlowQueryLog.configure(Defs._SlowQueries._ThresholdMillis, Defs._SlowQueries._BufferSize, Defs._SlowQueries._Explain);
+
             C = get("MAIN");
             LoadTildaResources(C, Defs._AutoMigrate);
+
+            if (Defs._PerfFlusher != null)
+              {
+                if (_DataSourcesById.get(Defs._PerfFlusher._Id) == null)
+                  throw new Exception("The performance flusher is configured with connection '" + Defs._PerfFlusher._Id + "' which is not defined.");
+                PerfFlusher.start(Defs._PerfFlusher._Id, Defs._PerfFlusher._Period);
+              }
           }
         catch (Throwable T)
           {
@@ -311,18 +431,42 @@ public class ConnectionPool
       }
 
     public static void init(String Id, String Driver, String DB, String User, String Pswd, int InitialSize, int MaxSize)
+      {
+        init(Id, Driver, DB, User, Pswd, InitialSize, MaxSize, Connection.DEFAULT_STATEMENT_CACHE_SIZE);
+      }
+
+    /**
+     * @param StatementCacheSize the maximum number of idle prepared statements each connection from this pool keeps
+     *        for reuse while it's checked out. 0 disables the cache.
+     */
+    public static void init(String Id, String Driver, String DB, String User, String Pswd, int InitialSize, int MaxSize, int StatementCacheSize)
+      {
+        init(Id, Driver, DB, User, Pswd, InitialSize, MaxSize, StatementCacheSize, Connection.DEFAULT_FETCH_SIZE);
+      }
+
+    /**
+     * @param FetchSize the number of rows at a time that connections from this pool fetch from the server when
+     *        streaming results to an ObjectProcessor or RecordProcessor. Postgres only honors it outside of
+     *        autocommit, which is the pool's default.
+     */
+    public static void init(String Id, String Driver, String DB, String User, String Pswd, int InitialSize, int MaxSize, int StatementCacheSize, int FetchSize)
+      {
+        init(Id, Driver, DB, User, Pswd, InitialSize, MaxSize, StatementCacheSize, FetchSize, false);
+      }
+
+    protected static void init(String Id, String Driver, String DB, String User, String Pswd, int InitialSize, int MaxSize, int StatementCacheSize, int FetchSize, boolean ReadOnly)
       {
         if (_DataSourcesById.get(Id) == null)
           synchronized (_DataSourcesById)
             {
               if (_DataSourcesById.get(Id) == null) // Definitely no connection pool by that name
                 {
-                  String Sig = DB + "``" + User;
-                  BasicDataSource BDS = _DataSourcesBySig.get(Sig); // Let's see if that DB definition is already there
+                  String Sig = DB + "``" + User + (ReadOnly == true ? "``RO" : "");
+                  TildaDataSource BDS = _DataSourcesBySig.get(Sig); // Let's see if that DB definition is already there
                   if (BDS == null)
                     {
                       LOG.info("Initializing a fresh pool for Id=" + Id + ", DB=" + DB + ", User=" + User + ", and Pswd=Shhhhhhh!");
-                      BDS = new BasicDataSource();
+                      BDS = new TildaDataSource();
                       BDS.setDriverClassName(Driver);
                       BDS.setUrl(DB);
                       if (TextUtil.isNullOrEmpty(Pswd) == false && TextUtil.isNullOrEmpty(User) == false)
@@ -335,6 +479,8 @@ public class ConnectionPool
                       BDS.setDefaultAutoCommit(false);
                       BDS.setDefaultTransactionIsolation(java.sql.Connection.TRANSACTION_READ_COMMITTED);
                       BDS.setDefaultQueryTimeout(20000);
+                      if (ReadOnly == true)
+                        BDS.setDefaultReadOnly(true);
                       _DataSourcesBySig.put(Sig, BDS);
                     }
                   else
@@ -347,24 +493,155 @@ public class ConnectionPool
 
                     }
                   _DataSourcesById.put(Id, BDS);
+                  _StatementCacheSizesById.put(Id, StatementCacheSize);
+                  _FetchSizesById.put(Id, FetchSize);
+                  _PoolStatsById.put(Id, new PoolStats(Id));
                 }
             }
       }
 
+    /**
+     * Adds a read replica to the pool Id, which must already be defined. Connections to the replica are read-only at
+     * the JDBC level and are obtained through {@link #getReadOnly(String)}. The replica pool itself is registered under
+     * the id Id + {@link #REPLICA_ID_SEPARATOR} + its rank, e.g., MAIN/R1, and shares the primary's driver, statement
+     * cache size and fetch size.
+     */
+    public static void addReplica(String Id, String DB, String User, String Pswd, int InitialSize, int MaxSize)
+      {
+        synchronized (_DataSourcesById)
+          {
+            TildaDataSource Primary = _DataSourcesById.get(Id);
+            if (Primary == null)
+              throw new IllegalArgumentException("Cannot add a replica to the undefined connection pool " + Id + ".");
+            Replica[] Replicas = _ReplicasById.get(Id);
+            int n = Replicas == null ? 0 : Replicas.length;
+            String ReplicaId = Id + REPLICA_ID_SEPARATOR + (n + 1);
+            init(ReplicaId, Primary.getDriverClassName(), DB, User, Pswd, InitialSize, MaxSize, _StatementCacheSizesById.get(Id), _FetchSizesById.get(Id), true);
+            Replica[] NewReplicas = Replicas == null ? new Replica[1] : Arrays.copyOf(Replicas, n + 1);
+            NewReplicas[n] = new Replica(ReplicaId, _DataSourcesById.get(ReplicaId));
+            _ReplicasById.put(Id, NewReplicas);
+          }
+      }
+
+    /**
+     * Gets a read-only connection for Id from the healthy read replica with the fewest connections in use. If Id has
+     * no replicas, or none can provide a connection, this falls back to {@link #get(String)}, i.e., to the primary. A
+     * replica that can't be connected to is skipped for {@link #REPLICA_RETRY_MILLIS}, but one whose connections are
+     * all in use is only skipped for this call: it is busy, not down.
+     */
+    public static Connection getReadOnly(String Id)
+    throws Exception
+      {
+        Replica[] Replicas = _ReplicasById.get(Id);
+        if (Replicas != null)
+          {
+            boolean[] Tried = new boolean[Replicas.length];
+            while (true)
+              {
+                long Now = System.nanoTime();
+                int Best = -1;
+                int BestActive = Integer.MAX_VALUE;
+                for (int i = 0; i < Replicas.length; ++i)
+                  if (Tried[i] == false && Replicas[i].isHealthy(Now) == true)
+                    {
+                      int Active = Replicas[i]._DS.getNumActive();
+                      if (Active < BestActive)
+                        {
+                          Best = i;
+                          BestActive = Active;
+                        }
+                    }
+                if (Best == -1)
+                  break;
+                Tried[Best] = true;
+                Replica R = Replicas[Best];
+                try
+                  {
+                    return get(R._Id);
+                  }
+                catch (SQLException E)
+                  {
+                    if (isPoolExhausted(E) == true)
+                      LOG.debug("All the connections of replica " + R._Id + " are in use: trying elsewhere.");
+                    else
+                      {
+                        LOG.warn("Cannot get a connection from replica " + R._Id + ": it will be skipped for " + REPLICA_RETRY_MILLIS + "ms.", E);
+                        R._DownUntilNano = System.nanoTime() + REPLICA_RETRY_MILLIS * 1000000L;
+                      }
+                  }
+              }
+            LOG.warn("No replica of " + Id + " is available: falling back to the primary.");
+          }
+        return get(Id);
+      }
+
+    /**
+     * @return true if E only means that all the connections of a pool were in use (the borrow timed out, or the pool
+     *         doesn't wait when exhausted), as opposed to a failure to connect or to validate a connection.
+     */
+    protected static boolean isPoolExhausted(SQLException E)
+      {
+        Throwable T = E.getCause();
+        if (T instanceof NoSuchElementException == false || T.getCause() != null)
+          return false;
+        String Msg = T.getMessage();
+        return Msg != null && (Msg.startsWith("Timeout waiting for idle object") == true || Msg.startsWith("Pool exhausted") == true);
+      }
+
     public static Connection get(String Id)
     throws Exception
       {
-        BasicDataSource BDS = _DataSourcesById.get(Id);
+        TildaDataSource BDS = _DataSourcesById.get(Id);
         if (BDS == null)
           throw new Exception("Cannot find a connection pool for " + Id);
+        PoolStats PS = _PoolStatsById.get(Id);
+        boolean Exhausted = BDS.getNumActive() >= BDS.getMaxTotal();
         long T0 = System.nanoTime();
-        java.sql.Connection C = BDS.getConnection();
-        Connection Conn = new Connection(C, Id);
+        java.sql.Connection C;
+        try
+          {
+            C = BDS.getConnection();
+          }
+        catch (SQLException E)
+          {
+            PS.failed(System.nanoTime() - T0, Exhausted);
+            throw E;
+          }
+        long WaitNano = System.nanoTime() - T0;
+        Integer StatementCacheSize = _StatementCacheSizesById.get(Id);
+        Connection Conn = new Connection(C, Id, StatementCacheSize == null ? Connection.DEFAULT_STATEMENT_CACHE_SIZE : StatementCacheSize.intValue());
+        Integer FetchSize = _FetchSizesById.get(Id);
+        if (FetchSize != null)
+          Conn.setFetchSize(FetchSize.intValue());
         PerfTracker.add(TransactionType.CONNECTION_GET, System.nanoTime() - T0);
-        LOG.info("-------- O B T A I N E D   C O N N E C T I O N --------- " + Conn._PoolId + " ---- (" + BDS.getNumActive() + "/" + BDS.getNumIdle() + "/" + BDS.getMaxTotal() + ")   ----------");
+        PS.acquired(Conn, WaitNano, Exhausted);
+        LifecycleLog.connectionGet(Conn._PoolId, BDS.getNumActive(), BDS.getNumIdle(), BDS.getMaxTotal());
         return Conn;
       }
 
+    /**
+     * @return a copy of the pool ids and their data sources. Ids defined with the same database and user share the
+     *         same data source.
+     */
+    public static Map<String, TildaDataSource> getDataSources()
+      {
+        synchronized (_DataSourcesById)
+          {
+            return new TreeMap<String, TildaDataSource>(_DataSourcesById);
+          }
+      }
+
+    /**
+     * @return a copy of the pool ids and their telemetry.
+     */
+    public static Map<String, PoolStats> getPoolStats()
+      {
+        synchronized (_DataSourcesById)
+          {
+            return new TreeMap<String, PoolStats>(_PoolStatsById);
+          }
+      }
+
     public static String getSchemaPackage(String SchemaName)
       {
         return _SchemaPackage.get(SchemaName.toUpperCase());
@@ -38,9 +38,15 @@ public class DeleteQuery extends QueryHelper
         super(C, StatementType.DELETE, SchemaName, TableName, true);
       }
 
+    public DeleteQuery(Connection C, String SchemaName, String TableName, boolean Parameterized)
+      throws Exception
+      {
+        super(C, StatementType.DELETE, SchemaName, TableName, true, Parameterized);
+      }
+
     public int execute()
       throws Exception
       {
-        return _C.ExecuteUpdate(_SchemaName, _TableName, _QueryStr.toString());
+        return _C.ExecuteUpdate(_SchemaName, _TableName, _QueryStr.toString(), _Params);
       }
   }
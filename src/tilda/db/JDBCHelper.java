@@ -17,8 +17,9 @@
 package tilda.db;
 
 
-import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -27,15 +28,23 @@ import org.apache.logging.log4j.Logger;
 
 import tilda.db.processors.RecordProcessor;
 import tilda.performance.PerfTracker;
+import tilda.performance.SlowQueryLog;
 import tilda.enums.StatementType;
 import tilda.enums.TransactionType;
-import tilda.utils.AnsiUtil;
 import tilda.utils.SystemValues;
 
 public class JDBCHelper
   {
     static final Logger LOG = LogManager.getLogger(JDBCHelper.class.getName());
 
+    /**
+     * The alias of the 'count(*) over()' window column that queries add at the end of their select list when they
+     * want the total row count, on data stores that {@link tilda.db.stores.DBType#supportsCountOver() support it}. The
+     * window is computed before any limit or offset, so every row carries the count of the whole result.
+     */
+    public static final String COUNT_OVER_ALIAS  = "TILDA_COUNT_ALL";
+    public static final String COUNT_OVER_COLUMN = ", count(*) over() as " + COUNT_OVER_ALIAS;
+
     /**
      * Closes the statement
      * 
@@ -66,6 +75,15 @@ public class JDBCHelper
         return Process(RS, RP, Start, Offsetted, Size, Limited, false);
       }
 
+    /**
+     * Processes the rows of RS from Start, for Size rows (or all if Size is -1).
+     * 
+     * @param CountAll whether to also compute the total number of rows of the query, passed to RP.End() as Max. If
+     *        the last column of RS is {@link #COUNT_OVER_ALIAS}, the count is read from it. Otherwise, if the query is
+     *        not Limited, the remaining rows are skipped and counted on the way forward, without being processed.
+     *        Otherwise, the count is not known and SystemValues.EVIL_VALUE is passed. The result set is never
+     *        scrolled, so it doesn't need to be materialized by the driver.
+     */
     public static int Process(ResultSet RS, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll)
     throws Exception
       {
@@ -73,20 +91,51 @@ public class JDBCHelper
         int count = 0;
         if (Offsetted == false && Start > 0 && RS.relative(Start) == false)
           return -1;
+        int CountCol = CountAll == true ? getCountOverColumn(RS) : -1;
+        int MaxCount = SystemValues.EVIL_VALUE;
         while (Size <= -1 || count < Size)
           {
             if (RS.next() == false)
               break;
+            if (count == 0 && CountCol != -1)
+              MaxCount = RS.getInt(CountCol);
             if (RP.Process(count, RS) == false)
               return -1;
             ++count;
           }
         boolean More = RS.next();
-        int MaxCount = CountAll == true && RS.last() == true ? RS.getRow() : SystemValues.EVIL_VALUE;
+        if (CountAll == true && MaxCount == SystemValues.EVIL_VALUE)
+          {
+            if (CountCol != -1)
+             {
+               if (More == true)
+                 MaxCount = RS.getInt(CountCol);
+               else if (Start == 0) // An empty result. Past the first page, we can't tell an empty result from a page past the end.
+                 MaxCount = 0;
+             }
+            else if (Limited == false)
+              {
+                MaxCount = Start + count;
+                if (More == true)
+                  for (++MaxCount; RS.next() == true; ++MaxCount)
+                    ;
+              }
+          }
         RP.End(More, MaxCount);
         return count;
       }
 
+    /**
+     * @return the position of the {@link #COUNT_OVER_ALIAS} column if it's the last one of RS, or -1.
+     */
+    protected static int getCountOverColumn(ResultSet RS)
+    throws SQLException
+      {
+        ResultSetMetaData MD = RS.getMetaData();
+        int n = MD.getColumnCount();
+        return n > 0 && COUNT_OVER_ALIAS.equalsIgnoreCase(MD.getColumnLabel(n)) == true ? n : -1;
+      }
+
     public static int ExecuteSelect(Connection C, String SchemaName, String TableName, String Query, RecordProcessor RP)
     throws Exception
       {
@@ -106,53 +155,237 @@ public class JDBCHelper
      * Executes a query with a record processor, starting at Start (0 is beginning), and for Size records.
      */
     public static int ExecuteSelect(Connection C, String SchemaName, String TableName, String Query, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll)
+    throws Exception
+      {
+        return ExecuteSelect(C, SchemaName, TableName, Query, null, RP, Start, Offsetted, Size, Limited, CountAll, 0);
+      }
+
+    /**
+     * Executes a parameterized query (with '?' placeholders) with a record processor, starting at Start (0 is beginning),
+     * and for Size records. If Params is null, this is the same as the non-parameterized version.
+     */
+    public static int ExecuteSelect(Connection C, String SchemaName, String TableName, String Query, QueryParams Params, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll)
+    throws Exception
+      {
+        return ExecuteSelect(C, SchemaName, TableName, Query, Params, RP, Start, Offsetted, Size, Limited, CountAll, 0);
+      }
+
+    /**
+     * Same as the other versions, but if FetchSize is greater than 0, the results are streamed to RP FetchSize rows
+     * at a time (see {@link #setStreaming(Connection, Statement, int)}) instead of being read in memory all at once
+     * by the driver before the first row is processed.
+     */
+    public static int ExecuteSelect(Connection C, String SchemaName, String TableName, String Query, QueryParams Params, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll, int FetchSize)
+    throws Exception
+      {
+        return ExecuteSelect(C._C, C, SchemaName, TableName, Query, Params, RP, Start, Offsetted, Size, Limited, CountAll, FetchSize);
+      }
+
+    /*
+     * The versions below take a plain JDBC connection, as they did before statements were also tracked in the
+     * SlowQueryLog. They work the same, except that slow queries can't be attributed to a pool (and so can't be
+     * explained).
+     */
+    public static int ExecuteSelect(java.sql.Connection C, String SchemaName, String TableName, String Query, RecordProcessor RP)
+    throws Exception
+      {
+        return ExecuteSelect(C, null, SchemaName, TableName, Query, null, RP, 0, false, -1, false, false, 0);
+      }
+
+    public static int ExecuteSelect(java.sql.Connection C, String SchemaName, String TableName, String Query, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited)
+    throws Exception
+      {
+        return ExecuteSelect(C, null, SchemaName, TableName, Query, null, RP, Start, Offsetted, Size, Limited, false, 0);
+      }
+
+    public static int ExecuteSelect(java.sql.Connection C, String SchemaName, String TableName, String Query, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll)
+    throws Exception
+      {
+        return ExecuteSelect(C, null, SchemaName, TableName, Query, null, RP, Start, Offsetted, Size, Limited, CountAll, 0);
+      }
+
+    public static int ExecuteSelect(java.sql.Connection C, String SchemaName, String TableName, String Query, QueryParams Params, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll)
+    throws Exception
+      {
+        return ExecuteSelect(C, null, SchemaName, TableName, Query, Params, RP, Start, Offsetted, Size, Limited, CountAll, 0);
+      }
+
+    public static int ExecuteSelect(java.sql.Connection C, String SchemaName, String TableName, String Query, QueryParams Params, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll, int FetchSize)
+    throws Exception
+      {
+        return ExecuteSelect(C, null, SchemaName, TableName, Query, Params, RP, Start, Offsetted, Size, Limited, CountAll, FetchSize);
+      }
+
+    /**
+     * Runs the query on C, and tracks it under TC, which may be null. Parameterized queries borrow their statement from
+     * TC's cache when there is one, so that repeated runs can use the server-side plan prepared by the driver.
+     */
+    protected static int ExecuteSelect(java.sql.Connection C, Connection TC, String SchemaName, String TableName, String Query, QueryParams Params, RecordProcessor RP, int Start, boolean Offsetted, int Size, boolean Limited, boolean CountAll, int FetchSize)
     throws Exception
       {
         TableName = SchemaName+"."+TableName;
-        LOG.debug("TILDA(" + AnsiUtil.NEGATIVE + TableName + AnsiUtil.NEGATIVE_OFF + "): " + Query);
+        LifecycleLog.query(TableName, Query, Params);
         Statement S = null;
+        PreparedStatement Borrowed = null;
         try
           {
             long T0 = System.nanoTime();
             QueryDetails.setLastQuery(TableName, Query);
-            S = C.createStatement();
-            ResultSet RS = S.executeQuery(Query);
+            ResultSet RS;
+            if (Params == null)
+              {
+                S = C.createStatement();
+                if (FetchSize > 0)
+                  setStreaming(C, S, FetchSize);
+                RS = S.executeQuery(Query);
+              }
+            else
+              {
+                PreparedStatement PS = TC != null ? (Borrowed = TC.borrowStatement(Query)) : C.prepareStatement(Query);
+                S = PS;
+                Params.bind(PS, 0);
+                if (FetchSize > 0)
+                  setStreaming(C, PS, FetchSize);
+                RS = PS.executeQuery();
+              }
             int count = JDBCHelper.Process(RS, RP, Start, Offsetted, Size, Limited, CountAll);
-            PerfTracker.add(TableName, StatementType.SELECT, System.nanoTime() - T0, count);
+            long Nano = System.nanoTime() - T0;
+            track(TC, TableName, StatementType.SELECT, Nano, count, Query, Params);
+            if (FetchSize > 0)
+              LifecycleLog.streamed(TableName, count, Nano);
             return count;
           }
         finally
           {
-            JDBCHelper.CloseStatement(S);
+            if (Borrowed != null)
+              TC.releaseStatement(Borrowed);
+            else
+              JDBCHelper.CloseStatement(S);
           }
       }
 
+    /**
+     * Accounts for a statement in the {@link PerfTracker} and, if it was slow, the {@link SlowQueryLog}.
+     */
+    public static void track(Connection C, String TableName, StatementType Type, long DurationNano, int Count, String Query)
+      {
+        track(C, TableName, Type, DurationNano, Count, Query, null);
+      }
+
+    /**
+     * Same as {@link #track(Connection, String, StatementType, long, int, String)}, for a query whose placeholders were
+     * bound from Params, so that its plan can still be requested if it was slow.
+     */
+    public static void track(Connection C, String TableName, StatementType Type, long DurationNano, int Count, String Query, QueryParams Params)
+      {
+        PerfTracker.add(TableName, Type, DurationNano, Count, Query);
+        SlowQueryLog.add(C, TableName, Query, Params, DurationNano, Count);
+      }
+
+    /**
+     * Asks the driver to fetch the results of S FetchSize rows at a time, so that they can be processed with bounded
+     * memory. With Postgres, this uses a server-side cursor, which only works within a transaction: if C is in
+     * autocommit mode, the driver silently reads the whole result set at once.
+     */
+    public static void setStreaming(Connection C, Statement S, int FetchSize)
+    throws SQLException
+      {
+        setStreaming(C._C, S, FetchSize);
+      }
+
+    public static void setStreaming(java.sql.Connection C, Statement S, int FetchSize)
+    throws SQLException
+      {
+        if (C.getAutoCommit() == true)
+          LOG.warn("Streaming a query on a connection in autocommit mode: some drivers (e.g., Postgres) will read the whole result set in memory anyway.");
+        S.setFetchSize(FetchSize);
+      }
+
     public static int ExecuteUpdate(Connection C, String SchemaName, String TableName, String Query)
+    throws Exception
+      {
+        return ExecuteUpdate(C._C, C, SchemaName, TableName, Query, null);
+      }
+
+    public static int ExecuteUpdate(java.sql.Connection C, String SchemaName, String TableName, String Query)
+    throws Exception
+      {
+        return ExecuteUpdate(C, null, SchemaName, TableName, Query, null);
+      }
+
+    /**
+     * Executes a parameterized update or delete (with '?' placeholders). If Params is null, this is the same as the
+     * non-parameterized version.
+     */
+    public static int ExecuteUpdate(Connection C, String SchemaName, String TableName, String Query, QueryParams Params)
+    throws Exception
+      {
+        return ExecuteUpdate(C._C, C, SchemaName, TableName, Query, Params);
+      }
+
+    public static int ExecuteUpdate(java.sql.Connection C, String SchemaName, String TableName, String Query, QueryParams Params)
+    throws Exception
+      {
+        return ExecuteUpdate(C, null, SchemaName, TableName, Query, Params);
+      }
+
+    /**
+     * Runs the update on C, and tracks it under TC, which may be null. As with selects, parameterized updates borrow
+     * their statement from TC's cache when there is one.
+     */
+    protected static int ExecuteUpdate(java.sql.Connection C, Connection TC, String SchemaName, String TableName, String Query, QueryParams Params)
     throws Exception
       {
         TableName = SchemaName+"."+TableName;
-        LOG.debug("TILDA(" + AnsiUtil.NEGATIVE + TableName + AnsiUtil.NEGATIVE_OFF + "): " + Query);
+        LifecycleLog.query(TableName, Query, Params);
         Statement S = null;
+        PreparedStatement Borrowed = null;
         try
           {
             long T0 = System.nanoTime();
             QueryDetails.setLastQuery(TableName, Query);
-            S = C.createStatement();
-            int count = S.executeUpdate(Query);
-            PerfTracker.add(TableName, StatementType.UPDATE, System.nanoTime() - T0, count);
+            int count;
+            if (Params == null)
+              {
+                S = C.createStatement();
+                count = S.executeUpdate(Query);
+              }
+            else
+              {
+                PreparedStatement PS = TC != null ? (Borrowed = TC.borrowStatement(Query)) : C.prepareStatement(Query);
+                S = PS;
+                Params.bind(PS, 0);
+                count = PS.executeUpdate();
+              }
+            track(TC, TableName, StatementType.UPDATE, System.nanoTime() - T0, count, Query, Params);
             return count;
           }
         finally
           {
-            JDBCHelper.CloseStatement(S);
+            if (Borrowed != null)
+              TC.releaseStatement(Borrowed);
+            else
+              JDBCHelper.CloseStatement(S);
           }
       }
     
     public static void ExecuteDDL(Connection C, String SchemaName, String TableName, String Query)
+    throws Exception
+      {
+        ExecuteDDL(C._C, C, SchemaName, TableName, Query);
+      }
+
+    public static void ExecuteDDL(java.sql.Connection C, String SchemaName, String TableName, String Query)
+    throws Exception
+      {
+        ExecuteDDL(C, null, SchemaName, TableName, Query);
+      }
+
+    protected static void ExecuteDDL(java.sql.Connection C, Connection TC, String SchemaName, String TableName, String Query)
     throws Exception
       {
         TableName = SchemaName+"."+TableName;
-        LOG.debug("TILDA(" + AnsiUtil.NEGATIVE + TableName + AnsiUtil.NEGATIVE_OFF + "): " + Query);
+        LifecycleLog.query(TableName, Query, null);
         Statement S = null;
         try
           {
@@ -162,7 +395,7 @@ public class JDBCHelper
             if (S.execute(Query) == false)
              while (S.getMoreResults() == true || S.getUpdateCount() != -1)
                S.getResultSet();
-            PerfTracker.add(TableName, StatementType.UPDATE, System.nanoTime() - T0, 1);
+            track(TC, TableName, StatementType.UPDATE, System.nanoTime() - T0, 1, Query);
           }
         finally
           {
@@ -172,10 +405,22 @@ public class JDBCHelper
     
 
     public static int ExecuteInsert(Connection C, String SchemaName, String TableName, String Query)
+    throws Exception
+      {
+        return ExecuteInsert(C._C, C, SchemaName, TableName, Query);
+      }
+
+    public static int ExecuteInsert(java.sql.Connection C, String SchemaName, String TableName, String Query)
+    throws Exception
+      {
+        return ExecuteInsert(C, null, SchemaName, TableName, Query);
+      }
+
+    protected static int ExecuteInsert(java.sql.Connection C, Connection TC, String SchemaName, String TableName, String Query)
     throws Exception
       {
         TableName = SchemaName+"."+TableName;
-        LOG.debug("TILDA(" + AnsiUtil.NEGATIVE + TableName + AnsiUtil.NEGATIVE_OFF + "): " + Query);
+        LifecycleLog.query(TableName, Query, null);
         Statement S = null;
         try
           {
@@ -183,7 +428,7 @@ public class JDBCHelper
             QueryDetails.setLastQuery(TableName, Query);
             S = C.createStatement();
             int count = S.executeUpdate(Query);
-            PerfTracker.add(TableName, StatementType.INSERT, System.nanoTime() - T0, count);
+            track(TC, TableName, StatementType.INSERT, System.nanoTime() - T0, count, Query);
             return count;
           }
         finally
@@ -19,6 +19,11 @@ package tilda.db;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,7 +37,59 @@ public class KeysManager
   {
     protected static final Logger     LOG = LogManager.getLogger(Parser.class.getName());
 
-    protected static Map<String, Key_Data> _M  = null;
+    protected static volatile Map<String, Key_Data> _M  = null;
+
+    protected static volatile boolean     _Prefetching = true;
+    protected static volatile int         _StripeSize  = 0;
+    protected static ExecutorService      _Prefetcher;
+
+    /**
+     * Turns the background reservation of key blocks on or off (it is on by default). When off, the thread that
+     * exhausts a block reserves the next one, and other threads needing keys for the same object wait for it.
+     */
+    public static void setPrefetching(boolean Prefetching)
+      {
+        _Prefetching = Prefetching;
+      }
+
+    public static boolean isPrefetching()
+      {
+        return _Prefetching;
+      }
+
+    /**
+     * Turns striped allocation on when Size is more than 1 (it is off by default). Each thread then claims Size keys at
+     * a time from the shared block and hands them out without touching it, which removes the contention on the block's
+     * counter when many threads insert into the same table. Keys stay unique but are no longer handed out in increasing
+     * order across threads, and up to Size keys per thread may go unused when the process stops.
+     */
+    public static void setStripeSize(int Size)
+      {
+        _StripeSize = Size;
+      }
+
+    public static int getStripeSize()
+      {
+        return _StripeSize;
+      }
+
+    /**
+     * Runs a key block reservation on the daemon prefetching threads. Reservations for different objects can run
+     * concurrently, each on its own "KEYS" connection.
+     */
+    public static synchronized <T> Future<T> submit(Callable<T> Task)
+      {
+        if (_Prefetcher == null)
+          {
+            AtomicInteger Count = new AtomicInteger();
+            _Prefetcher = Executors.newCachedThreadPool(R -> {
+              Thread T = new Thread(R, "Tilda-KeysPrefetcher-" + Count.incrementAndGet());
+              T.setDaemon(true);
+              return T;
+            });
+          }
+        return _Prefetcher.submit(Task);
+      }
 
     public static long getKey(String ObjectName) throws Exception
       {
@@ -42,7 +99,7 @@ public class KeysManager
         if (k == null)
          throw new Exception("Requested a key for unknown object '"+ObjectName+"'.");
         
-        return k.nextKey();
+        return k.nextKey(_StripeSize);
       }
 
     protected static final String _SEM = "KEYS";
@@ -57,13 +114,16 @@ public class KeysManager
                   Connection C = null;
                   try
                     {
-                      _M = new HashMap<String, Key_Data>();
+                      // Filled before being published through the volatile _M, so readers outside the lock
+                      // never see a partially loaded map.
+                      Map<String, Key_Data> M = new HashMap<String, Key_Data>();
                       C = ConnectionPool.get(_SEM);
                       ListResults<Key_Data> L = Key_Factory.LookupWhereAllByName(C, 0, -1);
                       for (Key_Data k : L)
                         {
-                          _M.put(k.getName(), k);
+                          M.put(k.getName(), k);
                         }
+                      _M = M;
                     }
                   catch (Throwable T)
                     {
@@ -0,0 +1,225 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import tilda.utils.DateTimeUtil;
+import tilda.utils.TextUtil;
+
+/**
+ * The continuation token of a keyset (seek) page, as returned by {@link ListResults#getNextPageToken()} from the
+ * generated LookupWhere...(Connection, ..., String PageToken, int Size) methods. It carries the sort key of the last
+ * row of a page, so the next page can start right after it with a 'where (a &gt; ?) or (a = ? and b &gt; ?) ...'
+ * predicate instead of an offset the database would have to scan through. Tokens are URL-safe strings meant to be
+ * handed back as-is: their content is not part of any API.
+ */
+public class KeysetToken
+  {
+    protected static final byte VERSION = 1;
+
+    protected KeysetToken(List<java.lang.Object> Values)
+      {
+        _Values = Values;
+      }
+
+    protected final List<java.lang.Object> _Values;
+
+    public int size()
+      {
+        return _Values.size();
+      }
+
+    /**
+     * Builds the token for a page ending with a row whose sort key is Values.
+     *
+     * @param Scope identifies the lookup the token belongs to, so that a token from one lookup cannot be replayed
+     *          against another.
+     * @param Values the sort key values, in the order of the sort. Supported types are String, Character, Boolean,
+     *          Integer, Long, Float, Double and ZonedDateTime.
+     */
+    public static String print(String Scope, java.lang.Object... Values)
+    throws Exception
+      {
+        ByteArrayOutputStream BAOS = new ByteArrayOutputStream(64);
+        DataOutputStream Out = new DataOutputStream(BAOS);
+        Out.writeByte(VERSION);
+        Out.writeUTF(Scope);
+        Out.writeShort(Values.length);
+        for (java.lang.Object V : Values)
+          {
+            if (V instanceof String)
+              {
+                Out.writeByte('S');
+                Out.writeUTF((String) V);
+              }
+            else if (V instanceof Character)
+              {
+                Out.writeByte('C');
+                Out.writeChar((Character) V);
+              }
+            else if (V instanceof Boolean)
+              {
+                Out.writeByte('B');
+                Out.writeBoolean((Boolean) V);
+              }
+            else if (V instanceof Integer)
+              {
+                Out.writeByte('I');
+                Out.writeInt((Integer) V);
+              }
+            else if (V instanceof Long)
+              {
+                Out.writeByte('L');
+                Out.writeLong((Long) V);
+              }
+            else if (V instanceof Float)
+              {
+                Out.writeByte('F');
+                Out.writeFloat((Float) V);
+              }
+            else if (V instanceof Double)
+              {
+                Out.writeByte('D');
+                Out.writeDouble((Double) V);
+              }
+            else if (V instanceof ZonedDateTime)
+              {
+                ZonedDateTime ZDT = (ZonedDateTime) V;
+                Out.writeByte('T');
+                Out.writeLong(ZDT.toInstant().getEpochSecond());
+                Out.writeInt(ZDT.getNano());
+                Out.writeUTF(ZDT.getZone().getId());
+              }
+            else
+              throw new Exception("Cannot create a page token with a value of type " + (V == null ? "null" : V.getClass().getName()) + ".");
+          }
+        Out.flush();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(BAOS.toByteArray());
+      }
+
+    /**
+     * Decodes a token created by {@link #print(String, java.lang.Object...)}.
+     *
+     * @return null if Token is null or empty, i.e., for the first page.
+     * @throws Exception if the token is malformed, belongs to another scope, or doesn't have Count values.
+     */
+    public static KeysetToken parse(String Token, String Scope, int Count)
+    throws Exception
+      {
+        if (TextUtil.isNullOrEmpty(Token) == true)
+          return null;
+        try
+          {
+            DataInputStream In = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(Token)));
+            if (In.readByte() != VERSION || Scope.equals(In.readUTF()) == false)
+              throw new Exception("Invalid page token '" + Token + "': it was not issued for " + Scope + ".");
+            int n = In.readShort();
+            if (n != Count)
+              throw new Exception("Invalid page token '" + Token + "': " + n + " values were found where " + Count + " were expected.");
+            List<java.lang.Object> L = new ArrayList<java.lang.Object>(n);
+            for (int i = 0; i < n; ++i)
+              {
+                byte Type = In.readByte();
+                switch (Type)
+                  {
+                    case 'S': L.add(In.readUTF()); break;
+                    case 'C': L.add(In.readChar()); break;
+                    case 'B': L.add(In.readBoolean()); break;
+                    case 'I': L.add(In.readInt()); break;
+                    case 'L': L.add(In.readLong()); break;
+                    case 'F': L.add(In.readFloat()); break;
+                    case 'D': L.add(In.readDouble()); break;
+                    case 'T':
+                      Instant I = Instant.ofEpochSecond(In.readLong(), In.readInt());
+                      L.add(ZonedDateTime.ofInstant(I, ZoneId.of(In.readUTF())));
+                      break;
+                    default: throw new Exception("Invalid page token '" + Token + "': unknown value type '" + (char) Type + "'.");
+                  }
+              }
+            if (In.available() != 0)
+              throw new Exception("Invalid page token '" + Token + "': trailing data.");
+            return new KeysetToken(L);
+          }
+        catch (IOException | IllegalArgumentException | java.time.DateTimeException E)
+          {
+            throw new Exception("Invalid page token '" + Token + "'.", E);
+          }
+      }
+
+    /**
+     * Binds the values for a seek predicate over n sort columns written as '(c1 op ?) or (c1 = ? and c2 op ?) or ...',
+     * i.e., for each term k, the values 1 to k, starting after position i.
+     *
+     * @return the last position bound, so that generated code can continue with ++i.
+     */
+    public int bind(PreparedStatement PS, int i)
+    throws SQLException
+      {
+        for (int k = 0; k < _Values.size(); ++k)
+          for (int j = 0; j <= k; ++j)
+            bind(PS, ++i, _Values.get(j));
+        return i;
+      }
+
+    protected static void bind(PreparedStatement PS, int i, java.lang.Object V)
+    throws SQLException
+      {
+        if (V instanceof String)
+          PS.setString(i, (String) V);
+        else if (V instanceof Character)
+          PS.setString(i, "" + (Character) V);
+        else if (V instanceof Boolean)
+          PS.setBoolean(i, (Boolean) V);
+        else if (V instanceof Integer)
+          PS.setInt(i, (Integer) V);
+        else if (V instanceof Long)
+          PS.setLong(i, (Long) V);
+        else if (V instanceof Float)
+          PS.setFloat(i, (Float) V);
+        else if (V instanceof Double)
+          PS.setDouble(i, (Double) V);
+        else
+          // Keeps the sub-millisecond part, otherwise rows sharing the same millisecond would be repeated or skipped.
+          PS.setTimestamp(i, java.sql.Timestamp.from(((ZonedDateTime) V).toInstant()), DateTimeUtil._UTC_CALENDAR);
+      }
+
+    public String toString()
+      {
+        StringBuilder Str = new StringBuilder();
+        for (int i = 0; i < _Values.size(); ++i)
+          {
+            if (i != 0)
+              Str.append("; ");
+            java.lang.Object V = _Values.get(i);
+            Str.append(i + 1).append(": ").append(V instanceof ZonedDateTime ? DateTimeUtil.printDateTimeForSQL((ZonedDateTime) V) : String.valueOf(V));
+          }
+        return Str.toString();
+      }
+  }
@@ -0,0 +1,145 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.enums.StatementType;
+import tilda.performance.PerfTracker;
+import tilda.utils.AnsiUtil;
+import tilda.utils.DurationUtil;
+
+/**
+ * A slot of the {@link LifecycleLog} ring buffer. Events are preallocated and reused: producers only copy references
+ * and primitives into them, and the consumer thread formats them into the exact messages the producing classes used
+ * to log directly, prefixed with the name of the producing thread.
+ */
+public final class LifecycleEvent
+  {
+    public static enum Type
+      {
+        COMMIT           (Connection.class    , Level.INFO ),
+        ROLLBACK         (Connection.class    , Level.INFO ),
+        CONNECTION_CLOSE (Connection.class    , Level.INFO ),
+        CONNECTION_RETURN(Connection.class    , Level.INFO ),
+        CONNECTION_GET   (ConnectionPool.class, Level.INFO ),
+        QUERY            (JDBCHelper.class    , Level.DEBUG),
+        STREAMED         (JDBCHelper.class    , Level.DEBUG),
+        NO_RECORD        (PerfTracker.class   , Level.WARN ),
+        RECORDS          (PerfTracker.class   , Level.DEBUG);
+
+        private Type(Class<?> C, Level L)
+          {
+            // By name, so that ConnectionPool isn't initialized as a side effect.
+            _Logger = LogManager.getLogger(C.getName());
+            _Level = L;
+          }
+
+        public final Logger _Logger;
+        public final Level  _Level;
+
+        public boolean isEnabled()
+          {
+            return _Logger.isEnabled(_Level);
+          }
+      }
+
+    protected Thread        _Thread;
+    protected Type          _Type;
+    protected String        _PoolId;
+    protected String        _TableName;
+    protected String        _Query;
+    protected QueryParams   _Params;
+    protected StatementType _StatementType;
+    protected long          _Nano;
+    protected long          _Count;
+    protected int           _Active;
+    protected int           _Idle;
+    protected int           _Max;
+
+    protected void set(Type T, String PoolId, String TableName, String Query, QueryParams Params, StatementType ST, long Nano, long Count, int Active, int Idle, int Max)
+      {
+        _Thread = Thread.currentThread();
+        _Type = T;
+        _PoolId = PoolId;
+        _TableName = TableName;
+        _Query = Query;
+        _Params = Params;
+        _StatementType = ST;
+        _Nano = Nano;
+        _Count = Count;
+        _Active = Active;
+        _Idle = Idle;
+        _Max = Max;
+      }
+
+    /**
+     * Formats and logs this event using Str as a scratch buffer, then drops its references so the ring buffer doesn't
+     * keep queries and parameters alive.
+     */
+    protected void log(StringBuilder Str)
+      {
+        Str.setLength(0);
+        Str.append('[').append(_Thread.getName()).append("] ");
+        int Prefix = Str.length();
+        switch (_Type)
+          {
+            case COMMIT:
+              Str.append("---------- ").append(AnsiUtil.NEGATIVE).append("C O M M I T").append(AnsiUtil.NEGATIVE_OFF).append(" ----------------------------------- ").append(_PoolId).append(" ------------------------------");
+              break;
+            case ROLLBACK:
+              Str.append("---------- ").append(AnsiUtil.NEGATIVE).append("R O L L B A C K").append(AnsiUtil.NEGATIVE_OFF).append(" ------------------------------- ").append(_PoolId).append(" ------------------------------");
+              break;
+            case CONNECTION_CLOSE:
+              Str.append("---------- C L O S I N G   C O N N E C T I O N ------- ").append(_PoolId).append(" ----------");
+              break;
+            case CONNECTION_RETURN:
+              Str.append("---------- R E T U R N I N G   C O N N E C T I O N ------- ").append(_PoolId).append(" ----------");
+              break;
+            case CONNECTION_GET:
+              Str.append("-------- O B T A I N E D   C O N N E C T I O N --------- ").append(_PoolId).append(" ---- (").append(_Active).append('/').append(_Idle).append('/').append(_Max).append(")   ----------");
+              break;
+            case QUERY:
+              Str.append("TILDA(").append(AnsiUtil.NEGATIVE).append(_TableName).append(AnsiUtil.NEGATIVE_OFF).append("): ").append(_Query);
+              if (_Params != null)
+                {
+                  _Type._Logger.log(_Type._Level, Str.toString());
+                  Str.setLength(Prefix);
+                  Str.append("TILDA(").append(AnsiUtil.NEGATIVE).append(_TableName).append(AnsiUtil.NEGATIVE_OFF).append("):    with ").append(_Params.toString());
+                }
+              break;
+            case STREAMED:
+              Str.append("TILDA(").append(AnsiUtil.NEGATIVE).append(_TableName).append(AnsiUtil.NEGATIVE_OFF).append("): streamed ").append(_Count)
+                 .append(" records (").append(DurationUtil.PrintPerformancePerSecond(_Nano, _Count)).append(" records/s).");
+              break;
+            case NO_RECORD:
+              Str.append("   ").append(AnsiUtil.UNDERLINE).append("No record ").append(_StatementType._PP).append(' ').append(AnsiUtil.UNDERLINE_OFF).append(" in ").append(DurationUtil.PrintDurationMilliSeconds(_Nano));
+              break;
+            case RECORDS:
+              Str.append("   ").append(_StatementType._PP).append(' ').append(_Count).append(" records in ").append(DurationUtil.PrintDurationMilliSeconds(_Nano));
+              break;
+          }
+        _Type._Logger.log(_Type._Level, Str.toString());
+        _Thread = null;
+        _PoolId = null;
+        _TableName = null;
+        _Query = null;
+        _Params = null;
+      }
+  }
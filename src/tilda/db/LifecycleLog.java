@@ -0,0 +1,180 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import tilda.db.LifecycleEvent.Type;
+import tilda.enums.StatementType;
+
+/**
+ * Logs the routine lifecycle messages of connections and statements (gets, commits, rollbacks, closes, queries,
+ * record counts) off the calling thread. A producer checks whether the target logger is enabled, then copies a few
+ * references and primitives into a preallocated {@link LifecycleEvent} of an LMAX Disruptor ring buffer: no string
+ * is built and nothing is allocated on the request path. A single daemon thread formats and logs the events, in
+ * order. If the ring buffer is full, the event is logged synchronously by the producer instead of being dropped or
+ * blocking it. Errors are still logged directly by the classes that encounter them.<BR>
+ * <BR>
+ * Since the messages are logged by the consumer thread, they are prefixed with the name of the producing thread, and
+ * their timestamps are those of their formatting, normally within microseconds of the event.
+ */
+public abstract class LifecycleLog
+  {
+    protected static final Logger LOG         = LogManager.getLogger(LifecycleLog.class.getName());
+
+    public static final int       BUFFER_SIZE = 8192;
+
+    protected static final LongAdder                  _Overflows = new LongAdder();
+    protected static final Disruptor<LifecycleEvent>  _Disruptor;
+    protected static final RingBuffer<LifecycleEvent> _RB;
+
+    static
+      {
+        _Disruptor = new Disruptor<LifecycleEvent>(LifecycleEvent::new, BUFFER_SIZE, R -> {
+          Thread T = new Thread(R, "Tilda-LifecycleLog");
+          T.setDaemon(true);
+          T.start();
+        }, ProducerType.MULTI, new SleepingWaitStrategy());
+        _RB = start(_Disruptor);
+        Runtime.getRuntime().addShutdownHook(new Thread(LifecycleLog::shutdown, "Tilda-LifecycleLog-Shutdown"));
+      }
+
+    @SuppressWarnings("unchecked") // handleEventsWith() takes a generic varargs array.
+    protected static RingBuffer<LifecycleEvent> start(Disruptor<LifecycleEvent> D)
+      {
+        D.handleEventsWith(new Handler());
+        return D.start();
+      }
+
+    protected static class Handler implements EventHandler<LifecycleEvent>
+      {
+        protected final StringBuilder _Str = new StringBuilder(1024);
+
+        @Override
+        public void onEvent(LifecycleEvent E, long Sequence, boolean EndOfBatch)
+          {
+            try
+              {
+                E.log(_Str);
+              }
+            catch (Throwable T)
+              {
+                LOG.error("Cannot log a " + E._Type + " event.", T);
+              }
+          }
+      }
+
+    /**
+     * Logs what is left in the ring buffer, waiting at most 5s.
+     */
+    protected static void shutdown()
+      {
+        try
+          {
+            _Disruptor.shutdown(5, TimeUnit.SECONDS);
+          }
+        catch (Exception E)
+          {
+            LOG.warn("Some lifecycle events were not logged before shutdown.");
+          }
+      }
+
+    /**
+     * @return the number of events that were logged synchronously because the ring buffer was full.
+     */
+    public static long getOverflows()
+      {
+        return _Overflows.sum();
+      }
+
+    protected static void publish(Type T, String PoolId, String TableName, String Query, QueryParams Params, StatementType ST, long Nano, long Count, int Active, int Idle, int Max)
+      {
+        long Seq;
+        try
+          {
+            Seq = _RB.tryNext();
+          }
+        catch (InsufficientCapacityException E)
+          {
+            _Overflows.increment();
+            LifecycleEvent Ev = new LifecycleEvent();
+            Ev.set(T, PoolId, TableName, Query, Params, ST, Nano, Count, Active, Idle, Max);
+            Ev.log(new StringBuilder());
+            return;
+          }
+        try
+          {
+            _RB.get(Seq).set(T, PoolId, TableName, Query, Params, ST, Nano, Count, Active, Idle, Max);
+          }
+        finally
+          {
+            _RB.publish(Seq);
+          }
+      }
+
+    /**
+     * For {@link Type#COMMIT}, {@link Type#ROLLBACK}, {@link Type#CONNECTION_CLOSE} and {@link Type#CONNECTION_RETURN}.
+     */
+    public static void connection(Type T, String PoolId)
+      {
+        if (T.isEnabled() == true)
+          publish(T, PoolId, null, null, null, null, 0, 0, 0, 0, 0);
+      }
+
+    public static void connectionGet(String PoolId, int Active, int Idle, int Max)
+      {
+        if (Type.CONNECTION_GET.isEnabled() == true)
+          publish(Type.CONNECTION_GET, PoolId, null, null, null, null, 0, 0, Active, Idle, Max);
+      }
+
+    /**
+     * @param Params the bind values of Query, or null. They are printed by the consumer thread, so they must not be
+     *          modified after this call.
+     */
+    public static void query(String TableName, String Query, QueryParams Params)
+      {
+        if (Type.QUERY.isEnabled() == true)
+          publish(Type.QUERY, null, TableName, Query, Params, null, 0, 0, 0, 0, 0);
+      }
+
+    public static void streamed(String TableName, long Count, long Nano)
+      {
+        if (Type.STREAMED.isEnabled() == true)
+          publish(Type.STREAMED, null, TableName, null, null, null, Nano, Count, 0, 0, 0);
+      }
+
+    /**
+     * Logs the number of records a statement selected or affected, as a warning if there were none.
+     */
+    public static void records(StatementType ST, long Count, long Nano)
+      {
+        Type T = Count == 0 ? Type.NO_RECORD : Type.RECORDS;
+        if (T.isEnabled() == true)
+          publish(T, null, null, null, null, ST, Nano, Count, 0, 0, 0);
+      }
+  }
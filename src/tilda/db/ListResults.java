@@ -25,4 +25,9 @@ public interface ListResults<E> extends List<E>
     public int     getEnd  ();
     public boolean hasMore ();
     public int     getMax  ();
+    /**
+     * @return the token to pass to a keyset-paged lookup to get the page following this one, or null if this is the
+     *         last page or the results were not read with a keyset lookup.
+     */
+    public String  getNextPageToken();
   }
@@ -0,0 +1,96 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically reloads the in-memory enumerations and mappers of generated factories, as scheduled through their
+ * scheduleReload(String, int) method. The generated initMappings(Connection) builds a new snapshot and swaps it in, so
+ * lookups keep using the previous one, lock-free, until the new one is complete. Reloads all run on one daemon thread;
+ * a reload that fails is logged and the previous snapshot stays in use until the next one succeeds.
+ */
+public class MappingsReloader
+  {
+    protected static final Logger LOG = LogManager.getLogger(MappingsReloader.class.getName());
+
+    protected static ScheduledExecutorService              _Executor;
+    protected static final Map<String, ScheduledFuture<?>> _Scheduled = new HashMap<String, ScheduledFuture<?>>();
+
+    /**
+     * Runs Loader every PeriodSeconds with a connection from PoolId, replacing any schedule already set up under Name.
+     * A PeriodSeconds of 0 or less only cancels the existing schedule.
+     */
+    public static synchronized void schedule(String Name, String PoolId, int PeriodSeconds, AsyncQueries.Work<?> Loader)
+      {
+        ScheduledFuture<?> F = _Scheduled.remove(Name);
+        if (F != null)
+          F.cancel(false);
+        if (PeriodSeconds <= 0)
+          return;
+        if (_Executor == null)
+          _Executor = Executors.newSingleThreadScheduledExecutor(R -> {
+            Thread T = new Thread(R, "Tilda-MappingsReloader");
+            T.setDaemon(true);
+            return T;
+          });
+        _Scheduled.put(Name, _Executor.scheduleWithFixedDelay(() -> reload(Name, PoolId, Loader), PeriodSeconds, PeriodSeconds, TimeUnit.SECONDS));
+        LOG.info("Reloading the mappings for " + Name + " from pool " + PoolId + " every " + PeriodSeconds + "s.");
+      }
+
+    public static void cancel(String Name)
+      {
+        schedule(Name, null, 0, null);
+      }
+
+    protected static void reload(String Name, String PoolId, AsyncQueries.Work<?> Loader)
+      {
+        long T0 = System.nanoTime();
+        Connection C = null;
+        try
+          {
+            C = ConnectionPool.get(PoolId);
+            Loader.run(C);
+            C.rollback();
+            LOG.debug("Reloaded the mappings for " + Name + " in " + (System.nanoTime() - T0) / 1000000L + "ms.");
+          }
+        catch (Throwable T)
+          {
+            LOG.warn("Cannot reload the mappings for " + Name + ": the previous ones remain in use.", T);
+          }
+        finally
+          {
+            if (C != null)
+              try
+                {
+                  C.close();
+                }
+              catch (Throwable T)
+                {
+                  LOG.error("Cannot close the connection used to reload the mappings for " + Name + ".", T);
+                }
+          }
+      }
+  }
@@ -0,0 +1,396 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.enums.CacheEvictionPolicy;
+import tilda.enums.TransactionType;
+import tilda.performance.PerfTracker;
+
+/**
+ * A bounded, thread-safe cache of objects read from the database, as generated on the factories of objects defining
+ * a "cache" section. Values are keyed by lookup (the primary key or a unique index and its values)
+ * and are never handed out as-is: the generated Read() copies them into the object being read. Entries are spread
+ * over independently locked segments, each evicting on its own by LRU or FIFO once it holds its share of the maximum,
+ * so the cache as a whole may hold slightly fewer entries than the maximum. Entries older than the TTL, if any, are
+ * dropped when next looked up.
+ * <P>
+ * Objects read are only put in the cache once the reading transaction commits (see
+ * {@link Connection#afterCommit(Runnable)}), so that rows seen by a transaction that then rolls back, e.g., rows it
+ * inserted itself, are never handed out to others. Such puts are also dropped if anything was removed from the cache
+ * since the object was read, so that a late put cannot bring back a value evicted in the meantime.
+ * <P>
+ * Mutable (OCC) objects can be cached too. Their generated Write() evicts the entries of the object written, under both
+ * its current and its previously saved key values, right away and again once the transaction commits (see
+ * {@link Connection#onCommit(Runnable)}), since until then, other threads still read and may cache the old values.
+ * Between the database commit and that second eviction, other threads of this server may still get the old values
+ * from the cache. A {@link Delta} query run every few seconds on a background thread evicts the entries of rows whose
+ * lastUpdated is after the previous run, i.e., rows changed by other servers. Such changes are therefore seen after at
+ * most the refresh period (plus the time to run the query). With a refresh period of 0, they are only seen once the
+ * TTL drops the entries, if there is one. Changes made outside of Write(), e.g., by an UpdateQuery, must set
+ * lastUpdated to be picked up, and rows deleted from the table are only dropped from the cache through the TTL.
+ * <P>
+ * Lookups are only cached if their columns are all simple scalars (not dates, binaries or collections), so that the
+ * refresh query can build the keys to evict from the key columns alone, without reading the rows.
+ */
+public class ObjectCache<T>
+  {
+    protected static final Logger LOG = LogManager.getLogger(ObjectCache.class.getName());
+
+    protected static final Map<String, ObjectCache<?>> _CACHES = new ConcurrentHashMap<String, ObjectCache<?>>();
+
+    /**
+     * How far back before the start of the previous refresh a refresh looks. Postgres sets lastUpdated to the start
+     * time of the transaction, so a transaction committing after a refresh may still have written a lastUpdated before
+     * it, and server clocks may also differ somewhat.
+     */
+    public static final long DELTA_OVERLAP_SECONDS = 60;
+
+    /**
+     * A generated query evicting from the cache all the objects whose lastUpdated is after Since.
+     */
+    public static interface Delta
+      {
+        public void evictChanged(Connection C, ZonedDateTime Since) throws Exception;
+      }
+
+    protected static volatile String           _RefreshPoolId = "MAIN";
+    protected static ScheduledExecutorService _Refresher;
+
+    /**
+     * Sets the connection pool used by the refresh queries (MAIN by default). It shouldn't be a replica, whose lag
+     * would add to the staleness of the caches.
+     */
+    public static void setRefreshPoolId(String PoolId)
+      {
+        _RefreshPoolId = PoolId;
+      }
+
+    protected static synchronized void schedule(ObjectCache<?> Cache, int PeriodSeconds)
+      {
+        if (_Refresher == null)
+          _Refresher = Executors.newSingleThreadScheduledExecutor(R -> {
+            Thread T = new Thread(R, "Tilda-ObjectCacheRefresher");
+            T.setDaemon(true);
+            return T;
+          });
+        _Refresher.scheduleWithFixedDelay(Cache::refresh, PeriodSeconds, PeriodSeconds, TimeUnit.SECONDS);
+      }
+
+    protected static class Entry<T>
+      {
+        protected Entry(T Value, long CreatedNano)
+          {
+            _Value = Value;
+            _CreatedNano = CreatedNano;
+          }
+
+        protected final T    _Value;
+        protected final long _CreatedNano;
+      }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public ObjectCache(String Name, int MaxEntries, long TTLSeconds, CacheEvictionPolicy Policy)
+      {
+        _Name = Name;
+        _MaxEntries = MaxEntries;
+        _TTLNano = TTLSeconds * 1_000_000_000L;
+        _Policy = Policy;
+        int n = 1;
+        while (n < 16 && n * 64 <= MaxEntries)
+          n <<= 1;
+        _SegmentMax = (MaxEntries + n - 1) / n;
+        _Segments = new LinkedHashMap[n];
+        for (int i = 0; i < n; ++i)
+          _Segments[i] = new LinkedHashMap<java.lang.Object, Entry<T>>(16, 0.75f, Policy == CacheEvictionPolicy.LRU);
+        _CACHES.put(Name, this);
+      }
+
+    /**
+     * Creates a cache for mutable objects, which runs D every RefreshSeconds to evict the objects changed since the
+     * previous run. With a RefreshSeconds of 0, changes made by other servers are only seen once the TTL drops the
+     * entries, if there is one.
+     */
+    public ObjectCache(String Name, int MaxEntries, long TTLSeconds, CacheEvictionPolicy Policy, int RefreshSeconds, Delta D)
+      {
+        this(Name, MaxEntries, TTLSeconds, Policy);
+        _Delta = D;
+        _Marker = ZonedDateTime.now().minusSeconds(DELTA_OVERLAP_SECONDS);
+        if (RefreshSeconds > 0)
+          schedule(this, RefreshSeconds);
+      }
+
+    protected final String                                       _Name;
+    protected final int                                          _MaxEntries;
+    protected final long                                         _TTLNano;
+    protected final CacheEvictionPolicy                          _Policy;
+    protected final int                                          _SegmentMax;
+    protected final LinkedHashMap<java.lang.Object, Entry<T>>[]  _Segments;
+    protected final LongAdder                                    _Hits      = new LongAdder();
+    protected final LongAdder                                    _Misses    = new LongAdder();
+    protected final LongAdder                                    _Evictions = new LongAdder();
+    protected final AtomicLong                                   _Version   = new AtomicLong();
+    protected Delta                                              _Delta;
+    protected volatile ZonedDateTime                             _Marker;
+
+    protected LinkedHashMap<java.lang.Object, Entry<T>> getSegment(java.lang.Object Key)
+      {
+        int h = Key.hashCode();
+        h ^= h >>> 16;
+        return _Segments[h & (_Segments.length - 1)];
+      }
+
+    /**
+     * Returns the value cached for Key, or null if there is none or it has expired. A null Key (a lookup that cannot
+     * be cached) is neither a hit nor a miss.
+     */
+    public T get(java.lang.Object Key)
+      {
+        if (Key == null)
+          return null;
+        long T0 = System.nanoTime();
+        LinkedHashMap<java.lang.Object, Entry<T>> S = getSegment(Key);
+        Entry<T> E;
+        synchronized (S)
+          {
+            E = S.get(Key);
+            if (E != null && _TTLNano > 0 && T0 - E._CreatedNano > _TTLNano)
+              {
+                S.remove(Key);
+                E = null;
+              }
+          }
+        if (E == null)
+          {
+            _Misses.increment();
+            PerfTracker.add(TransactionType.OBJECT_CACHE_MISS, System.nanoTime() - T0);
+            return null;
+          }
+        _Hits.increment();
+        PerfTracker.add(TransactionType.OBJECT_CACHE_HIT, System.nanoTime() - T0);
+        return E._Value;
+      }
+
+    /**
+     * @return a number that changes whenever anything is removed from this cache, to be passed to
+     *         {@link #put(java.lang.Object, java.lang.Object, long)}.
+     */
+    public long getVersion()
+      {
+        return _Version.get();
+      }
+
+    public void put(java.lang.Object Key, T Value)
+      {
+        put(Key, Value, -1);
+      }
+
+    /**
+     * Puts Value under Key unless Version is not -1 and something was removed from the cache since it was obtained
+     * from {@link #getVersion()}, e.g., because Value was changed by another transaction.
+     */
+    public void put(java.lang.Object Key, T Value, long Version)
+      {
+        long T0 = System.nanoTime();
+        LinkedHashMap<java.lang.Object, Entry<T>> S = getSegment(Key);
+        boolean Evicted = false;
+        synchronized (S)
+          {
+            if (Version != -1 && Version != _Version.get())
+              return;
+            S.put(Key, new Entry<T>(Value, T0));
+            if (S.size() > _SegmentMax)
+              {
+                Iterator<Entry<T>> I = S.values().iterator();
+                I.next();
+                I.remove();
+                Evicted = true;
+              }
+          }
+        if (Evicted == true)
+          {
+            _Evictions.increment();
+            PerfTracker.add(TransactionType.OBJECT_CACHE_EVICTION, System.nanoTime() - T0);
+          }
+      }
+
+    /**
+     * Puts Value under each of the non-null Keys once the transaction of C commits, as per
+     * {@link #put(java.lang.Object, java.lang.Object, long)}.
+     */
+    public void putAfterCommit(Connection C, long Version, T Value, java.lang.Object... Keys)
+    throws SQLException
+      {
+        C.afterCommit(() -> {
+          for (java.lang.Object Key : Keys)
+            if (Key != null)
+              put(Key, Value, Version);
+        });
+      }
+
+    /**
+     * Returns the value cached for Key, if any, even if expired, and without counting a hit or a miss.
+     */
+    public T peek(java.lang.Object Key)
+      {
+        LinkedHashMap<java.lang.Object, Entry<T>> S = getSegment(Key);
+        synchronized (S)
+          {
+            Entry<T> E = S.get(Key);
+            return E == null ? null : E._Value;
+          }
+      }
+
+    public void remove(java.lang.Object Key)
+      {
+        LinkedHashMap<java.lang.Object, Entry<T>> S = getSegment(Key);
+        synchronized (S)
+          {
+            _Version.incrementAndGet();
+            S.remove(Key);
+          }
+      }
+
+    public void removeAll(java.lang.Object... Keys)
+      {
+        for (java.lang.Object Key : Keys)
+          if (Key != null)
+            remove(Key);
+      }
+
+    /**
+     * Evicts the non-null Keys now, and again once the transaction of C commits.
+     */
+    public void evictOnCommit(Connection C, java.lang.Object... Keys)
+    throws SQLException
+      {
+        removeAll(Keys);
+        C.onCommit(() -> removeAll(Keys));
+      }
+
+    /**
+     * Evicts everything changed since the previous refresh, less {@link #DELTA_OVERLAP_SECONDS}. If it fails, the next
+     * refresh starts from the same point. While the cache is empty, there is nothing to evict and no query is run.
+     */
+    protected void refresh()
+      {
+        ZonedDateTime Start = ZonedDateTime.now();
+        if (size() == 0)
+          {
+            _Marker = Start.minusSeconds(DELTA_OVERLAP_SECONDS);
+            return;
+          }
+        Connection C = null;
+        try
+          {
+            C = ConnectionPool.get(_RefreshPoolId);
+            _Delta.evictChanged(C, _Marker);
+            C.rollback();
+            _Marker = Start.minusSeconds(DELTA_OVERLAP_SECONDS);
+          }
+        catch (Throwable T)
+          {
+            LOG.warn("Cannot refresh the object cache '" + _Name + "': changes from other servers are not seen until the next refresh succeeds.", T);
+          }
+        finally
+          {
+            if (C != null)
+              try
+                {
+                  C.close();
+                }
+              catch (Throwable T)
+                {
+                  LOG.error("Cannot close the connection used to refresh the object cache '" + _Name + "'.", T);
+                }
+          }
+      }
+
+    public void clear()
+      {
+        for (LinkedHashMap<java.lang.Object, Entry<T>> S : _Segments)
+          synchronized (S)
+            {
+              _Version.incrementAndGet();
+              S.clear();
+            }
+      }
+
+    public int size()
+      {
+        int n = 0;
+        for (LinkedHashMap<java.lang.Object, Entry<T>> S : _Segments)
+          synchronized (S)
+            {
+              n += S.size();
+            }
+        return n;
+      }
+
+    public String getName()
+      {
+        return _Name;
+      }
+
+    public int getMaxEntries()
+      {
+        return _MaxEntries;
+      }
+
+    public CacheEvictionPolicy getPolicy()
+      {
+        return _Policy;
+      }
+
+    public long getHits()
+      {
+        return _Hits.sum();
+      }
+
+    public long getMisses()
+      {
+        return _Misses.sum();
+      }
+
+    public long getEvictions()
+      {
+        return _Evictions.sum();
+      }
+
+    /**
+     * @return all the caches created so far, by name, sorted.
+     */
+    public static Map<String, ObjectCache<?>> getCaches()
+      {
+        return new TreeMap<String, ObjectCache<?>>(_CACHES);
+      }
+  }
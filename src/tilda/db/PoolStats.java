@@ -0,0 +1,148 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.io.Writer;
+import java.util.concurrent.atomic.LongAdder;
+
+import tilda.interfaces.JSONable;
+import tilda.performance.LatencyHistogram;
+import tilda.utils.JSONUtil;
+
+/**
+ * Telemetry for one {@link ConnectionPool} id: how long callers waited to get a connection, how many of them asked
+ * while the pool was at its maximum size, how many gave up, and how long connections were held between
+ * {@link ConnectionPool#get(String)} and {@link Connection#close()}. Counters are lock-free and cumulative since
+ * startup.
+ */
+public class PoolStats implements JSONable
+  {
+    protected PoolStats(String PoolId)
+      {
+        _PoolId = PoolId;
+      }
+
+    protected final String           _PoolId;
+    protected final LatencyHistogram _AcquireWait     = new LatencyHistogram();
+    protected final LongAdder        _AcquireWaitNano = new LongAdder();
+    protected final LatencyHistogram _Hold            = new LatencyHistogram();
+    protected final LongAdder        _HoldNano        = new LongAdder();
+    protected final LongAdder        _Exhausted       = new LongAdder();
+    protected final LongAdder        _Failed          = new LongAdder();
+    protected final LongAdder        _Leaked          = new LongAdder();
+
+    protected void acquired(Connection C, long WaitNano, boolean Exhausted)
+      {
+        _AcquireWait.add(WaitNano);
+        _AcquireWaitNano.add(WaitNano);
+        if (Exhausted == true)
+          _Exhausted.increment();
+        C._PoolStats = this;
+        C._AcquiredNano = System.nanoTime();
+        ConnectionLeakDetector.acquired(C);
+      }
+
+    protected void failed(long WaitNano, boolean Exhausted)
+      {
+        _AcquireWait.add(WaitNano);
+        _AcquireWaitNano.add(WaitNano);
+        if (Exhausted == true)
+          _Exhausted.increment();
+        _Failed.increment();
+      }
+
+    protected void released(Connection C)
+      {
+        long HoldNano = System.nanoTime() - C._AcquiredNano;
+        _Hold.add(HoldNano);
+        _HoldNano.add(HoldNano);
+        ConnectionLeakDetector.released(C, HoldNano);
+      }
+
+    public String getPoolId()
+      {
+        return _PoolId;
+      }
+
+    /**
+     * @return the histogram of the time taken by successful and failed attempts to get a connection.
+     */
+    public LatencyHistogram getAcquireWait()
+      {
+        return _AcquireWait;
+      }
+
+    public long getAcquireWaitNano()
+      {
+        return _AcquireWaitNano.sum();
+      }
+
+    /**
+     * @return the histogram of the time connections were held, from get to close.
+     */
+    public LatencyHistogram getHold()
+      {
+        return _Hold;
+      }
+
+    public long getHoldNano()
+      {
+        return _HoldNano.sum();
+      }
+
+    /**
+     * @return the number of attempts to get a connection while all of the pool's connections were in use.
+     */
+    public long getExhausted()
+      {
+        return _Exhausted.sum();
+      }
+
+    /**
+     * @return the number of attempts to get a connection that failed, typically after timing out.
+     */
+    public long getFailed()
+      {
+        return _Failed.sum();
+      }
+
+    /**
+     * @return the number of connections reported by the {@link ConnectionLeakDetector}.
+     */
+    public long getLeaked()
+      {
+        return _Leaked.sum();
+      }
+
+    @Override
+    public void toJSON(Writer Out, String JsonExportName, boolean FullObject)
+    throws Exception
+      {
+        Out.write("{");
+        JSONUtil.Print(Out, "pool", true, _PoolId);
+        JSONUtil.Print(Out, "exhausted", false, getExhausted());
+        JSONUtil.Print(Out, "failed", false, getFailed());
+        JSONUtil.Print(Out, "leaked", false, getLeaked());
+        Out.write(",\"acquireWait\":{");
+        JSONUtil.Print(Out, "nano", true, getAcquireWaitNano());
+        _AcquireWait.toJSON(Out, false);
+        Out.write("},\"hold\":{");
+        JSONUtil.Print(Out, "nano", true, getHoldNano());
+        _Hold.toJSON(Out, false);
+        Out.write("}}");
+      }
+  }
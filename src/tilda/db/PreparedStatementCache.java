@@ -0,0 +1,135 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.enums.TransactionType;
+import tilda.performance.PerfTracker;
+
+/**
+ * A bounded LRU cache of idle {@link PreparedStatement}s keyed by their SQL text, owned by a single
+ * {@link Connection}. Statements are borrowed with {@link #borrow(java.sql.Connection, String)}, which takes them out
+ * of the cache so that a nested use of the same SQL (for example a lookup done from inside a record processor) gets
+ * its own statement, and given back with {@link #release(PreparedStatement)}. Like the connection itself, this class
+ * is not thread-safe.
+ */
+public class PreparedStatementCache
+  {
+    static final Logger LOG = LogManager.getLogger(PreparedStatementCache.class.getName());
+
+    public PreparedStatementCache(int MaxSize)
+      {
+        _MaxSize = MaxSize;
+      }
+
+    protected final int                                      _MaxSize;
+    protected final LinkedHashMap<String, PreparedStatement> _Idle     = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true);
+    protected final Map<PreparedStatement, String>           _Borrowed = new IdentityHashMap<PreparedStatement, String>();
+
+    /**
+     * Returns an idle statement for Q if there is one, or prepares a new one. Either way, the statement must be
+     * handed back through {@link #release(PreparedStatement)}.
+     */
+    public PreparedStatement borrow(java.sql.Connection C, String Q)
+    throws SQLException
+      {
+        long T0 = System.nanoTime();
+        PreparedStatement PS = _Idle.remove(Q);
+        if (PS != null)
+          PerfTracker.add(TransactionType.STATEMENT_CACHE_HIT, System.nanoTime() - T0);
+        else
+          {
+            PS = C.prepareStatement(Q);
+            PerfTracker.add(TransactionType.STATEMENT_CACHE_MISS, System.nanoTime() - T0);
+          }
+        _Borrowed.put(PS, Q);
+        return PS;
+      }
+
+    /**
+     * Gives back a statement obtained from {@link #borrow(java.sql.Connection, String)} so it can be reused. Its
+     * current result set is closed, its parameters and any rows left in its batch (for example by a WriteBatch() that
+     * failed partway through) cleared, and its fetch size reset. Statements that were not borrowed from this cache are
+     * simply closed.
+     */
+    public void release(PreparedStatement PS)
+    throws SQLException
+      {
+        String Q = _Borrowed.remove(PS);
+        if (Q == null || _MaxSize <= 0 || _Idle.containsKey(Q) == true)
+          {
+            close(PS);
+            return;
+          }
+        ResultSet RS = PS.getResultSet();
+        if (RS != null)
+          RS.close();
+        PS.clearParameters();
+        PS.clearBatch();
+        if (PS.getFetchSize() != 0) // The next user may not want to stream.
+          PS.setFetchSize(0);
+        _Idle.put(Q, PS);
+        if (_Idle.size() > _MaxSize)
+          {
+            Iterator<PreparedStatement> I = _Idle.values().iterator();
+            PreparedStatement Eldest = I.next();
+            I.remove();
+            close(Eldest);
+          }
+      }
+
+    public int size()
+      {
+        return _Idle.size();
+      }
+
+    /**
+     * Closes all idle statements, and forgets about the borrowed ones (they will be closed when released).
+     */
+    public void clear()
+      {
+        for (PreparedStatement PS : _Idle.values())
+          try
+            {
+              close(PS);
+            }
+          catch (SQLException E)
+            {
+              LOG.error("Error: Cannot close a cached statement", E);
+            }
+        _Idle.clear();
+        _Borrowed.clear();
+      }
+
+    protected static void close(PreparedStatement PS)
+    throws SQLException
+      {
+        long T0 = System.nanoTime();
+        PS.close();
+        PerfTracker.add(TransactionType.STATEMENT_CLOSE, System.nanoTime() - T0);
+      }
+  }
@@ -52,7 +52,15 @@ public class QueryDetails
   public static String getLastQuerySecure()
    {
      QueryDetails LastQuery = _LastQuery.get();
-     return LastQuery == null ? null : LastQuery._Query.replaceAll("\'[^\']*\'", "'****'");
+     return LastQuery == null ? null : getSecure(LastQuery._Query);
+   }
+
+  /**
+   * Masks all string literals in Query so it can be logged or displayed without leaking data.
+   */
+  public static String getSecure(String Query)
+   {
+     return Query == null ? null : Query.replaceAll("\'[^\']*\'", "'****'");
    }
   
 }
\ No newline at end of file
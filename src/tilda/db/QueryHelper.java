@@ -44,6 +44,17 @@ import tilda.utils.TextUtil;
 public abstract class QueryHelper
   {
     protected QueryHelper(Connection C, StatementType ST, String SchemaName, String TableName, boolean fullSelect)
+      throws Exception
+      {
+        this(C, ST, SchemaName, TableName, fullSelect, false);
+      }
+
+    /**
+     * @param Parameterized if true, values are not inlined as SQL literals but appended as '?' placeholders and
+     *        collected in {@link #getParams()}, so that the query text stays the same across values and can be
+     *        executed (and plan-cached by the server) as a prepared statement.
+     */
+    protected QueryHelper(Connection C, StatementType ST, String SchemaName, String TableName, boolean fullSelect, boolean Parameterized)
       throws Exception
       {
         if (C == null)
@@ -57,6 +68,7 @@ public abstract class QueryHelper
         _C = C;
         _ST = ST;
         _FullSelect = fullSelect;
+        _Params = Parameterized == true ? new QueryParams() : null;
         _Section = S.START;
 
         if (_ST == StatementType.SELECT)
@@ -102,14 +114,182 @@ public abstract class QueryHelper
     protected S                   _Section     = null;
     protected boolean             _Where       = false;
     protected int                 _WherePos    = -1;
+    protected int                 _FromPos     = -1;
+    protected int                 _OrderByPos  = -1;
+    protected boolean             _Aggregated  = false;
     protected int                 _Cardinality = 0;
     List<ColumnDefinition>        _Columns = new ArrayList<ColumnDefinition>();
     protected int                 _SubSelectCount = 0;
+    protected final QueryParams   _Params;
 
     public int getCardinality()
       {
         return _Cardinality;
       }
+
+    public boolean isParameterized()
+      {
+        return _Params != null;
+      }
+
+    /**
+     * @return the bind values collected so far if this query is parameterized, or null otherwise.
+     */
+    public QueryParams getParams()
+      {
+        return _Params;
+      }
+
+    /**
+     * Binds the values collected by this parameterized query to PS, starting after position i. Does nothing for
+     * a non-parameterized query.
+     * @return the last position bound.
+     */
+    public int bindParams(java.sql.PreparedStatement PS, int i)
+    throws java.sql.SQLException
+      {
+        return _Params == null ? i : _Params.bind(PS, i);
+      }
+
+    protected final void mergeParams(QueryHelper Q)
+    throws Exception
+      {
+        if (Q._Params == null || Q._Params.isEmpty() == true)
+          return;
+        if (_Params == null)
+          throw new Exception("Invalid query syntax: cannot embed a parameterized query in a non-parameterized one: "+_QueryStr.toString());
+        _Params.addAll(Q._Params);
+      }
+
+    protected final void appendValue(String V)
+      {
+        if (_Params == null)
+          TextUtil.EscapeSingleQuoteForSQL(_QueryStr, V);
+        else
+          {
+            _QueryStr.append('?');
+            _Params.add(V);
+          }
+      }
+
+    protected final void appendValue(char V)
+      {
+        if (_Params == null)
+          TextUtil.EscapeSingleQuoteForSQL(_QueryStr, "" + V);
+        else
+          {
+            _QueryStr.append('?');
+            _Params.add(V);
+          }
+      }
+
+    protected final void appendValue(boolean V)
+      {
+        if (_Params == null)
+          _QueryStr.append(V);
+        else
+          {
+            _QueryStr.append('?');
+            _Params.add(V);
+          }
+      }
+
+    protected final void appendValue(int V)
+      {
+        if (_Params == null)
+          _QueryStr.append(V);
+        else
+          {
+            _QueryStr.append('?');
+            _Params.add(V);
+          }
+      }
+
+    protected final void appendValue(long V)
+      {
+        if (_Params == null)
+          _QueryStr.append(V);
+        else
+          {
+            _QueryStr.append('?');
+            _Params.add(V);
+          }
+      }
+
+    protected final void appendValue(float V)
+      {
+        if (_Params == null)
+          _QueryStr.append(V);
+        else
+          {
+            _QueryStr.append('?');
+            _Params.add(V);
+          }
+      }
+
+    protected final void appendValue(double V)
+      {
+        if (_Params == null)
+          _QueryStr.append(V);
+        else
+          {
+            _QueryStr.append('?');
+            _Params.add(V);
+          }
+      }
+
+    /**
+     * The NOW placeholder is always rendered as the DB's current timestamp function, and null as NULL.
+     */
+    protected final void appendValue(ZonedDateTime V)
+    throws Exception
+      {
+        if (DateTimeUtil.isNowPlaceholder(V) == true)
+          _QueryStr.append(_C.getCurrentTimestampStr());
+        else if (V == null)
+          _QueryStr.append("NULL");
+        else if (_Params == null)
+          _QueryStr.append("'").append(DateTimeUtil.printDateTimeForSQL(V)).append("'");
+        else
+          {
+            _QueryStr.append('?');
+            _Params.add(V);
+          }
+      }
+
+    protected final void appendValues(String[] V)
+      {
+        if (V == null)
+          return;
+        boolean First = true;
+        for (String v : V)
+          {
+            if (v == null)
+              continue;
+            if (First == true)
+              First = false;
+            else
+              _QueryStr.append(", ");
+            appendValue(v);
+          }
+      }
+
+    protected final void appendValues(Collection<String> V)
+      {
+        if (V == null)
+          return;
+        boolean First = true;
+        for (String v : V)
+          {
+            if (v == null)
+              continue;
+            if (First == true)
+              First = false;
+            else
+              _QueryStr.append(", ");
+            appendValue(v);
+          }
+      }
     
     public Iterator<ColumnDefinition> getColumns()
      {
@@ -155,6 +335,7 @@ public abstract class QueryHelper
         Str.append("distinct(");
         Col.getFullColumnVarForSelect(_C, Str);
         Str.append(")");
+        _Aggregated = true;
         return selectColumnBase(Str.toString());
       }
 
@@ -162,6 +343,7 @@ public abstract class QueryHelper
     throws Exception
       {
         _Columns.add(new ColumnDefinition(_SchemaName, _TableName, "count", 0, ColumnType.LONG, false, ""));
+        _Aggregated = true;
         return selectColumnBase("count(*)");
       }
     
@@ -173,12 +355,14 @@ public abstract class QueryHelper
         Str.append(_C.getAggregateStr(Agg)).append("(");
         Col.getFullColumnVarForSelect(_C, Str);
         Str.append(") as \"").append(Alias).append("\"");
+        _Aggregated = true;
         return selectColumnBase(Str.toString());
       }
     
     public final QueryHelper selectColumn(int TableId, String ColumnName, AggregateType Agg, String AliasName)
     throws Exception
      {
+       _Aggregated = true;
        return selectColumnBase(_C.getAggregateStr(Agg)+"(T"+TableId+".\""+ColumnName+"\") as \""+AliasName+"\"");
      }
 
@@ -189,6 +373,7 @@ public abstract class QueryHelper
           throw new Exception("Invalid query syntax: Calling from() with '" + TableName + "' after a " + _Section + " in a query of type " + _ST + ": "+_QueryStr.toString());
         if (_Section != S.FROM)
           {
+            _FromPos = _QueryStr.length();
             _QueryStr.append(" from ");
             _C.getFullTableVar(_QueryStr, _SchemaName, _TableName);
           }
@@ -208,10 +393,12 @@ public abstract class QueryHelper
           throw new Exception("Invalid query syntax: Calling from() with a subselect after a " + _Section + " in a query of type " + _ST + ": "+_QueryStr.toString());
         if (_Section != S.FROM)
           {
+            _FromPos = _QueryStr.length();
             _QueryStr.append(" from ");
             _C.getFullTableVar(_QueryStr, _SchemaName, _TableName);
           }
          _QueryStr.append(_Section == S.FROM || _TableName != null? ", (" : " (").append(FullSelect._QueryStr).append(") as T").append(++_SubSelectCount);
+        mergeParams(FullSelect);
         _Section = S.FROM;
         return this;
       }
@@ -226,6 +413,7 @@ public abstract class QueryHelper
           {
             if (_Section != S.FROM && _ST == StatementType.SELECT)
              {
+               _FromPos = _QueryStr.length();
                _QueryStr.append(" from ");
                _C.getFullTableVar(_QueryStr, _SchemaName, _TableName);
              }
@@ -239,8 +427,10 @@ public abstract class QueryHelper
 
 
     public QueryHelper subWhere(SelectQuery subWhere)
+    throws Exception
       {
         _QueryStr.append(subWhere.toString());
+        mergeParams(subWhere);
         return this;
       }
     
@@ -346,7 +536,7 @@ public abstract class QueryHelper
             else
               {
                 _QueryStr.append(O._Str);
-                TextUtil.EscapeSingleQuoteForSQL(_QueryStr, V);
+                appendValue(V);
               }
             _Section = S.WHERE;
           }
@@ -359,7 +549,8 @@ public abstract class QueryHelper
       {
         if (_ST == StatementType.SELECT && (_Section == S.WHERE || _Section == S.FROM) || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            _QueryStr.append(O._Str).append(V);
+            _QueryStr.append(O._Str);
+            appendValue(V);
             _Section = S.WHERE;
           }
         else
@@ -371,7 +562,8 @@ public abstract class QueryHelper
       {
         if (_ST == StatementType.SELECT && (_Section == S.WHERE || _Section == S.FROM) || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            _QueryStr.append(O._Str).append(V);
+            _QueryStr.append(O._Str);
+            appendValue(V);
             _Section = S.WHERE;
           }
         else
@@ -383,7 +575,8 @@ public abstract class QueryHelper
       {
         if (_ST == StatementType.SELECT && (_Section == S.WHERE || _Section == S.FROM) || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            _QueryStr.append(O._Str).append(V);
+            _QueryStr.append(O._Str);
+            appendValue(V);
             _Section = S.WHERE;
           }
         else
@@ -395,7 +588,8 @@ public abstract class QueryHelper
       {
         if (_ST == StatementType.SELECT && (_Section == S.WHERE || _Section == S.FROM) || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            _QueryStr.append(O._Str).append(V);
+            _QueryStr.append(O._Str);
+            appendValue(V);
             _Section = S.WHERE;
           }
         else
@@ -407,7 +601,8 @@ public abstract class QueryHelper
       {
         if (_ST == StatementType.SELECT && (_Section == S.WHERE || _Section == S.FROM) || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET) || _ST == StatementType.DELETE && _Section == S.WHERE)
           {
-            _QueryStr.append(O._Str).append(V);
+            _QueryStr.append(O._Str);
+            appendValue(V);
             _Section = S.WHERE;
           }
         else
@@ -419,7 +614,8 @@ public abstract class QueryHelper
       {
         if (_ST == StatementType.SELECT && (_Section == S.WHERE || _Section == S.FROM) || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            _QueryStr.append(O._Str).append('\'').append(V).append('\'');
+            _QueryStr.append(O._Str);
+            appendValue(V);
             _Section = S.WHERE;
           }
         else
@@ -449,7 +645,8 @@ public abstract class QueryHelper
               }
             else
               {
-                _QueryStr.append(O._Str).append("'").append(DateTimeUtil.printDateTimeForSQL(V)).append("'");
+                _QueryStr.append(O._Str);
+                appendValue(V);
               }
             _Section = S.WHERE;
           }
@@ -641,7 +838,7 @@ public abstract class QueryHelper
         _QueryStr.append(" in (");
         if (_ST == StatementType.SELECT && _Section == S.WHERE || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            TextUtil.EscapeSingleQuoteForSQL(_QueryStr, V, true);
+            appendValues(V);
             _QueryStr.append(")");
             return this;
           }
@@ -654,7 +851,7 @@ public abstract class QueryHelper
         _QueryStr.append(" in (");
         if (_ST == StatementType.SELECT && _Section == S.WHERE || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            TextUtil.EscapeSingleQuoteForSQL(_QueryStr, V, true);
+            appendValues(V);
             _QueryStr.append(")");
             return this;
           }
@@ -669,7 +866,7 @@ public abstract class QueryHelper
         _QueryStr.append(", ARRAY[");
         if (_ST == StatementType.SELECT && _Section == S.WHERE || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            TextUtil.EscapeSingleQuoteForSQL(_QueryStr, V, true);
+            appendValues(V);
             _QueryStr.append("])");
             return this;
           }
@@ -683,7 +880,7 @@ public abstract class QueryHelper
         _QueryStr.append(", ARRAY[");
         if (_ST == StatementType.SELECT && _Section == S.WHERE || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
-            TextUtil.EscapeSingleQuoteForSQL(_QueryStr, V, true);
+            appendValues(V);
             _QueryStr.append("])");
             return this;
           }
@@ -703,7 +900,7 @@ public abstract class QueryHelper
                 {
                   if (i != 0)
                     _QueryStr.append(", ");
-                  TextUtil.EscapeSingleQuoteForSQL(_QueryStr, "" + v[i]);
+                  appendValue(v[i]);
                 }
             _QueryStr.append(")");
             return this;
@@ -723,7 +920,7 @@ public abstract class QueryHelper
                 {
                   if (i != 0)
                     _QueryStr.append(", ");
-                  _QueryStr.append(v[i]);
+                  appendValue(v[i]);
                 }
             _QueryStr.append(")");
             return this;
@@ -743,7 +940,7 @@ public abstract class QueryHelper
                 {
                   if (i != 0)
                     _QueryStr.append(", ");
-                  _QueryStr.append(v[i]);
+                  appendValue(v[i]);
                 }
             _QueryStr.append(")");
             return this;
@@ -763,7 +960,7 @@ public abstract class QueryHelper
                 {
                   if (i != 0)
                     _QueryStr.append(", ");
-                  _QueryStr.append(v[i]);
+                  appendValue(v[i]);
                 }
             _QueryStr.append(")");
             return this;
@@ -783,7 +980,7 @@ public abstract class QueryHelper
                 {
                   if (i != 0)
                     _QueryStr.append(", ");
-                  _QueryStr.append(v[i]);
+                  appendValue(v[i]);
                 }
             _QueryStr.append(")");
             return this;
@@ -803,12 +1000,7 @@ public abstract class QueryHelper
                 {
                   if (i != 0)
                     _QueryStr.append(", ");
-                  if (DateTimeUtil.isNowPlaceholder(v[i]) == true)
-                    _QueryStr.append(_C.getCurrentTimestampStr());
-                  else if (v[i] == null)
-                    _QueryStr.append("NULL");
-                  else
-                    _QueryStr.append("'").append(DateTimeUtil.printDateTimeForSQL(v[i])).append("'");
+                  appendValue(v[i]);
                 }
             _QueryStr.append(")");
             return this;
@@ -833,13 +1025,7 @@ public abstract class QueryHelper
                       first = false;
                     else
                       _QueryStr.append(", ");
-                    ZonedDateTime val = I.next();
-                    if (DateTimeUtil.isNowPlaceholder(val) == true)
-                      _QueryStr.append(_C.getCurrentTimestampStr());
-                    else if (val == null)
-                      _QueryStr.append("NULL");
-                    else
-                      _QueryStr.append("'").append(DateTimeUtil.printDateTimeForSQL(val)).append("'");
+                    appendValue(I.next());
                   }
               }
             _QueryStr.append(")");
@@ -858,6 +1044,7 @@ public abstract class QueryHelper
         if (_ST == StatementType.SELECT && _Section == S.WHERE || _ST == StatementType.UPDATE && (_Section == S.WHERE || _Section == S.SET))
           {
             _QueryStr.append(Q._QueryStr).append(")");
+            mergeParams(Q);
             return this;
           }
         throw new Exception("Invalid query syntax: Calling the operator 'in' after a " + _Section + " in a query of type " + _ST + ": "+_QueryStr.toString());
@@ -1720,7 +1907,7 @@ public abstract class QueryHelper
         _QueryStr.append(" TILDA.like(");
         Col.getFullColumnVarForSelect(_C, _QueryStr);
         _QueryStr.append(", ");
-        TextUtil.EscapeSingleQuoteForSQL(_QueryStr, V);
+        appendValue(V);
         _QueryStr.append(")");
         return this;
       }
@@ -1735,7 +1922,7 @@ public abstract class QueryHelper
         for (String v : V)
           {
             if (First == true) First = false; else _QueryStr.append(", ");
-            TextUtil.EscapeSingleQuoteForSQL(_QueryStr, v);
+            appendValue(v);
           }
         _QueryStr.append("])");
         return this;
@@ -1809,7 +1996,7 @@ public abstract class QueryHelper
     // ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     public QueryHelper any(Type_StringCollection Col, String v)
       {
-        TextUtil.EscapeSingleQuoteForSQL(_QueryStr, v);
+        appendValue(v);
         _QueryStr.append(" any ");
         Col.getFullColumnVarForSelect(_C, _QueryStr);
         return this;
@@ -1828,7 +2015,7 @@ public abstract class QueryHelper
               First = false;
             else
               _QueryStr.append(", ");
-            TextUtil.EscapeSingleQuoteForSQL(_QueryStr, v);
+            appendValue(v);
           }
         _QueryStr.append("]");
         return this;
@@ -1847,7 +2034,7 @@ public abstract class QueryHelper
               First = false;
             else
               _QueryStr.append(", ");
-            TextUtil.EscapeSingleQuoteForSQL(_QueryStr, v);
+            appendValue(v);
           }
         _QueryStr.append("]");
         return this;
@@ -1856,7 +2043,7 @@ public abstract class QueryHelper
 
     public QueryHelper any(Type_IntegerCollection Col, int v)
       {
-        _QueryStr.append(v);
+        appendValue(v);
         _QueryStr.append(" any ");
         Col.getFullColumnVarForSelect(_C, _QueryStr);
         return this;
@@ -1875,7 +2062,7 @@ public abstract class QueryHelper
               First = false;
             else
               _QueryStr.append(", ");
-            _QueryStr.append(v);
+            appendValue(v);
           }
         _QueryStr.append("]");
         return this;
@@ -1883,7 +2070,7 @@ public abstract class QueryHelper
 
     public QueryHelper any(Type_CharCollection Col, char v)
       {
-        _QueryStr.append("'").append(v).append("'");
+        appendValue(v);
         _QueryStr.append(" any ");
         Col.getFullColumnVarForSelect(_C, _QueryStr);
         return this;
@@ -1896,13 +2083,13 @@ public abstract class QueryHelper
         Col.getFullColumnVarForSelect(_C, _QueryStr);
         _QueryStr.append(" && ARRAY[");
         boolean First = true;
-        for (int v : Vals)
+        for (char v : Vals)
           {
             if (First == true)
               First = false;
             else
               _QueryStr.append(", ");
-            _QueryStr.append("'").append(v).append("'");
+            appendValue(v);
           }
         _QueryStr.append("]");
         return this;
@@ -1919,6 +2106,7 @@ public abstract class QueryHelper
           _QueryStr.append(" group by ");
         Col.getFullColumnVarForSelect(_C, _QueryStr);
         _Section = S.GROUPBY;
+        _Aggregated = true;
         return this;
       }
 
@@ -1930,7 +2118,10 @@ public abstract class QueryHelper
         if (_Section == S.ORDERBY)
           _QueryStr.append(", ");
         else
-          _QueryStr.append(" order by ");
+          {
+            _OrderByPos = _QueryStr.length();
+            _QueryStr.append(" order by ");
+          }
         _Section = S.ORDERBY;
       }
     
@@ -1962,13 +2153,16 @@ public abstract class QueryHelper
     
 
     public QueryHelper ageBetween(Type_DatetimePrimitive Col, int[] ageRange)
+    throws Exception
       {
         ZonedDateTime Today = DateTimeUtil.getTodayTimestamp(true);
         ZonedDateTime D1 = Today.minusYears(ageRange[1]);
         ZonedDateTime D2 = Today.minusYears(ageRange[0]-1).minusNanos(1);
         Col.getFullColumnVarForSelect(_C, _QueryStr);
-        _QueryStr.append(" BETWEEN ").append("'").append(DateTimeUtil.printDateTimeForSQL(D1)).append("'")
-                 .append(" AND ").append("'").append(DateTimeUtil.printDateTimeForSQL(D2)).append("'");
+        _QueryStr.append(" BETWEEN ");
+        appendValue(D1);
+        _QueryStr.append(" AND ");
+        appendValue(D2);
         return this;
       }
     
@@ -2006,8 +2200,10 @@ public abstract class QueryHelper
         ZonedDateTime Yesterday = DateTimeUtil.getIthDayTimestamp(true, -1);
         ZonedDateTime D1 = Yesterday.minusYears(Age-1);
         Col.getFullColumnVarForSelect(_C, _QueryStr);
-        _QueryStr.append(" BETWEEN ").append("'").append(DateTimeUtil.printDateTimeForSQL(D1)).append("'")
-                 .append(" AND ").append("'").append(DateTimeUtil.printDateTimeForSQL(Yesterday)).append("'");
+        _QueryStr.append(" BETWEEN ");
+        appendValue(D1);
+        _QueryStr.append(" AND ");
+        appendValue(Yesterday);
         return this;
       }
 
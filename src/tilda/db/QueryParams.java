@@ -0,0 +1,143 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import tilda.enums.ColumnType;
+import tilda.utils.DateTimeUtil;
+
+/**
+ * Typed bind values collected by a parameterized {@link QueryHelper}, in the order in which their '?' placeholders
+ * were appended to the query text.
+ */
+public class QueryParams
+  {
+    protected static class Param
+      {
+        protected Param(ColumnType Type, java.lang.Object Val)
+          {
+            _Type = Type;
+            _Val = Val;
+          }
+
+        protected final ColumnType       _Type;
+        protected final java.lang.Object _Val;
+      }
+
+    protected final List<Param> _Params = new ArrayList<Param>();
+
+    public void add(String V)
+      {
+        _Params.add(new Param(ColumnType.STRING, V));
+      }
+
+    public void add(char V)
+      {
+        _Params.add(new Param(ColumnType.CHAR, V));
+      }
+
+    public void add(boolean V)
+      {
+        _Params.add(new Param(ColumnType.BOOLEAN, V));
+      }
+
+    public void add(int V)
+      {
+        _Params.add(new Param(ColumnType.INTEGER, V));
+      }
+
+    public void add(long V)
+      {
+        _Params.add(new Param(ColumnType.LONG, V));
+      }
+
+    public void add(float V)
+      {
+        _Params.add(new Param(ColumnType.FLOAT, V));
+      }
+
+    public void add(double V)
+      {
+        _Params.add(new Param(ColumnType.DOUBLE, V));
+      }
+
+    public void add(ZonedDateTime V)
+      {
+        _Params.add(new Param(ColumnType.DATETIME, V));
+      }
+
+    public void addAll(QueryParams P)
+      {
+        if (P != null)
+          _Params.addAll(P._Params);
+      }
+
+    public int size()
+      {
+        return _Params.size();
+      }
+
+    public boolean isEmpty()
+      {
+        return _Params.isEmpty();
+      }
+
+    /**
+     * Binds all the values to the prepared statement, starting after position i.
+     *
+     * @param PS
+     * @param i the last position already bound (0 if none)
+     * @return the last position bound, so that generated code can continue with ++i.
+     * @throws SQLException
+     */
+    public int bind(PreparedStatement PS, int i)
+    throws SQLException
+      {
+        for (Param P : _Params)
+          switch (P._Type)
+            {
+              case STRING  : PS.setString (++i, (String) P._Val); break;
+              case CHAR    : PS.setString (++i, "" + (Character) P._Val); break;
+              case BOOLEAN : PS.setBoolean(++i, (Boolean) P._Val); break;
+              case INTEGER : PS.setInt    (++i, (Integer) P._Val); break;
+              case LONG    : PS.setLong   (++i, (Long) P._Val); break;
+              case FLOAT   : PS.setFloat  (++i, (Float) P._Val); break;
+              case DOUBLE  : PS.setDouble (++i, (Double) P._Val); break;
+              case DATETIME: PS.setTimestamp(++i, new java.sql.Timestamp(((ZonedDateTime) P._Val).toInstant().toEpochMilli()), DateTimeUtil._UTC_CALENDAR); break;
+              default: throw new SQLException("Cannot bind a query parameter of type " + P._Type + ".");
+            }
+        return i;
+      }
+
+    public String toString()
+      {
+        StringBuilder Str = new StringBuilder();
+        for (int i = 0; i < _Params.size(); ++i)
+          {
+            if (i != 0)
+              Str.append("; ");
+            Param P = _Params.get(i);
+            Str.append(i + 1).append(": ").append(P._Type == ColumnType.DATETIME ? DateTimeUtil.printDateTimeForSQL((ZonedDateTime) P._Val) : String.valueOf(P._Val));
+          }
+        return Str.toString();
+      }
+  }
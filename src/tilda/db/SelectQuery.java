@@ -16,7 +16,10 @@
 
 package tilda.db;
 
+import java.sql.ResultSet;
+
 import tilda.db.processors.RecordProcessor;
+import tilda.db.processors.ScalarRP;
 import tilda.enums.StatementType;
 
 /**
@@ -38,10 +41,76 @@ public class SelectQuery extends QueryHelper
       {
         super(C, StatementType.SELECT, SchemaName, TableName, fullSelect);
       }
+
+    public SelectQuery(Connection C, String SchemaName, String TableName, boolean fullSelect, boolean Parameterized)
+      throws Exception
+      {
+        super(C, StatementType.SELECT, SchemaName, TableName, fullSelect, Parameterized);
+      }
     
+    protected int _FetchSize = -1;
+
+    /**
+     * Sets how many rows at a time this query fetches from the server when its results are processed one at a time
+     * (with {@link #execute(RecordProcessor, int, int)}, or runSelect() with an ObjectProcessor), so that they are
+     * streamed with bounded memory. By default, the connection's fetch size is used. 0 lets the driver read the
+     * whole result at once.
+     */
+    public SelectQuery setFetchSize(int FetchSize)
+      {
+        _FetchSize = FetchSize;
+        return this;
+      }
+
+    /**
+     * @return the fetch size set with {@link #setFetchSize(int)}, or Default if none was set.
+     */
+    public int getFetchSize(int Default)
+      {
+        return _FetchSize < 0 ? Default : _FetchSize;
+      }
+
     public int execute(RecordProcessor RP, int Start, int Size)
       throws Exception
       {
-        return _C.ExecuteSelect(_SchemaName, _TableName, _QueryStr.toString()+_C.getSelectLimitClause(Start, Size+1), RP, Start, _C.supportsSelectOffset(), Size, _C.supportsSelectLimit());
+        return execute(RP, Start, Size, false);
+      }
+
+    /**
+     * Same as {@link #execute(RecordProcessor, int, int)}, but if CountAll is true, the total number of rows of the
+     * query is also passed to RP.End() as Max: through a 'count(*) over()' column added at the end of the select list
+     * where the data store supports it, or by counting the rows past the page otherwise. Since the window column is
+     * computed before distinct and grouping are applied, queries using them, or aggregates, are counted with a
+     * separate 'select count(*) from (query)' instead.
+     */
+    public int execute(RecordProcessor RP, int Start, int Size, boolean CountAll)
+      throws Exception
+      {
+        String Q = _QueryStr.toString();
+        if (CountAll == true && _Aggregated == true)
+          {
+            ScalarRP Count = new ScalarRP();
+            _C.ExecuteSelect(_SchemaName, _TableName, "select count(*) from (" + (_OrderByPos == -1 ? Q : Q.substring(0, _OrderByPos)) + ") T", _Params, Count, 0, true, -1, true, false);
+            int Max = (int) Count.getResult();
+            RecordProcessor Counted = new RecordProcessor()
+              {
+                public void Start()
+                  {
+                    RP.Start();
+                  }
+                public boolean Process(int Index, ResultSet RS) throws Exception
+                  {
+                    return RP.Process(Index, RS);
+                  }
+                public void End(boolean hasMore, int MaxIndex)
+                  {
+                    RP.End(hasMore, Max);
+                  }
+              };
+            return _C.ExecuteSelect(_SchemaName, _TableName, Q+_C.getSelectLimitClause(Start, Size+1), _Params, Counted, Start, _C.supportsSelectOffset(), Size, _C.supportsSelectLimit(), false, getFetchSize(_C.getFetchSize()));
+          }
+        if (CountAll == true && _C.supportsCountOver() == true)
+          Q = _FromPos == -1 ? Q + JDBCHelper.COUNT_OVER_COLUMN : Q.substring(0, _FromPos) + JDBCHelper.COUNT_OVER_COLUMN + Q.substring(_FromPos);
+        return _C.ExecuteSelect(_SchemaName, _TableName, Q+_C.getSelectLimitClause(Start, Size+1), _Params, RP, Start, _C.supportsSelectOffset(), Size, _C.supportsSelectLimit(), CountAll, getFetchSize(_C.getFetchSize()));
       }
   }
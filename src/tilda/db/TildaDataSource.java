@@ -0,0 +1,63 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+
+/**
+ * The data source behind a {@link ConnectionPool} id. It gives access to statistics of the underlying object pool
+ * that {@link BasicDataSource} doesn't expose, such as the number of threads waiting for a connection.
+ */
+public class TildaDataSource extends BasicDataSource
+  {
+    /**
+     * @return the number of threads currently blocked waiting for a connection.
+     */
+    public int getNumWaiters()
+      {
+        GenericObjectPool<?> P = getConnectionPool();
+        return P == null ? 0 : P.getNumWaiters();
+      }
+
+    /**
+     * @return the mean time, in milliseconds, that recent borrowers waited for a connection.
+     */
+    public long getMeanBorrowWaitTimeMillis()
+      {
+        GenericObjectPool<?> P = getConnectionPool();
+        return P == null ? 0 : P.getMeanBorrowWaitTimeMillis();
+      }
+
+    /**
+     * @return the longest time, in milliseconds, that a borrower waited for a connection since the pool started.
+     */
+    public long getMaxBorrowWaitTimeMillis()
+      {
+        GenericObjectPool<?> P = getConnectionPool();
+        return P == null ? 0 : P.getMaxBorrowWaitTimeMillis();
+      }
+
+    /**
+     * @return the total number of connections handed out since the pool started.
+     */
+    public long getBorrowedCount()
+      {
+        GenericObjectPool<?> P = getConnectionPool();
+        return P == null ? 0 : P.getBorrowedCount();
+      }
+  }
@@ -38,9 +38,15 @@ public class UpdateQuery extends QueryHelper
         super(C, StatementType.UPDATE, SchemaName, TableName, true);
       }
 
+    public UpdateQuery(Connection C, String SchemaName, String TableName, boolean Parameterized)
+      throws Exception
+      {
+        super(C, StatementType.UPDATE, SchemaName, TableName, true, Parameterized);
+      }
+
     public int execute()
       throws Exception
       {
-        return _C.ExecuteUpdate(_SchemaName, _TableName, _QueryStr.toString());
+        return _C.ExecuteUpdate(_SchemaName, _TableName, _QueryStr.toString(), _Params);
       }
   }
@@ -24,7 +24,9 @@ import java.util.Collection;
 import java.util.List;
 
 import tilda.data.ZoneInfo_Data;
+import tilda.db.BulkWriter;
 import tilda.db.Connection;
+import tilda.db.QueryParams;
 import tilda.enums.AggregateType;
 import tilda.enums.ColumnType;
 import tilda.generation.interfaces.CodeGenSql;
@@ -44,6 +46,18 @@ public interface DBType
     public boolean isLockOrConnectionError(SQLException t);
     public boolean needsSavepoint();
     public boolean supportsArrays();
+    public boolean supportsBulkLoad();
+    /**
+     * Whether a server of the given version can run the queries built by getUpsertQuery(). If not, generated
+     * *_Json.Write() methods fall back to a read followed by an insert or an update.
+     */
+    public boolean supportsUpsert(int MajorVersion, int MinorVersion);
+    /**
+     * Whether a query can get its total row count as a 'count(*) over()' window column along with a page of rows
+     * (see {@link tilda.db.JDBCHelper#COUNT_OVER_COLUMN}). If not, the count is computed by skipping forward through
+     * the rest of an unlimited result.
+     */
+    public boolean supportsCountOver();
     public boolean supportsSelectLimit();
     public boolean supportsSelectOffset();
     public String  getSelectLimitClause(int Start, int Size);
@@ -81,4 +95,20 @@ public interface DBType
     public String        getJsonParametrizedQueryPlaceHolder();
     public void          setOrderByWithNullsOrdering(Connection C, StringBuilder Str, ColumnDefinition Col, boolean Asc, boolean NullsLast);
     public void truncateTable(Connection C, String schemaName, String tableName) throws Exception;
+    public BulkWriter newBulkWriter(Connection C, String SchemaName, String TableName, String Columns) throws Exception;
+    /**
+     * Builds a single statement inserting a row, or updating the existing row matching it on KeyColumns, and
+     * returning ReturnColumns for the resulting row. Values are the SQL expressions (typically '?') for Columns,
+     * bound in that order. UpdateColumns are overwritten with the new values for an existing row, and if any of
+     * InvariantColumns differ from the new values, the existing row is left untouched and no row is returned.
+     */
+    public String getUpsertQuery(Connection C, String SchemaName, String TableName, List<String> Columns, List<String> Values, List<String> KeyColumns,
+                                 List<String> UpdateColumns, List<String> InvariantColumns, List<String> ReturnColumns);
+    /**
+     * Asks the database for its execution plan for Query, without running it (e.g., 'EXPLAIN (FORMAT JSON)' on
+     * Postgres). If Params is not null, they are bound to the query's placeholders.
+     * 
+     * @return the plan as text, or null if this database type doesn't support it.
+     */
+    public String getExplainPlan(Connection C, String Query, QueryParams Params) throws Exception;
   }
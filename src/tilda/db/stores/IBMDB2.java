@@ -27,7 +27,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import tilda.data.ZoneInfo_Data;
+import tilda.db.BulkWriter;
 import tilda.db.Connection;
+import tilda.db.QueryParams;
 import tilda.enums.AggregateType;
 import tilda.enums.ColumnType;
 import tilda.generation.interfaces.CodeGenSql;
@@ -217,6 +219,24 @@ public class IBMDB2 implements DBType
         return false;
       }
 
+    @Override
+    public boolean supportsBulkLoad()
+      {
+        return false;
+      }
+
+    @Override
+    public boolean supportsUpsert(int MajorVersion, int MinorVersion)
+      {
+        return false;
+      }
+
+    @Override
+    public boolean supportsCountOver()
+      {
+        return false;
+      }
+
     @Override
     public void getFullColumnVar(StringBuilder Str, String SchemaName, String TableName, String ColumnName)
       {
@@ -287,5 +307,25 @@ public class IBMDB2 implements DBType
         
       }
 
+    @Override
+    public BulkWriter newBulkWriter(Connection C, String SchemaName, String TableName, String Columns)
+    throws Exception
+      {
+        throw new Exception("Bulk loading is not supported on DB2; check supportsBulkLoad() or use WriteBatch().");
+      }
+
+    @Override
+    public String getExplainPlan(Connection C, String Query, QueryParams Params)
+      {
+        return null;
+      }
+
+    @Override
+    public String getUpsertQuery(Connection C, String SchemaName, String TableName, List<String> Columns, List<String> Values, List<String> KeyColumns,
+                                 List<String> UpdateColumns, List<String> InvariantColumns, List<String> ReturnColumns)
+      {
+        throw new UnsupportedOperationException();
+      }
+
 
   }
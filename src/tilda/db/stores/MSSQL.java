@@ -22,6 +22,7 @@ import java.sql.Array;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,7 +32,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import tilda.data.ZoneInfo_Data;
+import tilda.db.BulkWriter;
 import tilda.db.Connection;
+import tilda.db.QueryParams;
 import tilda.enums.AggregateType;
 import tilda.enums.ColumnType;
 import tilda.generation.Generator;
@@ -103,6 +106,25 @@ public class MSSQL implements DBType
         return false;
       }
 
+    @Override
+    public boolean supportsBulkLoad()
+      {
+        return false;
+      }
+
+    @Override
+    public boolean supportsUpsert(int MajorVersion, int MinorVersion)
+      {
+        // 'merge' was introduced in SQL Server 2008.
+        return MajorVersion >= 10;
+      }
+
+    @Override
+    public boolean supportsCountOver()
+      {
+        return true;
+      }
+
     @Override
     public String getSelectLimitClause(int Start, int Size)
       {
@@ -397,5 +419,129 @@ public class MSSQL implements DBType
         getFullTableVar(Str, schemaName, tableName);
         C.ExecuteUpdate(schemaName, tableName, Str.toString());
       }
+
+    @Override
+    public BulkWriter newBulkWriter(Connection C, String SchemaName, String TableName, String Columns)
+    throws Exception
+      {
+        throw new Exception("Bulk loading is not supported on SQL Server; check supportsBulkLoad() or use WriteBatch().");
+      }
+
+    /**
+     * Uses SHOWPLAN_XML, which must be set in a batch of its own and makes the server return the plan of the
+     * statements that follow instead of running them, including prepared ones.
+     */
+    @Override
+    public String getExplainPlan(Connection C, String Query, QueryParams Params)
+    throws Exception
+      {
+        Statement S = C.createStatement();
+        try
+          {
+            S.execute("SET SHOWPLAN_XML ON");
+            PreparedStatement PS = null;
+            try
+              {
+                ResultSet RS;
+                if (Params == null)
+                  RS = S.executeQuery(Query);
+                else
+                  {
+                    PS = C.prepareStatement(Query);
+                    Params.bind(PS, 0);
+                    RS = PS.executeQuery();
+                  }
+                StringBuilder Str = new StringBuilder();
+                while (RS.next() == true)
+                  Str.append(RS.getString(1));
+                return Str.toString();
+              }
+            finally
+              {
+                if (PS != null)
+                  PS.close();
+                S.execute("SET SHOWPLAN_XML OFF");
+              }
+          }
+        finally
+          {
+            S.close();
+          }
+      }
+
+    @Override
+    public String getUpsertQuery(Connection C, String SchemaName, String TableName, List<String> Columns, List<String> Values, List<String> KeyColumns,
+                                 List<String> UpdateColumns, List<String> InvariantColumns, List<String> ReturnColumns)
+      {
+        StringBuilder Str = new StringBuilder(1024);
+        Str.append("merge into ");
+        getFullTableVar(Str, SchemaName, TableName);
+        Str.append(" with (holdlock) as T using (values (");
+        for (int i = 0; i < Values.size(); ++i)
+          Str.append(i == 0 ? "" : ", ").append(Values.get(i));
+        Str.append(")) as S (");
+        for (int i = 0; i < Columns.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, null, Columns.get(i));
+          }
+        Str.append(") on ");
+        for (int i = 0; i < KeyColumns.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(" and ");
+            getFullColumnVar(Str, null, "T", KeyColumns.get(i));
+            Str.append("=");
+            getFullColumnVar(Str, null, "S", KeyColumns.get(i));
+          }
+        Str.append(" when matched");
+        for (String Col : InvariantColumns)
+          {
+            Str.append(" and (");
+            getFullColumnVar(Str, null, "T", Col);
+            Str.append("=");
+            getFullColumnVar(Str, null, "S", Col);
+            Str.append(" or ");
+            getFullColumnVar(Str, null, "T", Col);
+            Str.append(" is null and ");
+            getFullColumnVar(Str, null, "S", Col);
+            Str.append(" is null)");
+          }
+        Str.append(" then update set ");
+        // A no-op update on the key is still needed for 'output' to yield the existing row.
+        List<String> Updates = UpdateColumns.isEmpty() == true ? KeyColumns.subList(0, 1) : UpdateColumns;
+        for (int i = 0; i < Updates.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, "T", Updates.get(i));
+            Str.append("=");
+            getFullColumnVar(Str, null, "S", Updates.get(i));
+          }
+        Str.append(" when not matched then insert (");
+        for (int i = 0; i < Columns.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, null, Columns.get(i));
+          }
+        Str.append(") values (");
+        for (int i = 0; i < Columns.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, "S", Columns.get(i));
+          }
+        Str.append(") output ");
+        for (int i = 0; i < ReturnColumns.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, "inserted", ReturnColumns.get(i));
+          }
+        Str.append(";");
+        return Str.toString();
+      }
     
   }
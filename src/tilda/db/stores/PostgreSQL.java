@@ -22,14 +22,19 @@ import java.sql.Array;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 
 import tilda.data.ZoneInfo_Data;
+import tilda.db.BulkWriter;
 import tilda.db.Connection;
+import tilda.db.QueryParams;
 import tilda.db.processors.ScalarRP;
 import tilda.enums.AggregateType;
 import tilda.enums.ColumnMode;
@@ -105,6 +110,25 @@ public class PostgreSQL implements DBType
         return true;
       }
 
+    @Override
+    public boolean supportsBulkLoad()
+      {
+        return true;
+      }
+
+    @Override
+    public boolean supportsUpsert(int MajorVersion, int MinorVersion)
+      {
+        // 'insert ... on conflict' was introduced in 9.5.
+        return MajorVersion > 9 || MajorVersion == 9 && MinorVersion >= 5;
+      }
+
+    @Override
+    public boolean supportsCountOver()
+      {
+        return true;
+      }
+
 
     @Override
     public String getSelectLimitClause(int Start, int Size)
@@ -556,4 +580,97 @@ public class PostgreSQL implements DBType
         C.ExecuteUpdate(schemaName, tableName, Str.toString());
       }
 
+
+    @Override
+    public BulkWriter newBulkWriter(Connection C, String SchemaName, String TableName, String Columns)
+    throws Exception
+      {
+        StringBuilder Str = new StringBuilder();
+        Str.append("COPY ");
+        getFullTableVar(Str, SchemaName, TableName);
+        Str.append(" (").append(Columns).append(") FROM STDIN");
+        LOG.debug(Str.toString());
+        CopyManager CM = C.unwrap(PGConnection.class).getCopyAPI();
+        return new PostgreSQLCopyWriter(CM.copyIn(Str.toString()));
+      }
+
+    @Override
+    public String getExplainPlan(Connection C, String Query, QueryParams Params)
+    throws Exception
+      {
+        String Q = "EXPLAIN (FORMAT JSON) " + Query;
+        Statement S = Params == null ? C.createStatement() : C.prepareStatement(Q);
+        try
+          {
+            ResultSet RS;
+            if (Params == null)
+              RS = S.executeQuery(Q);
+            else
+              {
+                Params.bind((PreparedStatement) S, 0);
+                RS = ((PreparedStatement) S).executeQuery();
+              }
+            StringBuilder Str = new StringBuilder();
+            while (RS.next() == true)
+              Str.append(RS.getString(1));
+            return Str.toString();
+          }
+        finally
+          {
+            S.close();
+          }
+      }
+
+    @Override
+    public String getUpsertQuery(Connection C, String SchemaName, String TableName, List<String> Columns, List<String> Values, List<String> KeyColumns,
+                                 List<String> UpdateColumns, List<String> InvariantColumns, List<String> ReturnColumns)
+      {
+        StringBuilder Str = new StringBuilder(1024);
+        Str.append("insert into ");
+        getFullTableVar(Str, SchemaName, TableName);
+        Str.append(" as T (");
+        for (int i = 0; i < Columns.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, null, Columns.get(i));
+          }
+        Str.append(") values (");
+        for (int i = 0; i < Values.size(); ++i)
+          Str.append(i == 0 ? "" : ", ").append(Values.get(i));
+        Str.append(") on conflict (");
+        for (int i = 0; i < KeyColumns.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, null, KeyColumns.get(i));
+          }
+        Str.append(") do update set ");
+        // A no-op update on the key is still needed for 'returning' to yield the existing row.
+        List<String> Updates = UpdateColumns.isEmpty() == true ? KeyColumns.subList(0, 1) : UpdateColumns;
+        for (int i = 0; i < Updates.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, null, Updates.get(i));
+            Str.append("=");
+            getFullColumnVar(Str, null, "excluded", Updates.get(i));
+          }
+        for (int i = 0; i < InvariantColumns.size(); ++i)
+          {
+            Str.append(i == 0 ? " where " : " and ");
+            getFullColumnVar(Str, null, "T", InvariantColumns.get(i));
+            Str.append(" is not distinct from ");
+            getFullColumnVar(Str, null, "excluded", InvariantColumns.get(i));
+          }
+        Str.append(" returning ");
+        for (int i = 0; i < ReturnColumns.size(); ++i)
+          {
+            if (i != 0)
+              Str.append(", ");
+            getFullColumnVar(Str, null, "T", ReturnColumns.get(i));
+          }
+        return Str.toString();
+      }
+
   }
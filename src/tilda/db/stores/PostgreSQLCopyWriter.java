@@ -0,0 +1,241 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db.stores;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+import org.postgresql.copy.CopyIn;
+
+import tilda.db.BulkWriter;
+import tilda.utils.DateTimeUtil;
+
+/**
+ * Streams rows into a Postgres 'COPY ... FROM STDIN' operation using the text format: tab-separated fields, \N for
+ * nulls, and backslash escapes for backslashes, tabs and line breaks. Rows are buffered and sent to the server in
+ * chunks of about {@link #FLUSH_SIZE} characters.
+ */
+public class PostgreSQLCopyWriter implements BulkWriter
+  {
+    protected static final int    FLUSH_SIZE = 64 * 1024;
+    protected static final char[] HEX        = "0123456789abcdef".toCharArray();
+
+    public PostgreSQLCopyWriter(CopyIn CI)
+      {
+        _CI = CI;
+      }
+
+    protected final CopyIn        _CI;
+    protected final StringBuilder _Buf      = new StringBuilder(FLUSH_SIZE + 4096);
+    protected boolean             _FirstCol = true;
+    protected long                _Rows     = 0;
+
+    protected StringBuilder next()
+      {
+        if (_FirstCol == true)
+          _FirstCol = false;
+        else
+          _Buf.append('\t');
+        return _Buf;
+      }
+
+    protected static void escape(StringBuilder Str, String V)
+      {
+        for (int i = 0; i < V.length(); ++i)
+          {
+            char c = V.charAt(i);
+            switch (c)
+              {
+                case '\\': Str.append("\\\\"); break;
+                case '\t': Str.append("\\t"); break;
+                case '\n': Str.append("\\n"); break;
+                case '\r': Str.append("\\r"); break;
+                default: Str.append(c);
+              }
+          }
+      }
+
+    /**
+     * Prints a value the way Postgres parses it as an array element (or a scalar).
+     */
+    protected static String print(java.lang.Object V)
+      {
+        if (V instanceof ZonedDateTime)
+          return DateTimeUtil.isNowPlaceholder((ZonedDateTime) V) == true ? "now" : DateTimeUtil.printDateTimeForSQL((ZonedDateTime) V);
+        if (V instanceof Boolean)
+          return ((Boolean) V).booleanValue() == true ? "t" : "f";
+        return V.toString();
+      }
+
+    @Override
+    public void add(String V)
+      {
+        if (V == null)
+          addNull();
+        else
+          escape(next(), V);
+      }
+
+    @Override
+    public void add(char V)
+      {
+        add(String.valueOf(V));
+      }
+
+    @Override
+    public void add(int V)
+      {
+        next().append(V);
+      }
+
+    @Override
+    public void add(long V)
+      {
+        next().append(V);
+      }
+
+    @Override
+    public void add(float V)
+      {
+        next().append(V);
+      }
+
+    @Override
+    public void add(double V)
+      {
+        next().append(V);
+      }
+
+    @Override
+    public void add(boolean V)
+      {
+        next().append(V == true ? 't' : 'f');
+      }
+
+    @Override
+    public void add(ZonedDateTime V)
+      {
+        if (V == null)
+          addNull();
+        else
+          next().append(print(V));
+      }
+
+    @Override
+    public void add(byte[] V)
+      {
+        if (V == null)
+          {
+            addNull();
+            return;
+          }
+        StringBuilder Str = next().append("\\\\x");
+        for (byte b : V)
+          Str.append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+      }
+
+    @Override
+    public void add(Collection<?> V)
+      {
+        if (V == null)
+          {
+            addNull();
+            return;
+          }
+        StringBuilder Str = new StringBuilder();
+        Str.append('{');
+        boolean First = true;
+        for (java.lang.Object o : V)
+          {
+            if (First == true)
+              First = false;
+            else
+              Str.append(',');
+            if (o == null)
+              {
+                Str.append("NULL");
+                continue;
+              }
+            String s = print(o);
+            Str.append('"');
+            for (int i = 0; i < s.length(); ++i)
+              {
+                char c = s.charAt(i);
+                if (c == '"' || c == '\\')
+                  Str.append('\\');
+                Str.append(c);
+              }
+            Str.append('"');
+          }
+        Str.append('}');
+        escape(next(), Str.toString());
+      }
+
+    @Override
+    public void addNow()
+      {
+        next().append("now");
+      }
+
+    @Override
+    public void addNull()
+      {
+        next().append("\\N");
+      }
+
+    @Override
+    public void endRow()
+    throws Exception
+      {
+        _Buf.append('\n');
+        _FirstCol = true;
+        ++_Rows;
+        if (_Buf.length() >= FLUSH_SIZE)
+          flush();
+      }
+
+    protected void flush()
+    throws Exception
+      {
+        if (_Buf.length() == 0)
+          return;
+        byte[] B = _Buf.toString().getBytes(StandardCharsets.UTF_8);
+        _CI.writeToCopy(B, 0, B.length);
+        _Buf.setLength(0);
+      }
+
+    @Override
+    public long finish()
+    throws Exception
+      {
+        if (_FirstCol == false)
+          throw new Exception("The last row of the COPY was not terminated with endRow().");
+        flush();
+        _CI.endCopy();
+        return _Rows;
+      }
+
+    @Override
+    public void cancel()
+    throws Exception
+      {
+        _Buf.setLength(0);
+        if (_CI.isActive() == true)
+          _CI.cancelCopy();
+      }
+  }
@@ -0,0 +1,38 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.enums;
+
+public enum CacheEvictionPolicy
+  {
+    /**
+     * When a cache is full, the entry that was used the longest time ago is evicted.
+     */
+    LRU,
+
+    /**
+     * When a cache is full, the entry that was added the longest time ago is evicted, however often it is used.
+     */
+    FIFO;
+
+    public static CacheEvictionPolicy parse(String Str)
+      {
+        for (CacheEvictionPolicy e : CacheEvictionPolicy.values())
+          if (Str.equalsIgnoreCase(e.name()) == true)
+            return e;
+        return null;
+      }
+  }
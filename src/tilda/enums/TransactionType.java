@@ -25,6 +25,11 @@ public enum TransactionType
     SAVEPOINT_COMMIT  ("--SAVEPOINT COMMIT--"  ),
     SAVEPOINT_ROLLBACK("--SAVEPOINT ROLLBACK--"),
     STATEMENT_CLOSE   ("--STATEMENT CLOSE--"   ),
+    STATEMENT_CACHE_HIT ("--STATEMENT CACHE HIT--" ),
+    STATEMENT_CACHE_MISS("--STATEMENT CACHE MISS--"),
+    OBJECT_CACHE_HIT    ("--OBJECT CACHE HIT--"    ),
+    OBJECT_CACHE_MISS   ("--OBJECT CACHE MISS--"   ),
+    OBJECT_CACHE_EVICTION("--OBJECT CACHE EVICTION--"),
     CONNECTION_CLOSE  ("--CONNECTION CLOSE--"  ),
     CONNECTION_GET    ("--CONNECTION GET--"    ),
     TILDA_SETTER      ("--TILDA SETTER--"      ),
@@ -339,6 +339,25 @@ public class Generator
         Out.close();
       }
 
+    /**
+     * Whether a primary key or unique index made of the given columns gets a LookupBy...s() bulk lookup: single
+     * scalar columns of types that can be bound as arrays.
+     */
+    protected static boolean isBulkLookupKey(List<Column> Cols)
+      {
+        if (Cols == null || Cols.size() != 1 || Cols.get(0) == null || Cols.get(0).isCollection() == true)
+          return false;
+        switch (Cols.get(0)._Type)
+          {
+            case INTEGER:
+            case LONG:
+            case STRING:
+              return true;
+            default:
+              return false;
+          }
+      }
+
     protected static void genTildaFactory(GeneratorSession G, File GenFolder, Object O)
       throws Exception
       {
@@ -369,6 +388,12 @@ public class Generator
             Out.println();
             DG.docMethodCreate(Out, G, O, CreateColumns);
             CG.genMethodCreate(Out, G, O, CreateColumns, DefaultCreateColumns);
+            Out.println();
+            DG.docMethodWriteBatch(Out, G, O);
+            CG.genMethodWriteBatch(Out, G, O);
+            Out.println();
+            DG.docMethodCopyIn(Out, G, O);
+            CG.genMethodCopyIn(Out, G, O);
           }
 
         int LookupId = -1;
@@ -387,6 +412,29 @@ public class Generator
                 DG.docMethodLookupByUniqueIndex(Out, G, I);
                 CG.genMethodLookupByUniqueIndex(Out, G, I, ++LookupId);
               }
+        boolean BulkLookups = false;
+        if (O._PrimaryKey != null && isBulkLookupKey(O._PrimaryKey._ColumnObjs) == true)
+          {
+            Out.println();
+            DG.docMethodLookupByKeys(Out, G, O, "LookupByPrimaryKeys", O._PrimaryKey._ColumnObjs.get(0));
+            CG.genMethodLookupByKeys(Out, G, O, "LookupByPrimaryKeys", O._PrimaryKey._ColumnObjs.get(0));
+            BulkLookups = true;
+          }
+        if (O._Indices != null)
+          for (Index I : O._Indices)
+            if (I != null && I._Unique == true && isBulkLookupKey(I._ColumnObjs) == true)
+              {
+                Out.println();
+                DG.docMethodLookupByKeys(Out, G, O, "LookupBy" + I._Name + "s", I._ColumnObjs.get(0));
+                CG.genMethodLookupByKeys(Out, G, O, "LookupBy" + I._Name + "s", I._ColumnObjs.get(0));
+                BulkLookups = true;
+              }
+        if (BulkLookups == true)
+          {
+            Out.println();
+            CG.genMethodReadManyByKeys(Out, G, O);
+          }
+
         if (O._Indices != null)
           for (Index I : O._Indices)
             if (I != null && I._Unique == false)
@@ -394,6 +442,11 @@ public class Generator
                 Out.println();
                 DG.docMethodLookupWhereIndex(Out, G, I);
                 CG.genMethodLookupWhereIndex(Out, G, I, ++LookupId);
+                if (I.getKeysetColumns() != null)
+                  {
+                    DG.docMethodLookupWhereIndexPage(Out, G, I);
+                    CG.genMethodLookupWhereIndexPage(Out, G, I, LookupId);
+                  }
               }
 
         if (O._Queries != null)
@@ -88,11 +88,19 @@ public interface CodeGenDocs
     
     public void docMethodCreate(PrintWriter Out, GeneratorSession G, Object O, List<Column> CreateColumns);
 
+    public void docMethodWriteBatch(PrintWriter Out, GeneratorSession G, Object O);
+
+    public void docMethodCopyIn(PrintWriter Out, GeneratorSession G, Object O);
+
     public void docMethodLookupByPrimaryKey(PrintWriter Out, GeneratorSession G, PrimaryKey _PrimaryKey);
 
     public void docMethodLookupByUniqueIndex(PrintWriter Out, GeneratorSession G, Index I);
 
+    public void docMethodLookupByKeys(PrintWriter Out, GeneratorSession G, Object O, String MethodName, Column Key);
+
     public void docMethodLookupWhereIndex(PrintWriter Out, GeneratorSession G, Index I);
+
+    public void docMethodLookupWhereIndexPage(PrintWriter Out, GeneratorSession G, Index I);
     
     public void docMethodLookupByUniqueQuery(PrintWriter Out, GeneratorSession G, SubWhereClause Q);
     public void docMethodLookupWhereQuery(PrintWriter out, GeneratorSession g, SubWhereClause q);
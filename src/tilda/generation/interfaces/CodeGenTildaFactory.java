@@ -40,6 +40,22 @@ public interface CodeGenTildaFactory extends CodeGenBase
     public void genMethodCreate(PrintWriter Out, GeneratorSession G, Object O, List<Column> CreateColumns, List<Column> DefaultColumns)
       throws Exception;
 
+    /**
+     * 
+     * @param Out
+     * @param G
+     * @param O
+     */
+    public void genMethodWriteBatch(PrintWriter Out, GeneratorSession G, Object O);
+
+    /**
+     * 
+     * @param Out
+     * @param G
+     * @param O
+     */
+    public void genMethodCopyIn(PrintWriter Out, GeneratorSession G, Object O);
+
     /**
      * 
      * @param Out
@@ -56,6 +72,24 @@ public interface CodeGenTildaFactory extends CodeGenBase
      */
     public void genMethodLookupByUniqueIndex(PrintWriter Out, GeneratorSession G, Index I, long LookupId);
 
+    /**
+     * Generates lookups of many objects at once by a single-column primary key or unique index.
+     * @param Out
+     * @param G
+     * @param O
+     * @param MethodName
+     * @param Key
+     */
+    public void genMethodLookupByKeys(PrintWriter Out, GeneratorSession G, Object O, String MethodName, Column Key);
+
+    /**
+     * Generates the query helper used by the methods from {@link #genMethodLookupByKeys}.
+     * @param Out
+     * @param G
+     * @param O
+     */
+    public void genMethodReadManyByKeys(PrintWriter Out, GeneratorSession G, Object O);
+
     /**
      * 
      * @param Out
@@ -65,6 +99,16 @@ public interface CodeGenTildaFactory extends CodeGenBase
      */
     public void genMethodLookupWhereIndex(PrintWriter Out, GeneratorSession G, Index I, int LookupId);
 
+    /**
+     * Generates the keyset-paged variants of the methods from {@link #genMethodLookupWhereIndex}, for an index whose
+     * {@link Index#getKeysetColumns()} is not null. They share the same LookupId.
+     * @param Out
+     * @param G
+     * @param I
+     * @param LookupId
+     */
+    public void genMethodLookupWhereIndexPage(PrintWriter Out, GeneratorSession G, Index I, int LookupId);
+
     /**
      * 
      * @param Out
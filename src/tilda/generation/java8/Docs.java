@@ -287,6 +287,35 @@ public class Docs implements CodeGenDocs
         Out.println(Helper.getMultiLineCommentEnd());
       }
 
+    @Override
+    public void docMethodWriteBatch(PrintWriter Out, GeneratorSession G, Object O)
+      {
+        Out.println(
+            Helper.getMultiLineDocCommentStart() + SystemValues.NEWLINE
+                + " Writes a collection of objects to the data store using JDBC batches of at most BatchSize statements." + SystemValues.NEWLINE
+                + " Objects with the same set of changed columns share the same insert or update statement and are sent" + SystemValues.NEWLINE
+                + " together. Objects that have not changed are skipped as with Write()." + SystemValues.NEWLINE
+                + " @return an array of outcomes in the iteration order of L, true if the object was written (or had no" + SystemValues.NEWLINE
+                + " changes), false if BeforeWrite() failed or no row was affected." + SystemValues.NEWLINE
+                + Helper.getMultiLineCommentEnd()
+            );
+      }
+
+    @Override
+    public void docMethodCopyIn(PrintWriter Out, GeneratorSession G, Object O)
+      {
+        Out.println(
+            Helper.getMultiLineDocCommentStart() + SystemValues.NEWLINE
+                + " Inserts a collection of new objects using the data store's bulk-load path (COPY on Postgres), which is" + SystemValues.NEWLINE
+                + " much faster than individual or batched inserts for large imports. Objects with the same set of changed" + SystemValues.NEWLINE
+                + " columns are streamed together. On data stores without a bulk-load path, this falls back to WriteBatch()." + SystemValues.NEWLINE
+                + " Unlike Write(), a single failing row (e.g., a duplicate key) fails the whole load." + SystemValues.NEWLINE
+                + " @return the number of objects inserted." + SystemValues.NEWLINE
+                + " @throws Exception if any of the objects is not newly created, or if the load failed." + SystemValues.NEWLINE
+                + Helper.getMultiLineCommentEnd()
+            );
+      }
+
     
     @Override
     public void docMethodTouch(PrintWriter Out, GeneratorSession G, Column C)
@@ -326,6 +355,20 @@ public class Docs implements CodeGenDocs
       }
 
 
+    @Override
+    public void docMethodLookupByKeys(PrintWriter Out, GeneratorSession G, Object O, String MethodName, Column Key)
+      {
+        Out.println(
+            Helper.getMultiLineDocCommentStart() + SystemValues.NEWLINE
+                + " Looks up all the objects whose '" + Key.getName() + "' is one of Keys, in a single query ('= any(?)' with an" + SystemValues.NEWLINE
+                + " array parameter where the data store supports arrays, or chunks of 'in (...)' otherwise). Keys that are not" + SystemValues.NEWLINE
+                + " found are simply absent from the results. The objects come back fully read, either as a map by key, or" + SystemValues.NEWLINE
+                + " one at a time through an ObjectProcessor." + SystemValues.NEWLINE
+                + Helper.getMultiLineCommentEnd()
+            );
+      }
+
+
     @Override
     public void docMethodLookupWhereIndex(PrintWriter Out, GeneratorSession G, Index I)
       {
@@ -333,6 +376,20 @@ public class Docs implements CodeGenDocs
 
       }
 
+    @Override
+    public void docMethodLookupWhereIndexPage(PrintWriter Out, GeneratorSession G, Index I)
+      {
+        Out.println(
+            Helper.getMultiLineDocCommentStart() + SystemValues.NEWLINE
+                + " Same as LookupWhere" + I._Name + "(..., int Start, int Size), but pages by keyset: instead of skipping Start rows," + SystemValues.NEWLINE
+                + " the query seeks directly past the sort key of the last row of the previous page, so every page costs the" + SystemValues.NEWLINE
+                + " same no matter how deep it is. Pass a null PageToken for the first page, and then the token returned by the" + SystemValues.NEWLINE
+                + " previous page (ListResults.getNextPageToken(), or the return value of the ObjectProcessor variant), which is" + SystemValues.NEWLINE
+                + " null after the last page. Rows are sorted on the index's orderBy, then on the primary key." + SystemValues.NEWLINE
+                + Helper.getMultiLineCommentEnd()
+            );
+      }
+
     @Override
     public void docMethodLookupWhereQuery(PrintWriter Out, GeneratorSession G, SubWhereClause Q)
       {
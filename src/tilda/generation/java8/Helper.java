@@ -145,6 +145,14 @@ public class Helper
 
 
     public static void CatchFinallyBlock(PrintWriter Out, Object O, String OperationDebugStr, String StatementTypeStr, boolean NeedsSavepoint, boolean Static)
+      {
+        CatchFinallyBlock(Out, O, OperationDebugStr, StatementTypeStr, NeedsSavepoint, Static, null);
+      }
+
+    /**
+     * @param ParamsExpr an expression giving the QueryParams bound to the statement, if any, for the slow query log.
+     */
+    public static void CatchFinallyBlock(PrintWriter Out, Object O, String OperationDebugStr, String StatementTypeStr, boolean NeedsSavepoint, boolean Static, String ParamsExpr)
       {
         Out.println("       catch (java.sql.SQLException E)");
         Out.println("        {");
@@ -159,7 +167,7 @@ public class Helper
         Out.println("        }");
         Out.println("       finally");
         Out.println("        {");
-        Out.println("          " + getSupportClassFullName(O._ParentSchema) + ".HandleFinally(PS, T0, " + O.getBaseClassName() + "_Factory.SCHEMA_TABLENAME_LABEL, " + StatementTypeStr + ", count, AllocatedArrays);");
+        Out.println("          " + getSupportClassFullName(O._ParentSchema) + ".HandleFinally(C, PS, T0, " + O.getBaseClassName() + "_Factory.SCHEMA_TABLENAME_LABEL, Q, " + (ParamsExpr == null ? "" : ParamsExpr + ", ") + StatementTypeStr + ", count, AllocatedArrays);");
         Out.println("          PS = null;");
         Out.println("          AllocatedArrays = null;");
         Out.println("        }");
@@ -284,6 +292,31 @@ public class Helper
         return Str.toString();
       }
     
+    /**
+     * Prints the seek predicate of a keyset page sorted on Cols: '(c1&gt;?) OR (c1=? AND c2&gt;?) OR ...', with '&lt;'
+     * for DESC columns. The values are bound by {@link tilda.db.KeysetToken#bind(java.sql.PreparedStatement, int)}.
+     */
+    public static String PrintKeysetClause(GeneratorSession G, List<Column> Cols, List<OrderType> Orders)
+      {
+        StringBuilder Str = new StringBuilder();
+        for (int k = 0; k < Cols.size(); ++k)
+          {
+            if (k != 0)
+              Str.append(" OR ");
+            Str.append("(");
+            for (int j = 0; j <= k; ++j)
+              {
+                if (j != 0)
+                  Str.append(" AND ");
+                Str.append("\"); ");
+                Str.append(getFullColVarAtRuntime(Cols.get(j)));
+                Str.append("; S.append(\"").append(j < k ? "=?" : Orders.get(j) == OrderType.DESC ? "<?" : ">?");
+              }
+            Str.append(")");
+          }
+        return Str.toString();
+      }
+
     public static String getFullColVarAtRuntime(Column C)
      {
        return "C.getFullColumnVar(S, "+TextUtil.EscapeDoubleQuoteWithSlash(C._ParentObject._ParentSchema._Name)+", "+TextUtil.EscapeDoubleQuoteWithSlash(C._ParentObject._Name)+", "+TextUtil.EscapeDoubleQuoteWithSlash(C.getName())+")";
@@ -378,7 +411,14 @@ public class Helper
                   // Out.println(Lead + "       S.append(\" AND (\").append(PartialWhereclause).append(\")\");");
                   // else
                   // Out.println(Lead + "       S.append(\" where \").append(PartialWhereclause);");
-                  if (I._OrderByObjs.isEmpty() == false)
+                  List<Column> KeysetCols = I.getKeysetColumns();
+                  if (KeysetCols != null)
+                    {
+                      Out.println(Lead + "      if (ExtraParams instanceof tilda.db.KeysetToken)");
+                      Out.println(Lead + "       { S.append(\"" + (TextUtil.isNullOrEmpty(WhereClause) == true ? " where (" : " and (") + PrintKeysetClause(G, KeysetCols, I.getKeysetOrders()) + ")\"); }");
+                      Out.println(Lead + "      S.append(\"" + " order by " + PrintOrderByClause(G, KeysetCols, I.getKeysetOrders()));
+                    }
+                  else if (I._OrderByObjs.isEmpty() == false)
                     Out.println(Lead + "      S.append(\"" + " order by " + PrintOrderByClause(G, I._OrderByObjs, I._OrderByOrders));
                   Out.println(Lead + "      break;");
                 }
@@ -447,6 +487,7 @@ public class Helper
         if (UniqueConstraints == false)
           {
             Out.println(Lead + "   case -7:");
+            Out.println(Lead + "      i = ((SelectQuery)ExtraParams).bindParams(PS, i);");
             Out.println(Lead + "      break;");
           }
         int LookupId = -1;
@@ -482,6 +523,8 @@ public class Helper
                   Out.println(Lead + "   case " + LookupId + ": {");
                   for (Column C : I._ColumnObjs)
                     PrintColumnPreparedStatementSetter(Out, O, Lead, C, Static);
+                  if (I.getKeysetColumns() != null)
+                    Out.println(Lead + "     if (ExtraParams instanceof tilda.db.KeysetToken) i = ((tilda.db.KeysetToken) ExtraParams).bind(PS, i);");
                   if (I._SubQuery != null && I._SubQuery._Attributes.isEmpty() == false)
                     {
                       String MethodName = "LookupWhere" + I._Name;
@@ -665,6 +708,15 @@ public class Helper
       }
 
     public static void SelectFrom(PrintWriter Out, Object O)
+      {
+        SelectFrom(Out, O, false);
+      }
+
+    /**
+     * @param CountAll if true, the generated code also selects the JDBCHelper.COUNT_OVER_COLUMN when its boolean
+     *        'CountAll' variable is true and the data store supports it.
+     */
+    public static void SelectFrom(PrintWriter Out, Object O, boolean CountAll)
       {
         Out.println("       S.append(\"select \");");
         boolean First = true;
@@ -682,6 +734,8 @@ public class Helper
                 }
               Out.println(" "+getFullColVarAtRuntime(C)+";");
             }
+        if (CountAll == true)
+          Out.println("       if (CountAll == true && C.supportsCountOver() == true) S.append(JDBCHelper.COUNT_OVER_COLUMN);");
         Out.println("       S.append(\" from \"); C.getFullTableVar(S, "+TextUtil.EscapeDoubleQuoteWithSlash(O._ParentSchema._Name)+", "+TextUtil.EscapeDoubleQuoteWithSlash(O._Name)+");");
       }
 
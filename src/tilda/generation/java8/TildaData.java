@@ -17,7 +17,10 @@
 package tilda.generation.java8;
 
 import java.io.PrintWriter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,6 +35,7 @@ import tilda.generation.interfaces.CodeGenTildaData;
 import tilda.parsing.parts.Base;
 import tilda.parsing.parts.Column;
 import tilda.parsing.parts.ColumnValue;
+import tilda.parsing.parts.Index;
 import tilda.parsing.parts.JsonMapping;
 import tilda.parsing.parts.Object;
 import tilda.parsing.parts.Schema;
@@ -745,8 +749,6 @@ public class TildaData implements CodeGenTildaData
         Out.println("          return true;");
         Out.println("        }");
         Out.println();
-        Out.println("       StringBuilder S = new StringBuilder(1024);");
-        Out.println();
         Out.println("       if (BeforeWrite(C) == false)");
         Out.println("        {");
         Out.println("          LOG.debug(\"The " + O.getFullName() + " object's BeforeWrite() failed.\");");
@@ -754,6 +756,48 @@ public class TildaData implements CodeGenTildaData
         Out.println("          return false;");
         Out.println("        }");
         Out.println();
+        Out.println("       String Q = __WriteQuery(C);");
+        Out.println("       QueryDetails.setLastQuery("+O.getBaseClassName()+"_Factory.SCHEMA_TABLENAME_LABEL, Q);");
+        Out.println("       LOG.debug(\"TILDA(" + AnsiUtil.NEGATIVE + O.getShortName() + AnsiUtil.NEGATIVE_OFF + "): \"+Q);");
+        Out.println("       LOG.debug(\"   \"+toString());");
+        Out.println("       java.sql.PreparedStatement PS = null;");
+        Out.println("       int count = 0;");
+        Out.println("       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();");
+        Out.println("       try");
+        Out.println("        {");
+        Out.println("          PS = C.borrowStatement(Q);");
+        Out.println("          __WriteBind(C, PS, AllocatedArrays);");
+        if (G.getSql().needsSavepoint() == true)
+          {
+            Out.println("          C.setSavepoint();");
+          }
+        Out.println("          count = PS.executeUpdate();");
+        if (G.getSql().needsSavepoint() == true)
+          {
+            Out.println("          C.releaseSavepoint(true);");
+          }
+        Out.println("          if (count == 0)");
+        Out.println("           return false;");
+        Out.println("        }");
+        Helper.CatchFinallyBlock(Out, O, "updated or inserted", "__Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE", G.getSql().needsSavepoint(), false);
+        Out.println();
+        Out.println("       __WriteDone(C);");
+        Out.println("       return true;");
+        Out.println("     }");
+        Out.println();
+        Out.println("   /**");
+        Out.println("    * Builds the insert or update statement for the current changes. Objects with the same changes yield the same");
+        Out.println("    * statement, which is what allows " + O.getBaseClassName() + "_Factory.WriteBatch() to group them.");
+        Out.println("    */");
+        Out.println("   protected final StatementType __WriteStatementType()");
+        Out.println("     {");
+        Out.println("       return __Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE;");
+        Out.println("     }");
+        Out.println();
+        Out.println("   protected final String __WriteQuery(Connection C) throws Exception");
+        Out.println("     {");
+        Out.println("       StringBuilder S = new StringBuilder(1024);");
+        Out.println();
         Out.println("       if (__Init == InitMode.CREATE)");
         Out.println("        {");
         Out.println("          StringBuilder V = new StringBuilder(1024);");
@@ -867,18 +911,14 @@ public class TildaData implements CodeGenTildaData
         Out.println("          S.setCharAt(Pos, ' ');");
         Out.println("        }");
         Out.println();
-        Out.println("       String Q = S.toString();");
-        Out.println("       S.setLength(0);");
-        Out.println("       S = null;");
-        Out.println("       QueryDetails.setLastQuery("+O.getBaseClassName()+"_Factory.SCHEMA_TABLENAME_LABEL, Q);");
-        Out.println("       LOG.debug(\"TILDA(" + AnsiUtil.NEGATIVE + O.getShortName() + AnsiUtil.NEGATIVE_OFF + "): \"+Q);");
-        Out.println("       LOG.debug(\"   \"+toString());");
-        Out.println("       java.sql.PreparedStatement PS = null;");
-        Out.println("       int count = 0;");
-        Out.println("       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();");
-        Out.println("       try");
-        Out.println("        {");
-        Out.println("          PS = C.prepareStatement(Q);");
+        Out.println("       return S.toString();");
+        Out.println("     }");
+        Out.println();
+        Out.println("   /**");
+        Out.println("    * Binds the values for the statement returned by __WriteQuery().");
+        Out.println("    */");
+        Out.println("   protected final int __WriteBind(Connection C, java.sql.PreparedStatement PS, List<java.sql.Array> AllocatedArrays) throws Exception");
+        Out.println("     {");
         Out.println("          int i = 0;");
         for (Column C : O._Columns)
           if (C != null && C._Mode != ColumnMode.CALCULATED)
@@ -929,21 +969,14 @@ public class TildaData implements CodeGenTildaData
             }
         Out.println();
         Helper.SwitchLookupIdPreparedStatement(Out, G, O, "          ", true, false);
+        Out.println("          return i;");
+        Out.println("     }");
         Out.println();
-        if (G.getSql().needsSavepoint() == true)
-          {
-            Out.println("          C.setSavepoint();");
-          }
-        Out.println("          count = PS.executeUpdate();");
-        if (G.getSql().needsSavepoint() == true)
-          {
-            Out.println("          C.releaseSavepoint(true);");
-          }
-        Out.println("          if (count == 0)");
-        Out.println("           return false;");
-        Out.println("        }");
-        Helper.CatchFinallyBlock(Out, O, "updated or inserted", "__Init == InitMode.CREATE ? StatementType.INSERT : StatementType.UPDATE", G.getSql().needsSavepoint(), false);
-        Out.println();
+        Out.println("   /**");
+        Out.println("    * Updates the state of the object after it has been successfully written.");
+        Out.println("    */");
+        Out.println("   protected final void __WriteDone(Connection C) throws Exception");
+        Out.println("     {");
         Out.println("       if (__Init == InitMode.CREATE)");
         Out.println("        {");
         Out.println("          __Init = InitMode.WRITTEN;");
@@ -954,17 +987,180 @@ public class TildaData implements CodeGenTildaData
         Out.println("          __Init = __Init == InitMode.READ ? InitMode.READ_WRITTEN : InitMode.WRITTEN;");
         Out.println("        }");
         Out.println();
+        if (O._Cache != null && O._LC == ObjectLifecycle.NORMAL)
+          Out.println("       " + O._BaseClassName + "_Factory.CACHE.evictOnCommit(C, __getCacheKeys()); // Before the saved fields are reset, so entries under a changed unique key are evicted too.");
         Helper.setSavedFields(Out, O);
         Out.println();
         Out.println("       __Changes= 0L   ;");
         Out.println("       __Nulls  = 0L   ;");
+        Out.println("     }");
         Out.println();
-        Out.println("       return true;");
+        Out.println("   /**");
+        Out.println("    * Lists the columns a new object sends to a bulk load, in the order __CopyRow() writes them. Objects with the same");
+        Out.println("    * changes yield the same list, which is what allows " + O.getBaseClassName() + "_Factory.CopyIn() to group them.");
+        Out.println("    */");
+        Out.println("   protected final String __CopyColumns(Connection C) throws Exception");
+        Out.println("     {");
+        Out.println("       StringBuilder S = new StringBuilder(1024);");
+        for (Column C : O._Columns)
+          if (C != null && C._Mode != ColumnMode.CALCULATED)
+            {
+              String Mask = Helper.getRuntimeMask(C);
+              String Pad = O._PadderColumnNames.getPad(C.getName());
+              if (C._Type == ColumnType.DATETIME && C._DefaultCreateValue != null)
+                Out.println("       " + Helper.getRuntimeInsertStr(C) + ";");
+              else
+                Out.println("       if ((" + Mask + Pad + " & __Changes) != 0L) " + Helper.getRuntimeInsertStr(C) + ";");
+            }
+        Out.println("       return S.substring(1);");
+        Out.println("     }");
+        Out.println();
+        Out.println("   protected final void __CopyRow(tilda.db.BulkWriter W) throws Exception");
+        Out.println("     {");
+        for (Column C : O._Columns)
+          if (C != null && C._Mode != ColumnMode.CALCULATED)
+            {
+              String Mask = Helper.getRuntimeMask(C);
+              String Pad = O._PadderColumnNames.getPad(C.getName());
+              Out.print("       if ((" + Mask + Pad + " & __Changes) != 0L) { if ((" + Mask + Pad + " & __Nulls) != 0L) W.addNull(); else W.add(_" + C.getName() + Pad + "); }");
+              if (C._Type == ColumnType.DATETIME && C._DefaultCreateValue != null)
+                {
+                  if (C._DefaultCreateValue._Value.equalsIgnoreCase("NOW") == true)
+                    Out.print(" else W.addNow();");
+                  else if (C._DefaultCreateValue._Value.equalsIgnoreCase("UNDEFINED") == true)
+                    Out.print(" else W.add(DateTimeUtil.UNDEFINED_PLACEHOLDER_ZDT);");
+                  else
+                    throw new Error("Cannot generate a default value for TIMESTAMP column '" + C.getFullName() + "' with the value '" + C._DefaultCreateValue._Value + "'.");
+                }
+              Out.println();
+            }
+        Out.println("       W.endRow();");
+        Out.println("     }");
+        Out.println();
+        Out.println("   /**");
+        Out.println("    * Inserts this new object, or updates the existing row matching it on Keys, in a single statement, and then");
+        Out.println("    * initializes this object from the resulting row. On an existing row, only the non-null JSON-mapped values");
+        Out.println("    * are updated, the Invariants are left alone, and the update-time defaults are applied.");
+        Out.println("    * @return false if the existing row has different values for any of the Invariants, in which case it is not");
+        Out.println("    *         updated.");
+        Out.println("    */");
+        Out.println("   protected final boolean __Upsert(Connection C, tilda.types.ColumnDefinition[] Keys, tilda.types.ColumnDefinition[] Invariants) throws Exception");
+        Out.println("     {");
+        Out.println("       long T0 = System.nanoTime();");
+        Out.println("       if (__Init != InitMode.CREATE)");
+        Out.println("        throw new Exception(\"This " + O.getShortName() + " object is being upserted but it wasn't created with Create().\");");
+        Out.println("       if (BeforeWrite(C) == false)");
+        Out.println("        {");
+        Out.println("          LOG.debug(\"The " + O.getFullName() + " object's BeforeWrite() failed.\");");
+        Out.println("          QueryDetails.setLastQuery("+O.getBaseClassName()+"_Factory.SCHEMA_TABLENAME_LABEL, \"\");");
+        Out.println("          return false;");
+        Out.println("        }");
+        Out.println();
+        Out.println("       List<String> Cols = new ArrayList<String>();");
+        Out.println("       List<String> Vals = new ArrayList<String>();");
+        Out.println("       List<String> Updates = new ArrayList<String>();");
+        for (Column C : O._Columns)
+          if (C != null && C._Mode != ColumnMode.CALCULATED)
+            {
+              String Mask = Helper.getRuntimeMask(C);
+              String Pad = O._PadderColumnNames.getPad(C.getName());
+              String Name = TextUtil.EscapeDoubleQuoteWithSlash(C.getName());
+              String Val;
+              switch (C._Type)
+                {
+                  case DATETIME:
+                    Val = "(" + Mask + " & __Nulls) == 0L && DateTimeUtil.isNowPlaceholder(_" + C.getName() + ") == true ? C.getCurrentTimestampStr() : \"?\"";
+                    break;
+                  case JSON:
+                    Val = "C.getJsonParametrizedQueryPlaceHolder()";
+                    break;
+                  default:
+                    Val = "\"?\"";
+                }
+              // Like the lookup-and-update path in the generated *_Json.Write(), only incoming non-null values overwrite an
+              // existing row, plus the columns maintained on update such as 'lastUpdated'.
+              Out.print("       if ((" + Mask + Pad + " & __Changes) != 0L) { Cols.add(" + Name + "); Vals.add(" + Val + ");");
+              if (C._Type == ColumnType.DATETIME && C._DefaultUpdateValue != null)
+                Out.print(" Updates.add(" + Name + ");");
+              else if ((C.isJSONColumn() == true || isJSONTZColumn(O, C) == true) && C._PrimaryKey == false)
+                Out.print(" if ((" + Mask + Pad + " & __Nulls) == 0L) Updates.add(" + Name + ");");
+              Out.print(" }");
+              if (C._Type == ColumnType.DATETIME && C._DefaultCreateValue != null && C._DefaultCreateValue._Value.equalsIgnoreCase("NOW") == true)
+                Out.print(" else { Cols.add(" + Name + "); Vals.add(C.getCurrentTimestampStr());" + (C._DefaultUpdateValue != null ? " Updates.add(" + Name + ");" : "") + " }");
+              Out.println();
+            }
+        Out.println("       List<String> KeyCols = new ArrayList<String>();");
+        Out.println("       for (tilda.types.ColumnDefinition K : Keys)");
+        Out.println("        {");
+        Out.println("          KeyCols.add(K.getName());");
+        Out.println("          Updates.remove(K.getName());");
+        Out.println("        }");
+        Out.println("       List<String> Checks = new ArrayList<String>();");
+        Out.println("       for (tilda.types.ColumnDefinition I : Invariants)");
+        Out.println("        {");
+        Out.println("          Updates.remove(I.getName());");
+        Out.println("          if ((I._Mask & __Changes) != 0L && (I._Mask & __Nulls) == 0L)");
+        Out.println("           Checks.add(I.getName());");
+        Out.println("        }");
+        Out.print  ("       String Q = C.getUpsertQuery(" + TextUtil.EscapeDoubleQuoteWithSlash(O._ParentSchema._Name) + ", " + TextUtil.EscapeDoubleQuoteWithSlash(O._Name) + ", Cols, Vals, KeyCols, Updates, Checks, Arrays.asList(");
+        boolean First = true;
+        for (Column C : O._Columns)
+          if (C != null && C._Mode != ColumnMode.CALCULATED)
+            {
+              Out.print((First == true ? "" : ", ") + TextUtil.EscapeDoubleQuoteWithSlash(C.getName()));
+              First = false;
+            }
+        Out.println("));");
+        Out.println("       QueryDetails.setLastQuery("+O.getBaseClassName()+"_Factory.SCHEMA_TABLENAME_LABEL, Q);");
+        Out.println("       LOG.debug(\"TILDA(" + AnsiUtil.NEGATIVE + O.getShortName() + AnsiUtil.NEGATIVE_OFF + "): \"+Q);");
+        Out.println("       LOG.debug(\"   \"+toString());");
+        Out.println("       java.sql.PreparedStatement PS = null;");
+        Out.println("       java.sql.ResultSet RS = null;");
+        Out.println("       int count = 0;");
+        Out.println("       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();");
+        Out.println("       try");
+        Out.println("        {");
+        Out.println("          PS = C.borrowStatement(Q);");
+        Out.println("          __WriteBind(C, PS, AllocatedArrays);");
+        if (G.getSql().needsSavepoint() == true)
+          Out.println("          C.setSavepoint();");
+        Out.println("          RS = PS.executeQuery();");
+        if (G.getSql().needsSavepoint() == true)
+          Out.println("          C.releaseSavepoint(true);");
+        Out.println("          if (RS.next() == false)");
+        Out.println("           {");
+        Out.println("             LOG.debug(\"   " + AnsiUtil.BOLD + "The existing record has different invariant values and was not updated." + AnsiUtil.BOLD_OFF + "\");");
+        Out.println("             return false;");
+        Out.println("           }");
+        Out.println("          count = 1;");
+        Out.println("          __Nulls = 0L;");
+        if (O._Cache != null && O._LC == ObjectLifecycle.NORMAL)
+          {
+            Out.println("          if (Init(C, RS) == false)");
+            Out.println("            return false;");
+            Out.println("          " + O._BaseClassName + "_Factory.CACHE.evictOnCommit(C, __getCacheKeys());");
+            Out.println("          return true;");
+          }
+        else
+          Out.println("          return Init(C, RS);");
+        Out.println("        }");
+        Helper.CatchFinallyBlock(Out, O, "upserted", "StatementType.INSERT", G.getSql().needsSavepoint(), false);
         Out.println("     }");
         Out.println();
         Out.println("   protected abstract boolean BeforeWrite(Connection C) throws Exception;");
       }
 
+    /**
+     * Whether C is the TZ companion column of a JSON-mapped DATETIME column, which gets set along with it.
+     */
+    private static boolean isJSONTZColumn(Object O, Column C)
+      {
+        if (C._Type != ColumnType.STRING || C.getName().endsWith("TZ") == false)
+          return false;
+        Column DT = O.getColumn(C.getName().substring(0, C.getName().length() - 2));
+        return DT != null && DT._Type == ColumnType.DATETIME && DT.isJSONColumn() == true;
+      }
+
     @Override
     public void genMethodCopyTo(PrintWriter Out, GeneratorSession G, Object O, List<Column> CopyToColumns)
       throws Exception
@@ -1011,6 +1207,20 @@ public class TildaData implements CodeGenTildaData
         Out.println("          QueryDetails.setLastQuery("+O.getBaseClassName()+"_Factory.SCHEMA_TABLENAME_LABEL, \"\");");
         Out.println("          return true;");
         Out.println("        }");
+        if (O._Cache != null)
+          {
+            Out.println("       if (Force == false)");
+            Out.println("        {");
+            Out.println("          " + O._BaseClassName + " Cached = " + O._BaseClassName + "_Factory.CACHE.get(__getCacheKey(__LookupId));");
+            Out.println("          if (Cached != null)");
+            Out.println("            {");
+            Out.println("              QueryDetails.setLastQuery("+O.getBaseClassName()+"_Factory.SCHEMA_TABLENAME_LABEL, \"\");");
+            Out.println("              __copyFrom(Cached);");
+            Out.println("              return AfterRead(C);");
+            Out.println("            }");
+            Out.println("        }");
+            Out.println("       long CacheVersion = " + O._BaseClassName + "_Factory.CACHE.getVersion();");
+          }
         Out.println("       StringBuilder S = new StringBuilder(1024);");
         Helper.SelectFrom(Out, O);
         Helper.SwitchLookupIdWhereClauses(Out, G, O, "       ", true);
@@ -1028,7 +1238,7 @@ public class TildaData implements CodeGenTildaData
         Out.println();
         Out.println("       try");
         Out.println("        {");
-        Out.println("          PS = C.prepareStatement(Q);");
+        Out.println("          PS = C.borrowStatement(Q);");
         Out.println("          int i = 0;");
         Helper.SwitchLookupIdPreparedStatement(Out, G, O, "          ", true, false);
         Out.println();
@@ -1039,7 +1249,15 @@ public class TildaData implements CodeGenTildaData
         Out.println("              return false;");
         Out.println("            }");
         Out.println("          count = 1;");
-        Out.println("          return Init(C, RS);");
+        if (O._Cache == null)
+          Out.println("          return Init(C, RS);");
+        else
+          {
+            Out.println("          if (Init(C, RS) == false)");
+            Out.println("            return false;");
+            Out.println("          __cache(C, CacheVersion);");
+            Out.println("          return true;");
+          }
         Out.println("        }");
         Helper.CatchFinallyBlock(Out, O, "selected", "StatementType.SELECT", false, false);
         Out.println("    }");
@@ -1157,6 +1375,8 @@ public class TildaData implements CodeGenTildaData
         Out.println("     return AfterRead(C);");
         Out.println("   }");
         Out.println();
+        if (O._Cache != null)
+          genCacheMethods(Out, G, O);
         Out.println("  private final ZonedDateTime ProcessZDT(String TimezoneId, String DTFieldName, java.sql.ResultSet RS, int ColumnPos, tilda.types.ColumnDefinition DTField, tilda.types.ColumnDefinition TZField)");
         Out.println("  throws Exception");
         Out.println("   {");
@@ -1176,6 +1396,119 @@ public class TildaData implements CodeGenTildaData
         Out.println("   protected abstract boolean AfterRead(Connection C) throws Exception;");
       }
 
+    /**
+     * Returns the lookups whose results can be cached, by LookupId: the primary key and the unique indices without a
+     * sub-query, i.e., those whose key can be rebuilt from the columns of any object read. The ids are numbered the
+     * same way as in {@link Helper#SwitchLookupIdWhereClauses(PrintWriter, GeneratorSession, Object, String, boolean)}.
+     */
+    protected static Map<Integer, List<Column>> getCacheableLookups(Object O)
+      {
+        Map<Integer, List<Column>> M = new LinkedHashMap<Integer, List<Column>>();
+        int LookupId = -1;
+        if (O._PrimaryKey != null)
+          M.put(++LookupId, O._PrimaryKey._ColumnObjs);
+        for (Index I : O._Indices)
+          if (I != null && I._Unique == true)
+            {
+              ++LookupId;
+              if (I._SubQuery == null && I._ColumnObjs.isEmpty() == false)
+                M.put(LookupId, I._ColumnObjs);
+            }
+        Iterator<List<Column>> It = M.values().iterator();
+        while (It.hasNext() == true)
+          for (Column C : It.next())
+            if (isCacheableKeyColumn(C) == false)
+              {
+                It.remove();
+                break;
+              }
+        return M;
+      }
+
+    /**
+     * Key columns must read the same through RS.getXXX() as in the fields of a full object, so that the refresh
+     * query can build the keys to evict from them alone.
+     */
+    protected static boolean isCacheableKeyColumn(Column C)
+      {
+        return C.isCollection() == false && C._Type != ColumnType.DATETIME && C._Type != ColumnType.BINARY;
+      }
+
+    protected void genCacheMethods(PrintWriter Out, GeneratorSession G, Object O)
+      {
+        Map<Integer, List<Column>> Lookups = getCacheableLookups(O);
+        Out.println("   private final List<java.lang.Object> __getCacheKey(int LookupId)");
+        Out.println("     {");
+        Out.println("       switch (LookupId)");
+        Out.println("        {");
+        for (Map.Entry<Integer, List<Column>> e : Lookups.entrySet())
+          {
+            Out.print("          case " + e.getKey() + ": return Arrays.<java.lang.Object>asList(" + e.getKey());
+            for (Column C : e.getValue())
+              Out.print(", _" + C.getName());
+            Out.println(");");
+          }
+        Out.println("          default: return null;");
+        Out.println("        }");
+        Out.println("     }");
+        Out.println();
+        Out.println("   // The copy is only cached if and when the transaction commits: this object may be one it just wrote.");
+        Out.println("   private final void __cache(Connection C, long CacheVersion) throws Exception");
+        Out.println("     {");
+        Out.println("       " + O._BaseClassName + " Obj = new " + Helper.getFullAppDataClassName(O) + "();");
+        Out.println("       Obj.__copyFrom(this);");
+        Out.print("       " + O._BaseClassName + "_Factory.CACHE.putAfterCommit(C, CacheVersion, Obj");
+        for (Integer LookupId : Lookups.keySet())
+          Out.print(", __getCacheKey(" + LookupId + ")");
+        Out.println(");");
+        Out.println("     }");
+        Out.println();
+        if (O._LC == ObjectLifecycle.NORMAL)
+          {
+            Out.println("   // The keys for both the current and the last saved (read or written) values.");
+            Out.println("   final java.lang.Object[] __getCacheKeys()");
+            Out.println("     {");
+            Out.println("       return new java.lang.Object[] {");
+            boolean First = true;
+            for (Map.Entry<Integer, List<Column>> e : Lookups.entrySet())
+              {
+                Out.print("          " + (First == true ? "  " : ", ") + "__getCacheKey(" + e.getKey() + "), Arrays.<java.lang.Object>asList(" + e.getKey());
+                for (Column C : e.getValue())
+                  Out.print(", __Saved_" + C.getName());
+                Out.println(")");
+                First = false;
+              }
+            Out.println("        };");
+            Out.println("     }");
+            Out.println();
+          }
+        Out.println("   // Cached objects are shared, so collections and arrays are copied rather than aliased.");
+        Out.println("   private final void __copyFrom(" + O._BaseClassName + " Src)");
+        Out.println("     {");
+        Out.println("       __Nulls = Src.__Nulls;");
+        for (Column C : O._Columns)
+          if (C != null && (C._Mode != ColumnMode.CALCULATED || C._MapperDef != null))
+            {
+              String Pad = O._PadderColumnNames.getPad(C.getName());
+              String Src = "Src._" + C.getName();
+              Out.print("       _" + C.getName() + Pad + " = ");
+              if (C.isCollection() == true)
+                Out.print(Src + " == null ? null : new " + (C.isSet() == true ? "TreeSet" : "ArrayList") + "<" + JavaJDBCType.getFieldTypeBaseClass(C) + ">(" + Src + ");");
+              else if (C._Type == ColumnType.BINARY)
+                Out.print(Src + " == null ? null : " + Src + ".clone();");
+              else
+                Out.print(Src + ";");
+              if (C.isSavedField() == true)
+                Out.print(" __Saved_" + C.getName() + " = Src.__Saved_" + C.getName() + ";");
+              Out.println();
+            }
+        Out.println("       __LookupId = 0;");
+        Out.println("       __Init     = InitMode.READ;");
+        Out.println("       __Changes  = 0L;");
+        Out.println("     }");
+        Out.println();
+      }
+
     @Override
     public void genMethodToString(PrintWriter Out, GeneratorSession G, Object O)
       {
@@ -17,8 +17,10 @@
 package tilda.generation.java8;
 
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
@@ -119,6 +121,18 @@ public class TildaFactory implements CodeGenTildaFactory
         Out.println("   public static final String SCHEMA_TABLENAME_LABEL = TextUtil.Print(" + TextUtil.EscapeDoubleQuoteWithSlash(O.getShortName()) + ", \"\");");
         Out.println("   public static void getFullTableNameVar(Connection C, StringBuilder S) { "+Helper.getFullTableVarAtRuntime(O)+"; }");
         Out.println();
+        if (O._Cache != null)
+          {
+            Out.println("   // Objects read by primary key or unique index. Read() looks here first, while Refresh() always goes to the database.");
+            Out.print("   public static final tilda.db.ObjectCache<" + O._BaseClassName + "> CACHE = new tilda.db.ObjectCache<" + O._BaseClassName + ">(SCHEMA_TABLENAME_LABEL, "
+                       + O._Cache._MaxEntries + ", " + O._Cache._TTLSeconds + "L, tilda.enums.CacheEvictionPolicy." + O._Cache._Eviction.name());
+            if (O._LC == ObjectLifecycle.NORMAL)
+              Out.print(", " + O._Cache._RefreshSeconds + ", " + O._BaseClassName + "_Factory::__evictChanged");
+            Out.println(");");
+            Out.println();
+            if (O._LC == ObjectLifecycle.NORMAL)
+              genEvictChanged(Out, G, O);
+          }
         Out.println("   protected static abstract class COLS {");
         int Counter = -1;
         for (Column C : O._Columns)
@@ -148,7 +162,7 @@ public class TildaFactory implements CodeGenTildaFactory
         Out.println("           if (__INITIALIZED == false)");
         Out.println("            {");
         if (O._FST == FrameworkSourcedType.ENUMERATION || O._FST == FrameworkSourcedType.MAPPER)
-          Out.println("              initMappings(C);");
+          Out.println("              " + Helper.getFullAppFactoryClassName(O) + ".initMappings(C);");
         Out.println("              " + Helper.getFullAppFactoryClassName(O) + ".init(C);");
         Out.println("              __INITIALIZED = true;");
         Out.println("            }");
@@ -169,14 +183,17 @@ public class TildaFactory implements CodeGenTildaFactory
         Out.println("       protected Connection _C = null;");
         Out.println("       protected tilda.db.processors.ObjectProcessor<" + Helper.getFullAppDataClassName(O) + "> _OP;");
         Out.println("       protected ArrayListResults<" + Helper.getFullAppDataClassName(O) + "> _L = null;");
+        Out.println("       protected " + Helper.getFullAppDataClassName(O) + " _Last = null;");
+        Out.println("       protected boolean _HasMore = false;");
         Out.println("       public void    Start  () { }");
-        Out.println("       public void    End    (boolean HasMore, int Max) { if (_OP == null) _L.wrapup(HasMore, Max); }");
+        Out.println("       public void    End    (boolean HasMore, int Max) { _HasMore = HasMore; if (_OP == null) _L.wrapup(HasMore, Max); }");
         Out.println("       public boolean Process(int Index, java.sql.ResultSet RS) throws Exception");
         Out.println("        {");
         Out.println("          " + Helper.getFullAppDataClassName(O) + " Obj = new " + Helper.getFullAppDataClassName(O) + "();");
         Out.println("          boolean OK = ((" + Helper.getFullBaseClassName(O) + ")Obj).Init(_C, RS);");
         Out.println("          if (OK == true)");
         Out.println("           {");
+        Out.println("             _Last = Obj;");
         Out.println("             if (_OP == null)");
         Out.println("              _L.add(Obj);");
         Out.println("             else");
@@ -187,12 +204,12 @@ public class TildaFactory implements CodeGenTildaFactory
         Out.println("     }");
         Out.println();
         Out.println("   private static final void ReadMany(Connection C, int LookupId, tilda.db.processors.RecordProcessor RP, " + Helper.getFullBaseClassName(O)
-            + " Obj, Object ExtraParams, int Start, int Size) throws Exception");
+            + " Obj, Object ExtraParams, int Start, int Size, boolean CountAll, int FetchSize) throws Exception");
         Out.println("     {");
 
         Out.println("       long T0 = System.nanoTime();");
         Out.println("       StringBuilder S = new StringBuilder(1024);");
-        Helper.SelectFrom(Out, O);
+        Helper.SelectFrom(Out, O, true);
         Helper.SwitchLookupIdWhereClauses(Out, G, O, "       ", false);
         Out.println();
         Out.println("       ");
@@ -210,17 +227,234 @@ public class TildaFactory implements CodeGenTildaFactory
         Out.println("       int count = 0;");
         Out.println("       try");
         Out.println("        {");
-        Out.println("          PS = C.prepareStatement(Q);");
+        Out.println("          // Ad-hoc where clauses with inlined values would just churn the statement cache");
+        Out.println("          PS = LookupId == -7 && ((SelectQuery)ExtraParams).isParameterized() == false ? C.prepareStatement(Q) : C.borrowStatement(Q);");
+        Out.println("          if (FetchSize > 0) C.setStreaming(PS, FetchSize);");
         Out.println("          int i = 0;");
         Helper.SwitchLookupIdPreparedStatement(Out, G, O, "          ", false, true);
         Out.println();
-        Out.println("          count = JDBCHelper.Process(PS.executeQuery(), RP, Start, "+G.getSql().supportsSelectOffset()+", Size, "+G.getSql().supportsSelectOffset()+");");
+        Out.println("          count = JDBCHelper.Process(PS.executeQuery(), RP, Start, "+G.getSql().supportsSelectOffset()+", Size, "+G.getSql().supportsSelectOffset()+", CountAll);");
         Out.println("        }");
-        Helper.CatchFinallyBlock(Out, O, "selected", "StatementType.SELECT", false, true);
+        Helper.CatchFinallyBlock(Out, O, "selected", "StatementType.SELECT", false, true, "LookupId == -7 ? ((SelectQuery)ExtraParams).getParams() : null");
         Out.println();
         Out.println("    }");
       }
 
+    @Override
+    public void genMethodWriteBatch(PrintWriter Out, GeneratorSession G, Object O)
+      {
+        String BaseClassName = O.getBaseClassName();
+        Out.println("   public static boolean[] WriteBatch(Connection C, java.util.Collection<? extends " + Helper.getFullAppDataClassName(O) + "> L) throws Exception");
+        Out.println("     {");
+        Out.println("       return WriteBatch(C, L, Connection.DEFAULT_BATCH_SIZE);");
+        Out.println("     }");
+        Out.println();
+        Out.println("   public static boolean[] WriteBatch(Connection C, java.util.Collection<? extends " + Helper.getFullAppDataClassName(O) + "> L, int BatchSize) throws Exception");
+        Out.println("     {");
+        Out.println("       if (BatchSize < 1)");
+        Out.println("        throw new Exception(\"Invalid batch size \"+BatchSize+\".\");");
+        Out.println("       " + BaseClassName + "[] Objs = L.toArray(new " + BaseClassName + "[L.size()]);");
+        Out.println("       boolean[] Results = new boolean[Objs.length];");
+        Out.println("       Map<String, List<Integer>> Batches = new java.util.LinkedHashMap<String, List<Integer>>();");
+        Out.println("       for (int i = 0; i < Objs.length; ++i)");
+        Out.println("        {");
+        Out.println("          if (Objs[i].hasChanged() == false)");
+        Out.println("           {");
+        Out.println("             Results[i] = true;");
+        Out.println("             continue;");
+        Out.println("           }");
+        Out.println("          if (Objs[i].BeforeWrite(C) == false)");
+        Out.println("           {");
+        Out.println("             LOG.debug(\"The " + O.getFullName() + " object's BeforeWrite() failed.\");");
+        Out.println("             continue;");
+        Out.println("           }");
+        Out.println("          String Q = Objs[i].__WriteQuery(C);");
+        Out.println("          List<Integer> B = Batches.get(Q);");
+        Out.println("          if (B == null)");
+        Out.println("           Batches.put(Q, B = new ArrayList<Integer>());");
+        Out.println("          B.add(i);");
+        Out.println("        }");
+        Out.println("       for (Map.Entry<String, List<Integer>> e : Batches.entrySet())");
+        Out.println("        WriteBatch(C, e.getKey(), Objs, e.getValue(), BatchSize, Results);");
+        Out.println("       return Results;");
+        Out.println("     }");
+        Out.println();
+        Out.println("   private static void WriteBatch(Connection C, String Q, " + BaseClassName + "[] Objs, List<Integer> B, int BatchSize, boolean[] Results) throws Exception");
+        Out.println("     {");
+        Out.println("       StatementType ST = Objs[B.get(0)].__WriteStatementType();");
+        Out.println("       QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, Q);");
+        Out.println("       LOG.debug(\"TILDA(" + AnsiUtil.NEGATIVE + O.getShortName() + AnsiUtil.NEGATIVE_OFF + "): batch of \"+B.size()+\": \"+Q);");
+        Out.println("       List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();");
+        Out.println("       for (int Start = 0; Start < B.size(); Start += BatchSize)");
+        Out.println("        {");
+        Out.println("          long T0 = System.nanoTime();");
+        Out.println("          int End = Math.min(Start + BatchSize, B.size());");
+        Out.println("          java.sql.PreparedStatement PS = null;");
+        Out.println("          int count = 0;");
+        Out.println("          try");
+        Out.println("           {");
+        Out.println("             PS = C.borrowStatement(Q);");
+        Out.println("             for (int j = Start; j < End; ++j)");
+        Out.println("              {");
+        Out.println("                Objs[B.get(j)].__WriteBind(C, PS, AllocatedArrays);");
+        Out.println("                PS.addBatch();");
+        Out.println("              }");
+        if (G.getSql().needsSavepoint() == true)
+          Out.println("             C.setSavepoint();");
+        Out.println("             int[] Counts = PS.executeBatch();");
+        if (G.getSql().needsSavepoint() == true)
+          Out.println("             C.releaseSavepoint(true);");
+        Out.println("             for (int j = Start; j < End; ++j)");
+        Out.println("              {");
+        Out.println("                int c = Counts[j - Start];");
+        Out.println("                if (c == 0)");
+        Out.println("                 continue;");
+        Out.println("                count += c == java.sql.Statement.SUCCESS_NO_INFO ? 1 : c;");
+        Out.println("                Objs[B.get(j)].__WriteDone(C);");
+        Out.println("                Results[B.get(j)] = true;");
+        Out.println("              }");
+        Out.println("           }");
+        Out.println("          catch (java.sql.SQLException E)");
+        Out.println("           {");
+        if (G.getSql().needsSavepoint() == true)
+          Out.println("             C.releaseSavepoint(false);");
+        Out.println("             " + Helper.getSupportClassFullName(O._ParentSchema) + ".HandleCatch(C, E, \"batch updated or inserted\");");
+        Out.println("           }");
+        Out.println("          finally");
+        Out.println("           {");
+        Out.println("             " + Helper.getSupportClassFullName(O._ParentSchema) + ".HandleFinally(C, PS, T0, SCHEMA_TABLENAME_LABEL, Q, ST, count, AllocatedArrays);");
+        Out.println("             PS = null;");
+        Out.println("           }");
+        Out.println("        }");
+        Out.println("     }");
+      }
+
+    @Override
+    public void genMethodCopyIn(PrintWriter Out, GeneratorSession G, Object O)
+      {
+        String BaseClassName = O.getBaseClassName();
+        Out.println("   public static int CopyIn(Connection C, java.util.Collection<? extends " + Helper.getFullAppDataClassName(O) + "> L) throws Exception");
+        Out.println("     {");
+        Out.println("       if (C.supportsBulkLoad() == false)");
+        Out.println("        {");
+        Out.println("          LOG.debug(\"No bulk-load support for " + O.getFullName() + ": falling back to batched inserts.\");");
+        Out.println("          int Total = 0;");
+        Out.println("          for (boolean b : WriteBatch(C, L))");
+        Out.println("           if (b == true)");
+        Out.println("            ++Total;");
+        Out.println("          return Total;");
+        Out.println("        }");
+        Out.println();
+        Out.println("       Map<String, List<" + BaseClassName + ">> Groups = new java.util.LinkedHashMap<String, List<" + BaseClassName + ">>();");
+        Out.println("       for (" + BaseClassName + " Obj : L)");
+        Out.println("        {");
+        Out.println("          if (Obj.__WriteStatementType() != StatementType.INSERT)");
+        Out.println("           throw new Exception(\"Only newly created objects can be bulk-loaded into " + O.getFullName() + ": \"+Obj.toString());");
+        Out.println("          if (Obj.hasChanged() == false)");
+        Out.println("           continue;");
+        Out.println("          if (Obj.BeforeWrite(C) == false)");
+        Out.println("           {");
+        Out.println("             LOG.debug(\"The " + O.getFullName() + " object's BeforeWrite() failed.\");");
+        Out.println("             continue;");
+        Out.println("           }");
+        Out.println("          String Cols = Obj.__CopyColumns(C);");
+        Out.println("          List<" + BaseClassName + "> Group = Groups.get(Cols);");
+        Out.println("          if (Group == null)");
+        Out.println("           Groups.put(Cols, Group = new ArrayList<" + BaseClassName + ">());");
+        Out.println("          Group.add(Obj);");
+        Out.println("        }");
+        Out.println();
+        Out.println("       int Total = 0;");
+        Out.println("       for (Map.Entry<String, List<" + BaseClassName + ">> e : Groups.entrySet())");
+        Out.println("        {");
+        Out.println("          long T0 = System.nanoTime();");
+        Out.println("          List<" + BaseClassName + "> Group = e.getValue();");
+        Out.println("          tilda.db.BulkWriter W = C.newBulkWriter(" + TextUtil.EscapeDoubleQuoteWithSlash(O._ParentSchema._Name) + ", " + TextUtil.EscapeDoubleQuoteWithSlash(O._Name) + ", e.getKey());");
+        Out.println("          QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, e.getKey());");
+        Out.println("          LOG.debug(\"TILDA(" + AnsiUtil.NEGATIVE + O.getShortName() + AnsiUtil.NEGATIVE_OFF + "): bulk load of \"+Group.size()+\" rows into (\"+e.getKey()+\")\");");
+        Out.println("          int count = 0;");
+        Out.println("          try");
+        Out.println("           {");
+        Out.println("             for (" + BaseClassName + " Obj : Group)");
+        Out.println("              Obj.__CopyRow(W);");
+        Out.println("             count = (int) W.finish();");
+        Out.println("             W = null;");
+        Out.println("           }");
+        Out.println("          finally");
+        Out.println("           {");
+        Out.println("             if (W != null)");
+        Out.println("              W.cancel();");
+        Out.println("           }");
+        Out.println("          for (" + BaseClassName + " Obj : Group)");
+        Out.println("           Obj.__WriteDone(C);");
+        Out.println("          T0 = System.nanoTime() - T0;");
+        Out.println("          PerfTracker.add(SCHEMA_TABLENAME_LABEL, StatementType.INSERT, T0, count);");
+        Out.println("          LOG.debug(\"TILDA(" + AnsiUtil.NEGATIVE + O.getShortName() + AnsiUtil.NEGATIVE_OFF + "): bulk loaded \"+count+\" rows in \"+DurationUtil.PrintDuration(T0)+\" (\"+DurationUtil.PrintPerformancePerSecond(T0, count)+\" rows/s).\");");
+        Out.println("          Total += count;");
+        Out.println("        }");
+        Out.println("       return Total;");
+        Out.println("     }");
+      }
+
+    /**
+     * The refresh query only reads the key columns, from which it builds the keys to evict. The object cached under
+     * the primary key, if any, is also evicted under its own keys, which differ if a unique key was changed.
+     */
+    protected void genEvictChanged(PrintWriter Out, GeneratorSession G, Object O)
+      {
+        Map<Integer, List<Column>> Lookups = TildaData.getCacheableLookups(O);
+        List<Column> KeyColumns = new ArrayList<Column>();
+        for (List<Column> L : Lookups.values())
+          for (Column C : L)
+            if (KeyColumns.contains(C) == false)
+              KeyColumns.add(C);
+        Out.println("   protected static void __evictChanged(Connection C, java.time.ZonedDateTime Since) throws Exception");
+        Out.println("     {");
+        Out.println("       SelectQuery Q = newSelectQuery(C);");
+        for (Column C : KeyColumns)
+          Out.println("       Q.selectColumn(COLS." + C.getName().toUpperCase() + ");");
+        Out.println("       Q.from(SCHEMA_LABEL, TABLENAME_LABEL);");
+        Out.println("       Q.where().gt(COLS.LASTUPDATED, Since);");
+        Out.println("       Q.execute(new tilda.db.processors.RecordProcessor()");
+        Out.println("        {");
+        Out.println("          public void Start() { }");
+        Out.println("          public boolean Process(int Index, java.sql.ResultSet RS) throws Exception");
+        Out.println("           {");
+        for (int i = 0; i < KeyColumns.size(); ++i)
+          {
+            Column C = KeyColumns.get(i);
+            String Get = "RS.get" + JavaJDBCType.get(C._Type)._JDBCType.trim() + "(" + (i + 1) + ")";
+            if (C._Type == ColumnType.CHAR)
+              Get = "ParseUtil.parseCharacter(" + Get + ")";
+            Out.print("             " + JavaJDBCType.getFieldTypeBase(C) + " _" + C.getName() + " = " + Get + ";");
+            if (G.getSql().stringNeedsTrim(C) == true)
+              Out.print(" if (_" + C.getName() + " != null) _" + C.getName() + " = _" + C.getName() + ".trim();");
+            Out.println();
+          }
+        if (Lookups.containsKey(0) == true)
+          {
+            Out.print("             " + O._BaseClassName + " Old = CACHE.peek(Arrays.<java.lang.Object>asList(0");
+            for (Column C : Lookups.get(0))
+              Out.print(", _" + C.getName());
+            Out.println("));");
+            Out.println("             if (Old != null)");
+            Out.println("              CACHE.removeAll(Old.__getCacheKeys());");
+          }
+        for (Map.Entry<Integer, List<Column>> e : Lookups.entrySet())
+          {
+            Out.print("             CACHE.remove(Arrays.<java.lang.Object>asList(" + e.getKey());
+            for (Column C : e.getValue())
+              Out.print(", _" + C.getName());
+            Out.println("));");
+          }
+        Out.println("             return true;");
+        Out.println("           }");
+        Out.println("          public void End(boolean hasMore, int MaxIndex) { }");
+        Out.println("        }, 0, -1);");
+        Out.println("     }");
+        Out.println();
+      }
+
     @Override
     public void genMethodCreate(PrintWriter Out, GeneratorSession G, Object O, List<Column> CreateColumns, List<Column> DefaultColumns)
       throws Exception
@@ -337,6 +571,103 @@ public class TildaFactory implements CodeGenTildaFactory
 
 
 
+    @Override
+    public void genMethodLookupByKeys(PrintWriter Out, GeneratorSession G, Object O, String MethodName, Column Key)
+      {
+        String AppDataClassName = Helper.getFullAppDataClassName(O);
+        String KeyType = JavaJDBCType.getFieldTypeBaseClass(Key);
+        Out.println("   static public Map<" + KeyType + ", " + AppDataClassName + "> " + MethodName + "(Connection C, java.util.Collection<" + KeyType + "> Keys) throws Exception");
+        Out.println("     {");
+        Out.println("       final Map<" + KeyType + ", " + AppDataClassName + "> M = new HashMap<" + KeyType + ", " + AppDataClassName + ">(Keys.size() * 4 / 3 + 1);");
+        Out.println("       " + MethodName + "(C, Keys, new tilda.db.processors.ObjectProcessor<" + AppDataClassName + ">()");
+        Out.println("        {");
+        Out.println("          public boolean Process(int Index, " + AppDataClassName + " Obj) throws Exception");
+        Out.println("            {");
+        Out.println("              M.put(Obj.get" + TextUtil.CapitalizeFirstCharacter(Key.getName()) + "(), Obj);");
+        Out.println("              return true;");
+        Out.println("            }");
+        Out.println("        });");
+        Out.println("       return M;");
+        Out.println("     }");
+        Out.println();
+        Out.println("   static public void " + MethodName + "(Connection C, java.util.Collection<" + KeyType + "> Keys, tilda.db.processors.ObjectProcessor<" + AppDataClassName + "> OP) throws Exception");
+        Out.println("     {");
+        Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);");
+        Out.println("       ReadManyByKeys(C, COLS." + Key.getName().toUpperCase() + ", Keys, RPI);");
+        Out.println("     }");
+      }
+
+    @Override
+    public void genMethodReadManyByKeys(PrintWriter Out, GeneratorSession G, Object O)
+      {
+        Out.println("   private static final void ReadManyByKeys(Connection C, tilda.types.ColumnDefinition Col, java.util.Collection<?> Keys, tilda.db.processors.RecordProcessor RP) throws Exception");
+        Out.println("     {");
+        Out.println("       if (Keys.isEmpty() == true)");
+        Out.println("        return;");
+        Out.println("       StringBuilder S = new StringBuilder(1024);");
+        Helper.SelectFrom(Out, O);
+        Out.println("       S.append(\" where \"); C.getFullColumnVar(S, " + TextUtil.EscapeDoubleQuoteWithSlash(O._ParentSchema._Name) + ", " + TextUtil.EscapeDoubleQuoteWithSlash(O._Name) + ", Col.getName());");
+        Out.println("       java.lang.Object[] K = Keys.toArray();");
+        Out.println("       boolean UseArray = C.supportsArrays();");
+        Out.println("       int ChunkSize = UseArray == true ? K.length : Math.min(K.length, Connection.DEFAULT_LOOKUP_CHUNK_SIZE);");
+        Out.println("       if (UseArray == true)");
+        Out.println("        S.append(\" = any(?)\");");
+        Out.println("       else");
+        Out.println("        {");
+        Out.println("          S.append(\" in (?\");");
+        Out.println("          for (int j = 1; j < ChunkSize; ++j)");
+        Out.println("           S.append(\",?\");");
+        Out.println("          S.append(\")\");");
+        Out.println("        }");
+        Out.println();
+        Out.println("       String Q = S.toString();");
+        Out.println("       S.setLength(0);");
+        Out.println("       S = null;");
+        Out.println("       QueryDetails.setLastQuery(SCHEMA_TABLENAME_LABEL, Q);");
+        Out.println("       LOG.debug(\"TILDA(" + AnsiUtil.NEGATIVE + O.getShortName() + AnsiUtil.NEGATIVE_OFF + "): \"+Q+\" for \"+K.length+\" keys\");");
+        Out.println("       RP.Start();");
+        Out.println("       int Total = 0;");
+        Out.println("       boolean More = true;");
+        Out.println("       for (int Start = 0; Start < K.length && More == true; Start += ChunkSize)");
+        Out.println("        {");
+        Out.println("          long T0 = System.nanoTime();");
+        Out.println("          java.sql.PreparedStatement PS = null;");
+        Out.println("          List<java.sql.Array> AllocatedArrays = new ArrayList<java.sql.Array>();");
+        Out.println("          int count = 0;");
+        Out.println("          try");
+        Out.println("           {");
+        Out.println("             PS = C.borrowStatement(Q);");
+        Out.println("             if (UseArray == true)");
+        Out.println("              C.setArray(PS, 1, Col._Type, AllocatedArrays, Keys);");
+        Out.println("             else // the last chunk repeats its last key so that all chunks share the same statement");
+        Out.println("              for (int j = 0; j < ChunkSize; ++j)");
+        Out.println("               PS.setObject(j + 1, K[Math.min(Start + j, K.length - 1)]);");
+        Out.println("             java.sql.ResultSet RS = PS.executeQuery();");
+        Out.println("             while (RS.next() == true)");
+        Out.println("              {");
+        Out.println("                if (RP.Process(Total + count, RS) == false)");
+        Out.println("                 {");
+        Out.println("                   More = false;");
+        Out.println("                   break;");
+        Out.println("                 }");
+        Out.println("                ++count;");
+        Out.println("              }");
+        Out.println("             Total += count;");
+        Out.println("           }");
+        Out.println("          catch (java.sql.SQLException E)");
+        Out.println("           {");
+        Out.println("             " + Helper.getSupportClassFullName(O._ParentSchema) + ".HandleCatch(C, E, \"selected\");");
+        Out.println("           }");
+        Out.println("          finally");
+        Out.println("           {");
+        Out.println("             " + Helper.getSupportClassFullName(O._ParentSchema) + ".HandleFinally(C, PS, T0, SCHEMA_TABLENAME_LABEL, Q, StatementType.SELECT, count, AllocatedArrays);");
+        Out.println("             PS = null;");
+        Out.println("           }");
+        Out.println("        }");
+        Out.println("       RP.End(false, Total);");
+        Out.println("     }");
+      }
+
     @Override
     public void genMethodLookupByPrimaryKey(PrintWriter Out, GeneratorSession G, PrimaryKey PK, long LookupId)
       {
@@ -407,11 +738,21 @@ public class TildaFactory implements CodeGenTildaFactory
       }
 
     
-    private static void genMethodLookupWhereIndexSignature(PrintWriter Out, GeneratorSession G, Index I, Query q)
+    private static void genMethodLookupWhereIndexSignature(PrintWriter Out, GeneratorSession G, Index I, Query q, boolean CountAll)
      {
+        genMethodLookupWhereIndexArgs(Out, I, q, true);
+        Out.println(", int Start, int Size" + (CountAll == true ? ", boolean CountAll" : "") + ") throws Exception");
+      
+     }
+
+    /**
+     * Prints the lookup values of the index, as parameter declarations if WithTypes is true, or as arguments.
+     */
+    private static void genMethodLookupWhereIndexArgs(PrintWriter Out, Index I, Query q, boolean WithTypes)
+      {
         for (Column C : I._ColumnObjs)
           if (C != null)
-            Out.print(", " + JavaJDBCType.getFieldType(C) + " " + C.getName());
+            Out.print(", " + (WithTypes == true ? JavaJDBCType.getFieldType(C) + " " : "") + C.getName());
         if (q != null)
           {
             Set<String> VarNameSet = new HashSet<String>();
@@ -419,12 +760,10 @@ public class TildaFactory implements CodeGenTildaFactory
               {
                 if (VarNameSet.add(A._VarName) == false)
                  continue;
-                Out.print(", " + JavaJDBCType.getFieldTypeParam(A._Col, A._Multi) + " " + A._VarName);
+                Out.print(", " + (WithTypes == true ? JavaJDBCType.getFieldTypeParam(A._Col, A._Multi) + " " : "") + A._VarName);
               }
           }
-        Out.println(", int Start, int Size) throws Exception");
-      
-     }
+      }
     
     private static void genMethodLookupWhereIndexPreamble(PrintWriter Out, Index I, Query q, String MethodName)
       {
@@ -467,23 +806,35 @@ public class TildaFactory implements CodeGenTildaFactory
         Query q = I._SubQuery == null ? null : I._SubQuery.getQuery(G.getSql());
 
         String MethodName = "LookupWhere" + I._Name;
-        Out.print("   static public ListResults<" + Helper.getFullAppDataClassName(I._ParentObject) + "> " + MethodName + "(Connection C");
-        genMethodLookupWhereIndexSignature(Out, G, I, q);
+        for (boolean CountAll : new boolean[] { false, true })
+          {
+            Out.print("   static public ListResults<" + Helper.getFullAppDataClassName(I._ParentObject) + "> " + MethodName + "(Connection C");
+            genMethodLookupWhereIndexSignature(Out, G, I, q, CountAll);
+            Out.println("     {");
+            genMethodLookupWhereIndexPreamble(Out, I, q, MethodName);
+            Out.println();
+            Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);");
+            Out.println("       ReadMany(C, " + LookupId + ", RPI, Obj, " + (q != null && q._Attributes.isEmpty() == false ? "P" : "null") + ", Start, Size, " + (CountAll == true ? "CountAll" : "false") + ", 0);");
+            Out.println("       return RPI._L;");
+            Out.println("     }");
+            Out.println();
+          }
+        Out.print("   static public void " + MethodName + "(Connection C, tilda.db.processors.ObjectProcessor<" + Helper.getFullAppDataClassName(I._ParentObject) + "> OP");
+        genMethodLookupWhereIndexSignature(Out, G, I, q, false);
         Out.println("     {");
         genMethodLookupWhereIndexPreamble(Out, I, q, MethodName);
         Out.println();
-        Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);");
-        Out.println("       ReadMany(C, " + LookupId + ", RPI, Obj, " + (q != null && q._Attributes.isEmpty() == false ? "P" : "null") + ", Start, Size);");
-        Out.println("       return RPI._L;");
+        Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);");
+        Out.println("       ReadMany(C, " + LookupId + ", RPI, Obj, " + (q != null && q._Attributes.isEmpty() == false ? "P" : "null") + ", Start, Size, false, C.getFetchSize());");
         Out.println("     }");
         Out.println();
-        Out.print("   static public void " + MethodName + "(Connection C, tilda.db.processors.ObjectProcessor<" + Helper.getFullAppDataClassName(I._ParentObject) + "> OP");
-        genMethodLookupWhereIndexSignature(Out, G, I, q);
+        Out.print("   static public java.util.concurrent.CompletableFuture<ListResults<" + Helper.getFullAppDataClassName(I._ParentObject) + ">> " + MethodName + "Async(String PoolId");
+        genMethodLookupWhereIndexArgs(Out, I, q, true);
+        Out.println(", int Start, int Size)");
         Out.println("     {");
-        genMethodLookupWhereIndexPreamble(Out, I, q, MethodName);
-        Out.println();
-        Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);");
-        Out.println("       ReadMany(C, " + LookupId + ", RPI, Obj, " + (q != null && q._Attributes.isEmpty() == false ? "P" : "null") + ", Start, Size);");
+        Out.print("       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> " + MethodName + "(AsyncC");
+        genMethodLookupWhereIndexArgs(Out, I, q, false);
+        Out.println(", Start, Size));");
         Out.println("     }");
         Out.println();
 
@@ -491,6 +842,55 @@ public class TildaFactory implements CodeGenTildaFactory
           Helper.MakeParamStaticClass(Out, q._Attributes, MethodName);
       }
 
+    private static void genMethodLookupWhereIndexPageTokenPrint(PrintWriter Out, Index I, String Lead)
+      {
+        Out.print(Lead + "tilda.db.KeysetToken.print(SCHEMA_TABLENAME_LABEL+\"." + I._Name + "\"");
+        for (Column C : I.getKeysetColumns())
+          Out.print(", RPI._Last.get" + TextUtil.CapitalizeFirstCharacter(C.getName()) + "()");
+        Out.print(")");
+      }
+
+    @Override
+    public void genMethodLookupWhereIndexPage(PrintWriter Out, GeneratorSession G, Index I, int LookupId)
+      {
+        List<Column> KeysetCols = I.getKeysetColumns();
+        if (KeysetCols == null)
+          throw new Error("ERROR: called genMethodLookupWhereIndexPage with an Index that cannot be paged by keyset");
+
+        String MethodName = "LookupWhere" + I._Name;
+        Out.print("   static public ListResults<" + Helper.getFullAppDataClassName(I._ParentObject) + "> " + MethodName + "(Connection C");
+        for (Column C : I._ColumnObjs)
+          if (C != null)
+            Out.print(", " + JavaJDBCType.getFieldType(C) + " " + C.getName());
+        Out.println(", String PageToken, int Size) throws Exception");
+        Out.println("     {");
+        genMethodLookupWhereIndexPreamble(Out, I, null, MethodName);
+        Out.println("       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+\"." + I._Name + "\", " + KeysetCols.size() + ");");
+        Out.println();
+        Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, 0);");
+        Out.println("       ReadMany(C, " + LookupId + ", RPI, Obj, T, 0, Size, false, 0);");
+        Out.println("       if (RPI._HasMore == true)");
+        genMethodLookupWhereIndexPageTokenPrint(Out, I, "        RPI._L.setNextPageToken(");
+        Out.println(");");
+        Out.println("       return RPI._L;");
+        Out.println("     }");
+        Out.println();
+        Out.print("   static public String " + MethodName + "(Connection C, tilda.db.processors.ObjectProcessor<" + Helper.getFullAppDataClassName(I._ParentObject) + "> OP");
+        for (Column C : I._ColumnObjs)
+          if (C != null)
+            Out.print(", " + JavaJDBCType.getFieldType(C) + " " + C.getName());
+        Out.println(", String PageToken, int Size) throws Exception");
+        Out.println("     {");
+        genMethodLookupWhereIndexPreamble(Out, I, null, MethodName);
+        Out.println("       tilda.db.KeysetToken T = tilda.db.KeysetToken.parse(PageToken, SCHEMA_TABLENAME_LABEL+\"." + I._Name + "\", " + KeysetCols.size() + ");");
+        Out.println();
+        Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);");
+        Out.println("       ReadMany(C, " + LookupId + ", RPI, Obj, T, 0, Size, false, C.getFetchSize());");
+        genMethodLookupWhereIndexPageTokenPrint(Out, I, "       return RPI._HasMore == false ? null : ");
+        Out.println(";");
+        Out.println("     }");
+      }
+
 
 
     @Override
@@ -500,43 +900,63 @@ public class TildaFactory implements CodeGenTildaFactory
           throw new Error("ERROR: called genMethodLookupWhereQuery with a Unique SubWhereclause");
         
         String MethodName = "LookupWhere" + SWC._Name;
-        Out.print("   static public ListResults<" + Helper.getFullAppDataClassName(SWC._ParentObject) + "> " + MethodName
-            + "(Connection C");
         Set<String> VarNameSet = new HashSet<String>();
-        for (Query.Attribute A : SWC._Attributes)
-          {
-            String v = A._VarName.replace('.', '_');
-            if (VarNameSet.add(v) == false)
-              continue;
-            Out.print(", " + JavaJDBCType.getFieldTypeParam(A._Col, A._Multi) + " " + v);
-          }
-        Out.println(", int Start, int Size) throws Exception");
-        Out.println("     {");
-        Out.println("       " + Helper.getFullBaseClassName(SWC._ParentObject) + " Obj = new " + Helper.getFullAppDataClassName(SWC._ParentObject) + "();");
-        Out.println("       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);");
-        Out.println();
-        if (SWC._Attributes.isEmpty() == false)
+        for (boolean CountAll : new boolean[] { false, true })
           {
-            Out.print("       " + MethodName + "Params P = new " + MethodName + "Params(");
-            boolean First = true;
+            Out.print("   static public ListResults<" + Helper.getFullAppDataClassName(SWC._ParentObject) + "> " + MethodName
+                + "(Connection C");
             VarNameSet.clear();
             for (Query.Attribute A : SWC._Attributes)
               {
                 String v = A._VarName.replace('.', '_');
                 if (VarNameSet.add(v) == false)
                   continue;
-                if (First == true)
-                  First = false;
-                else
-                  Out.print(", ");
-                Out.print(v);
+                Out.print(", " + JavaJDBCType.getFieldTypeParam(A._Col, A._Multi) + " " + v);
               }
-            Out.println(");");
+            Out.println(", int Start, int Size" + (CountAll == true ? ", boolean CountAll" : "") + ") throws Exception");
+            Out.println("     {");
+            Out.println("       " + Helper.getFullBaseClassName(SWC._ParentObject) + " Obj = new " + Helper.getFullAppDataClassName(SWC._ParentObject) + "();");
+            Out.println("       Obj.initForLookup(tilda.utils.SystemValues.EVIL_VALUE);");
+            Out.println();
+            if (SWC._Attributes.isEmpty() == false)
+              {
+                Out.print("       " + MethodName + "Params P = new " + MethodName + "Params(");
+                boolean First = true;
+                VarNameSet.clear();
+                for (Query.Attribute A : SWC._Attributes)
+                  {
+                    String v = A._VarName.replace('.', '_');
+                    if (VarNameSet.add(v) == false)
+                      continue;
+                    if (First == true)
+                      First = false;
+                    else
+                      Out.print(", ");
+                    Out.print(v);
+                  }
+                Out.println(");");
+              }
+            Out.println();
+            Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);");
+            Out.println("       ReadMany(C, " + LookupId + ", RPI, Obj, " + (SWC._Attributes.isEmpty() == false ? "P" : "null") + ", Start, Size, " + (CountAll == true ? "CountAll" : "false") + ", 0);");
+            Out.println("       return RPI._L;");
+            Out.println("     }");
+            Out.println();
           }
-        Out.println();
-        Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);");
-        Out.println("       ReadMany(C, " + LookupId + ", RPI, Obj, " + (SWC._Attributes.isEmpty() == false ? "P" : "null") + ", Start, Size);");
-        Out.println("       return RPI._L;");
+        StringBuilder Args = new StringBuilder();
+        Out.print("   static public java.util.concurrent.CompletableFuture<ListResults<" + Helper.getFullAppDataClassName(SWC._ParentObject) + ">> " + MethodName + "Async(String PoolId");
+        VarNameSet.clear();
+        for (Query.Attribute A : SWC._Attributes)
+          {
+            String v = A._VarName.replace('.', '_');
+            if (VarNameSet.add(v) == false)
+              continue;
+            Out.print(", " + JavaJDBCType.getFieldTypeParam(A._Col, A._Multi) + " " + v);
+            Args.append(", ").append(v);
+          }
+        Out.println(", int Start, int Size)");
+        Out.println("     {");
+        Out.println("       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> " + MethodName + "(AsyncC" + Args + ", Start, Size));");
         Out.println("     }");
         Out.println();
         if (SWC._Attributes.isEmpty() == false)
@@ -593,21 +1013,35 @@ public class TildaFactory implements CodeGenTildaFactory
       {
         Out.println("   public static SelectQuery newSelectQuery(Connection C) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, true); }");
         Out.println("   public static SelectQuery newWhereQuery (Connection C) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, false); }");
+        Out.println("   public static SelectQuery newSelectQuery(Connection C, boolean Parameterized) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, true , Parameterized); }");
+        Out.println("   public static SelectQuery newWhereQuery (Connection C, boolean Parameterized) throws Exception { return new SelectQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, false, Parameterized); }");
         Out.println("   public static ListResults<" + Helper.getFullAppDataClassName(O) + "> runSelect(Connection C, SelectQuery Q, int Start, int Size) throws Exception");
         Out.println("     {");
         Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);");
-        Out.println("       ReadMany(C, -7, RPI, null, Q, Start, Size);");
+        Out.println("       ReadMany(C, -7, RPI, null, Q, Start, Size, false, Q.getFetchSize(0));");
+        Out.println("       return RPI._L;");
+        Out.println("     }");
+        Out.println("   public static ListResults<" + Helper.getFullAppDataClassName(O) + "> runSelect(Connection C, SelectQuery Q, int Start, int Size, boolean CountAll) throws Exception");
+        Out.println("     {");
+        Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, Start);");
+        Out.println("       ReadMany(C, -7, RPI, null, Q, Start, Size, CountAll, Q.getFetchSize(0));");
         Out.println("       return RPI._L;");
         Out.println("     }");
         Out.println("   public static void runSelect(Connection C, SelectQuery Q, tilda.db.processors.ObjectProcessor<" + Helper.getFullAppDataClassName(O) + "> OP, int Start, int Size) throws Exception");
         Out.println("     {");
         Out.println("       RecordProcessorInternal RPI = new RecordProcessorInternal(C, OP);");
-        Out.println("       ReadMany(C, -7, RPI, null, Q, Start, Size);");
+        Out.println("       ReadMany(C, -7, RPI, null, Q, Start, Size, false, Q.getFetchSize(C.getFetchSize()));");
+        Out.println("     }");
+        Out.println("   public static java.util.concurrent.CompletableFuture<ListResults<" + Helper.getFullAppDataClassName(O) + ">> runSelectAsync(String PoolId, SelectQuery Q, int Start, int Size)");
+        Out.println("     {");
+        Out.println("       return tilda.db.AsyncQueries.read(PoolId, AsyncC -> runSelect(AsyncC, Q, Start, Size));");
         Out.println("     }");
         if (O._LC == ObjectLifecycle.NORMAL)
           {
             Out.println("   public static UpdateQuery newUpdateQuery(Connection C) throws Exception { return new UpdateQuery(C, SCHEMA_LABEL, TABLENAME_LABEL); }");
             Out.println("   public static DeleteQuery newDeleteQuery(Connection C) throws Exception { return new DeleteQuery(C, SCHEMA_LABEL, TABLENAME_LABEL); }");
+            Out.println("   public static UpdateQuery newUpdateQuery(Connection C, boolean Parameterized) throws Exception { return new UpdateQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, Parameterized); }");
+            Out.println("   public static DeleteQuery newDeleteQuery(Connection C, boolean Parameterized) throws Exception { return new DeleteQuery(C, SCHEMA_LABEL, TABLENAME_LABEL, Parameterized); }");
           }
         Out.println();
       }
@@ -641,10 +1075,11 @@ public class TildaFactory implements CodeGenTildaFactory
             }
 
 
-        Out.println("   protected static Map<String, " + Helper.getFullAppDataClassName(O) + "> __MAPPINGS = new HashMap<String, " + Helper.getFullAppDataClassName(O) + ">();");
+        Out.println("   // Replaced as a whole by initMappings(), so lookups never see a partially loaded map and need no locking.");
+        Out.println("   protected static volatile Map<String, " + Helper.getFullAppDataClassName(O) + "> __MAPPINGS = java.util.Collections.emptyMap();");
         Out.println("   public static void initMappings(Connection C) throws Exception");
         Out.println("     {");
-        Out.println("       __MAPPINGS.clear();");
+        Out.println("       Map<String, " + Helper.getFullAppDataClassName(O) + "> M = new HashMap<String, " + Helper.getFullAppDataClassName(O) + ">();");
         Out.println("       ListResults<" + Helper.getFullAppDataClassName(O) + "> L = LookupWhereAll(C, 0, -1);");
         Out.println("       for (" + Helper.getFullAppDataClassName(O) + " obj : L)");
         Out.println("        {");
@@ -654,7 +1089,7 @@ public class TildaFactory implements CodeGenTildaFactory
             Out.println("           throw new Exception(\"Could not validate against the model. Invalid group value in object \"+obj+\". Allowed values are: \"+TextUtil.Print(" + Helper.getFullAppDataClassName(O)
                 + "._group_Values, 0)+\".\");");
           }
-        Out.print("          __MAPPINGS.put(");
+        Out.print("          M.put(");
         First = true;
         for (Column C : O._PrimaryKey._ColumnObjs)
           if (C != null)
@@ -667,11 +1102,14 @@ public class TildaFactory implements CodeGenTildaFactory
             }
         Out.println(", obj);");
         Out.println("        }");
+        Out.println("       __MAPPINGS = java.util.Collections.unmodifiableMap(M);");
         Out.println("     }");
+        genScheduleReload(Out, O);
 
         Out.println("   private static " + Helper.getFullAppDataClassName(O) + " getMapping(" + FuncParams + ")");
         Out.println("     {");
-        Out.print("       " + Helper.getFullAppDataClassName(O) + " Obj = __MAPPINGS.get(");
+        Out.println("       Map<String, " + Helper.getFullAppDataClassName(O) + "> M = __MAPPINGS;");
+        Out.print("       " + Helper.getFullAppDataClassName(O) + " Obj = M.get(");
         First = true;
         for (Column C : O._PrimaryKey._ColumnObjs)
           if (C != null)
@@ -687,7 +1125,7 @@ public class TildaFactory implements CodeGenTildaFactory
         for (int i = O._PrimaryKey._ColumnObjs.size() - 2; i >= 0; --i)
           {
             Out.println("       if (Obj == null)");
-            Out.print("        Obj = __MAPPINGS.get(");
+            Out.print("        Obj = M.get(");
             First = true;
             int count = 0;
             for (Column C : O._PrimaryKey._ColumnObjs)
@@ -751,28 +1189,71 @@ public class TildaFactory implements CodeGenTildaFactory
             }
 
 
-        Out.println("   protected static Map<String, " + Helper.getFullAppDataClassName(O) + "> __ENUMERATIONS_BY_ID    = new HashMap<String, " + Helper.getFullAppDataClassName(O) + ">();");
-        Out.println("   protected static Map<String, " + Helper.getFullAppDataClassName(O) + "> __ENUMERATIONS_BY_VALUE = new HashMap<String, " + Helper.getFullAppDataClassName(O) + ">();");
-        Out.println("   public static void initMappings(Connection C) throws Exception");
+        String DataClassName = Helper.getFullAppDataClassName(O);
+        String MapType = "Map<String, " + DataClassName + ">";
+        Out.println("   // Both maps are replaced at once by initMappings(), so lookups never see a partially loaded or mismatched pair");
+        Out.println("   // and need no locking. __publishMappings() copies them into unmodifiable maps, so a published snapshot never changes.");
+        Out.println("   protected static final class __EnumerationSnapshot");
         Out.println("     {");
-        Out.println("       __ENUMERATIONS_BY_ID   .clear();");
-        Out.println("       __ENUMERATIONS_BY_VALUE.clear();");
-        Out.println("       ListResults<" + Helper.getFullAppDataClassName(O) + "> L = LookupWhereAll(C, 0, -1);");
-        Out.println("       for (" + Helper.getFullAppDataClassName(O) + " obj : L)");
+        Out.println("       public __EnumerationSnapshot()");
+        Out.println("         {");
+        Out.println("           this(new HashMap<String, " + DataClassName + ">(), new HashMap<String, " + DataClassName + ">());");
+        Out.println("         }");
+        Out.println("       private __EnumerationSnapshot(" + MapType + " ById, " + MapType + " ByValue)");
+        Out.println("         {");
+        Out.println("           _ById = ById;");
+        Out.println("           _ByValue = ByValue;");
+        Out.println("         }");
+        Out.println("       public final " + MapType + " _ById;");
+        Out.println("       public final " + MapType + " _ByValue;");
+        Out.println("     }");
+        Out.println("   protected static volatile __EnumerationSnapshot __ENUMERATIONS = new __EnumerationSnapshot(java.util.Collections.<String, " + DataClassName + ">emptyMap(), java.util.Collections.<String, " + DataClassName + ">emptyMap());");
+        Out.println("   /**");
+        Out.println("    * Reads all the enumeration values into a new snapshot, which can be amended before being passed to __publishMappings().");
+        Out.println("    * An application factory can hide initMappings(Connection) to do so.");
+        Out.println("    */");
+        Out.println("   protected static __EnumerationSnapshot __loadMappings(Connection C) throws Exception");
+        Out.println("     {");
+        Out.println("       __EnumerationSnapshot S = new __EnumerationSnapshot();");
+        Out.println("       ListResults<" + DataClassName + "> L = LookupWhereAll(C, 0, -1);");
+        Out.println("       for (" + DataClassName + " obj : L)");
         Out.println("        {");
-        Out.println("          __ENUMERATIONS_BY_ID   .put(obj.getId   (), obj);");
-        Out.println("          __ENUMERATIONS_BY_VALUE.put(obj.getValue(), obj);");
+        Out.println("          S._ById   .put(obj.getId   (), obj);");
+        Out.println("          S._ByValue.put(obj.getValue(), obj);");
         Out.println("        }");
+        Out.println("       return S;");
         Out.println("     }");
+        Out.println("   protected static void __publishMappings(__EnumerationSnapshot S)");
+        Out.println("     {");
+        Out.println("       __ENUMERATIONS = new __EnumerationSnapshot(java.util.Collections.unmodifiableMap(new HashMap<String, " + DataClassName + ">(S._ById)),");
+        Out.println("                                                  java.util.Collections.unmodifiableMap(new HashMap<String, " + DataClassName + ">(S._ByValue)));");
+        Out.println("     }");
+        Out.println("   public static void initMappings(Connection C) throws Exception");
+        Out.println("     {");
+        Out.println("       __publishMappings(__loadMappings(C));");
+        Out.println("     }");
+        genScheduleReload(Out, O);
         Out.println();
-        Out.println("   public static " + Helper.getFullAppDataClassName(O) + " getEnumerationById(String Id)");
+        Out.println("   public static " + DataClassName + " getEnumerationById(String Id)");
         Out.println("     {");
-        Out.println("       return Id == null ? null : __ENUMERATIONS_BY_ID.get(Id);");
+        Out.println("       return Id == null ? null : __ENUMERATIONS._ById.get(Id);");
         Out.println("     }");
         Out.println();
-        Out.println("   public static " + Helper.getFullAppDataClassName(O) + " getEnumerationByValue(String Value)");
+        Out.println("   public static " + DataClassName + " getEnumerationByValue(String Value)");
+        Out.println("     {");
+        Out.println("       return Value == null ? null : __ENUMERATIONS._ByValue.get(Value);");
+        Out.println("     }");
+      }
+
+    protected static void genScheduleReload(PrintWriter Out, Object O)
+      {
+        Out.println("   /**");
+        Out.println("    * Reloads the mappings from the PoolId pool every PeriodSeconds on a background thread, picking up changes");
+        Out.println("    * made to " + O.getShortName() + " without a restart. A PeriodSeconds of 0 or less stops the reloads.");
+        Out.println("    */");
+        Out.println("   public static void scheduleReload(String PoolId, int PeriodSeconds)");
         Out.println("     {");
-        Out.println("       return Value == null ? null : __ENUMERATIONS_BY_VALUE.get(Value);");
+        Out.println("       tilda.db.MappingsReloader.schedule(SCHEMA_TABLENAME_LABEL, PoolId, PeriodSeconds, C -> { " + Helper.getFullAppFactoryClassName(O) + ".initMappings(C); return null; });");
         Out.println("     }");
       }
 
@@ -108,7 +108,10 @@ public class TildaJson implements CodeGenTildaJson
     public void genMethodWrite(PrintWriter Out, GeneratorSession G, Object O, List<Column> CreateColumns, List<Column> JsonColumns)
     throws Exception
       {
-        Out.println("   public " + Helper.getFullAppDataClassName(O) + " Write(Connection C) throws Exception");
+        Out.println("   /**");
+        Out.println("    * Validates the incoming values and creates a new, unsaved, " + Helper.getFullAppDataClassName(O) + " object from them.");
+        Out.println("    */");
+        Out.println("   public " + Helper.getFullAppDataClassName(O) + " Create() throws Exception");
         Out.println("    {");
         for (Column C : JsonColumns)
           {
@@ -162,34 +165,60 @@ public class TildaJson implements CodeGenTildaJson
             }
         Out.println(");");
         Out.println("      Update(Obj);");
-        Out.println("      if (Obj.Write(C) == false)");
+        Out.println("      return Obj;");
+        Out.println("    }");
+        Out.println();
+        Out.println("   /**");
+        Out.println("    * Bulk-loads the records as new objects through " + Helper.getFullAppFactoryClassName(O) + ".CopyIn(). Unlike Write(), existing");
+        Out.println("    * objects are not looked up and updated: a record matching an existing unique key fails the whole load.");
+        Out.println("    * @return the number of records inserted.");
+        Out.println("    */");
+        Out.println("   public static int CopyIn(Connection C, List<? extends " + O._BaseClassName + "_Json> L) throws Exception");
+        Out.println("    {");
+        Out.println("      List<" + Helper.getFullAppDataClassName(O) + "> Objs = new ArrayList<" + Helper.getFullAppDataClassName(O) + ">(L.size());");
+        Out.println("      for (" + O._BaseClassName + "_Json Json : L)");
+        Out.println("       Objs.add(Json.Create());");
+        Out.println("      return " + Helper.getFullAppFactoryClassName(O) + ".CopyIn(C, Objs);");
+        Out.println("    }");
+        Out.println();
+        Out.println("   public " + Helper.getFullAppDataClassName(O) + " Write(Connection C) throws Exception");
+        Out.println("    {");
+        Out.println("      " + Helper.getFullAppDataClassName(O) + " Obj = Create();");
+        Index FirstGoodIndex = getFirstGoodIndex(O);
+        // The upsert's 'on conflict' needs a real, full unique constraint in the database, and the same keys as the
+        // lookup path below.
+        List<Column> Keys = FirstGoodIndex != null ? (FirstGoodIndex._Db == true && FirstGoodIndex._SubQuery == null ? FirstGoodIndex._ColumnObjs : null)
+                          : O._PrimaryKey != null && O._PrimaryKey._Autogen == false ? O._PrimaryKey._ColumnObjs
+                          : null;
+        if (Keys == null)
+          Out.println("      if (Obj.Write(C) == false)");
+        else
+          {
+            // Single round-trip insert-or-update where the database supports it. The lookup path below is still used
+            // to report invariant violations, and on databases without native upserts.
+            Out.print("      if (C.supportsUpsert() == true ? Obj.__Upsert(C, new tilda.types.ColumnDefinition[] {");
+            First = true;
+            for (Column C : Keys)
+              if (C != null)
+                {
+                  Out.print((First == true ? " " : ", ") + O.getBaseClassName() + "_Factory.COLS." + C.getName().toUpperCase());
+                  First = false;
+                }
+            Out.print(" }, new tilda.types.ColumnDefinition[] {");
+            First = true;
+            for (Column C : O._Columns)
+              if (C != null && C.isJSONColumn() == true && Keys.contains(C) == false && C._Invariant == true && C._PrimaryKey == false)
+                {
+                  Out.print((First == true ? " " : ", ") + O.getBaseClassName() + "_Factory.COLS." + C.getName().toUpperCase());
+                  First = false;
+                }
+            Out.println(First == true ? "}) == false" : " }) == false");
+            Out.println("                                      : Obj.Write(C) == false)");
+          }
         Out.println("       {");
         List<Column> Cols = null;
         if (O._Indices != null)
           {
-            Index FirstGoodIndex = null;
-            for (Index I : O._Indices)
-              if (I != null && I._Unique == true)
-                {
-                  // if (FirstGoodIndex == null)
-                  // FirstGoodIndex = I;
-                  boolean GoodIndex = true;
-                  for (Column C : I._ColumnObjs)
-                    {
-                      // if (C != null && (C._ParentObject.isAutoGenPrimaryKey(C) == true || C._ParentObject.isAutoGenForeignKey(C.getName()) == true))
-                      if (C != null && C._ParentObject.isAutoGenPrimaryKey(C) == true)
-                      // if (C != null && C._ParentObject.isAutoGenForeignKey(C.getName()) == true)
-                        {
-                          GoodIndex = false;
-                          break;
-                        }
-                    }
-                  if (GoodIndex == true)
-                    {
-                      FirstGoodIndex = I;
-                      break;
-                    }
-                }
             if (FirstGoodIndex != null)
               {
                 Out.print("         Obj = " + Helper.getFullAppFactoryClassName(O) + ".LookupBy" + FirstGoodIndex._Name + "(");
@@ -281,6 +310,33 @@ public class TildaJson implements CodeGenTildaJson
       }
 
 
+    private static Index getFirstGoodIndex(Object O)
+      {
+        if (O._Indices == null)
+          return null;
+        for (Index I : O._Indices)
+          if (I != null && I._Unique == true)
+            {
+              // if (FirstGoodIndex == null)
+              // FirstGoodIndex = I;
+              boolean GoodIndex = true;
+              for (Column C : I._ColumnObjs)
+                {
+                  // if (C != null && (C._ParentObject.isAutoGenPrimaryKey(C) == true || C._ParentObject.isAutoGenForeignKey(C.getName()) == true))
+                  if (C != null && C._ParentObject.isAutoGenPrimaryKey(C) == true)
+                  // if (C != null && C._ParentObject.isAutoGenForeignKey(C.getName()) == true)
+                    {
+                      GoodIndex = false;
+                      break;
+                    }
+                }
+              if (GoodIndex == true)
+                return I;
+            }
+        return null;
+      }
+
+
     @Override
     public void genMethodToJSON(PrintWriter Out, GeneratorSession G, JsonMapping J)
     throws Exception
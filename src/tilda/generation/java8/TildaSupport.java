@@ -90,10 +90,16 @@ public class TildaSupport implements CodeGenTildaSupport
         Out.println("       throw E;");
         Out.println("     }");
         Out.println();
-        Out.println("   protected static void HandleFinally(java.sql.PreparedStatement PS, long T0, String TableName, StatementType ST, int count, List<java.sql.Array> AllocatedArrays) throws java.sql.SQLException");
+        Out.println("   protected static void HandleFinally(Connection C, java.sql.PreparedStatement PS, long T0, String TableName, String Q, StatementType ST, int count, List<java.sql.Array> AllocatedArrays) throws java.sql.SQLException");
         Out.println("     {");
-        Out.println("       if (PS != null) PS.close(); ");
-        Out.println("       PerfTracker.add(TableName, ST, System.nanoTime()-T0, count);");
+        Out.println("       HandleFinally(C, PS, T0, TableName, Q, null, ST, count, AllocatedArrays);");
+        Out.println("     }");
+        Out.println();
+        Out.println("   // Params are the values bound to Q's placeholders, if they were collected, so a slow query can still be explained.");
+        Out.println("   protected static void HandleFinally(Connection C, java.sql.PreparedStatement PS, long T0, String TableName, String Q, tilda.db.QueryParams Params, StatementType ST, int count, List<java.sql.Array> AllocatedArrays) throws java.sql.SQLException");
+        Out.println("     {");
+        Out.println("       C.releaseStatement(PS);");
+        Out.println("       JDBCHelper.track(C, TableName, ST, System.nanoTime()-T0, count, Q, Params);");
         Out.println("       for (java.sql.Array A : AllocatedArrays)");
         Out.println("        A.free();");
         Out.println("       AllocatedArrays.clear();");
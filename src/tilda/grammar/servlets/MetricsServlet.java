@@ -0,0 +1,63 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.grammar.servlets;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.performance.PrometheusExporter;
+import tilda.utils.HttpStatus;
+
+/**
+ * Serves the statement, transaction and connection pool metrics in the Prometheus text format, for a Prometheus
+ * server to scrape. Scraping doesn't reset anything. It is not registered automatically: map it explicitly in the
+ * web.xml of the application, for example
+ * <PRE>
+ * &lt;servlet&gt;&lt;servlet-name&gt;Metrics&lt;/servlet-name&gt;&lt;servlet-class&gt;tilda.grammar.servlets.MetricsServlet&lt;/servlet-class&gt;&lt;/servlet&gt;
+ * &lt;servlet-mapping&gt;&lt;servlet-name&gt;Metrics&lt;/servlet-name&gt;&lt;url-pattern&gt;/metrics&lt;/url-pattern&gt;&lt;/servlet-mapping&gt;
+ * </PRE>
+ */
+public class MetricsServlet extends HttpServlet
+  {
+    private static final long     serialVersionUID = 4817250390512744531L;
+    protected static final Logger LOG              = LogManager.getLogger(MetricsServlet.class.getName());
+
+    public void doGet(HttpServletRequest request, HttpServletResponse response)
+    throws ServletException, IOException
+      {
+        response.setContentType(PrometheusExporter.CONTENT_TYPE);
+        PrintWriter Out = response.getWriter();
+        try
+          {
+            PrometheusExporter.print(Out);
+            response.setStatus(HttpStatus.OK._Code);
+          }
+        catch (Exception E)
+          {
+            LOG.error("Cannot print the metrics", E);
+            response.setStatus(HttpStatus.InternalServerError._Code);
+          }
+      }
+  }
@@ -0,0 +1,63 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.grammar.servlets;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+import tilda.performance.PerfContext;
+
+/**
+ * Wraps each request in a {@link PerfContext}, so its database activity is summarized in the log when it completes,
+ * with N+1 patterns reported as warnings. It is not registered automatically: map it in the web.xml of the
+ * application, for example
+ * <PRE>
+ * &lt;filter&gt;&lt;filter-name&gt;PerfContext&lt;/filter-name&gt;&lt;filter-class&gt;tilda.grammar.servlets.PerfContextFilter&lt;/filter-class&gt;&lt;/filter&gt;
+ * &lt;filter-mapping&gt;&lt;filter-name&gt;PerfContext&lt;/filter-name&gt;&lt;url-pattern&gt;/svc/*&lt;/url-pattern&gt;&lt;/filter-mapping&gt;
+ * </PRE>
+ */
+public class PerfContextFilter implements Filter
+  {
+    @Override
+    public void init(FilterConfig Config)
+    throws ServletException
+      {
+      }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+    throws IOException, ServletException
+      {
+        String Name = request instanceof HttpServletRequest ? ((HttpServletRequest) request).getMethod() + " " + ((HttpServletRequest) request).getRequestURI() : request.getRemoteAddr();
+        try (PerfContext PC = PerfContext.begin(Name))
+          {
+            chain.doFilter(request, response);
+          }
+      }
+
+    @Override
+    public void destroy()
+      {
+      }
+  }
@@ -0,0 +1,75 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.grammar.servlets;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.performance.SlowQueryLog;
+import tilda.utils.HttpStatus;
+import tilda.utils.JSONUtil;
+
+/**
+ * Returns the content of the {@link SlowQueryLog} as JSON, most recent first. Posting with 'clear=true' empties it.
+ * Because it exposes query texts, it is not registered automatically: map it explicitly in the web.xml of an
+ * application that protects it, for example
+ * <PRE>
+ * &lt;servlet&gt;&lt;servlet-name&gt;SlowQueries&lt;/servlet-name&gt;&lt;servlet-class&gt;tilda.grammar.servlets.SlowQueryServlet&lt;/servlet-class&gt;&lt;/servlet&gt;
+ * &lt;servlet-mapping&gt;&lt;servlet-name&gt;SlowQueries&lt;/servlet-name&gt;&lt;url-pattern&gt;/svc/Tilda/SlowQueries&lt;/url-pattern&gt;&lt;/servlet-mapping&gt;
+ * </PRE>
+ */
+public class SlowQueryServlet extends HttpServlet
+  {
+    private static final long     serialVersionUID = -3296530127614842215L;
+    protected static final Logger LOG              = LogManager.getLogger(SlowQueryServlet.class.getName());
+
+    public void doGet(HttpServletRequest request, HttpServletResponse response)
+    throws ServletException, IOException
+      {
+        response.setContentType("application/json");
+        PrintWriter Out = response.getWriter();
+        try
+          {
+            JSONUtil.response(Out, "", SlowQueryLog.getAll());
+            response.setStatus(HttpStatus.OK._Code);
+          }
+        catch (Exception E)
+          {
+            LOG.error("Cannot print the slow query log", E);
+            response.setStatus(HttpStatus.InternalServerError._Code);
+          }
+      }
+
+    public void doPost(HttpServletRequest request, HttpServletResponse response)
+    throws ServletException, IOException
+      {
+        if ("true".equals(request.getParameter("clear")) == true)
+          {
+            LOG.info("Clearing the slow query log at the request of " + request.getRemoteAddr() + ".");
+            SlowQueryLog.clear();
+          }
+        doGet(request, response);
+      }
+  }
@@ -0,0 +1,85 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.parsing.parts;
+
+import tilda.enums.CacheEvictionPolicy;
+import tilda.enums.ObjectLifecycle;
+import tilda.parsing.ParserSession;
+
+import com.google.gson.annotations.SerializedName;
+
+public class Cache
+  {
+    /*@formatter:off*/
+    @SerializedName("maxEntries"    ) public int     _MaxEntries     = 1000;
+    @SerializedName("ttlSeconds"    ) public long    _TTLSeconds     = 0;
+    @SerializedName("eviction"      ) public String  _EvictionStr    = CacheEvictionPolicy.LRU.toString();
+    @SerializedName("refreshSeconds") public Integer _RefreshSeconds = null;
+    /*@formatter:on*/
+
+    public transient CacheEvictionPolicy _Eviction;
+
+    public transient Object _ParentObject;
+
+    public boolean Validate(ParserSession PS, Object O)
+      {
+        int Errs = PS.getErrorCount();
+        _ParentObject = O;
+
+        if (O._LC == ObjectLifecycle.NORMAL)
+          {
+            if (O._OCC == false)
+              return PS.AddError("Object '" + O.getFullName() + "' is defining a cache but is not OCC: mutable objects need a lastUpdated column so changes made by other servers can be detected.");
+            if (_RefreshSeconds == null)
+              _RefreshSeconds = 10;
+            else if (_RefreshSeconds < 0)
+              PS.AddError("Object '" + O.getFullName() + "' is defining a cache with refreshSeconds " + _RefreshSeconds + ": it must be 0 (changes from other servers are only picked up through ttlSeconds) or more.");
+            if (_RefreshSeconds > 0 && hasLastUpdatedIndex(O) == false)
+              PS.AddError("Object '" + O.getFullName() + "' is defining a cache with refreshSeconds " + _RefreshSeconds + ", but no database index starting with lastUpdated: each refresh would scan the whole table.");
+          }
+        else if (_RefreshSeconds != null)
+          PS.AddError("Object '" + O.getFullName() + "' is defining a cache with refreshSeconds, but it is " + O._LC + " and so never needs refreshing.");
+
+        if (_MaxEntries <= 0)
+          PS.AddError("Object '" + O.getFullName() + "' is defining a cache with maxEntries " + _MaxEntries + ": it must be at least 1.");
+
+        if (_TTLSeconds < 0)
+          PS.AddError("Object '" + O.getFullName() + "' is defining a cache with ttlSeconds " + _TTLSeconds + ": it must be 0 (no expiration) or more.");
+
+        if ((_Eviction = CacheEvictionPolicy.parse(_EvictionStr)) == null)
+          PS.AddError("Object '" + O.getFullName() + "' is defining a cache with an invalid eviction policy '" + _EvictionStr + "'.");
+
+        return Errs == PS.getErrorCount();
+      }
+
+    /**
+     * @return true if O has a full (not partial) database index whose first column is lastUpdated, which the refresh
+     *         query needs.
+     */
+    protected static boolean hasLastUpdatedIndex(Object O)
+      {
+        Column LastUpdated = O.getColumn("lastUpdated");
+        for (Index I : O._Indices)
+          if (I != null && I._Db == true && I._SubQuery == null)
+            {
+              Column First = I._ColumnObjs.isEmpty() == false ? I._ColumnObjs.get(0) : I._OrderByObjs.isEmpty() == false ? I._OrderByObjs.get(0) : null;
+              if (First != null && First == LastUpdated)
+                return true;
+            }
+        return false;
+      }
+  }
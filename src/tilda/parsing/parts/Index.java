@@ -116,6 +116,64 @@ public class Index
         return Errs == PS.getErrorCount();
       }
 
+    /**
+     * Returns the columns a keyset (seek) page of this index is sorted on: its orderBy columns followed by the primary
+     * key columns that are not already part of the index, so that each row has a distinct sort key. Returns null if
+     * the index cannot be paged that way, i.e., if it is unique, has a subQuery with parameters or extra from's, if the
+     * object has no primary key, or if any of those columns is nullable, a collection, or of a type that cannot be
+     * compared.
+     */
+    public List<Column> getKeysetColumns()
+      {
+        if (_Unique == true || _OrderByObjs.isEmpty() == true || _ParentObject._PrimaryKey == null)
+          return null;
+        if (_SubQuery != null && (_SubQuery._Attributes.isEmpty() == false || _SubQuery._FromObj.isEmpty() == false))
+          return null;
+        List<Column> L = new ArrayList<Column>(_OrderByObjs);
+        for (Column C : _ParentObject._PrimaryKey._ColumnObjs)
+          if (L.contains(C) == false && _ColumnObjs.contains(C) == false)
+            L.add(C);
+        for (Column C : L)
+          if (isKeysetColumn(C) == false)
+            return null;
+        return L;
+      }
+
+    /**
+     * The sort orders matching {@link #getKeysetColumns()}: the index's own orderBy orders, and ASC for the primary
+     * key columns added as tie-breakers.
+     */
+    public List<OrderType> getKeysetOrders()
+      {
+        List<Column> Cols = getKeysetColumns();
+        if (Cols == null)
+          return null;
+        List<OrderType> L = new ArrayList<OrderType>(_OrderByOrders);
+        while (L.size() < Cols.size())
+          L.add(OrderType.ASC);
+        return L;
+      }
+
+    protected static boolean isKeysetColumn(Column C)
+      {
+        if (C == null || C._Nullable == true || C.isCollection() == true)
+          return false;
+        switch (C._Type)
+          {
+            case STRING:
+            case CHAR:
+            case BOOLEAN:
+            case INTEGER:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case DATETIME:
+              return true;
+            default:
+              return false;
+          }
+      }
+
     public static void processOrderBy(ParserSession PS, String What, Set<String> Names, Base ParentObject, String[] OrderBy, List<Column> OrderByObjs, List<OrderType> OrderByOrders)
       {
         for (String ob : OrderBy)
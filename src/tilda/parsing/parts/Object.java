@@ -49,6 +49,7 @@ public class Object extends Base
     @SerializedName("http"          ) public HttpMapping[]        _Http       = { };
     @SerializedName("history"       ) public String     []        _History    = { };
     @SerializedName("dropOldColumns") public String     []        _DropOldColumns = { };
+    @SerializedName("cache"         ) public Cache                _Cache      = null;
     
     /*@formatter:on*/
 
@@ -206,6 +207,9 @@ public class Object extends Base
         if (_PrimaryKey != null)
           _PrimaryKey.Validate(PS, this);
 
+        if (_Cache != null)
+          _Cache.Validate(PS, this);
+
         Set<String> FKNames = new HashSet<String>();
         for (ForeignKey FK : _ForeignKeys)
           {
@@ -16,11 +16,23 @@
 
 package tilda.performance;
 
-public interface Info
+import tilda.interfaces.JSONable;
+
+/**
+ * An entry of the {@link PerfTracker}. As a {@link JSONable}, it prints its totals and latency percentiles (in
+ * nanoseconds) for monitoring tools.
+ */
+public interface Info extends JSONable
   {
     public String getName();
     public long getNanoTotal();
     public long getCountTotal();
     public long getRecordsTotal();
     public void print(StringBuilder Str, long SuperCount, long SuperRecords, long SuperNano);
+    /**
+     * Returns a point-in-time copy of this entry's counters. If Reset is true, the counters are atomically zeroed
+     * one by one as they are read, so that consecutive snapshots give interval deltas. Updates racing with a reset
+     * land in either the snapshot or the next interval, but are never lost.
+     */
+    public Info snapshot(boolean Reset);
   }
@@ -0,0 +1,198 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import tilda.utils.JSONUtil;
+
+/**
+ * A fixed-size, lock-free histogram of durations in nanoseconds. Values are bucketed logarithmically with
+ * {@link #SUB_BUCKETS} linear sub-buckets per power of 2, so any reported percentile is within 12.5% of the actual
+ * value, over the full range of a long. Each bucket is a {@link LongAdder}, created the first time a value falls in
+ * it, so threads recording similar latencies don't all contend on the same counter. Recording is one adder increment
+ * plus a read of the max.
+ */
+public class LatencyHistogram
+  {
+    protected static final int SUB_BITS    = 3;
+    protected static final int SUB_BUCKETS = 1 << SUB_BITS;
+    protected static final int BUCKETS     = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    public static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    protected final AtomicReferenceArray<LongAdder> _Buckets = new AtomicReferenceArray<LongAdder>(BUCKETS);
+    protected final AtomicLong                      _Max     = new AtomicLong(0);
+
+    protected static int getBucket(long v)
+      {
+        if (v < SUB_BUCKETS)
+          return v < 0 ? 0 : (int) v;
+        int exp = 63 - Long.numberOfLeadingZeros(v);
+        return (exp - SUB_BITS + 1) * SUB_BUCKETS + (int) ((v >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1));
+      }
+
+    /**
+     * @return the largest value that falls in bucket i.
+     */
+    protected static long getBucketMax(int i)
+      {
+        if (i < SUB_BUCKETS)
+          return i;
+        int exp = i / SUB_BUCKETS + SUB_BITS - 1;
+        long Lower = (long) (SUB_BUCKETS + i % SUB_BUCKETS) << (exp - SUB_BITS);
+        return Lower + (1L << (exp - SUB_BITS)) - 1;
+      }
+
+    protected LongAdder getAdder(int i)
+      {
+        LongAdder A = _Buckets.get(i);
+        if (A == null && _Buckets.compareAndSet(i, null, A = new LongAdder()) == false)
+          A = _Buckets.get(i);
+        return A;
+      }
+
+    protected long getBucketCount(int i)
+      {
+        LongAdder A = _Buckets.get(i);
+        return A == null ? 0 : A.sum();
+      }
+
+    public void add(long nano)
+      {
+        getAdder(getBucket(nano)).increment();
+        long Max = _Max.get();
+        while (nano > Max && _Max.compareAndSet(Max, nano) == false)
+          Max = _Max.get();
+      }
+
+    /**
+     * Copies this histogram. If Reset is true, each bucket is zeroed as it is copied.
+     */
+    public LatencyHistogram snapshot(boolean Reset)
+      {
+        LatencyHistogram H = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; ++i)
+          {
+            LongAdder A = _Buckets.get(i);
+            long v = A == null ? 0 : Reset == true ? A.sumThenReset() : A.sum();
+            if (v != 0)
+              H.getAdder(i).add(v);
+          }
+        H._Max.set(Reset == true ? _Max.getAndSet(0) : _Max.get());
+        return H;
+      }
+
+    public long getCount()
+      {
+        long Count = 0;
+        for (int i = 0; i < BUCKETS; ++i)
+          Count += getBucketCount(i);
+        return Count;
+      }
+
+    public long getMax()
+      {
+        return _Max.get();
+      }
+
+    /**
+     * @param Percentile between 0 and 100.
+     * @return the upper bound of the bucket holding the requested percentile (capped by the max), or 0 if the
+     *         histogram is empty.
+     */
+    public long getPercentile(double Percentile)
+      {
+        return getPercentiles(new double[] { Percentile })[0];
+      }
+
+    /**
+     * Computes several percentiles in one pass over the buckets.
+     * 
+     * @param Percentiles between 0 and 100, in increasing order.
+     */
+    public long[] getPercentiles(double[] Percentiles)
+      {
+        long[] Counts = new long[BUCKETS];
+        long Total = 0;
+        for (int i = 0; i < BUCKETS; ++i)
+          Total += (Counts[i] = getBucketCount(i));
+        long[] Res = new long[Percentiles.length];
+        if (Total == 0)
+          return Res;
+        long Max = _Max.get();
+        long Seen = 0;
+        int b = 0;
+        for (int p = 0; p < Percentiles.length; ++p)
+          {
+            long Rank = Math.max(1, (long) Math.ceil(Total * Percentiles[p] / 100.0));
+            while (b < BUCKETS - 1 && Seen + Counts[b] < Rank)
+              Seen += Counts[b++];
+            Res[p] = Math.min(getBucketMax(b), Max);
+          }
+        return Res;
+      }
+
+    /**
+     * Computes cumulative counts for a set of upper bounds, e.g., for exporting as Prometheus buckets. Because values
+     * are only known to the precision of their bucket, a value is counted under a bound if its whole bucket is.
+     * 
+     * @param BoundsNano upper bounds in nanoseconds, in increasing order.
+     * @param Counts receives, for each bound, the number of values less than or equal to it.
+     * @return the total number of values.
+     */
+    public long getCumulativeCounts(long[] BoundsNano, long[] Counts)
+      {
+        long Total = 0;
+        int b = 0;
+        for (int i = 0; i < BUCKETS; ++i)
+          {
+            long v = getBucketCount(i);
+            if (v == 0)
+              continue;
+            long Max = getBucketMax(i);
+            while (b < BoundsNano.length && BoundsNano[b] < Max)
+              Counts[b++] = Total;
+            Total += v;
+          }
+        while (b < BoundsNano.length)
+          Counts[b++] = Total;
+        return Total;
+      }
+
+    /**
+     * Prints the count, max and {@link #PERCENTILES} (in nanoseconds) as JSON attributes "count", "p50", "p90",
+     * "p99", "p99_9" and "max".
+     */
+    public void toJSON(Writer Out, boolean FirstElement)
+    throws Exception
+      {
+        long[] P = getPercentiles(PERCENTILES);
+        JSONUtil.Print(Out, "count", FirstElement, getCount());
+        for (int i = 0; i < PERCENTILES.length; ++i)
+          JSONUtil.Print(Out, "p" + getPercentileLabel(PERCENTILES[i]).replace('.', '_'), false, P[i]);
+        JSONUtil.Print(Out, "max", false, getMax());
+      }
+
+    public static String getPercentileLabel(double Percentile)
+      {
+        return Percentile == Math.floor(Percentile) ? Long.toString((long) Percentile) : Double.toString(Percentile);
+      }
+  }
@@ -0,0 +1,344 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.db.QueryDetails;
+import tilda.enums.StatementType;
+import tilda.enums.TransactionType;
+import tilda.interfaces.JSONable;
+import tilda.utils.DurationUtil;
+import tilda.utils.JSONUtil;
+
+/**
+ * Profiles a unit of work, for example a servlet request, run by the current thread. Between {@link #begin(String)}
+ * and {@link #end()}, every statement, commit, rollback, savepoint, connection get etc. that goes through
+ * {@link PerfTracker} is also accounted for here, so that the work can be summarized as a number of statements, the
+ * time spent in the database vs. the wall time, and the query shapes repeated {@link #N_PLUS_ONE_THRESHOLD} times or
+ * more, which usually indicate an N+1 pattern (a lookup done in a loop instead of a single query).
+ * <PRE>
+ * try (PerfContext PC = PerfContext.begin(request.getRequestURI()))
+ *   {
+ *     ...
+ *   }
+ * </PRE>
+ * Contexts don't nest: a begin() while one is active returns the active one, and only the outermost end() closes
+ * it. When no context is active, the cost to {@link PerfTracker} is a ThreadLocal lookup.
+ */
+public class PerfContext implements AutoCloseable, JSONable
+  {
+    protected static final Logger LOG = LogManager.getLogger(PerfContext.class.getName());
+
+    /**
+     * The number of executions of the same query shape from which it is reported as an N+1 pattern.
+     */
+    public static final int N_PLUS_ONE_THRESHOLD = 10;
+
+    /**
+     * The maximum number of distinct query shapes tracked by a single context, to bound its memory.
+     */
+    public static final int MAX_SHAPES = 1000;
+
+    protected static final ThreadLocal<PerfContext> _Current = new ThreadLocal<PerfContext>();
+
+    public static class Shape implements JSONable
+      {
+        protected Shape(String TableName, StatementType Type, String Query)
+          {
+            _TableName = TableName;
+            _Type = Type;
+            _Sample = QueryDetails.getSecure(Query);
+          }
+
+        protected final String        _TableName;
+        protected final StatementType _Type;
+        protected final String        _Sample;
+        protected int                 _Count;
+        protected long                _Nano;
+        protected long                _Records;
+
+        public String getTableName()
+          {
+            return _TableName;
+          }
+
+        public StatementType getType()
+          {
+            return _Type;
+          }
+
+        public String getSample()
+          {
+            return _Sample;
+          }
+
+        public int getCount()
+          {
+            return _Count;
+          }
+
+        public long getNano()
+          {
+            return _Nano;
+          }
+
+        public long getRecords()
+          {
+            return _Records;
+          }
+
+        @Override
+        public void toJSON(Writer Out, String JsonExportName, boolean FullObject)
+        throws Exception
+          {
+            Out.write("{");
+            JSONUtil.Print(Out, "table", true, _TableName);
+            JSONUtil.Print(Out, "statement", false, _Type.name());
+            JSONUtil.Print(Out, "count", false, _Count);
+            JSONUtil.Print(Out, "nano", false, _Nano);
+            JSONUtil.Print(Out, "records", false, _Records);
+            JSONUtil.Print(Out, "query", false, _Sample);
+            Out.write("}");
+          }
+      }
+
+    protected PerfContext(String Name)
+      {
+        _Name = Name;
+        _T0 = System.nanoTime();
+      }
+
+    protected final String             _Name;
+    protected final long               _T0;
+    protected long                     _WallNano          = -1;
+    protected int                      _Depth             = 1;
+    protected final long[]             _StatementCounts   = new long[StatementType.values().length];
+    protected final long[]             _StatementNanos    = new long[StatementType.values().length];
+    protected long                     _Records;
+    protected final long[]             _TransactionCounts = new long[TransactionType.values().length];
+    protected final long[]             _TransactionNanos  = new long[TransactionType.values().length];
+    protected final Map<String, Shape> _Shapes            = new HashMap<String, Shape>();
+
+    /**
+     * Starts profiling the work done by the current thread, or joins the context already active on it.
+     * 
+     * @param Name identifies the unit of work in the summary, for example a request URI.
+     */
+    public static PerfContext begin(String Name)
+      {
+        PerfContext PC = _Current.get();
+        if (PC != null)
+          {
+            ++PC._Depth;
+            return PC;
+          }
+        PC = new PerfContext(Name);
+        _Current.set(PC);
+        return PC;
+      }
+
+    /**
+     * @return the context active on the current thread, or null.
+     */
+    public static PerfContext get()
+      {
+        return _Current.get();
+      }
+
+    /**
+     * Ends this context if this is the outermost end() and logs its summary: at the WARN level if N+1 patterns were
+     * found, at the DEBUG level otherwise.
+     * 
+     * @return this context.
+     */
+    public PerfContext end()
+      {
+        if (_WallNano != -1 || --_Depth > 0)
+          return this;
+        _WallNano = System.nanoTime() - _T0;
+        if (_Current.get() == this)
+          _Current.remove();
+        if (LOG.isWarnEnabled() == true && getNPlusOne().isEmpty() == false)
+          LOG.warn(toString());
+        else if (LOG.isDebugEnabled() == true)
+          LOG.debug(toString());
+        return this;
+      }
+
+    @Override
+    public void close()
+      {
+        end();
+      }
+
+    static void add(String TableName, StatementType Type, long DurationNano, int Count, String Fingerprint, String Query)
+      {
+        PerfContext PC = _Current.get();
+        if (PC == null)
+          return;
+        PC._StatementCounts[Type.ordinal()]++;
+        PC._StatementNanos[Type.ordinal()] += DurationNano;
+        PC._Records += Count;
+        if (Fingerprint == null)
+          return;
+        Shape S = PC._Shapes.get(Fingerprint);
+        if (S == null)
+          {
+            if (PC._Shapes.size() >= MAX_SHAPES)
+              return;
+            S = new Shape(TableName, Type, Query);
+            PC._Shapes.put(Fingerprint, S);
+          }
+        S._Count++;
+        S._Nano += DurationNano;
+        S._Records += Count;
+      }
+
+    static void add(TransactionType TT, long DurationNano)
+      {
+        PerfContext PC = _Current.get();
+        if (PC == null)
+          return;
+        PC._TransactionCounts[TT.ordinal()]++;
+        PC._TransactionNanos[TT.ordinal()] += DurationNano;
+      }
+
+    public String getName()
+      {
+        return _Name;
+      }
+
+    /**
+     * @return the time elapsed between begin() and end(), or until now if the context hasn't ended yet.
+     */
+    public long getWallNano()
+      {
+        return _WallNano != -1 ? _WallNano : System.nanoTime() - _T0;
+      }
+
+    /**
+     * @return the time spent in statements and transactional operations such as commits or connection gets.
+     */
+    public long getDbNano()
+      {
+        long Nano = 0;
+        for (long n : _StatementNanos)
+          Nano += n;
+        for (long n : _TransactionNanos)
+          Nano += n;
+        return Nano;
+      }
+
+    public long getStatementCount()
+      {
+        long Count = 0;
+        for (long c : _StatementCounts)
+          Count += c;
+        return Count;
+      }
+
+    public long getStatementCount(StatementType Type)
+      {
+        return _StatementCounts[Type.ordinal()];
+      }
+
+    public long getRecords()
+      {
+        return _Records;
+      }
+
+    public long getTransactionCount(TransactionType TT)
+      {
+        return _TransactionCounts[TT.ordinal()];
+      }
+
+    public long getTransactionNano(TransactionType TT)
+      {
+        return _TransactionNanos[TT.ordinal()];
+      }
+
+    /**
+     * @return the query shapes executed {@link #N_PLUS_ONE_THRESHOLD} times or more, by decreasing count.
+     */
+    public List<Shape> getNPlusOne()
+      {
+        List<Shape> L = new ArrayList<Shape>();
+        for (Shape S : _Shapes.values())
+          if (S._Count >= N_PLUS_ONE_THRESHOLD)
+            L.add(S);
+        L.sort((a, b) -> Integer.compare(b._Count, a._Count));
+        return L;
+      }
+
+    public String toString()
+      {
+        long WallNano = getWallNano();
+        long DbNano = getDbNano();
+        StringBuilder Str = new StringBuilder();
+        Str.append("PerfContext '").append(_Name).append("': wall=").append(DurationUtil.PrintDurationMilliSeconds(WallNano))
+           .append("; db=").append(DurationUtil.PrintDurationMilliSeconds(DbNano))
+           .append(" (").append(WallNano == 0 ? 0 : DbNano * 100 / WallNano).append("%)")
+           .append("; ").append(getStatementCount()).append(" statements (");
+        boolean First = true;
+        for (StatementType ST : StatementType.values())
+          if (_StatementCounts[ST.ordinal()] != 0)
+            {
+              if (First == true)
+                First = false;
+              else
+                Str.append(", ");
+              Str.append(_StatementCounts[ST.ordinal()]).append(' ').append(ST.name());
+            }
+        Str.append("), ").append(_Records).append(" records");
+        for (TransactionType TT : TransactionType.values())
+          if (_TransactionCounts[TT.ordinal()] != 0)
+            Str.append("; ").append(_TransactionCounts[TT.ordinal()]).append(' ').append(TT.name())
+               .append(" in ").append(DurationUtil.PrintDurationMilliSeconds(_TransactionNanos[TT.ordinal()]));
+        for (Shape S : getNPlusOne())
+          Str.append("\n   N+1: ").append(S._Count).append("x ").append(S._Type.name()).append(" on ").append(S._TableName)
+             .append(" in ").append(DurationUtil.PrintDurationMilliSeconds(S._Nano)).append(": ").append(S._Sample);
+        return Str.toString();
+      }
+
+    @Override
+    public void toJSON(Writer Out, String JsonExportName, boolean FullObject)
+    throws Exception
+      {
+        Out.write("{");
+        JSONUtil.Print(Out, "name", true, _Name);
+        JSONUtil.Print(Out, "wallNano", false, getWallNano());
+        JSONUtil.Print(Out, "dbNano", false, getDbNano());
+        JSONUtil.Print(Out, "statements", false, getStatementCount());
+        JSONUtil.Print(Out, "records", false, _Records);
+        for (StatementType ST : StatementType.values())
+          if (_StatementCounts[ST.ordinal()] != 0)
+            JSONUtil.Print(Out, ST.name(), false, _StatementCounts[ST.ordinal()]);
+        for (TransactionType TT : TransactionType.values())
+          if (_TransactionCounts[TT.ordinal()] != 0)
+            JSONUtil.Print(Out, TT.name(), false, _TransactionCounts[TT.ordinal()]);
+        JSONUtil.Print(Out, "nPlusOne", "", false, getNPlusOne(), "");
+        Out.write("}");
+      }
+  }
@@ -0,0 +1,264 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.net.InetAddress;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.data.ObjectPerf_Data;
+import tilda.data.ObjectPerf_Factory;
+import tilda.data.TransPerf_Data;
+import tilda.data.TransPerf_Factory;
+import tilda.db.Connection;
+import tilda.db.ConnectionPool;
+import tilda.enums.StatementType;
+import tilda.enums.TransactionType;
+import tilda.utils.DateTimeUtil;
+import tilda.utils.DurationUtil;
+
+/**
+ * Periodically takes a {@link PerfTracker#snapshot(boolean)} and writes what changed since the previous one to
+ * TILDA.OBJECTPERF (one row per table with activity during the period, keyed by this node's host name) and
+ * TILDA.TRANSPERF (one row per period with the commits and rollbacks, keyed by schema '*' and this node's host name).
+ * The counters themselves are never reset, so they stay monotonic for the {@link PrometheusExporter}. The work
+ * happens on a single daemon thread with connections from a dedicated pool, so the request path only ever pays for
+ * the lock-free counter updates. Tracking is suspended while flushing, so an idle node doesn't record its own writes
+ * as activity and writes nothing.<BR>
+ * <BR>
+ * It is started by {@link ConnectionPool} when tilda.config.json has a section such as
+ * <PRE>"perfFlusher": { "connection": "PERF", "period": 60 }</PRE>
+ * and stopped, after a last flush, by a shutdown hook or an explicit call to {@link #stop()}.
+ */
+public class PerfFlusher
+  {
+    protected static final Logger LOG = LogManager.getLogger(PerfFlusher.class.getName());
+
+    public static final int       DEFAULT_PERIOD_SECONDS = 60;
+    public static final String    ALL_SCHEMAS            = "*";
+
+    protected PerfFlusher(String PoolId)
+      {
+        _PoolId = PoolId;
+        _NodeName = getNodeName();
+        for (Info I : PerfTracker.snapshot(false)) // Activity from before the first period is not part of it.
+          _Previous.put(I.getName(), I);
+      }
+
+    protected static PerfFlusher              _Flusher;
+    protected static ScheduledExecutorService _Executor;
+
+    protected final String                    _PoolId;
+    protected final String                    _NodeName;
+    protected ZonedDateTime                   _StartPeriod = DateTimeUtil.NowUTC();
+    protected Map<String, Info>               _Previous    = new HashMap<String, Info>();
+
+    /**
+     * Starts flushing every PeriodSeconds using connections from the pool PoolId. Does nothing if already started.
+     */
+    public static synchronized void start(String PoolId, int PeriodSeconds)
+      {
+        if (_Executor != null)
+          return;
+        if (PeriodSeconds < 1)
+          PeriodSeconds = DEFAULT_PERIOD_SECONDS;
+        LOG.info("Starting the performance flusher: every " + PeriodSeconds + "s to connection " + PoolId + ".");
+        _Flusher = new PerfFlusher(PoolId);
+        _Executor = Executors.newSingleThreadScheduledExecutor(R -> {
+          Thread T = new Thread(R, "Tilda-PerfFlusher");
+          T.setDaemon(true);
+          return T;
+        });
+        _Executor.scheduleWithFixedDelay(_Flusher::flush, PeriodSeconds, PeriodSeconds, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(PerfFlusher::stop, "Tilda-PerfFlusher-Shutdown"));
+      }
+
+    /**
+     * Stops the periodic flushes and writes whatever was tracked since the last one. Waits at most 30s.
+     */
+    public static synchronized void stop()
+      {
+        if (_Executor == null)
+          return;
+        LOG.info("Stopping the performance flusher.");
+        ScheduledExecutorService E = _Executor;
+        _Executor = null;
+        E.shutdown(); // Pending periodic runs are dropped, but a flush in progress completes.
+        try
+          {
+            if (E.awaitTermination(30, TimeUnit.SECONDS) == false)
+              {
+                LOG.warn("The performance flusher didn't complete in time: the last period was not written.");
+                E.shutdownNow();
+                return;
+              }
+            _Flusher.flush();
+          }
+        catch (InterruptedException X)
+          {
+            E.shutdownNow();
+            Thread.currentThread().interrupt();
+          }
+      }
+
+    protected static String getNodeName()
+      {
+        try
+          {
+            String Name = InetAddress.getLocalHost().getHostName();
+            return Name.length() > 64 ? Name.substring(0, 64) : Name;
+          }
+        catch (Exception E)
+          {
+            return "localhost";
+          }
+      }
+
+    /**
+     * @return the increase of a counter since Previous. If the counter is lower, it was reset in between by someone
+     *         calling PerfTracker.snapshot(true), and its whole value is the increase since.
+     */
+    protected static long delta(long Current, long Previous)
+      {
+        return Current >= Previous ? Current - Previous : Current;
+      }
+
+    protected static long getNano(TableInfo T, TableInfo P, StatementType ST)
+      {
+        return delta(T.getNano(ST), P == null ? 0 : P.getNano(ST));
+      }
+
+    protected static long getCount(TableInfo T, TableInfo P, StatementType ST)
+      {
+        return delta(T.getCount(ST), P == null ? 0 : P.getCount(ST));
+      }
+
+    protected static long getRecords(TableInfo T, TableInfo P, StatementType ST)
+      {
+        return delta(T.getRecords(ST), P == null ? 0 : P.getRecords(ST));
+      }
+
+    protected synchronized void flush()
+      {
+        PerfTracker.suspend();
+        try
+          {
+            doFlush();
+          }
+        finally
+          {
+            PerfTracker.resume();
+          }
+      }
+
+    protected void doFlush()
+      {
+        long T0 = System.nanoTime();
+        ZonedDateTime StartPeriod = _StartPeriod;
+        ZonedDateTime EndPeriod = DateTimeUtil.NowUTC();
+        Info[] Snapshot = PerfTracker.snapshot(false);
+        Map<String, Info> Previous = _Previous;
+        _StartPeriod = EndPeriod;
+        _Previous = new HashMap<String, Info>();
+        for (Info I : Snapshot)
+          _Previous.put(I.getName(), I);
+
+        Connection C = null;
+        try
+          {
+            List<ObjectPerf_Data> L = new ArrayList<ObjectPerf_Data>();
+            long CommitNano = 0, CommitCount = 0, RollbackNano = 0, RollbackCount = 0;
+            for (Info I : Snapshot)
+              if (I instanceof TableInfo)
+                {
+                  TableInfo T = (TableInfo) I;
+                  TableInfo P = (TableInfo) Previous.get(T.getName());
+                  if (delta(T.getCountTotal(), P == null ? 0 : P.getCountTotal()) == 0)
+                    continue;
+                  int i = T.getName().indexOf('.');
+                  String SchemaName = i == -1 ? "" : T.getName().substring(0, i);
+                  String ObjectName = T.getName().substring(i + 1);
+                  L.add(ObjectPerf_Factory.Create(SchemaName, ObjectName, _NodeName, StartPeriod, EndPeriod
+                  , getNano(T, P, StatementType.SELECT), getCount(T, P, StatementType.SELECT), getRecords(T, P, StatementType.SELECT)
+                  , getNano(T, P, StatementType.INSERT), getCount(T, P, StatementType.INSERT), getRecords(T, P, StatementType.INSERT)
+                  , getNano(T, P, StatementType.UPDATE), getCount(T, P, StatementType.UPDATE), getRecords(T, P, StatementType.UPDATE)
+                  , getNano(T, P, StatementType.DELETE), getCount(T, P, StatementType.DELETE), getRecords(T, P, StatementType.DELETE)));
+                }
+              else if (I.getName().equals(TransactionInfo.getName(TransactionType.COMMIT)) == true)
+                {
+                  Info P = Previous.get(I.getName());
+                  CommitNano = delta(I.getNanoTotal(), P == null ? 0 : P.getNanoTotal());
+                  CommitCount = delta(I.getCountTotal(), P == null ? 0 : P.getCountTotal());
+                }
+              else if (I.getName().equals(TransactionInfo.getName(TransactionType.ROLLBACK)) == true)
+                {
+                  Info P = Previous.get(I.getName());
+                  RollbackNano = delta(I.getNanoTotal(), P == null ? 0 : P.getNanoTotal());
+                  RollbackCount = delta(I.getCountTotal(), P == null ? 0 : P.getCountTotal());
+                }
+
+            if (L.isEmpty() == true && CommitCount == 0 && RollbackCount == 0)
+              return;
+
+            C = ConnectionPool.get(_PoolId);
+            int Failed = 0;
+            for (boolean b : ObjectPerf_Factory.WriteBatch(C, L))
+              if (b == false)
+                ++Failed;
+            if (Failed != 0)
+              LOG.warn(Failed + " table performance record(s) for the period starting " + DateTimeUtil.printDateTimeForSQL(StartPeriod) + " could not be written.");
+            TransPerf_Data TP = TransPerf_Factory.Create(ALL_SCHEMAS, _NodeName, StartPeriod, EndPeriod, CommitNano, CommitCount, RollbackNano, RollbackCount);
+            if (TP.Write(C) == false)
+              throw new Exception("Cannot write the transaction performance record for " + _NodeName + ".");
+            C.commit();
+            LOG.debug("Flushed performance data for " + L.size() + " table(s) in " + DurationUtil.PrintDuration(System.nanoTime() - T0) + ".");
+          }
+        catch (Throwable E)
+          {
+            // Never let an exception escape: it would silently cancel all future runs.
+            LOG.error("Cannot flush the performance data for the period " + DateTimeUtil.printDateTimeForSQL(StartPeriod) + " - " + DateTimeUtil.printDateTimeForSQL(EndPeriod) + ": it is lost.", E);
+            if (C != null)
+              try
+                {
+                  C.rollback();
+                }
+              catch (Exception X)
+                {
+                }
+          }
+        finally
+          {
+            if (C != null)
+              try
+                {
+                  C.close();
+                }
+              catch (Exception X)
+                {
+                }
+          }
+      }
+  }
@@ -16,23 +16,60 @@
 
 package tilda.performance;
 
+import java.io.Writer;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import tilda.db.LifecycleLog;
 import tilda.enums.StatementType;
 import tilda.enums.TransactionType;
-import tilda.utils.AnsiUtil;
 import tilda.utils.DurationUtil;
+import tilda.utils.TextUtil;
 
 public abstract class PerfTracker
   {
     protected static final Logger LOG = LogManager.getLogger(PerfTracker.class.getName());
     
-    protected static Map<String, Info> _M = new HashMap<String, Info>();
+    /**
+     * Entries are created once per table or transaction type and then only read, so the lock-free get() is tried
+     * first and computeIfAbsent() only runs for new names. Counters inside the entries are {@link java.util.concurrent.atomic.LongAdder}s.
+     */
+    protected static final ConcurrentHashMap<String, Info> _M = new ConcurrentHashMap<String, Info>();
+
+    protected static final ThreadLocal<Boolean> _Suspended      = new ThreadLocal<Boolean>();
+    protected static final AtomicInteger        _SuspendedCount = new AtomicInteger();
+
+    /**
+     * Stops tracking what the current thread does until {@link #resume()}, for example so that writing the
+     * performance data doesn't itself show up as database activity. Threads that never call suspend() only pay for
+     * the read of a counter.
+     */
+    public static void suspend()
+      {
+        if (_Suspended.get() == null)
+          {
+            _Suspended.set(Boolean.TRUE);
+            _SuspendedCount.incrementAndGet();
+          }
+      }
+
+    public static void resume()
+      {
+        if (_Suspended.get() != null)
+          {
+            _Suspended.remove();
+            _SuspendedCount.decrementAndGet();
+          }
+      }
+
+    protected static boolean isSuspended()
+      {
+        return _SuspendedCount.get() != 0 && _Suspended.get() != null;
+      }
 
     /**
      * Adds new perf information for the named table.
@@ -43,23 +80,35 @@ public abstract class PerfTracker
      * @param Records
      */
     public static void add(String TableName, StatementType Type, long DurationNano, int Count)
+      {
+        if (isSuspended() == true)
+          return;
+        PerfContext.add(TableName, Type, DurationNano, Count, null, null);
+        addTable(TableName, Type, DurationNano, Count);
+      }
+
+    protected static void addTable(String TableName, StatementType Type, long DurationNano, int Count)
       {
         TableInfo I = (TableInfo) _M.get(TableName);
         if (I == null)
-          synchronized (_M)
-            {
-              I = (TableInfo) _M.get(TableName);
-              if (I == null)
-                {
-                  I = new TableInfo(TableName);
-                  _M.put(TableName, I);
-                }
-            }
+          I = (TableInfo) _M.computeIfAbsent(TableName, K -> new TableInfo(K));
         I.add(Type, DurationNano, Count);
-        if (Count == 0)
-         LOG.warn("   "+AnsiUtil.UNDERLINE+"No record "+Type._PP+" "+AnsiUtil.UNDERLINE_OFF+" in "+DurationUtil.PrintDurationMilliSeconds(DurationNano));
-        else
-         LOG.debug("   "+Type._PP+" "+Count+" records in "+DurationUtil.PrintDurationMilliSeconds(DurationNano));
+        LifecycleLog.records(Type, Count, DurationNano);
+      }
+
+    /**
+     * Same as {@link #add(String, StatementType, long, int)}, also accounting for the query's shape in the
+     * {@link QueryTracker} and in the current {@link PerfContext} if any.
+     */
+    public static void add(String TableName, StatementType Type, long DurationNano, int Count, String Query)
+      {
+        if (isSuspended() == true)
+          return;
+        String F = TextUtil.isNullOrEmpty(Query) == true ? null : QueryFingerprint.get(Query);
+        if (F != null)
+          QueryTracker.add(TableName, F, Query, DurationNano, Count);
+        PerfContext.add(TableName, Type, DurationNano, Count, F, Query);
+        addTable(TableName, Type, DurationNano, Count);
       }
 
     /**
@@ -69,29 +118,51 @@ public abstract class PerfTracker
      */
     public static void add(TransactionType TT, long DurationNano)
       {
+        if (isSuspended() == true)
+          return;
         TransactionInfo I = (TransactionInfo) _M.get(TT.getName());
         if (I == null)
-          synchronized (_M)
-            {
-              I = (TransactionInfo) _M.get(TT.getName());
-              if (I == null)
-                {
-                  I = new TransactionInfo(TT);
-                  _M.put(TT.getName(), I);
-                }
-            }
+          I = (TransactionInfo) _M.computeIfAbsent(TT.getName(), K -> new TransactionInfo(TT));
         I.add(DurationNano);
+        PerfContext.add(TT, DurationNano);
 //        LOG.debug("   query time: "+DurationUtil.PrintDurationMilliSeconds(DurationNano));
       }
 
-    public static void print(StringBuilder Str)
+    /**
+     * Takes a copy of all the counters without blocking threads that are adding to them.
+     * 
+     * @param Reset if true, counters are zeroed as they are read so that the next snapshot only covers what happened
+     *          since this one. This makes the counters exported by the {@link PrometheusExporter} drop back to zero,
+     *          so only use it when that exporter isn't scraped; otherwise, diff non-resetting snapshots the way
+     *          {@link PerfFlusher} does.
+     * @return the entries, sorted by decreasing total time.
+     */
+    public static Info[] snapshot(boolean Reset)
       {
-        Info[] C = null;
-        synchronized (_M)
+        Info[] C = new Info[_M.size()];
+        int i = 0;
+        for (Info I : _M.values())
           {
-            C = _M.values().toArray(new Info[] {});
+            if (i == C.length)
+              C = Arrays.copyOf(C, C.length * 2 + 1);
+            C[i++] = I.snapshot(Reset);
           }
+        if (i != C.length)
+          C = Arrays.copyOf(C, i);
         Arrays.sort(C, new TableInfoByTime());
+        return C;
+      }
+
+    public static void print(StringBuilder Str)
+      {
+        print(Str, snapshot(false));
+      }
+
+    /**
+     * Prints a report for entries obtained from {@link #snapshot(boolean)}.
+     */
+    public static void print(StringBuilder Str, Info[] C)
+      {
         long TotalCount = 0;
         long TotalRecords = 0;
         long TotalNano = 0;
@@ -113,10 +184,29 @@ public abstract class PerfTracker
             .append("=========================================================================================================================<BR>\r\n")
             .append("<TABLE style=\"font-size: 70%;\" cellpadding=\"3px\" cellspacing=\"0px\" border=\"0px\">\r\n")
             .append("<TR style=\"background-color: #000; color: #FFF; font-weight: bold;\">\r\n")
-            .append("<TD>Table</TD><TD>Operation</TD><TD>Time</TD><TD>Count</TD><TD>Perf</TD><TD>Records</TD>\r\n")
+            .append("<TD>Table</TD><TD>Operation</TD><TD>Time</TD><TD>Count</TD><TD>Perf</TD><TD>Records</TD><TD>Rec/s</TD>");
+        for (double P : LatencyHistogram.PERCENTILES)
+          Str.append("<TD>p").append(LatencyHistogram.getPercentileLabel(P)).append("</TD>");
+        Str.append("<TD>Max</TD>\r\n")
             .append("</TR>\r\n");
         for (Info T : C)
           T.print(Str, TotalCount, TotalRecords, TotalNano);
         Str.append("</TABLE>\r\n");
       }
+
+    /**
+     * Prints entries obtained from {@link #snapshot(boolean)} as a JSON array, one object per table or transaction
+     * type with its totals and latency percentiles. All durations are in nanoseconds.
+     */
+    public static void toJSON(Writer Out, Info[] C)
+    throws Exception
+      {
+        Out.write("[");
+        for (int i = 0; i < C.length; ++i)
+          {
+            Out.write(i == 0 ? "\n   " : "\n  ,");
+            C[i].toJSON(Out, "", true);
+          }
+        Out.write("\n]\n");
+      }
   }
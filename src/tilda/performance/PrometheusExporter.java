@@ -0,0 +1,240 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+import tilda.db.ConnectionPool;
+import tilda.db.ObjectCache;
+import tilda.db.PoolStats;
+import tilda.db.TildaDataSource;
+import tilda.enums.StatementType;
+
+/**
+ * Renders the {@link PerfTracker} counters and latency histograms, and the connection pool statistics, in the
+ * Prometheus text exposition format (version 0.0.4). Counters are read in place, without taking a snapshot, so
+ * scraping never blocks or resets anything. They only increase, as Prometheus expects, as long as nothing calls
+ * {@link PerfTracker#snapshot(boolean)} with Reset set to true: the {@link PerfFlusher} doesn't. Histogram buckets are derived from the {@link LatencyHistogram}s for a
+ * fixed set of bounds, from 100us to 60s.
+ */
+public abstract class PrometheusExporter
+  {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    protected static final double[] BOUNDS_SECONDS = { 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60 };
+    protected static final long[]   BOUNDS_NANO    = new long[BOUNDS_SECONDS.length];
+    protected static final String[] BOUNDS_LABELS  = new String[BOUNDS_SECONDS.length];
+    static
+      {
+        for (int i = 0; i < BOUNDS_SECONDS.length; ++i)
+          {
+            BOUNDS_NANO[i] = (long) (BOUNDS_SECONDS[i] * 1_000_000_000L);
+            BOUNDS_LABELS[i] = "\",le=\"" + Double.toString(BOUNDS_SECONDS[i]) + "\"} ";
+          }
+      }
+
+    public static void print(Writer Out)
+    throws IOException
+      {
+        long[] Counts = new long[BOUNDS_NANO.length];
+
+        Out.write("# HELP tilda_statements_total Number of statements run, by table and statement type.\n");
+        Out.write("# TYPE tilda_statements_total counter\n");
+        for (Info I : PerfTracker._M.values())
+          if (I instanceof TableInfo)
+            for (StatementType ST : StatementType.values())
+              {
+                TableInfo T = (TableInfo) I;
+                long Count = T.getCount(ST);
+                if (Count != 0)
+                  printSample(Out, "tilda_statements_total{table=\"", T.getName(), "\",statement=\"", ST.name(), Count);
+              }
+
+        Out.write("# HELP tilda_statement_records_total Number of records selected or affected, by table and statement type.\n");
+        Out.write("# TYPE tilda_statement_records_total counter\n");
+        for (Info I : PerfTracker._M.values())
+          if (I instanceof TableInfo)
+            for (StatementType ST : StatementType.values())
+              {
+                TableInfo T = (TableInfo) I;
+                if (T.getCount(ST) != 0)
+                  printSample(Out, "tilda_statement_records_total{table=\"", T.getName(), "\",statement=\"", ST.name(), T.getRecords(ST));
+              }
+
+        Out.write("# HELP tilda_statement_duration_seconds Statement durations, by table and statement type.\n");
+        Out.write("# TYPE tilda_statement_duration_seconds histogram\n");
+        for (Info I : PerfTracker._M.values())
+          if (I instanceof TableInfo)
+            for (StatementType ST : StatementType.values())
+              {
+                TableInfo T = (TableInfo) I;
+                if (T.getCount(ST) != 0)
+                  printHistogram(Out, "tilda_statement_duration_seconds", "{table=\"", T.getName(), "\",statement=\"", ST.name(), T.getLatency(ST), T.getNano(ST), Counts);
+              }
+
+        Out.write("# HELP tilda_transaction_duration_seconds Durations of commits, rollbacks, connection and statement management, etc.\n");
+        Out.write("# TYPE tilda_transaction_duration_seconds histogram\n");
+        for (Info I : PerfTracker._M.values())
+          if (I instanceof TransactionInfo)
+            {
+              TransactionInfo T = (TransactionInfo) I;
+              String Name = T.getName();
+              printHistogram(Out, "tilda_transaction_duration_seconds", "{type=\"", Name.substring(2, Name.length() - 2), null, null, T.getLatency(), T.getNanoTotal(), Counts);
+            }
+
+        Map<String, TildaDataSource> DataSources = ConnectionPool.getDataSources();
+        Out.write("# HELP tilda_pool_connections Connections of each pool, by state.\n");
+        Out.write("# TYPE tilda_pool_connections gauge\n");
+        for (Map.Entry<String, TildaDataSource> e : DataSources.entrySet())
+          {
+            printSample(Out, "tilda_pool_connections{pool=\"", e.getKey(), "\",state=\"", "active", e.getValue().getNumActive());
+            printSample(Out, "tilda_pool_connections{pool=\"", e.getKey(), "\",state=\"", "idle", e.getValue().getNumIdle());
+          }
+        Out.write("# HELP tilda_pool_max_connections Maximum number of connections of each pool.\n");
+        Out.write("# TYPE tilda_pool_max_connections gauge\n");
+        for (Map.Entry<String, TildaDataSource> e : DataSources.entrySet())
+          printSample(Out, "tilda_pool_max_connections{pool=\"", e.getKey(), null, null, e.getValue().getMaxTotal());
+        Out.write("# HELP tilda_pool_waiters Threads currently waiting for a connection from each pool.\n");
+        Out.write("# TYPE tilda_pool_waiters gauge\n");
+        for (Map.Entry<String, TildaDataSource> e : DataSources.entrySet())
+          printSample(Out, "tilda_pool_waiters{pool=\"", e.getKey(), null, null, e.getValue().getNumWaiters());
+        Out.write("# HELP tilda_pool_borrow_wait_max_seconds Longest wait for a connection from each pool.\n");
+        Out.write("# TYPE tilda_pool_borrow_wait_max_seconds gauge\n");
+        for (Map.Entry<String, TildaDataSource> e : DataSources.entrySet())
+          {
+            printLabels(Out, "tilda_pool_borrow_wait_max_seconds{pool=\"", e.getKey(), null, null);
+            Out.write("\"} ");
+            Out.write(Double.toString(e.getValue().getMaxBorrowWaitTimeMillis() / 1000.0));
+            Out.write('\n');
+          }
+
+        Map<String, PoolStats> Stats = ConnectionPool.getPoolStats();
+        Out.write("# HELP tilda_pool_acquire_seconds Time taken to get a connection from each pool, including failed attempts.\n");
+        Out.write("# TYPE tilda_pool_acquire_seconds histogram\n");
+        for (Map.Entry<String, PoolStats> e : Stats.entrySet())
+          printHistogram(Out, "tilda_pool_acquire_seconds", "{pool=\"", e.getKey(), null, null, e.getValue().getAcquireWait(), e.getValue().getAcquireWaitNano(), Counts);
+        Out.write("# HELP tilda_pool_hold_seconds Time connections were held, from get to close.\n");
+        Out.write("# TYPE tilda_pool_hold_seconds histogram\n");
+        for (Map.Entry<String, PoolStats> e : Stats.entrySet())
+          printHistogram(Out, "tilda_pool_hold_seconds", "{pool=\"", e.getKey(), null, null, e.getValue().getHold(), e.getValue().getHoldNano(), Counts);
+        Out.write("# HELP tilda_pool_exhausted_total Attempts to get a connection while all of the pool's connections were in use.\n");
+        Out.write("# TYPE tilda_pool_exhausted_total counter\n");
+        for (Map.Entry<String, PoolStats> e : Stats.entrySet())
+          printSample(Out, "tilda_pool_exhausted_total{pool=\"", e.getKey(), null, null, e.getValue().getExhausted());
+        Out.write("# HELP tilda_pool_acquire_failures_total Attempts to get a connection that failed.\n");
+        Out.write("# TYPE tilda_pool_acquire_failures_total counter\n");
+        for (Map.Entry<String, PoolStats> e : Stats.entrySet())
+          printSample(Out, "tilda_pool_acquire_failures_total{pool=\"", e.getKey(), null, null, e.getValue().getFailed());
+        Out.write("# HELP tilda_pool_leaks_total Connections held longer than the leak detection threshold.\n");
+        Out.write("# TYPE tilda_pool_leaks_total counter\n");
+        for (Map.Entry<String, PoolStats> e : Stats.entrySet())
+          printSample(Out, "tilda_pool_leaks_total{pool=\"", e.getKey(), null, null, e.getValue().getLeaked());
+
+        Map<String, ObjectCache<?>> Caches = ObjectCache.getCaches();
+        Out.write("# HELP tilda_object_cache_lookups_total Lookups in each object cache, by result.\n");
+        Out.write("# TYPE tilda_object_cache_lookups_total counter\n");
+        for (Map.Entry<String, ObjectCache<?>> e : Caches.entrySet())
+          {
+            printSample(Out, "tilda_object_cache_lookups_total{cache=\"", e.getKey(), "\",result=\"", "hit", e.getValue().getHits());
+            printSample(Out, "tilda_object_cache_lookups_total{cache=\"", e.getKey(), "\",result=\"", "miss", e.getValue().getMisses());
+          }
+        Out.write("# HELP tilda_object_cache_evictions_total Entries evicted from each object cache to stay within its maximum size.\n");
+        Out.write("# TYPE tilda_object_cache_evictions_total counter\n");
+        for (Map.Entry<String, ObjectCache<?>> e : Caches.entrySet())
+          printSample(Out, "tilda_object_cache_evictions_total{cache=\"", e.getKey(), null, null, e.getValue().getEvictions());
+        Out.write("# HELP tilda_object_cache_entries Entries currently held by each object cache.\n");
+        Out.write("# TYPE tilda_object_cache_entries gauge\n");
+        for (Map.Entry<String, ObjectCache<?>> e : Caches.entrySet())
+          printSample(Out, "tilda_object_cache_entries{cache=\"", e.getKey(), null, null, e.getValue().size());
+      }
+
+    protected static void printHistogram(Writer Out, String Metric, String Label1, String Value1, String Label2, String Value2, LatencyHistogram H, long SumNano, long[] Counts)
+    throws IOException
+      {
+        long Total = H.getCumulativeCounts(BOUNDS_NANO, Counts);
+        for (int i = 0; i < BOUNDS_NANO.length; ++i)
+          {
+            Out.write(Metric);
+            Out.write("_bucket");
+            printLabels(Out, Label1, Value1, Label2, Value2);
+            Out.write(BOUNDS_LABELS[i]);
+            Out.write(Long.toString(Counts[i]));
+            Out.write('\n');
+          }
+        Out.write(Metric);
+        Out.write("_bucket");
+        printLabels(Out, Label1, Value1, Label2, Value2);
+        Out.write("\",le=\"+Inf\"} ");
+        Out.write(Long.toString(Total));
+        Out.write('\n');
+        Out.write(Metric);
+        Out.write("_sum");
+        printLabels(Out, Label1, Value1, Label2, Value2);
+        Out.write("\"} ");
+        Out.write(Double.toString(SumNano / 1_000_000_000.0));
+        Out.write('\n');
+        Out.write(Metric);
+        Out.write("_count");
+        printLabels(Out, Label1, Value1, Label2, Value2);
+        Out.write("\"} ");
+        Out.write(Long.toString(Total));
+        Out.write('\n');
+      }
+
+    protected static void printSample(Writer Out, String Label1, String Value1, String Label2, String Value2, long v)
+    throws IOException
+      {
+        printLabels(Out, Label1, Value1, Label2, Value2);
+        Out.write("\"} ");
+        Out.write(Long.toString(v));
+        Out.write('\n');
+      }
+
+    /**
+     * Writes Label1 and the escaped Value1, then Label2 and the escaped Value2 if not null, leaving the last label value
+     * open for the caller to close.
+     */
+    protected static void printLabels(Writer Out, String Label1, String Value1, String Label2, String Value2)
+    throws IOException
+      {
+        Out.write(Label1);
+        printLabelValue(Out, Value1);
+        if (Label2 != null)
+          {
+            Out.write(Label2);
+            printLabelValue(Out, Value2);
+          }
+      }
+
+    protected static void printLabelValue(Writer Out, String V)
+    throws IOException
+      {
+        for (int i = 0; i < V.length(); ++i)
+          {
+            char c = V.charAt(i);
+            switch (c)
+              {
+                case '\\': Out.write("\\\\"); break;
+                case '"' : Out.write("\\\""); break;
+                case '\n': Out.write("\\n"); break;
+                default: Out.write(c);
+              }
+          }
+      }
+  }
@@ -0,0 +1,114 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+/**
+ * Reduces a SQL text to its shape, so that queries differing only by their values are tracked together: string and
+ * numeric literals become '?', lists of placeholders such as 'in (?, ?, ?)' become '?...', and runs of white space
+ * become a single space. Quoted identifiers are kept as is. This is a single pass over the text, with no regex.
+ */
+public class QueryFingerprint
+  {
+    public static String get(String Query)
+      {
+        if (Query == null)
+          return null;
+        int len = Query.length();
+        StringBuilder Str = new StringBuilder(len);
+        boolean Space = false;
+        for (int i = 0; i < len; ++i)
+          {
+            char c = Query.charAt(i);
+            if (Character.isWhitespace(c) == true)
+              {
+                Space = true;
+                continue;
+              }
+            if (Space == true)
+              {
+                if (Str.length() != 0)
+                  Str.append(' ');
+                Space = false;
+              }
+            if (c == '\'') // string literal, with '' as the escaped quote
+              {
+                while (++i < len)
+                  if (Query.charAt(i) == '\'')
+                    {
+                      if (i + 1 < len && Query.charAt(i + 1) == '\'')
+                        ++i;
+                      else
+                        break;
+                    }
+                appendPlaceholder(Str);
+              }
+            else if (c == '"') // quoted identifier
+              {
+                int j = Query.indexOf('"', i + 1);
+                if (j == -1)
+                  j = len - 1;
+                Str.append(Query, i, j + 1);
+                i = j;
+              }
+            else if (c == '?')
+              appendPlaceholder(Str);
+            else if (Character.isDigit(c) == true && (Str.length() == 0 || isIdentifierChar(Str.charAt(Str.length() - 1)) == false))
+              {
+                while (i + 1 < len && (Character.isDigit(c = Query.charAt(i + 1)) == true || c == '.' || c == 'e' || c == 'E'
+                    || ((c == '-' || c == '+') && (Query.charAt(i) == 'e' || Query.charAt(i) == 'E'))))
+                  ++i;
+                appendPlaceholder(Str);
+              }
+            else
+              Str.append(c);
+          }
+        return Str.toString();
+      }
+
+    protected static boolean isIdentifierChar(char c)
+      {
+        return Character.isLetterOrDigit(c) == true || c == '_' || c == '$' || c == '.';
+      }
+
+    /**
+     * Appends a '?', unless it continues a list of placeholders, which is then marked as '?...'.
+     */
+    protected static void appendPlaceholder(StringBuilder Str)
+      {
+        int i = Str.length() - 1;
+        while (i >= 0 && Str.charAt(i) == ' ')
+          --i;
+        if (i >= 0 && Str.charAt(i) == ',')
+          {
+            int j = i - 1;
+            while (j >= 0 && Str.charAt(j) == ' ')
+              --j;
+            if (j >= 0 && Str.charAt(j) == '?')
+              {
+                Str.setLength(j + 1);
+                Str.append("...");
+                return;
+              }
+            if (j >= 3 && Str.charAt(j) == '.' && Str.charAt(j - 1) == '.' && Str.charAt(j - 2) == '.' && Str.charAt(j - 3) == '?')
+              {
+                Str.setLength(j + 1);
+                return;
+              }
+          }
+        Str.append('?');
+      }
+  }
@@ -0,0 +1,147 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import tilda.interfaces.JSONable;
+import tilda.utils.DurationUtil;
+import tilda.utils.JSONUtil;
+import tilda.utils.NumberFormatUtil;
+
+/**
+ * Counters for one query shape, as tracked by {@link QueryTracker}.
+ */
+public class QueryInfo implements JSONable
+  {
+    public static final int MAX_SAMPLE_LENGTH = 2000;
+
+    public QueryInfo(String TableName, String Fingerprint, String Sample)
+      {
+        _TableName = TableName;
+        _Fingerprint = Fingerprint;
+        _Sample = Sample != null && Sample.length() > MAX_SAMPLE_LENGTH ? Sample.substring(0, MAX_SAMPLE_LENGTH) + "..." : Sample;
+      }
+
+    protected QueryInfo(QueryInfo Src, boolean Reset)
+      {
+        this(Src._TableName, Src._Fingerprint, Src._Sample);
+        _Nano.add(TableInfo.get(Src._Nano, Reset));
+        _Count.add(TableInfo.get(Src._Count, Reset));
+        _Records.add(TableInfo.get(Src._Records, Reset));
+        _Max.set(Reset == true ? Src._Max.getAndSet(0) : Src._Max.get());
+      }
+
+    protected final String     _TableName;
+    protected final String     _Fingerprint;
+    protected final String     _Sample;
+    protected final LongAdder  _Nano    = new LongAdder();
+    protected final LongAdder  _Count   = new LongAdder();
+    protected final LongAdder  _Records = new LongAdder();
+    protected final AtomicLong _Max     = new AtomicLong(0);
+
+    public void add(long nano, int Records)
+      {
+        _Nano.add(nano);
+        _Count.increment();
+        _Records.add(Records);
+        long Max = _Max.get();
+        while (nano > Max && _Max.compareAndSet(Max, nano) == false)
+          Max = _Max.get();
+      }
+
+    public QueryInfo snapshot(boolean Reset)
+      {
+        return new QueryInfo(this, Reset);
+      }
+
+    public String getTableName()
+      {
+        return _TableName;
+      }
+
+    public String getFingerprint()
+      {
+        return _Fingerprint;
+      }
+
+    /**
+     * @return the first query seen with this shape, with its string literals masked.
+     */
+    public String getSample()
+      {
+        return _Sample;
+      }
+
+    public long getNano()
+      {
+        return _Nano.sum();
+      }
+
+    public long getCount()
+      {
+        return _Count.sum();
+      }
+
+    public long getRecords()
+      {
+        return _Records.sum();
+      }
+
+    public long getMax()
+      {
+        return _Max.get();
+      }
+
+    public void print(StringBuilder Str, int Rank, long TotalNano)
+      {
+        long Nano = getNano();
+        long Count = getCount();
+        Str.append("<TR valign=\"top\"").append(Rank % 2 == 0 ? " style=\"background-color: #EFEFFF;\"" : "").append(">")
+           .append("<TD>").append(Rank).append("</TD>")
+           .append("<TD>").append(_TableName).append("</TD>")
+           .append("<TD>").append(DurationUtil.PrintDurationMilliSeconds(Nano)).append("&nbsp;(").append(NumberFormatUtil.PrintPercentWith2Dec(TotalNano, Nano)).append("%)").append("</TD>")
+           .append("<TD>").append(Count).append("</TD>")
+           .append("<TD>").append(DurationUtil.PrintDurationMilliSeconds(Count == 0 ? 0 : Nano / Count)).append("</TD>")
+           .append("<TD>").append(DurationUtil.PrintDurationMilliSeconds(getMax())).append("</TD>")
+           .append("<TD>").append(getRecords()).append("</TD>")
+           .append("<TD title=\"").append(escape(_Sample)).append("\">").append(escape(_Fingerprint)).append("</TD>")
+           .append("</TR>\r\n");
+      }
+
+    protected static String escape(String Str)
+      {
+        return Str == null ? "" : Str.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+      }
+
+    @Override
+    public void toJSON(Writer Out, String JsonExportName, boolean FullObject)
+    throws Exception
+      {
+        Out.write("{");
+        JSONUtil.Print(Out, "table", true, _TableName);
+        JSONUtil.Print(Out, "fingerprint", false, _Fingerprint);
+        JSONUtil.Print(Out, "sample", false, _Sample);
+        JSONUtil.Print(Out, "nano", false, getNano());
+        JSONUtil.Print(Out, "count", false, getCount());
+        JSONUtil.Print(Out, "max", false, getMax());
+        JSONUtil.Print(Out, "records", false, getRecords());
+        Out.write("}");
+      }
+  }
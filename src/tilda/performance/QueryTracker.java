@@ -0,0 +1,119 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tilda.db.QueryDetails;
+import tilda.utils.DurationUtil;
+
+/**
+ * Tracks statistics per query shape (see {@link QueryFingerprint}), to find which of a table's queries actually cost
+ * the most. Fed by {@link PerfTracker#add(String, tilda.enums.StatementType, long, int, String)}. Memory is bounded:
+ * beyond {@link #MAX_FINGERPRINTS} distinct shapes, queries are accounted for in a single overflow entry.
+ */
+public abstract class QueryTracker
+  {
+    public static final int MAX_FINGERPRINTS = 2000;
+
+    protected static final ConcurrentHashMap<String, QueryInfo> _M        = new ConcurrentHashMap<String, QueryInfo>();
+    protected static final QueryInfo                            _Overflow = new QueryInfo("*", "(all other query shapes, beyond the first " + MAX_FINGERPRINTS + ")", null);
+
+    /**
+     * @param Fingerprint the shape of Query, as computed by {@link QueryFingerprint#get(String)}.
+     */
+    public static void add(String TableName, String Fingerprint, String Query, long DurationNano, int Count)
+      {
+        QueryInfo I = _M.get(Fingerprint);
+        if (I == null)
+          I = _M.size() >= MAX_FINGERPRINTS ? _Overflow : _M.computeIfAbsent(Fingerprint, K -> new QueryInfo(TableName, K, QueryDetails.getSecure(Query)));
+        I.add(DurationNano, Count);
+      }
+
+    /**
+     * Returns a copy of the counters of the N query shapes with the largest total time, without blocking threads
+     * adding to them.
+     * 
+     * @param N the number of entries to return, or -1 for all.
+     * @param Reset if true, the counters of all shapes are zeroed as they are read.
+     */
+    public static QueryInfo[] getTop(int N, boolean Reset)
+      {
+        QueryInfo[] C = new QueryInfo[_M.size() + 1];
+        int i = 0;
+        for (QueryInfo I : _M.values())
+          {
+            if (i == C.length)
+              C = Arrays.copyOf(C, C.length * 2 + 1);
+            C[i++] = I.snapshot(Reset);
+          }
+        if (i == C.length)
+          C = Arrays.copyOf(C, C.length + 1);
+        C[i++] = _Overflow.snapshot(Reset);
+        C = Arrays.copyOf(C, i);
+        Arrays.sort(C, (a, b) -> Long.compare(b.getNano(), a.getNano()));
+        int Size = 0;
+        while (Size < C.length && C[Size].getCount() != 0 && (N < 0 || Size < N))
+          ++Size;
+        return Arrays.copyOf(C, Size);
+      }
+
+    public static void print(StringBuilder Str, int N)
+      {
+        print(Str, getTop(N, false));
+      }
+
+    /**
+     * Prints entries obtained from {@link #getTop(int, boolean)}. Hovering over a query shape shows a sample query.
+     */
+    public static void print(StringBuilder Str, QueryInfo[] C)
+      {
+        long TotalNano = 0;
+        long TotalCount = 0;
+        for (QueryInfo I : C)
+          {
+            TotalNano += I.getNano();
+            TotalCount += I.getCount();
+          }
+        Str.append("<BR>\r\n\r\n")
+           .append("=========================================================================================================================<BR>\r\n")
+           .append("==  Top ").append(C.length).append(" query shapes by total time<BR>\r\n")
+           .append("==  # of queries=").append(TotalCount).append("; time=").append(DurationUtil.PrintDuration(TotalNano)).append("<BR>\r\n")
+           .append("=========================================================================================================================<BR>\r\n")
+           .append("<TABLE style=\"font-size: 70%;\" cellpadding=\"3px\" cellspacing=\"0px\" border=\"0px\">\r\n")
+           .append("<TR style=\"background-color: #000; color: #FFF; font-weight: bold;\">\r\n")
+           .append("<TD>#</TD><TD>Table</TD><TD>Time</TD><TD>Count</TD><TD>Avg</TD><TD>Max</TD><TD>Records</TD><TD>Query</TD>\r\n")
+           .append("</TR>\r\n");
+        for (int i = 0; i < C.length; ++i)
+          C[i].print(Str, i + 1, TotalNano);
+        Str.append("</TABLE>\r\n");
+      }
+
+    public static void toJSON(Writer Out, QueryInfo[] C)
+    throws Exception
+      {
+        Out.write("[");
+        for (int i = 0; i < C.length; ++i)
+          {
+            Out.write(i == 0 ? "\n   " : "\n  ,");
+            C[i].toJSON(Out, "", true);
+          }
+        Out.write("\n]\n");
+      }
+  }
@@ -0,0 +1,116 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.io.Writer;
+import java.time.ZonedDateTime;
+
+import tilda.interfaces.JSONable;
+import tilda.utils.JSONUtil;
+
+/**
+ * A statement captured by the {@link SlowQueryLog}.
+ */
+public class SlowQuery implements JSONable
+  {
+    public SlowQuery(String PoolId, String TableName, String Query, long DurationNano, int Count)
+      {
+        _Timestamp = ZonedDateTime.now();
+        _ThreadName = Thread.currentThread().getName();
+        _PoolId = PoolId;
+        _TableName = TableName;
+        _Query = Query;
+        _DurationNano = DurationNano;
+        _Count = Count;
+      }
+
+    protected final ZonedDateTime _Timestamp;
+    protected final String        _ThreadName;
+    protected final String        _PoolId;
+    protected final String        _TableName;
+    protected final String        _Query;
+    protected final long          _DurationNano;
+    protected final int           _Count;
+    protected volatile String     _Plan;
+
+    public ZonedDateTime getTimestamp()
+      {
+        return _Timestamp;
+      }
+
+    public String getThreadName()
+      {
+        return _ThreadName;
+      }
+
+    public String getPoolId()
+      {
+        return _PoolId;
+      }
+
+    public String getTableName()
+      {
+        return _TableName;
+      }
+
+    /**
+     * @return the query, with its string literals masked.
+     */
+    public String getQuery()
+      {
+        return _Query;
+      }
+
+    public long getDurationNano()
+      {
+        return _DurationNano;
+      }
+
+    /**
+     * @return the number of records selected or affected.
+     */
+    public int getCount()
+      {
+        return _Count;
+      }
+
+    /**
+     * @return the execution plan, which is obtained asynchronously, or null if it is not (yet) available.
+     */
+    public String getPlan()
+      {
+        return _Plan;
+      }
+
+    @Override
+    public void toJSON(Writer Out, String JsonExportName, boolean FullObject)
+    throws Exception
+      {
+        Out.write("{");
+        JSONUtil.Print(Out, "timestamp", true, _Timestamp);
+        JSONUtil.Print(Out, "thread", false, _ThreadName);
+        JSONUtil.Print(Out, "pool", false, _PoolId);
+        JSONUtil.Print(Out, "table", false, _TableName);
+        JSONUtil.Print(Out, "query", false, _Query);
+        JSONUtil.Print(Out, "nano", false, _DurationNano);
+        JSONUtil.Print(Out, "count", false, _Count);
+        String Plan = _Plan;
+        if (Plan != null)
+          JSONUtil.Print(Out, "plan", false, Plan);
+        Out.write("}");
+      }
+  }
@@ -0,0 +1,188 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.db.Connection;
+import tilda.db.ConnectionPool;
+import tilda.db.QueryDetails;
+import tilda.db.QueryParams;
+import tilda.utils.AnsiUtil;
+import tilda.utils.DurationUtil;
+import tilda.utils.TextUtil;
+
+/**
+ * Keeps the last statements that took longer than a threshold in a bounded ring buffer, for on-call engineers to look
+ * at during an incident (e.g., through {@link tilda.grammar.servlets.SlowQueryServlet}). Queries are kept with their
+ * string literals masked. Optionally, the execution plan of slow SELECTs is requested on a separate connection from
+ * the same pool, by a single background thread, so the statement's own thread never waits for it. If the plan
+ * requests can't keep up, extra ones are dropped. Queries with '?' placeholders are explained with the values they
+ * were run with when those were collected in {@link QueryParams}, as with parameterized SelectQuery, UpdateQuery and
+ * DeleteQuery, including through the generated runSelect(). The generated lookups by key or index bind their values
+ * directly, and are therefore not explained.<BR>
+ * <BR>
+ * It is disabled until configured, either by calling {@link #configure(long, int, boolean)}, or in tilda.config.json
+ * with a section such as
+ * <PRE>"slowQueries": { "thresholdMillis": 2000, "bufferSize": 100, "explain": true }</PRE>
+ */
+public abstract class SlowQueryLog
+  {
+    protected static final Logger LOG = LogManager.getLogger(SlowQueryLog.class.getName());
+
+    public static final int       DEFAULT_BUFFER_SIZE = 100;
+
+    protected static volatile long                          _ThresholdNano = -1;
+    protected static volatile AtomicReferenceArray<SlowQuery> _Buffer      = new AtomicReferenceArray<SlowQuery>(DEFAULT_BUFFER_SIZE);
+    protected static final AtomicLong                        _Next         = new AtomicLong(0);
+    protected static volatile ThreadPoolExecutor             _Explainer;
+
+    /**
+     * @param ThresholdMillis statements taking at least this long are captured. A negative value disables the log.
+     * @param BufferSize how many of the most recent slow statements are kept.
+     * @param Explain whether to also capture the execution plan of slow SELECTs.
+     */
+    public static synchronized void configure(long ThresholdMillis, int BufferSize, boolean Explain)
+      {
+        LOG.info("Slow query log: " + (ThresholdMillis < 0 ? "disabled." : "threshold=" + ThresholdMillis + "ms; buffer=" + BufferSize + "; explain=" + Explain + "."));
+        if (BufferSize < 1)
+          BufferSize = DEFAULT_BUFFER_SIZE;
+        if (BufferSize != _Buffer.length())
+          _Buffer = new AtomicReferenceArray<SlowQuery>(BufferSize);
+        if (Explain == true && _Explainer == null)
+          {
+            ThreadPoolExecutor E = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(16), R -> {
+              Thread T = new Thread(R, "Tilda-SlowQueryExplainer");
+              T.setDaemon(true);
+              return T;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+            _Explainer = E;
+          }
+        else if (Explain == false && _Explainer != null)
+          {
+            _Explainer.shutdown();
+            _Explainer = null;
+          }
+        _ThresholdNano = ThresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(ThresholdMillis);
+      }
+
+    /**
+     * Captures the statement if it took longer than the threshold. This is a single comparison otherwise. Params, if
+     * not null, are the values bound to the query's placeholders.
+     */
+    public static void add(Connection C, String TableName, String Query, QueryParams Params, long DurationNano, int Count)
+      {
+        long Threshold = _ThresholdNano;
+        if (Threshold < 0 || DurationNano < Threshold || TextUtil.isNullOrEmpty(Query) == true)
+          return;
+        String PoolName = C == null ? null : C.getPoolName();
+        SlowQuery SQ = new SlowQuery(PoolName, TableName, QueryDetails.getSecure(Query), DurationNano, Count);
+        AtomicReferenceArray<SlowQuery> B = _Buffer;
+        B.set((int) (_Next.getAndIncrement() % B.length()), SQ);
+        LOG.warn(AnsiUtil.NEGATIVE + "SLOW QUERY" + AnsiUtil.NEGATIVE_OFF + " on " + TableName + " (" + DurationUtil.PrintDurationMilliSeconds(DurationNano) + ", " + Count + " records): " + SQ.getQuery());
+        ThreadPoolExecutor E = _Explainer;
+        if (E != null && PoolName != null && isExplainable(Query, Params) == true)
+          {
+            QueryParams P = null;
+            if (Params != null) // The query object may be reused before the plan is requested.
+              {
+                P = new QueryParams();
+                P.addAll(Params);
+              }
+            QueryParams ExplainParams = P;
+            E.execute(() -> explain(SQ, PoolName, Query, ExplainParams));
+          }
+      }
+
+    protected static boolean isExplainable(String Query, QueryParams Params)
+      {
+        String Q = Query.trim();
+        return (Q.regionMatches(true, 0, "select", 0, 6) == true || Q.regionMatches(true, 0, "with", 0, 4) == true) && (Params != null || Q.indexOf('?') == -1);
+      }
+
+    protected static void explain(SlowQuery SQ, String PoolName, String Query, QueryParams Params)
+      {
+        Connection C = null;
+        try
+          {
+            C = ConnectionPool.get(PoolName);
+            SQ._Plan = C.getExplainPlan(Query, Params);
+          }
+        catch (Throwable T)
+          {
+            LOG.warn("Cannot obtain the execution plan of a slow query: " + T.getMessage());
+          }
+        finally
+          {
+            if (C != null)
+              try
+                {
+                  C.rollback();
+                  C.close();
+                }
+              catch (Exception X)
+                {
+                }
+          }
+      }
+
+    /**
+     * @return the slow statements currently in the buffer, most recent first.
+     */
+    public static List<SlowQuery> getAll()
+      {
+        AtomicReferenceArray<SlowQuery> B = _Buffer;
+        List<SlowQuery> L = new ArrayList<SlowQuery>(B.length());
+        long Next = _Next.get();
+        for (int i = 1; i <= B.length(); ++i)
+          {
+            SlowQuery SQ = B.get((int) Math.floorMod(Next - i, (long) B.length()));
+            if (SQ != null)
+              L.add(SQ);
+          }
+        return L;
+      }
+
+    public static void clear()
+      {
+        AtomicReferenceArray<SlowQuery> B = _Buffer;
+        for (int i = 0; i < B.length(); ++i)
+          B.set(i, null);
+      }
+
+    public static void toJSON(Writer Out, List<SlowQuery> L)
+    throws Exception
+      {
+        Out.write("[");
+        for (int i = 0; i < L.size(); ++i)
+          {
+            Out.write(i == 0 ? "\n   " : "\n  ,");
+            L.get(i).toJSON(Out, "", true);
+          }
+        Out.write("\n]\n");
+      }
+  }
@@ -16,66 +16,134 @@
 
 package tilda.performance;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.io.Writer;
+import java.util.concurrent.atomic.LongAdder;
 
 import tilda.enums.StatementType;
 import tilda.utils.DurationUtil;
+import tilda.utils.JSONUtil;
 import tilda.utils.NumberFormatUtil;
 
+/**
+ * Per-table statement counters. They are {@link LongAdder}s, so that threads updating the same table concurrently
+ * don't contend on a single memory location. Each statement type also has a {@link LatencyHistogram}.
+ */
 public class TableInfo implements Info
   {
     public TableInfo(String Name)
       {
         _Name = Name;
+        _SelectLatency = new LatencyHistogram();
+        _InsertLatency = new LatencyHistogram();
+        _UpdateLatency = new LatencyHistogram();
+        _DeleteLatency = new LatencyHistogram();
+      }
+
+    protected TableInfo(TableInfo Src, boolean Reset)
+      {
+        _Name = Src._Name;
+        add(_SelectNano, _SelectCount, _SelectRecords, get(Src._SelectNano, Reset), get(Src._SelectCount, Reset), get(Src._SelectRecords, Reset));
+        add(_InsertNano, _InsertCount, _InsertRecords, get(Src._InsertNano, Reset), get(Src._InsertCount, Reset), get(Src._InsertRecords, Reset));
+        add(_UpdateNano, _UpdateCount, _UpdateRecords, get(Src._UpdateNano, Reset), get(Src._UpdateCount, Reset), get(Src._UpdateRecords, Reset));
+        add(_DeleteNano, _DeleteCount, _DeleteRecords, get(Src._DeleteNano, Reset), get(Src._DeleteCount, Reset), get(Src._DeleteRecords, Reset));
+        _SelectLatency = Src._SelectLatency.snapshot(Reset);
+        _InsertLatency = Src._InsertLatency.snapshot(Reset);
+        _UpdateLatency = Src._UpdateLatency.snapshot(Reset);
+        _DeleteLatency = Src._DeleteLatency.snapshot(Reset);
       }
     
-    protected final String     _Name;
-    protected       AtomicLong _SelectNano   = new AtomicLong(0);
-    protected       AtomicLong _SelectCount  = new AtomicLong(0);
-    protected       AtomicLong _SelectRecords= new AtomicLong(0);
-    protected       AtomicLong _InsertNano   = new AtomicLong(0);
-    protected       AtomicLong _InsertCount  = new AtomicLong(0);
-    protected       AtomicLong _InsertRecords= new AtomicLong(0);
-    protected       AtomicLong _UpdateNano   = new AtomicLong(0);
-    protected       AtomicLong _UpdateCount  = new AtomicLong(0);
-    protected       AtomicLong _UpdateRecords= new AtomicLong(0);
-    protected       AtomicLong _DeleteNano   = new AtomicLong(0);
-    protected       AtomicLong _DeleteCount  = new AtomicLong(0);
-    protected       AtomicLong _DeleteRecords= new AtomicLong(0);
+    protected final String    _Name;
+    protected final LongAdder _SelectNano   = new LongAdder();
+    protected final LongAdder _SelectCount  = new LongAdder();
+    protected final LongAdder _SelectRecords= new LongAdder();
+    protected final LongAdder _InsertNano   = new LongAdder();
+    protected final LongAdder _InsertCount  = new LongAdder();
+    protected final LongAdder _InsertRecords= new LongAdder();
+    protected final LongAdder _UpdateNano   = new LongAdder();
+    protected final LongAdder _UpdateCount  = new LongAdder();
+    protected final LongAdder _UpdateRecords= new LongAdder();
+    protected final LongAdder _DeleteNano   = new LongAdder();
+    protected final LongAdder _DeleteCount  = new LongAdder();
+    protected final LongAdder _DeleteRecords= new LongAdder();
+    protected final LatencyHistogram _SelectLatency;
+    protected final LatencyHistogram _InsertLatency;
+    protected final LatencyHistogram _UpdateLatency;
+    protected final LatencyHistogram _DeleteLatency;
     
-    protected void addSelect(long nano, int Count)
+    protected static void add(LongAdder Nano, LongAdder Count, LongAdder Records, long nano, long count, long records)
       {
-        _SelectNano.addAndGet(nano);
-        _SelectRecords.addAndGet(Count);
-        _SelectCount.incrementAndGet();
+        Nano.add(nano);
+        Records.add(records);
+        Count.add(count);
+      }
+    
+    public void add(StatementType Type, long nano, int Count)
+      {
+        switch(Type)
+         {
+           case SELECT  : add(_SelectNano, _SelectCount, _SelectRecords, nano, 1, Count); _SelectLatency.add(nano); break;
+           case INSERT  : add(_InsertNano, _InsertCount, _InsertRecords, nano, 1, Count); _InsertLatency.add(nano); break;
+           case UPDATE  : add(_UpdateNano, _UpdateCount, _UpdateRecords, nano, 1, Count); _UpdateLatency.add(nano); break;
+           case DELETE  : add(_DeleteNano, _DeleteCount, _DeleteRecords, nano, 1, Count); _DeleteLatency.add(nano); break;
+           default : throw new Error("BUG!!!! Statement.TYPE "+Type.toString()+" is not accounted for in the performance management code.");
+         }
       }
-    protected void addInsert(long nano, int Count)
+
+    protected static long get(LongAdder A, boolean Reset)
       {
-        _InsertNano.addAndGet(nano);
-        _InsertRecords.addAndGet(Count);
-        _InsertCount.incrementAndGet();
+        return Reset == true ? A.sumThenReset() : A.sum();
       }
-    protected void addUpdate(long nano, int Count)
+
+    @Override
+    public Info snapshot(boolean Reset)
       {
-        _UpdateNano.addAndGet(nano);
-        _UpdateRecords.addAndGet(Count);
-        _UpdateCount.incrementAndGet();
+        return new TableInfo(this, Reset);
       }
-    protected void addDelete(long nano, int Count)
+
+    public long getNano(StatementType Type)
       {
-        _DeleteNano.addAndGet(nano);
-        _DeleteRecords.addAndGet(Count);
-        _DeleteCount.incrementAndGet();
+        switch(Type)
+         {
+           case SELECT  : return _SelectNano.sum();
+           case INSERT  : return _InsertNano.sum();
+           case UPDATE  : return _UpdateNano.sum();
+           case DELETE  : return _DeleteNano.sum();
+           default : throw new Error("BUG!!!! Statement.TYPE "+Type.toString()+" is not accounted for in the performance management code.");
+         }
       }
-    
-    public void add(StatementType Type, long nano, int Count)
+
+    public long getCount(StatementType Type)
+      {
+        switch(Type)
+         {
+           case SELECT  : return _SelectCount.sum();
+           case INSERT  : return _InsertCount.sum();
+           case UPDATE  : return _UpdateCount.sum();
+           case DELETE  : return _DeleteCount.sum();
+           default : throw new Error("BUG!!!! Statement.TYPE "+Type.toString()+" is not accounted for in the performance management code.");
+         }
+      }
+
+    public LatencyHistogram getLatency(StatementType Type)
+      {
+        switch(Type)
+         {
+           case SELECT  : return _SelectLatency;
+           case INSERT  : return _InsertLatency;
+           case UPDATE  : return _UpdateLatency;
+           case DELETE  : return _DeleteLatency;
+           default : throw new Error("BUG!!!! Statement.TYPE "+Type.toString()+" is not accounted for in the performance management code.");
+         }
+      }
+
+    public long getRecords(StatementType Type)
       {
         switch(Type)
          {
-           case SELECT  : addSelect(nano, Count); break;
-           case INSERT  : addInsert(nano, Count); break;
-           case UPDATE  : addUpdate(nano, Count); break;
-           case DELETE  : addDelete(nano, Count); break;
+           case SELECT  : return _SelectRecords.sum();
+           case INSERT  : return _InsertRecords.sum();
+           case UPDATE  : return _UpdateRecords.sum();
+           case DELETE  : return _DeleteRecords.sum();
            default : throw new Error("BUG!!!! Statement.TYPE "+Type.toString()+" is not accounted for in the performance management code.");
          }
       }
@@ -89,22 +157,22 @@ public class TableInfo implements Info
     @Override
     public long getCountTotal()
       {
-        return _InsertCount.get()+_SelectCount.get()+_UpdateCount.get()+_DeleteCount.get();
+        return _InsertCount.sum()+_SelectCount.sum()+_UpdateCount.sum()+_DeleteCount.sum();
       }
 
     @Override
     public long getRecordsTotal()
       {
-        return _InsertRecords.get()+_SelectRecords.get()+_UpdateRecords.get()+_DeleteRecords.get();
+        return _InsertRecords.sum()+_SelectRecords.sum()+_UpdateRecords.sum()+_DeleteRecords.sum();
       }
 
     @Override
     public long getNanoTotal()
       {
-        return _InsertNano.get()+_SelectNano.get()+_UpdateNano.get()+_DeleteNano.get();
+        return _InsertNano.sum()+_SelectNano.sum()+_UpdateNano.sum()+_DeleteNano.sum();
       }
 
-    public static void printHelper(StringBuilder Str, String StatementType, long Count, long Records, long Nano, long TotalCount, long TotalRecords, long TotalNano)
+    public static void printHelper(StringBuilder Str, String StatementType, long Count, long Records, long Nano, LatencyHistogram Latency, long TotalCount, long TotalRecords, long TotalNano)
      {
        if (Count == 0)
         return;
@@ -114,7 +182,25 @@ public class TableInfo implements Info
           .append("<TD>").append(Count  ).append(" (").append(NumberFormatUtil.PrintPercentWith2Dec(TotalCount  , Count  )).append("%)").append("</TD>")
           .append("<TD>").append(DurationUtil.PrintPerformancePerSecond(Nano, Count)).append("q/s\r\n").append("</TD>")
           .append("<TD>").append(Records).append(" (").append(NumberFormatUtil.PrintPercentWith2Dec(TotalRecords, Records)).append("%)").append("</TD>")
-          .append("</TR>\r\n");
+          .append("<TD>").append(DurationUtil.PrintPerformancePerSecond(Nano, Records)).append("r/s").append("</TD>");
+       printLatency(Str, Latency);
+       Str.append("</TR>\r\n");
+     }
+
+    /**
+     * Prints one cell per {@link LatencyHistogram#PERCENTILES} plus one for the max, or empty cells if Latency is null.
+     */
+    public static void printLatency(StringBuilder Str, LatencyHistogram Latency)
+     {
+       if (Latency == null)
+        {
+          for (int i = 0; i <= LatencyHistogram.PERCENTILES.length; ++i)
+           Str.append("<TD>&nbsp;</TD>");
+          return;
+        }
+       for (long P : Latency.getPercentiles(LatencyHistogram.PERCENTILES))
+        Str.append("<TD>").append(DurationUtil.PrintDurationMilliSeconds(P)).append("</TD>");
+       Str.append("<TD>").append(DurationUtil.PrintDurationMilliSeconds(Latency.getMax())).append("</TD>");
      }
     
     @Override
@@ -129,11 +215,41 @@ public class TableInfo implements Info
            .append("<TD>").append(TotalCount  ).append("&nbsp;(").append(NumberFormatUtil.PrintPercentWith2Dec(SuperCount  , TotalCount  )).append("%)").append("</TD>")
            .append("<TD>").append(DurationUtil.PrintPerformancePerSecond(TotalNano, TotalCount)).append("q/s\r\n").append("</TD>")
            .append("<TD>").append(TotalRecords).append("&nbsp;(").append(NumberFormatUtil.PrintPercentWith2Dec(SuperRecords, TotalRecords)).append("%)").append("</TD>")
-           .append("</TR>\r\n");
-        printHelper(Str, "INSERT", _InsertCount.get(), _InsertCount  .get(), _InsertNano.get(), TotalCount, TotalRecords, TotalNano);
-        printHelper(Str, "SELECT", _SelectCount.get(), _SelectRecords.get(), _SelectNano.get(), TotalCount, TotalRecords, TotalNano);
-        printHelper(Str, "UPDATE", _UpdateCount.get(), _UpdateRecords.get(), _UpdateNano.get(), TotalCount, TotalRecords, TotalNano);
-        printHelper(Str, "DELETE", _DeleteCount.get(), _DeleteRecords.get(), _DeleteNano.get(), TotalCount, TotalRecords, TotalNano);
-        Str.append("<TR style=\"font-size: 60%;\"><TD colspan=\"6\">&nbsp;</TD></TR>\r\n");
+           .append("<TD>").append(DurationUtil.PrintPerformancePerSecond(TotalNano, TotalRecords)).append("r/s").append("</TD>");
+        printLatency(Str, null);
+        Str.append("</TR>\r\n");
+        printHelper(Str, "INSERT", _InsertCount.sum(), _InsertRecords.sum(), _InsertNano.sum(), _InsertLatency, TotalCount, TotalRecords, TotalNano);
+        printHelper(Str, "SELECT", _SelectCount.sum(), _SelectRecords.sum(), _SelectNano.sum(), _SelectLatency, TotalCount, TotalRecords, TotalNano);
+        printHelper(Str, "UPDATE", _UpdateCount.sum(), _UpdateRecords.sum(), _UpdateNano.sum(), _UpdateLatency, TotalCount, TotalRecords, TotalNano);
+        printHelper(Str, "DELETE", _DeleteCount.sum(), _DeleteRecords.sum(), _DeleteNano.sum(), _DeleteLatency, TotalCount, TotalRecords, TotalNano);
+        Str.append("<TR style=\"font-size: 60%;\"><TD colspan=\"12\">&nbsp;</TD></TR>\r\n");
+      }
+
+    @Override
+    public void toJSON(Writer Out, String JsonExportName, boolean FullObject)
+    throws Exception
+      {
+        Out.write("{");
+        JSONUtil.Print(Out, "name", true, _Name);
+        JSONUtil.Print(Out, "type", false, "TABLE");
+        JSONUtil.Print(Out, "nano", false, getNanoTotal());
+        JSONUtil.Print(Out, "count", false, getCountTotal());
+        JSONUtil.Print(Out, "records", false, getRecordsTotal());
+        Out.write(",\"statements\":{");
+        boolean First = true;
+        for (StatementType ST : StatementType.values())
+          {
+            if (getCount(ST) == 0)
+              continue;
+            Out.write(First == true ? "\"" : ",\"");
+            Out.write(ST.name());
+            Out.write("\":{");
+            First = false;
+            JSONUtil.Print(Out, "nano", true, getNano(ST));
+            JSONUtil.Print(Out, "records", false, getRecords(ST));
+            getLatency(ST).toJSON(Out, false);
+            Out.write("}");
+          }
+        Out.write("}}");
       }
   }
@@ -16,10 +16,12 @@
 
 package tilda.performance;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.io.Writer;
+import java.util.concurrent.atomic.LongAdder;
 
 import tilda.enums.TransactionType;
 import tilda.utils.DurationUtil;
+import tilda.utils.JSONUtil;
 import tilda.utils.NumberFormatUtil;
 
 public class TransactionInfo implements Info
@@ -27,6 +29,15 @@ public class TransactionInfo implements Info
     public TransactionInfo(TransactionType TT)
       {
         _Name = getName(TT);
+        _Latency = new LatencyHistogram();
+      }
+
+    protected TransactionInfo(TransactionInfo Src, boolean Reset)
+      {
+        _Name = Src._Name;
+        _Nano.add(TableInfo.get(Src._Nano, Reset));
+        _Count.add(TableInfo.get(Src._Count, Reset));
+        _Latency = Src._Latency.snapshot(Reset);
       }
 
     public static String getName(TransactionType TT)
@@ -34,14 +45,27 @@ public class TransactionInfo implements Info
         return "--" + TT + "--";
       }
 
-    protected String     _Name;
-    protected AtomicLong _Nano  = new AtomicLong(0);
-    protected AtomicLong _Count = new AtomicLong(0);
+    protected final String    _Name;
+    protected final LongAdder _Nano  = new LongAdder();
+    protected final LongAdder _Count = new LongAdder();
+    protected final LatencyHistogram _Latency;
 
     protected void add(long nano)
       {
-        _Nano.addAndGet(nano);
-        _Count.incrementAndGet();
+        _Nano.add(nano);
+        _Count.increment();
+        _Latency.add(nano);
+      }
+
+    public LatencyHistogram getLatency()
+      {
+        return _Latency;
+      }
+
+    @Override
+    public Info snapshot(boolean Reset)
+      {
+        return new TransactionInfo(this, Reset);
       }
 
     @Override
@@ -59,13 +83,13 @@ public class TransactionInfo implements Info
     @Override
     public long getCountTotal()
       {
-        return _Count.get();
+        return _Count.sum();
       }
 
     @Override
     public long getNanoTotal()
       {
-        return _Nano.get();
+        return _Nano.sum();
       }
 
     @Override
@@ -78,9 +102,22 @@ public class TransactionInfo implements Info
             .append("<TD>").append(DurationUtil.PrintDurationMilliSeconds(TotalNano)).append("&nbsp;(").append(NumberFormatUtil.PrintPercentWith2Dec(SuperNano, TotalNano)).append("%)").append("</TD>")
             .append("<TD>").append(TotalCount).append("&nbsp;(").append(NumberFormatUtil.PrintPercentWith2Dec(SuperCount, TotalCount)).append("%)").append("</TD>")
             .append("<TD>").append(DurationUtil.PrintPerformancePerSecond(TotalNano, TotalCount)).append("q/s\r\n").append("</TD>")
-            .append("<TD>&nbsp;</TD>")
-            .append("</TR>\r\n");
-        Str.append("<TR style=\"font-size: 50%;\"><TD colspan=\"6\">&nbsp;</TD></TR>\r\n");
+            .append("<TD>&nbsp;</TD><TD>&nbsp;</TD>");
+        TableInfo.printLatency(Str, _Latency);
+        Str.append("</TR>\r\n");
+        Str.append("<TR style=\"font-size: 50%;\"><TD colspan=\"12\">&nbsp;</TD></TR>\r\n");
+      }
+
+    @Override
+    public void toJSON(Writer Out, String JsonExportName, boolean FullObject)
+    throws Exception
+      {
+        Out.write("{");
+        JSONUtil.Print(Out, "name", true, _Name);
+        JSONUtil.Print(Out, "type", false, "TRANSACTION");
+        JSONUtil.Print(Out, "nano", false, getNanoTotal());
+        _Latency.toJSON(Out, false);
+        Out.write("}");
       }
 
   }
@@ -38,22 +38,22 @@ public class DurationUtil
 
     public static String PrintDurationMilliSeconds(long NanoSeconds)
       {
-        return F1.format(NanoSeconds / NANOSECS_PER_MILLISECOND) + "ms";
+        return F1.format(1.0 * NanoSeconds / NANOSECS_PER_MILLISECOND) + "ms";
       }
 
     public static String PrintDurationSeconds(long NanoSeconds)
       {
-        return F1.format(NanoSeconds / NANOSECS_PER_SECOND) + "s";
+        return F1.format(1.0 * NanoSeconds / NANOSECS_PER_SECOND) + "s";
       }
 
     public static String PrintDurationMinutes(long NanoSeconds)
       {
-        return F1.format(NanoSeconds / NANOSECS_PER_MINUTE) + "mn";
+        return F1.format(1.0 * NanoSeconds / NANOSECS_PER_MINUTE) + "mn";
       }
 
     public static String PrintDurationHours(long NanoSeconds)
       {
-        return F1.format(NanoSeconds / NANOSECS_PER_HOUR) + "h";
+        return F1.format(1.0 * NanoSeconds / NANOSECS_PER_HOUR) + "h";
       }
 
     public static double getDurationSeconds(long NanoSeconds)
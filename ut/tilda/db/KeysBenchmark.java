@@ -0,0 +1,130 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.data.Testing_Data;
+import tilda.data.Testing_Factory;
+import tilda.performance.LatencyHistogram;
+import tilda.utils.DurationUtil;
+
+/**
+ * Inserts into TILDA.TESTING from 16 threads, each on its own connection, first with key blocks reserved by the
+ * thread that exhausts them, then with background prefetching, then with striped allocation on top, and compares the
+ * insert latencies. Without prefetching, every thread inserting while a block is being reserved stalls for the
+ * reservation's round trip, which shows in the tail latencies. Inserts are rolled back, so the table is left as it was (only keys are used up).
+ */
+public class KeysBenchmark
+  {
+    protected static final Logger LOG        = LogManager.getLogger(KeysBenchmark.class.getName());
+
+    protected static final int    THREADS    = 16;
+    protected static final int    PER_THREAD = 5000;
+    protected static final int    BATCH      = 100;
+    protected static final int    STRIPE     = 64;
+
+    public static void main(String[] args)
+      {
+        try
+          {
+            run(false, 0, 200); // warm up
+            for (int Mode = 0; Mode < 3; ++Mode)
+              {
+                boolean Prefetching = Mode > 0;
+                int StripeSize = Mode == 2 ? STRIPE : 0;
+                LatencyHistogram H = new LatencyHistogram();
+                long T0 = System.nanoTime();
+                run(Prefetching, StripeSize, PER_THREAD, H);
+                T0 = System.nanoTime() - T0;
+                long[] P = H.getPercentiles(LatencyHistogram.PERCENTILES);
+                StringBuilder Str = new StringBuilder();
+                for (int i = 0; i < P.length; ++i)
+                  Str.append(LatencyHistogram.getPercentileLabel(LatencyHistogram.PERCENTILES[i])).append('=').append(DurationUtil.PrintDurationMilliSeconds(P[i])).append("; ");
+                LOG.info((Mode == 0 ? "No prefetching: " : Mode == 1 ? "Prefetching   : " : "Striped       : ") + H.getCount() + " inserts in " + DurationUtil.PrintDuration(T0)
+                + " (" + DurationUtil.PrintPerformancePerSecond(T0, H.getCount()) + " inserts/s); " + Str + "max=" + DurationUtil.PrintDurationMilliSeconds(H.getMax()));
+              }
+          }
+        catch (Throwable T)
+          {
+            LOG.error("An exception occurred", T);
+          }
+      }
+
+    protected static void run(boolean Prefetching, int StripeSize, int PerThread)
+    throws Throwable
+      {
+        run(Prefetching, StripeSize, PerThread, new LatencyHistogram());
+      }
+
+    protected static void run(boolean Prefetching, int StripeSize, final int PerThread, final LatencyHistogram H)
+    throws Throwable
+      {
+        KeysManager.setPrefetching(Prefetching);
+        KeysManager.setStripeSize(StripeSize);
+        final AtomicReference<Throwable> Error = new AtomicReference<Throwable>();
+        List<Thread> L = new ArrayList<Thread>();
+        for (int t = 0; t < THREADS; ++t)
+          {
+            final List<Long> Refnum2 = new ArrayList<Long>();
+            Refnum2.add((long) t);
+            L.add(new Thread(() -> {
+              Connection C = null;
+              try
+                {
+                  C = ConnectionPool.get("MAIN");
+                  for (int i = 0; i < PerThread; ++i)
+                    {
+                      long T0 = System.nanoTime();
+                      Testing_Data D = Testing_Factory.Create(Refnum2, "BENCH");
+                      D.Write(C);
+                      H.add(System.nanoTime() - T0);
+                      if (i % BATCH == BATCH - 1)
+                        C.rollback();
+                    }
+                  C.rollback();
+                }
+              catch (Throwable T)
+                {
+                  Error.compareAndSet(null, T);
+                }
+              finally
+                {
+                  if (C != null)
+                    try
+                      {
+                        C.close();
+                      }
+                    catch (Throwable T)
+                      {
+                      }
+                }
+            }));
+          }
+        for (Thread t : L)
+          t.start();
+        for (Thread t : L)
+          t.join();
+        if (Error.get() != null)
+          throw Error.get();
+      }
+  }
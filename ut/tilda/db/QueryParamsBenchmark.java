@@ -0,0 +1,93 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.db;
+
+import java.sql.SQLException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.data.Key_Factory;
+import tilda.utils.DurationUtil;
+
+/**
+ * Compares a repeated lookup run with values inlined as literals (a new query text for every value, so the server
+ * parses and plans each one) against the same lookup run as a parameterized query (one query text, bind values only).
+ */
+public class QueryParamsBenchmark extends Key_Factory
+  {
+    protected static final Logger LOG        = LogManager.getLogger(QueryParamsBenchmark.class.getName());
+
+    protected static final int    ITERATIONS = 5000;
+
+    protected QueryParamsBenchmark()
+      {
+      }
+
+    public static void main(String[] args)
+      {
+        Connection C = null;
+        try
+          {
+            C = ConnectionPool.get("MAIN");
+
+            // warm up both paths once so class loading and the first connection round-trip are not measured.
+            run(C, false, 100);
+            run(C, true, 100);
+
+            long T0 = System.nanoTime();
+            int count = run(C, false, ITERATIONS);
+            T0 = System.nanoTime() - T0;
+            LOG.info("Inlined      : " + ITERATIONS + " lookups (" + count + " rows) in " + DurationUtil.PrintDuration(T0) + " (" + DurationUtil.PrintPerformancePerSecond(T0, ITERATIONS) + " lookups/s)");
+
+            T0 = System.nanoTime();
+            count = run(C, true, ITERATIONS);
+            T0 = System.nanoTime() - T0;
+            LOG.info("Parameterized: " + ITERATIONS + " lookups (" + count + " rows) in " + DurationUtil.PrintDuration(T0) + " (" + DurationUtil.PrintPerformancePerSecond(T0, ITERATIONS) + " lookups/s)");
+
+            C.rollback();
+          }
+        catch (Exception E)
+          {
+            LOG.error("An exception occurred", E);
+          }
+        finally
+          {
+            if (C != null)
+              try
+                {
+                  C.close();
+                }
+              catch (SQLException E)
+                {
+                }
+          }
+      }
+
+    protected static int run(Connection C, boolean Parameterized, int Iterations)
+    throws Exception
+      {
+        int count = 0;
+        for (int i = 0; i < Iterations; ++i)
+          {
+            SelectQuery Q = Key_Factory.newWhereQuery(C, Parameterized);
+            Q.where().equals(COLS.NAME, "BENCH_" + (i % 500)).or().equals(COLS.REFNUM, (long) i);
+            count += Key_Factory.runSelect(C, Q, 0, -1).size();
+          }
+        return count;
+      }
+  }
@@ -0,0 +1,84 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.enums.StatementType;
+import tilda.utils.DurationUtil;
+
+/**
+ * Measures the throughput of {@link PerfTracker#add(String, StatementType, long, int)} with 1, 8 and 64 threads
+ * hammering a handful of tables, which is what a busy server does, and checks that an interval snapshot taken with a
+ * reset accounts for every single call.
+ */
+public class PerfTrackerBenchmark
+  {
+    protected static final Logger   LOG        = LogManager.getLogger(PerfTrackerBenchmark.class.getName());
+
+    protected static final int      ITERATIONS = 2000000;
+    protected static final String[] TABLES     = { "BENCH.T0", "BENCH.T1", "BENCH.T2", "BENCH.T3" };
+    protected static final int[]    THREADS    = { 1, 8, 64 };
+
+    public static void main(String[] args)
+      {
+        try
+          {
+            // warm up so the JIT has compiled the add() path before anything is measured.
+            run(4, ITERATIONS / 4);
+            PerfTracker.snapshot(true);
+
+            for (int Threads : THREADS)
+              {
+                int PerThread = ITERATIONS / Threads;
+                long T0 = System.nanoTime();
+                run(Threads, PerThread);
+                T0 = System.nanoTime() - T0;
+                long Expected = (long) PerThread * Threads;
+                long Count = 0;
+                for (Info I : PerfTracker.snapshot(true))
+                  Count += I.getCountTotal();
+                LOG.info(Threads + " thread(s): " + Expected + " adds in " + DurationUtil.PrintDuration(T0) + " (" + DurationUtil.PrintPerformancePerSecond(T0, Expected) + " adds/s)");
+                if (Count != Expected)
+                  LOG.error("The snapshot counted " + Count + " adds where " + Expected + " were expected.");
+              }
+          }
+        catch (Exception E)
+          {
+            LOG.error("An exception occurred", E);
+          }
+      }
+
+    protected static void run(int Threads, final int PerThread)
+    throws InterruptedException
+      {
+        Thread[] T = new Thread[Threads];
+        for (int t = 0; t < Threads; ++t)
+          {
+            final int Offset = t;
+            T[t] = new Thread(() -> {
+              for (int i = 0; i < PerThread; ++i)
+                PerfTracker.add(TABLES[(i + Offset) % TABLES.length], StatementType.SELECT, 1000, 1);
+            });
+          }
+        for (Thread t : T)
+          t.start();
+        for (Thread t : T)
+          t.join();
+      }
+  }
@@ -0,0 +1,139 @@
+/* ===========================================================================
+ * Copyright (C) 2015 CapsicoHealth Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tilda.performance;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import tilda.db.KeysetToken;
+
+public class QueryFingerprintTest
+  {
+    protected static final Logger LOG = LogManager.getLogger(QueryFingerprintTest.class.getName());
+
+    public static void main(String[] args)
+    throws Exception
+      {
+        Test1();
+        Test2();
+        LOG.info("All tests passed.");
+      }
+
+    /**
+     * QueryFingerprint.get() edge cases.
+     */
+    private static void Test1()
+      {
+        // Literals, with '' escapes inside strings
+        check("select * from T where name = 'O''Brien' and x = 12", "select * from T where name = ? and x = ?");
+        check("select * from T where a = '''' and b = 'it''s' || ''", "select * from T where a = ? and b = ? || ?");
+        // Decimals and exponents
+        check("select * from T where x > 1e-5 and y < 2.5E+10 and z = 3.14", "select * from T where x > ? and y < ? and z = ?");
+        // Quoted identifiers are kept as is, including digits and spaces
+        check("select \"col 1\", \"T\".\"x2\" from \"Sch\".\"T1\" where \"a\" = 'b'", "select \"col 1\", \"T\".\"x2\" from \"Sch\".\"T1\" where \"a\" = ?");
+        // Identifiers ending in digits are not literals
+        check("select T1.a, T2.b from A T1 join B T2 on T1.id = T2.id where T1.c2 = 7", "select T1.a, T2.b from A T1 join B T2 on T1.id = T2.id where T1.c2 = ?");
+        // Lists of placeholders or literals collapse
+        check("select * from T where id in (?,?,?)", "select * from T where id in (?...)");
+        check("select * from T where id in ( ? , ?, ? ) and x = ?", "select * from T where id in ( ?... ) and x = ?");
+        check("select * from T where id in (1, 2, 3) or name in ('a','b')", "select * from T where id in (?...) or name in (?...)");
+        check("select * from T where id in (?)", "select * from T where id in (?)");
+        // $n parameters are already placeholders
+        check("select * from T where id = $1 and name = $2", "select * from T where id = $1 and name = $2");
+        // White space
+        check("  select *\n  from T\twhere   x = 1  ", "select * from T where x = ?");
+        check(null, null);
+      }
+
+    private static void check(String Query, String Expected)
+      {
+        String F = QueryFingerprint.get(Query);
+        LOG.debug(Query + " -> " + F);
+        if (Expected == null ? F != null : Expected.equals(F) == false)
+          throw new Error("Fingerprint of '" + Query + "' is '" + F + "' instead of '" + Expected + "'.");
+      }
+
+    /**
+     * KeysetToken print/parse round-trip.
+     */
+    private static void Test2()
+    throws Exception
+      {
+        ZonedDateTime ZDT = ZonedDateTime.of(2019, 3, 10, 2, 30, 15, 123456789, ZoneId.of("America/New_York"));
+        java.lang.Object[] Values = new java.lang.Object[] { "a'b\u00e9", 'x', true, 42, 1234567890123L, 1.5f, -2.25e-7, ZDT
+        };
+        String Token = KeysetToken.print("SCHEMA.TABLE.byX", Values);
+        LOG.debug("Token: " + Token);
+        for (int i = 0; i < Token.length(); ++i)
+          {
+            char c = Token.charAt(i);
+            if (Character.isLetterOrDigit(c) == false && c != '-' && c != '_')
+              throw new Error("Token '" + Token + "' is not URL-safe.");
+          }
+
+        KeysetToken KT = KeysetToken.parse(Token, "SCHEMA.TABLE.byX", Values.length);
+        if (KT.size() != Values.length)
+          throw new Error("The parsed token has " + KT.size() + " values instead of " + Values.length + ".");
+
+        // The last term of the seek predicate binds every value, in order.
+        List<java.lang.Object> Bound = new ArrayList<java.lang.Object>();
+        PreparedStatement PS = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] { PreparedStatement.class
+        }, (P, M, Args) -> {
+          Bound.add(Args[1]);
+          return null;
+        });
+        int Last = KT.bind(PS, 0);
+        if (Last != Bound.size() || Last != Values.length * (Values.length + 1) / 2)
+          throw new Error("The token bound " + Bound.size() + " values, returning " + Last + ".");
+        List<java.lang.Object> L = Bound.subList(Bound.size() - Values.length, Bound.size());
+        java.lang.Object[] Expected = new java.lang.Object[] { "a'b\u00e9", "x", true, 42, 1234567890123L, 1.5f, -2.25e-7, java.sql.Timestamp.from(ZDT.toInstant())
+        };
+        if (Arrays.equals(L.toArray(), Expected) == false)
+          throw new Error("The token's values " + L + " differ from " + Arrays.toString(Expected) + ".");
+        LOG.debug("Parsed token: " + KT);
+
+        if (KeysetToken.parse(null, "SCHEMA.TABLE.byX", Values.length) != null || KeysetToken.parse("", "SCHEMA.TABLE.byX", Values.length) != null)
+          throw new Error("An empty token should be the first page.");
+        expectInvalid(Token, "SCHEMA.TABLE.byY", Values.length);
+        expectInvalid(Token, "SCHEMA.TABLE.byX", Values.length - 1);
+        expectInvalid(Token.substring(0, Token.length() - 3), "SCHEMA.TABLE.byX", Values.length);
+        expectInvalid(Token + "AAAA", "SCHEMA.TABLE.byX", Values.length);
+        expectInvalid("not a token!", "SCHEMA.TABLE.byX", Values.length);
+      }
+
+    private static void expectInvalid(String Token, String Scope, int Count)
+      {
+        try
+          {
+            KeysetToken.parse(Token, Scope, Count);
+          }
+        catch (Exception E)
+          {
+            LOG.debug("Rejected as expected: " + E.getMessage());
+            return;
+          }
+        throw new Error("Token '" + Token + "' should have been rejected for " + Scope + " with " + Count + " values.");
+      }
+  }